@@ -0,0 +1,36 @@
+package com.riwi.microservice.coopcredit.credit.application.dto.credit;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Response DTO for one item of a batch submission.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Result of one item of a batch submission")
+public class BatchCreditApplicationItemResponse {
+
+    @Schema(description = "Position of the item in the request", example = "0")
+    private int index;
+    @Schema(description = "Whether the application was registered", example = "true")
+    private boolean accepted;
+    @Schema(description = "Whether the application was queued for automatic evaluation", example = "true")
+    private boolean queued;
+    @Schema(description = "ID of the registered application", example = "1")
+    private Long applicationId;
+    @Schema(description = "Application number", example = "CRE-202610-000001")
+    private String applicationNumber;
+    @Schema(description = "Status of the application", example = "PENDIENTE")
+    private CreditApplicationStatus status;
+    @Schema(description = "Error code when the item was rejected", example = "AFFILIATE_NOT_FOUND")
+    private String errorCode;
+    @Schema(description = "Error message when the item was rejected")
+    private String message;
+}
@@ -0,0 +1,25 @@
+package com.riwi.microservice.coopcredit.credit.application.dto.credit;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Request DTO for submitting several Credit Applications at once.
+ */
+@Getter
+@Setter
+@Schema(description = "Request DTO for submitting several Credit Applications at once")
+public class BatchCreditApplicationRequest {
+
+    @NotEmpty(message = "El lote debe contener al menos una solicitud")
+    @Size(max = 500, message = "El lote no puede contener más de 500 solicitudes")
+    @Schema(description = "Credit applications to submit")
+    private List<@Valid CreateCreditApplicationRequest> applications;
+
+}
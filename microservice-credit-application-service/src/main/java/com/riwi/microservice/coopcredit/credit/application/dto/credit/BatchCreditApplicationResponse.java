@@ -0,0 +1,29 @@
+package com.riwi.microservice.coopcredit.credit.application.dto.credit;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Response DTO for a batch submission.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Response DTO for a batch submission")
+public class BatchCreditApplicationResponse {
+
+    @Schema(description = "Number of items received", example = "100")
+    private int total;
+    @Schema(description = "Number of applications registered", example = "98")
+    private int accepted;
+    @Schema(description = "Number of items rejected", example = "2")
+    private int rejected;
+    @Schema(description = "Per-item results, in request order")
+    private List<BatchCreditApplicationItemResponse> results;
+}
@@ -0,0 +1,32 @@
+package com.riwi.microservice.coopcredit.credit.application.dto.credit;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Response DTO for one decision of a batch.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Result of one decision of a batch")
+public class BatchCreditDecisionItemResponse {
+
+    @Schema(description = "Position of the decision in the request", example = "0")
+    private int index;
+    @Schema(description = "ID of the credit application", example = "1")
+    private Long applicationId;
+    @Schema(description = "Whether the decision was recorded", example = "true")
+    private boolean applied;
+    @Schema(description = "Resulting status, or current status when the decision was rejected", example = "APROBADA")
+    private CreditApplicationStatus status;
+    @Schema(description = "Error code when the decision was rejected", example = "CREDIT_STATUS_CONFLICT")
+    private String errorCode;
+    @Schema(description = "Error message when the decision was rejected")
+    private String message;
+}
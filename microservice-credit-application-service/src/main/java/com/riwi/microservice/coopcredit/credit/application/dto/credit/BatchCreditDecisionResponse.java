@@ -0,0 +1,29 @@
+package com.riwi.microservice.coopcredit.credit.application.dto.credit;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Response DTO for a batch of credit decisions.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Response DTO for a batch of credit decisions")
+public class BatchCreditDecisionResponse {
+
+    @Schema(description = "Number of decisions received", example = "100")
+    private int total;
+    @Schema(description = "Number of decisions recorded", example = "97")
+    private int applied;
+    @Schema(description = "Number of decisions rejected", example = "3")
+    private int rejected;
+    @Schema(description = "Per-decision results, in request order")
+    private List<BatchCreditDecisionItemResponse> results;
+}
@@ -47,6 +47,10 @@ public class CreditApplicationResponse {
     private LocalDateTime reviewDate;
     @Schema(description = "Date of decision")
     private LocalDateTime decisionDate;
+    @Schema(description = "Analyst that claimed the review", example = "analista1")
+    private String reviewer;
+    @Schema(description = "End of the review claim; an undecided review returns to PENDIENTE afterwards")
+    private LocalDateTime reviewLeaseExpiresAt;
     @Schema(description = "Record creation timestamp")
     private LocalDateTime createdAt;
     @Schema(description = "Record update timestamp")
@@ -0,0 +1,30 @@
+package com.riwi.microservice.coopcredit.credit.application.dto.credit;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditDecisionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Request DTO for one decision of a batch.
+ */
+@Getter
+@Setter
+@Schema(description = "Request DTO for one decision of a batch")
+public class CreditDecisionItemRequest {
+
+    @NotNull(message = "El ID de la solicitud es obligatorio")
+    @Schema(description = "ID of the credit application", example = "1")
+    private Long applicationId;
+
+    @NotNull(message = "La decisión es obligatoria")
+    @Schema(description = "Decision to record", example = "APPROVE")
+    private CreditDecisionType decision;
+
+    @Size(max = 1000, message = "Los comentarios no pueden exceder 1000 caracteres")
+    @Schema(description = "Comments or notes regarding the decision", example = "Approved based on good credit history")
+    private String comments;
+
+}
@@ -0,0 +1,36 @@
+package com.riwi.microservice.coopcredit.credit.application.dto.statistics;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * Response DTO for the portfolio statistics.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Response DTO for the portfolio statistics")
+public class PortfolioStatisticsResponse {
+
+    @Schema(description = "Total number of credit applications", example = "1520")
+    private long totalApplications;
+    @Schema(description = "Credit applications per status")
+    private Map<CreditApplicationStatus, Long> applicationsByStatus;
+    @Schema(description = "Total number of affiliates", example = "830")
+    private long totalAffiliates;
+    @Schema(description = "Affiliates per status")
+    private Map<AffiliateStatus, Long> affiliatesByStatus;
+    @Schema(description = "Total number of risk evaluations", example = "1400")
+    private long totalEvaluations;
+    @Schema(description = "Risk evaluations per risk level")
+    private Map<RiskLevel, Long> evaluationsByRiskLevel;
+}
@@ -1,11 +1,20 @@
 package com.riwi.microservice.coopcredit.credit.application.mapper;
 
+import com.riwi.microservice.coopcredit.credit.application.dto.credit.BatchCreditApplicationItemResponse;
+import com.riwi.microservice.coopcredit.credit.application.dto.credit.BatchCreditApplicationResponse;
+import com.riwi.microservice.coopcredit.credit.application.dto.credit.BatchCreditDecisionItemResponse;
+import com.riwi.microservice.coopcredit.credit.application.dto.credit.BatchCreditDecisionResponse;
 import com.riwi.microservice.coopcredit.credit.application.dto.credit.CreditApplicationResponse;
 import com.riwi.microservice.coopcredit.credit.application.dto.credit.CreateCreditApplicationRequest;
+import com.riwi.microservice.coopcredit.credit.application.dto.credit.CreditDecisionItemRequest;
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.CreateCreditApplicationUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ProcessCreditDecisionUseCase;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Mapper for CreditApplication domain model and DTOs.
  */
@@ -20,6 +29,17 @@ public class CreditApplicationMapper {
         this.riskEvaluationMapper = riskEvaluationMapper;
     }
 
+    /**
+     * Maps a CreditDecisionItemRequest to DecisionCommand.
+     */
+    public ProcessCreditDecisionUseCase.DecisionCommand toDecisionCommand(CreditDecisionItemRequest request) {
+        return new ProcessCreditDecisionUseCase.DecisionCommand(
+                request.getApplicationId(),
+                request.getDecision(),
+                request.getComments()
+        );
+    }
+
     /**
      * Maps a CreateCreditApplicationRequest to CreateCreditApplicationCommand.
      */
@@ -54,6 +74,8 @@ public class CreditApplicationMapper {
         response.setApplicationDate(creditApplication.getApplicationDate());
         response.setReviewDate(creditApplication.getReviewDate());
         response.setDecisionDate(creditApplication.getDecisionDate());
+        response.setReviewer(creditApplication.getReviewer());
+        response.setReviewLeaseExpiresAt(creditApplication.getReviewLeaseExpiresAt());
         response.setCreatedAt(creditApplication.getCreatedAt());
         response.setUpdatedAt(creditApplication.getUpdatedAt());
 
@@ -89,9 +111,50 @@ public class CreditApplicationMapper {
         response.setApplicationDate(creditApplication.getApplicationDate());
         response.setReviewDate(creditApplication.getReviewDate());
         response.setDecisionDate(creditApplication.getDecisionDate());
+        response.setReviewer(creditApplication.getReviewer());
+        response.setReviewLeaseExpiresAt(creditApplication.getReviewLeaseExpiresAt());
         response.setCreatedAt(creditApplication.getCreatedAt());
         response.setUpdatedAt(creditApplication.getUpdatedAt());
 
         return response;
     }
+
+    /**
+     * Maps the per-item results of a batch submission to BatchCreditApplicationResponse DTO.
+     */
+    public BatchCreditApplicationResponse toBatchResponse(List<CreateCreditApplicationUseCase.BatchItemResult> results) {
+        List<BatchCreditApplicationItemResponse> items = results.stream()
+                .map(this::toBatchItemResponse)
+                .collect(Collectors.toList());
+        int accepted = (int) results.stream().filter(CreateCreditApplicationUseCase.BatchItemResult::isAccepted).count();
+        return new BatchCreditApplicationResponse(results.size(), accepted, results.size() - accepted, items);
+    }
+
+    private BatchCreditApplicationItemResponse toBatchItemResponse(CreateCreditApplicationUseCase.BatchItemResult result) {
+        BatchCreditApplicationItemResponse item = new BatchCreditApplicationItemResponse();
+        item.setIndex(result.index());
+        item.setAccepted(result.isAccepted());
+        item.setQueued(result.queued());
+        if (result.isAccepted()) {
+            item.setApplicationId(result.creditApplication().getId());
+            item.setApplicationNumber(result.creditApplication().getApplicationNumber());
+            item.setStatus(result.creditApplication().getStatus());
+        } else {
+            item.setErrorCode(result.errorCode());
+            item.setMessage(result.message());
+        }
+        return item;
+    }
+
+    /**
+     * Maps the results of a batch of decisions to BatchCreditDecisionResponse.
+     */
+    public BatchCreditDecisionResponse toBatchDecisionResponse(List<ProcessCreditDecisionUseCase.DecisionItemResult> results) {
+        List<BatchCreditDecisionItemResponse> items = results.stream()
+                .map(result -> new BatchCreditDecisionItemResponse(result.index(), result.applicationId(),
+                        result.isApplied(), result.status(), result.errorCode(), result.message()))
+                .collect(Collectors.toList());
+        int applied = (int) results.stream().filter(ProcessCreditDecisionUseCase.DecisionItemResult::isApplied).count();
+        return new BatchCreditDecisionResponse(results.size(), applied, results.size() - applied, items);
+    }
 }
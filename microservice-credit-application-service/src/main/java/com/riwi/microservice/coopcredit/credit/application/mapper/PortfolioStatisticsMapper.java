@@ -0,0 +1,26 @@
+package com.riwi.microservice.coopcredit.credit.application.mapper;
+
+import com.riwi.microservice.coopcredit.credit.application.dto.statistics.PortfolioStatisticsResponse;
+import com.riwi.microservice.coopcredit.credit.domain.models.PortfolioStatistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper for PortfolioStatistics domain model and DTOs.
+ */
+@Component
+public class PortfolioStatisticsMapper {
+
+    /**
+     * Maps PortfolioStatistics domain model to PortfolioStatisticsResponse DTO.
+     */
+    public PortfolioStatisticsResponse toResponse(PortfolioStatistics statistics) {
+        return new PortfolioStatisticsResponse(
+                statistics.totalApplications(),
+                statistics.applicationsByStatus(),
+                statistics.totalAffiliates(),
+                statistics.affiliatesByStatus(),
+                statistics.totalEvaluations(),
+                statistics.evaluationsByRiskLevel()
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package com.riwi.microservice.coopcredit.credit.application.services;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.CreateAffiliateUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.DeleteAffiliateUseCase;
@@ -11,7 +13,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -59,13 +60,13 @@ public class AffiliateService implements CreateAffiliateUseCase, UpdateAffiliate
     }
 
     @Override
-    public List<Affiliate> getAllAffiliates(int page, int size) {
-        return retrieveAffiliateUseCase.getAllAffiliates(page, size);
+    public CursorPage<Affiliate> getAllAffiliates(PageCursor after, int size) {
+        return retrieveAffiliateUseCase.getAllAffiliates(after, size);
     }
 
     @Override
-    public List<Affiliate> getAffiliatesByStatus(AffiliateStatus status, int page, int size) {
-        return retrieveAffiliateUseCase.getAffiliatesByStatus(status, page, size);
+    public CursorPage<Affiliate> getAffiliatesByStatus(AffiliateStatus status, PageCursor after, int size) {
+        return retrieveAffiliateUseCase.getAffiliatesByStatus(status, after, size);
     }
 
     @Override
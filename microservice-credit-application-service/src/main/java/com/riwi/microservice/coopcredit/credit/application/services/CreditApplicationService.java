@@ -1,6 +1,8 @@
 package com.riwi.microservice.coopcredit.credit.application.services;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.CreateCreditApplicationUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.ProcessCreditDecisionUseCase;
@@ -35,6 +37,16 @@ public class CreditApplicationService implements CreateCreditApplicationUseCase,
         return createCreditApplicationUseCase.createCreditApplication(command);
     }
 
+    @Override
+    public CreditApplication submitCreditApplication(CreateCreditApplicationCommand command) {
+        return createCreditApplicationUseCase.submitCreditApplication(command);
+    }
+
+    @Override
+    public List<BatchItemResult> submitCreditApplications(List<CreateCreditApplicationCommand> commands) {
+        return createCreditApplicationUseCase.submitCreditApplications(commands);
+    }
+
     @Override
     public Optional<CreditApplication> getCreditApplicationById(Long applicationId) {
         return retrieveCreditApplicationUseCase.getCreditApplicationById(applicationId);
@@ -46,18 +58,18 @@ public class CreditApplicationService implements CreateCreditApplicationUseCase,
     }
 
     @Override
-    public List<CreditApplication> getCreditApplicationsByAffiliate(Long affiliateId) {
-        return retrieveCreditApplicationUseCase.getCreditApplicationsByAffiliate(affiliateId);
+    public CursorPage<CreditApplication> getCreditApplicationsByAffiliate(Long affiliateId, PageCursor after, int size) {
+        return retrieveCreditApplicationUseCase.getCreditApplicationsByAffiliate(affiliateId, after, size);
     }
 
     @Override
-    public List<CreditApplication> getCreditApplicationsByStatus(CreditApplicationStatus status, int page, int size) {
-        return retrieveCreditApplicationUseCase.getCreditApplicationsByStatus(status, page, size);
+    public CursorPage<CreditApplication> getCreditApplicationsByStatus(CreditApplicationStatus status, PageCursor after, int size) {
+        return retrieveCreditApplicationUseCase.getCreditApplicationsByStatus(status, after, size);
     }
 
     @Override
-    public List<CreditApplication> getAllCreditApplications(int page, int size) {
-        return retrieveCreditApplicationUseCase.getAllCreditApplications(page, size);
+    public CursorPage<CreditApplication> getAllCreditApplications(PageCursor after, int size) {
+        return retrieveCreditApplicationUseCase.getAllCreditApplications(after, size);
     }
 
     @Override
@@ -84,4 +96,9 @@ public class CreditApplicationService implements CreateCreditApplicationUseCase,
     public CreditApplication cancelCreditApplication(Long applicationId, String comments) {
         return processCreditDecisionUseCase.cancelCreditApplication(applicationId, comments);
     }
+
+    @Override
+    public List<DecisionItemResult> processDecisions(List<DecisionCommand> commands) {
+        return processCreditDecisionUseCase.processDecisions(commands);
+    }
 }
@@ -1,5 +1,7 @@
 package com.riwi.microservice.coopcredit.credit.application.services;
 
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.CalculateRiskLevelUseCase;
@@ -10,7 +12,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -55,13 +56,13 @@ public class RiskEvaluationService implements CreateRiskEvaluationUseCase, Updat
     }
 
     @Override
-    public List<RiskEvaluation> getRiskEvaluationsByRiskLevel(RiskLevel riskLevel, int page, int size) {
-        return retrieveRiskEvaluationUseCase.getRiskEvaluationsByRiskLevel(riskLevel, page, size);
+    public CursorPage<RiskEvaluation> getRiskEvaluationsByRiskLevel(RiskLevel riskLevel, PageCursor after, int size) {
+        return retrieveRiskEvaluationUseCase.getRiskEvaluationsByRiskLevel(riskLevel, after, size);
     }
 
     @Override
-    public List<RiskEvaluation> getAllRiskEvaluations(int page, int size) {
-        return retrieveRiskEvaluationUseCase.getAllRiskEvaluations(page, size);
+    public CursorPage<RiskEvaluation> getAllRiskEvaluations(PageCursor after, int size) {
+        return retrieveRiskEvaluationUseCase.getAllRiskEvaluations(after, size);
     }
 
     @Override
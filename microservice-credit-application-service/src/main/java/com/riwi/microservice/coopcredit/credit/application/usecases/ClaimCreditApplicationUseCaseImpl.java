@@ -0,0 +1,52 @@
+package com.riwi.microservice.coopcredit.credit.application.usecases;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ClaimCreditApplicationUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public class ClaimCreditApplicationUseCaseImpl implements ClaimCreditApplicationUseCase {
+
+    private final CreditApplicationRepositoryPort creditApplicationRepository;
+    private final Duration lease;
+    private final int maxClaim;
+    private final int releaseBatchSize;
+
+    public ClaimCreditApplicationUseCaseImpl(CreditApplicationRepositoryPort creditApplicationRepository,
+                                             Duration lease, int maxClaim, int releaseBatchSize) {
+        this.creditApplicationRepository = creditApplicationRepository;
+        this.lease = lease;
+        this.maxClaim = maxClaim;
+        this.releaseBatchSize = releaseBatchSize;
+    }
+
+    @Override
+    @Transactional
+    public Optional<CreditApplication> claimNext(String reviewer) {
+        return claim(reviewer, 1).stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<CreditApplication> claim(String reviewer, int count) {
+        LocalDateTime now = LocalDateTime.now();
+        int limit = Math.max(1, Math.min(count, maxClaim));
+
+        // 1. Claim and move to review in one statement; the row locks are held until commit
+        List<Long> claimed = creditApplicationRepository.claimPending(reviewer, limit, now, now.plus(lease));
+
+        // 2. Load the claimed applications for the response
+        return creditApplicationRepository.findAllByIds(claimed);
+    }
+
+    @Override
+    @Transactional
+    public int releaseExpiredClaims() {
+        return creditApplicationRepository.releaseExpiredClaims(LocalDateTime.now(), releaseBatchSize);
+    }
+}
@@ -2,166 +2,190 @@ package com.riwi.microservice.coopcredit.credit.application.usecases;
 
 import com.riwi.microservice.coopcredit.credit.domain.exception.AffiliateNotActiveException;
 import com.riwi.microservice.coopcredit.credit.domain.exception.AffiliateNotFoundException;
+import com.riwi.microservice.coopcredit.credit.domain.exception.RiskAssessmentUnavailableException;
 import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
 import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentResult;
 import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
-import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskFallbackDecision;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.CreateCreditApplicationUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditDecisionQueuePort;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
-import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskEvaluationRepositoryPort;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class CreateCreditApplicationUseCaseImpl implements CreateCreditApplicationUseCase {
 
     private final CreditApplicationRepositoryPort creditApplicationRepository;
     private final AffiliateRepositoryPort affiliateRepository;
     private final RiskAssessmentPort riskAssessmentPort;
-    private final RiskEvaluationRepositoryPort riskEvaluationRepository;
+    private final CreditDecisionQueuePort creditDecisionQueue;
+    private final RiskFallbackDecision riskFallbackDecision;
 
     public CreateCreditApplicationUseCaseImpl(CreditApplicationRepositoryPort creditApplicationRepository,
                                               AffiliateRepositoryPort affiliateRepository,
                                               RiskAssessmentPort riskAssessmentPort,
-                                              RiskEvaluationRepositoryPort riskEvaluationRepository) {
+                                              CreditDecisionQueuePort creditDecisionQueue,
+                                              RiskFallbackDecision riskFallbackDecision) {
         this.creditApplicationRepository = creditApplicationRepository;
         this.affiliateRepository = affiliateRepository;
         this.riskAssessmentPort = riskAssessmentPort;
-        this.riskEvaluationRepository = riskEvaluationRepository;
+        this.creditDecisionQueue = creditDecisionQueue;
+        this.riskFallbackDecision = riskFallbackDecision;
     }
 
+    /**
+     * Not transactional on purpose: the risk call is awaited without holding a connection, and
+     * the application is written afterwards in a single short transaction by the repository.
+     */
     @Override
-    @Transactional
     public CreditApplication createCreditApplication(CreateCreditApplicationCommand command) {
         // 1. Find affiliate
-        Affiliate affiliate = affiliateRepository.findById(command.affiliateId())
-                .orElseThrow(() -> new AffiliateNotFoundException(command.affiliateId()));
-
-        if (!affiliate.canApplyForCredit()) {
-            throw new AffiliateNotActiveException(command.affiliateId());
-        }
-
-        // 2. Register Request (PENDING)
-        CreditApplication creditApplication = new CreditApplication();
-        creditApplication.setApplicationNumber(creditApplicationRepository.generateApplicationNumber());
-        creditApplication.setRequestedAmount(command.requestedAmount());
-        creditApplication.setTermMonths(command.termMonths());
-        creditApplication.setInterestRate(command.interestRate());
-        creditApplication.setPurpose(command.purpose());
-        creditApplication.setStatus(CreditApplicationStatus.PENDIENTE);
-        creditApplication.setApplicationDate(LocalDateTime.now());
-        creditApplication.setCreatedAt(LocalDateTime.now());
-        creditApplication.setUpdatedAt(LocalDateTime.now());
-        creditApplication.setAffiliate(affiliate);
+        Affiliate affiliate = findApplicant(command.affiliateId());
 
-        creditApplication = creditApplicationRepository.save(creditApplication);
-
-        // 3. Invoke Risk Service
-        RiskAssessmentResult riskResult = riskAssessmentPort.assessRisk(
+        // 2. Invoke Risk Service; the application number is allocated while the call is in flight
+        CompletableFuture<RiskAssessmentResult> riskAssessment = riskAssessmentPort.assessRiskAsync(
                 affiliate.getDocument(),
                 command.requestedAmount().doubleValue(),
                 command.termMonths()
         );
+        CreditApplication creditApplication = newPendingApplication(command, affiliate);
+        creditApplication.setApplicationNumber(creditApplicationRepository.generateApplicationNumber());
 
-        // 4. Apply Policies
-        boolean approved = true;
-        StringBuilder rejectionReason = new StringBuilder();
-
-        // Policy: Seniority (6 months)
-        if (affiliate.getEmploymentStartDate() != null) {
-            long monthsEmployed = ChronoUnit.MONTHS.between(affiliate.getEmploymentStartDate(), LocalDate.now());
-            if (monthsEmployed < 6) {
-                approved = false;
-                rejectionReason.append("Antigüedad laboral insuficiente (< 6 meses). ");
-            }
-        } else {
-             // If date is missing, we might reject or assume 0. Let's reject for safety.
-             approved = false;
-             rejectionReason.append("Fecha de inicio de empleo no registrada. ");
+        RiskAssessmentResult riskResult;
+        try {
+            riskResult = awaitRiskAssessment(riskAssessment);
+        } catch (RiskAssessmentUnavailableException e) {
+            CreditPolicyEvaluator.applyRiskFallback(creditApplication, riskFallbackDecision, e);
+            return creditApplicationRepository.save(creditApplication);
         }
 
-        // Policy: Max Amount (e.g. 10x Salary)
-        BigDecimal maxAmount = affiliate.getSalary().multiply(BigDecimal.valueOf(10));
-        if (command.requestedAmount().compareTo(maxAmount) > 0) {
-            approved = false;
-            rejectionReason.append("Monto excede el límite permitido por salario. ");
-        }
+        // 3. Apply Policies and generate RiskEvaluation
+        RiskEvaluation evaluation = CreditPolicyEvaluator.evaluate(
+                affiliate,
+                command.requestedAmount(),
+                command.termMonths(),
+                command.interestRate(),
+                riskResult
+        );
 
-        // Policy: Debt-to-Income (Cuota / Ingreso < 30%)
-        BigDecimal monthlyRate = command.interestRate().divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP);
-        BigDecimal installment;
-        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
-            installment = command.requestedAmount().divide(BigDecimal.valueOf(command.termMonths()), 2, RoundingMode.HALF_UP);
+        // 4. Decide before persisting: application and evaluation are inserted once, never updated
+        if (Boolean.TRUE.equals(evaluation.getApproved())) {
+            creditApplication.setStatus(CreditApplicationStatus.APROBADA);
         } else {
-            // Formula: P * r / (1 - (1+r)^-n)
-            // Using double for power calculation then back to BigDecimal
-            double p = command.requestedAmount().doubleValue();
-            double r = monthlyRate.doubleValue();
-            int n = command.termMonths();
-            double inst = (p * r) / (1 - Math.pow(1 + r, -n));
-            installment = BigDecimal.valueOf(inst);
+            creditApplication.setStatus(CreditApplicationStatus.RECHAZADA);
         }
-        
-        BigDecimal ratio = installment.divide(affiliate.getSalary(), 4, RoundingMode.HALF_UP);
-        if (ratio.compareTo(new BigDecimal("0.30")) > 0) {
-            approved = false;
-            rejectionReason.append("Capacidad de endeudamiento insuficiente (Cuota/Ingreso > 30%). ");
+
+        return creditApplicationRepository.createWithRiskEvaluation(creditApplication, evaluation);
+    }
+
+    @Override
+    @Transactional
+    public CreditApplication submitCreditApplication(CreateCreditApplicationCommand command) {
+        CreditApplication creditApplication = registerPendingApplication(command, findApplicant(command.affiliateId()));
+
+        // Risk assessment and policies run in the decision pipeline once this insert commits
+        creditDecisionQueue.enqueue(creditApplication.getId());
+        return creditApplication;
+    }
+
+    @Override
+    @Transactional
+    public List<BatchItemResult> submitCreditApplications(List<CreateCreditApplicationCommand> commands) {
+        // 1. Load every affiliate of the batch in one query
+        Set<Long> affiliateIds = commands.stream()
+                .map(CreateCreditApplicationCommand::affiliateId)
+                .collect(Collectors.toSet());
+        Map<Long, Affiliate> affiliates = affiliateRepository.findAllByIds(affiliateIds).stream()
+                .collect(Collectors.toMap(Affiliate::getId, Function.identity()));
+
+        // 2. Validate items; invalid ones are reported, not thrown
+        BatchItemResult[] results = new BatchItemResult[commands.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<CreditApplication> pending = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            CreateCreditApplicationCommand command = commands.get(i);
+            Affiliate affiliate = affiliates.get(command.affiliateId());
+            if (affiliate == null) {
+                results[i] = BatchItemResult.rejected(i, new AffiliateNotFoundException(command.affiliateId()));
+            } else if (!affiliate.canApplyForCredit()) {
+                results[i] = BatchItemResult.rejected(i, new AffiliateNotActiveException(command.affiliateId()));
+            } else {
+                validIndexes.add(i);
+                pending.add(newPendingApplication(command, affiliate));
+            }
         }
 
-        // Policy: Risk Level
-        RiskLevel riskLevel = parseRiskLevel(riskResult.riskLevel());
-        if (riskLevel == RiskLevel.ALTO || riskLevel == RiskLevel.MUY_ALTO) {
-            approved = false;
-            rejectionReason.append("Nivel de riesgo alto según central de riesgos. ");
+        if (!pending.isEmpty()) {
+            // 3. One block of application numbers and batched inserts
+            List<String> applicationNumbers = creditApplicationRepository.generateApplicationNumbers(pending.size());
+            for (int i = 0; i < pending.size(); i++) {
+                pending.get(i).setApplicationNumber(applicationNumbers.get(i));
+            }
+            List<CreditApplication> saved = creditApplicationRepository.saveAll(pending);
+
+            // 4. Hand over to the decision pipeline, which scores them in risk-central batches;
+            //    a full pipeline does not fail the batch, the rest stay PENDIENTE
+            int queued = creditDecisionQueue.enqueueAll(saved.stream().map(CreditApplication::getId).toList());
+            for (int i = 0; i < saved.size(); i++) {
+                results[validIndexes.get(i)] = BatchItemResult.accepted(validIndexes.get(i), saved.get(i), i < queued);
+            }
         }
 
-        // 5. Generate RiskEvaluation
-        RiskEvaluation evaluation = new RiskEvaluation();
-        evaluation.setCreditScore(riskResult.score());
-        evaluation.setRiskLevel(riskLevel);
-        evaluation.setDebtToIncomeRatio(ratio);
-        evaluation.setApproved(approved);
-        evaluation.setRecommendation(approved ? "APROBADO" : "RECHAZADO: " + rejectionReason.toString());
-        evaluation.setEvaluationDate(LocalDateTime.now());
-        evaluation.setCreatedAt(LocalDateTime.now());
-        evaluation.setUpdatedAt(LocalDateTime.now());
-        evaluation.setCreditApplication(creditApplication);
-        
-        // Set missing required fields
-        evaluation.setHasDefaultHistory(false); // Default assumption
-        evaluation.setHasGuarantor(false); // Default assumption
-        evaluation.setEvaluatedBy("SYSTEM");
-        
-        if (affiliate.getEmploymentStartDate() != null) {
-            evaluation.setYearsEmployed((int) ChronoUnit.YEARS.between(affiliate.getEmploymentStartDate(), LocalDate.now()));
-        } else {
-            evaluation.setYearsEmployed(0);
+        return Arrays.asList(results);
+    }
+
+    private Affiliate findApplicant(Long affiliateId) {
+        Affiliate affiliate = affiliateRepository.findById(affiliateId)
+                .orElseThrow(() -> new AffiliateNotFoundException(affiliateId));
+
+        if (!affiliate.canApplyForCredit()) {
+            throw new AffiliateNotActiveException(affiliateId);
         }
-        
-        riskEvaluationRepository.save(evaluation);
+        return affiliate;
+    }
 
-        // 6. Update Application
-        if (approved) {
-            creditApplication.setStatus(CreditApplicationStatus.APROBADA);
-        } else {
-            creditApplication.setStatus(CreditApplicationStatus.RECHAZADA);
+    private static RiskAssessmentResult awaitRiskAssessment(CompletableFuture<RiskAssessmentResult> riskAssessment) {
+        try {
+            return riskAssessment.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
-        
+    }
+
+    private CreditApplication registerPendingApplication(CreateCreditApplicationCommand command, Affiliate affiliate) {
+        CreditApplication creditApplication = newPendingApplication(command, affiliate);
+        creditApplication.setApplicationNumber(creditApplicationRepository.generateApplicationNumber());
         return creditApplicationRepository.save(creditApplication);
     }
 
-    private RiskLevel parseRiskLevel(String levelStr) {
-        if (levelStr == null) return RiskLevel.ALTO;
-        if (levelStr.contains("BAJO")) return RiskLevel.BAJO;
-        if (levelStr.contains("MEDIO")) return RiskLevel.MEDIO;
-        return RiskLevel.ALTO;
+    private CreditApplication newPendingApplication(CreateCreditApplicationCommand command, Affiliate affiliate) {
+        CreditApplication creditApplication = new CreditApplication();
+        creditApplication.setRequestedAmount(command.requestedAmount());
+        creditApplication.setTermMonths(command.termMonths());
+        creditApplication.setInterestRate(command.interestRate());
+        creditApplication.setPurpose(command.purpose());
+        creditApplication.setStatus(CreditApplicationStatus.PENDIENTE);
+        creditApplication.setApplicationDate(LocalDateTime.now());
+        creditApplication.setCreatedAt(LocalDateTime.now());
+        creditApplication.setUpdatedAt(LocalDateTime.now());
+        creditApplication.setAffiliate(affiliate);
+        return creditApplication;
     }
 }
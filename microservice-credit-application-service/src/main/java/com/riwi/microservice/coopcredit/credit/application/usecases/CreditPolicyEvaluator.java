@@ -0,0 +1,133 @@
+package com.riwi.microservice.coopcredit.credit.application.usecases;
+
+import com.riwi.microservice.coopcredit.credit.domain.exception.RiskAssessmentUnavailableException;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditDecisionKernel;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentResult;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskFallbackDecision;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Applies the automatic credit policies (seniority, max amount, debt-to-income and
+ * risk-central level) and builds the resulting RiskEvaluation, or the fallback decision
+ * when the risk central is unavailable.
+ * Shared by the synchronous and the asynchronous intake flows.
+ */
+final class CreditPolicyEvaluator {
+
+    private static final BigDecimal MAX_DEBT_TO_INCOME_RATIO = new BigDecimal("0.30");
+
+    private CreditPolicyEvaluator() {
+    }
+
+    static RiskEvaluation evaluate(Affiliate affiliate,
+                                   BigDecimal requestedAmount,
+                                   Integer termMonths,
+                                   BigDecimal interestRate,
+                                   RiskAssessmentResult riskResult) {
+        LocalDate employmentStartDate = affiliate.getEmploymentStartDate();
+        // A missing start date is rejected for safety rather than taken as zero months
+        long monthsEmployed = employmentStartDate != null
+                ? ChronoUnit.MONTHS.between(employmentStartDate, LocalDate.now())
+                : CreditDecisionKernel.NO_EMPLOYMENT_START;
+        RiskLevel riskLevel = parseRiskLevel(riskResult.riskLevel());
+        boolean highRisk = riskLevel == RiskLevel.ALTO || riskLevel == RiskLevel.MUY_ALTO;
+
+        // Policies: seniority (6 months), max amount (10x salary), installment / salary <= 30%, risk level
+        BigDecimal ratio;
+        int rejections;
+        long decision = CreditDecisionKernel.decide(
+                CreditDecisionKernel.toFixedPoint(requestedAmount), termMonths,
+                CreditDecisionKernel.toFixedPoint(interestRate),
+                CreditDecisionKernel.toFixedPoint(affiliate.getSalary()), monthsEmployed, highRisk);
+        if (decision != CreditDecisionKernel.UNDECIDED) {
+            ratio = BigDecimal.valueOf(CreditDecisionKernel.debtToIncomeRatio(decision), 4);
+            rejections = CreditDecisionKernel.rejections(decision);
+        } else {
+            ratio = debtToIncomeRatio(requestedAmount, termMonths, interestRate, affiliate.getSalary());
+            rejections = CreditDecisionKernel.rejections(monthsEmployed,
+                    requestedAmount.compareTo(affiliate.getSalary().multiply(BigDecimal.TEN)) > 0,
+                    ratio.compareTo(MAX_DEBT_TO_INCOME_RATIO) > 0, highRisk);
+        }
+        boolean approved = rejections == 0;
+
+        RiskEvaluation evaluation = new RiskEvaluation();
+        evaluation.setCreditScore(riskResult.score());
+        evaluation.setRiskLevel(riskLevel);
+        evaluation.setDebtToIncomeRatio(ratio);
+        evaluation.setApproved(approved);
+        evaluation.setRecommendation(CreditDecisionKernel.recommendation(rejections));
+        evaluation.setEvaluationDate(LocalDateTime.now());
+        evaluation.setCreatedAt(LocalDateTime.now());
+        evaluation.setUpdatedAt(LocalDateTime.now());
+
+        // Set missing required fields
+        evaluation.setHasDefaultHistory(false); // Default assumption
+        evaluation.setHasGuarantor(false); // Default assumption
+        evaluation.setEvaluatedBy("SYSTEM");
+
+        if (employmentStartDate != null) {
+            evaluation.setYearsEmployed((int) ChronoUnit.YEARS.between(employmentStartDate, LocalDate.now()));
+        } else {
+            evaluation.setYearsEmployed(0);
+        }
+
+        return evaluation;
+    }
+
+    /**
+     * Installment / salary with BigDecimal, for inputs the fixed-point kernel leaves undecided.
+     * Monthly rate = interest rate / 100; installment P * r / (1 - (1+r)^-n) in double.
+     */
+    private static BigDecimal debtToIncomeRatio(BigDecimal requestedAmount, Integer termMonths,
+                                                BigDecimal interestRate, BigDecimal salary) {
+        BigDecimal monthlyRate = interestRate.divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP);
+        BigDecimal installment;
+        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
+            installment = requestedAmount.divide(BigDecimal.valueOf(termMonths), 2, RoundingMode.HALF_UP);
+        } else {
+            double p = requestedAmount.doubleValue();
+            double r = monthlyRate.doubleValue();
+            int n = termMonths;
+            installment = BigDecimal.valueOf((p * r) / (1 - Math.pow(1 + r, -n)));
+        }
+        return installment.divide(salary, 4, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Applies the configured decision when the risk central could not be consulted.
+     */
+    static void applyRiskFallback(CreditApplication creditApplication,
+                                  RiskFallbackDecision decision,
+                                  RiskAssessmentUnavailableException cause) {
+        switch (decision) {
+            case MANUAL_REVIEW -> {
+                creditApplication.startReview();
+                creditApplication.setComments(cause.getMessage() + ". Requiere revisión manual.");
+            }
+            case REJECT -> {
+                creditApplication.setStatus(CreditApplicationStatus.RECHAZADA);
+                creditApplication.setComments("RECHAZADO: " + cause.getMessage());
+                creditApplication.setDecisionDate(LocalDateTime.now());
+            }
+            case FAIL -> throw cause;
+        }
+        creditApplication.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private static RiskLevel parseRiskLevel(String levelStr) {
+        if (levelStr == null) return RiskLevel.ALTO;
+        if (levelStr.contains("BAJO")) return RiskLevel.BAJO;
+        if (levelStr.contains("MEDIO")) return RiskLevel.MEDIO;
+        return RiskLevel.ALTO;
+    }
+}
@@ -0,0 +1,133 @@
+package com.riwi.microservice.coopcredit.credit.application.usecases;
+
+import com.riwi.microservice.coopcredit.credit.domain.exception.CreditApplicationNotFoundException;
+import com.riwi.microservice.coopcredit.credit.domain.exception.RiskAssessmentUnavailableException;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentRequest;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentResult;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskFallbackDecision;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.EvaluateCreditApplicationUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EvaluateCreditApplicationUseCaseImpl implements EvaluateCreditApplicationUseCase {
+
+    private final CreditApplicationRepositoryPort creditApplicationRepository;
+    private final RiskAssessmentPort riskAssessmentPort;
+    private final RiskFallbackDecision riskFallbackDecision;
+
+    public EvaluateCreditApplicationUseCaseImpl(CreditApplicationRepositoryPort creditApplicationRepository,
+                                                RiskAssessmentPort riskAssessmentPort,
+                                                RiskFallbackDecision riskFallbackDecision) {
+        this.creditApplicationRepository = creditApplicationRepository;
+        this.riskAssessmentPort = riskAssessmentPort;
+        this.riskFallbackDecision = riskFallbackDecision;
+    }
+
+    /**
+     * Not transactional on purpose: the risk-central call must not hold a database connection.
+     * The decision is written afterwards in one short transaction by the repository port.
+     */
+    @Override
+    public CreditApplication evaluateCreditApplication(Long applicationId) {
+        CreditApplication creditApplication = creditApplicationRepository.findByIdWithDetails(applicationId)
+                .orElseThrow(() -> new CreditApplicationNotFoundException(applicationId));
+
+        if (creditApplication.getStatus() != CreditApplicationStatus.PENDIENTE) {
+            return creditApplication;
+        }
+
+        Affiliate affiliate = creditApplication.getAffiliate();
+
+        // 1. Invoke Risk Service
+        RiskAssessmentResult riskResult;
+        try {
+            riskResult = riskAssessmentPort.assessRisk(
+                    affiliate.getDocument(),
+                    creditApplication.getRequestedAmount().doubleValue(),
+                    creditApplication.getTermMonths()
+            );
+        } catch (RiskAssessmentUnavailableException e) {
+            return applyRiskFallback(creditApplication, e);
+        }
+
+        // 2. Apply policies and record the decision
+        return recordDecision(creditApplication, riskResult);
+    }
+
+    /**
+     * Not transactional either: one risk-central call for the whole batch, then one short
+     * transaction per decision.
+     */
+    @Override
+    public List<CreditApplication> evaluateCreditApplications(List<Long> applicationIds) {
+        List<CreditApplication> pending = creditApplicationRepository.findAllByIds(applicationIds).stream()
+                .filter(creditApplication -> creditApplication.getStatus() == CreditApplicationStatus.PENDIENTE)
+                .toList();
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. Invoke Risk Service once for the batch
+        List<RiskAssessmentResult> riskResults;
+        try {
+            riskResults = riskAssessmentPort.assessRiskBatch(pending.stream()
+                    .map(creditApplication -> new RiskAssessmentRequest(
+                            creditApplication.getAffiliate().getDocument(),
+                            creditApplication.getRequestedAmount().doubleValue(),
+                            creditApplication.getTermMonths()))
+                    .toList());
+        } catch (RiskAssessmentUnavailableException e) {
+            return pending.stream()
+                    .map(creditApplication -> applyRiskFallback(creditApplication, e))
+                    .toList();
+        }
+
+        // 2. Decide each application; one the risk central could not score takes the fallback alone
+        List<CreditApplication> evaluated = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            CreditApplication creditApplication = pending.get(i);
+            RiskAssessmentResult riskResult = riskResults.get(i);
+            if (riskResult.score() == null) {
+                evaluated.add(applyRiskFallback(creditApplication, new RiskAssessmentUnavailableException(
+                        "sin puntaje para la solicitud " + creditApplication.getApplicationNumber(), null)));
+            } else {
+                evaluated.add(recordDecision(creditApplication, riskResult));
+            }
+        }
+        return evaluated;
+    }
+
+    private CreditApplication applyRiskFallback(CreditApplication creditApplication,
+                                                RiskAssessmentUnavailableException cause) {
+        CreditPolicyEvaluator.applyRiskFallback(creditApplication, riskFallbackDecision, cause);
+        return creditApplicationRepository.save(creditApplication);
+    }
+
+    private CreditApplication recordDecision(CreditApplication creditApplication, RiskAssessmentResult riskResult) {
+        // Apply Policies and generate RiskEvaluation
+        RiskEvaluation evaluation = CreditPolicyEvaluator.evaluate(
+                creditApplication.getAffiliate(),
+                creditApplication.getRequestedAmount(),
+                creditApplication.getTermMonths(),
+                creditApplication.getInterestRate(),
+                riskResult
+        );
+
+        // Record decision
+        if (Boolean.TRUE.equals(evaluation.getApproved())) {
+            creditApplication.setStatus(CreditApplicationStatus.APROBADA);
+        } else {
+            creditApplication.setStatus(CreditApplicationStatus.RECHAZADA);
+        }
+        creditApplication.setRiskEvaluation(evaluation);
+
+        return creditApplicationRepository.saveWithRiskEvaluation(creditApplication, evaluation);
+    }
+}
@@ -0,0 +1,38 @@
+package com.riwi.microservice.coopcredit.credit.application.usecases;
+
+import com.riwi.microservice.coopcredit.credit.domain.exception.InvalidExportCriteriaException;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplicationExportRow;
+import com.riwi.microservice.coopcredit.credit.domain.models.ExportCriteria;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluationExportRow;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ExportCreditDataUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditExportPort;
+
+public class ExportCreditDataUseCaseImpl implements ExportCreditDataUseCase {
+
+    private final CreditExportPort creditExportPort;
+
+    public ExportCreditDataUseCaseImpl(CreditExportPort creditExportPort) {
+        this.creditExportPort = creditExportPort;
+    }
+
+    @Override
+    public RowStream<CreditApplicationExportRow> exportCreditApplications(ExportCriteria criteria) {
+        validate(criteria);
+        return consumer -> creditExportPort.streamCreditApplications(criteria, consumer::accept);
+    }
+
+    @Override
+    public RowStream<RiskEvaluationExportRow> exportRiskEvaluations(ExportCriteria criteria) {
+        validate(criteria);
+        return consumer -> creditExportPort.streamRiskEvaluations(criteria, consumer::accept);
+    }
+
+    private void validate(ExportCriteria criteria) {
+        if (criteria.from() == null || criteria.to() == null) {
+            throw new InvalidExportCriteriaException("El rango de fechas es obligatorio para exportar");
+        }
+        if (!criteria.from().isBefore(criteria.to())) {
+            throw new InvalidExportCriteriaException("La fecha inicial debe ser anterior a la fecha final");
+        }
+    }
+}
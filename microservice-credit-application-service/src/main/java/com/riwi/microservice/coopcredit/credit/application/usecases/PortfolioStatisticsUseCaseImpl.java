@@ -0,0 +1,24 @@
+package com.riwi.microservice.coopcredit.credit.application.usecases;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.PortfolioStatistics;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.PortfolioStatisticsUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.PortfolioStatisticsPort;
+
+public class PortfolioStatisticsUseCaseImpl implements PortfolioStatisticsUseCase {
+
+    private final PortfolioStatisticsPort portfolioStatisticsPort;
+
+    public PortfolioStatisticsUseCaseImpl(PortfolioStatisticsPort portfolioStatisticsPort) {
+        this.portfolioStatisticsPort = portfolioStatisticsPort;
+    }
+
+    @Override
+    public PortfolioStatistics getStatistics() {
+        return portfolioStatisticsPort.load();
+    }
+
+    @Override
+    public int reconcileStatistics() {
+        return portfolioStatisticsPort.reconcile();
+    }
+}
@@ -1,9 +1,21 @@
 package com.riwi.microservice.coopcredit.credit.application.usecases;
 
 import com.riwi.microservice.coopcredit.credit.domain.exception.CreditApplicationNotFoundException;
+import com.riwi.microservice.coopcredit.credit.domain.exception.CreditStatusConflictException;
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditStatusTransition;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.ProcessCreditDecisionUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class ProcessCreditDecisionUseCaseImpl implements ProcessCreditDecisionUseCase {
 
@@ -14,38 +26,98 @@ public class ProcessCreditDecisionUseCaseImpl implements ProcessCreditDecisionUs
     }
 
     @Override
+    @Transactional
     public CreditApplication startReview(Long applicationId) {
-        CreditApplication application = creditApplicationRepository.findById(applicationId)
-                .orElseThrow(() -> new CreditApplicationNotFoundException(applicationId));
-        
-        application.startReview();
-        return creditApplicationRepository.save(application);
+        return transition(applicationId, CreditStatusTransition.startReview());
     }
 
     @Override
+    @Transactional
     public CreditApplication approveCreditApplication(Long applicationId, String comments) {
-        CreditApplication application = creditApplicationRepository.findById(applicationId)
-                .orElseThrow(() -> new CreditApplicationNotFoundException(applicationId));
-
-        application.approve(comments);
-        return creditApplicationRepository.save(application);
+        return transition(applicationId, CreditStatusTransition.approve(comments));
     }
 
     @Override
+    @Transactional
     public CreditApplication rejectCreditApplication(Long applicationId, String comments) {
-        CreditApplication application = creditApplicationRepository.findById(applicationId)
-                .orElseThrow(() -> new CreditApplicationNotFoundException(applicationId));
-
-        application.reject(comments);
-        return creditApplicationRepository.save(application);
+        return transition(applicationId, CreditStatusTransition.reject(comments));
     }
 
     @Override
+    @Transactional
     public CreditApplication cancelCreditApplication(Long applicationId, String comments) {
-        CreditApplication application = creditApplicationRepository.findById(applicationId)
-                .orElseThrow(() -> new CreditApplicationNotFoundException(applicationId));
+        return transition(applicationId, CreditStatusTransition.cancel(comments));
+    }
+
+    @Override
+    @Transactional
+    public List<DecisionItemResult> processDecisions(List<DecisionCommand> commands) {
+        // 1. Lock every application of the batch and read its status in one query
+        List<Long> ids = commands.stream()
+                .map(DecisionCommand::applicationId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, CreditApplicationStatus> statuses = new HashMap<>(creditApplicationRepository.lockStatuses(ids));
 
-        application.cancel(comments);
-        return creditApplicationRepository.save(application);
+        // 2. Validate in command order against the in-memory statuses, so a second decision
+        //    on the same application sees the first one; invalid items are reported, not thrown
+        DecisionItemResult[] results = new DecisionItemResult[commands.size()];
+        Map<DecisionGroup, List<Long>> groups = new LinkedHashMap<>();
+        Map<DecisionGroup, CreditStatusTransition> transitions = new HashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            DecisionCommand command = commands.get(i);
+            CreditStatusTransition transition = toTransition(command);
+            CreditApplicationStatus current = statuses.get(command.applicationId());
+            if (current == null) {
+                results[i] = DecisionItemResult.rejected(i, command.applicationId(), null,
+                        new CreditApplicationNotFoundException(command.applicationId()));
+            } else if (!transition.from().contains(current)) {
+                results[i] = DecisionItemResult.rejected(i, command.applicationId(), current,
+                        new CreditStatusConflictException(command.applicationId(), current, transition.operation()));
+            } else {
+                statuses.put(command.applicationId(), transition.to());
+                DecisionGroup group = new DecisionGroup(transition.to(), transition.comments());
+                groups.computeIfAbsent(group, key -> new ArrayList<>()).add(command.applicationId());
+                transitions.putIfAbsent(group, transition);
+                results[i] = DecisionItemResult.applied(i, command.applicationId(), transition.to());
+            }
+        }
+
+        // 3. One UPDATE per decision and comment; the locks guarantee every validated row matches
+        for (Map.Entry<DecisionGroup, List<Long>> group : groups.entrySet()) {
+            int updated = creditApplicationRepository.transitionStatuses(group.getValue(), transitions.get(group.getKey()));
+            if (updated != group.getValue().size()) {
+                throw new IllegalStateException("Batch decision updated " + updated + " of "
+                        + group.getValue().size() + " locked applications");
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private static CreditStatusTransition toTransition(DecisionCommand command) {
+        return switch (command.decision()) {
+            case APPROVE -> CreditStatusTransition.approve(command.comments());
+            case REJECT -> CreditStatusTransition.reject(command.comments());
+            case CANCEL -> CreditStatusTransition.cancel(command.comments());
+        };
+    }
+
+    /** Decisions of a batch that can share one UPDATE. */
+    private record DecisionGroup(CreditApplicationStatus to, String comments) {}
+
+    private CreditApplication transition(Long applicationId, CreditStatusTransition transition) {
+        // One conditional UPDATE, no prior read: of concurrent transitions from the same
+        // status only the first to commit matches, the others see the new status
+        if (!creditApplicationRepository.transitionStatus(applicationId, transition)) {
+            CreditApplication current = findApplication(applicationId);
+            throw new CreditStatusConflictException(applicationId, current.getStatus(), transition.operation());
+        }
+        return findApplication(applicationId);
+    }
+
+    private CreditApplication findApplication(Long applicationId) {
+        return creditApplicationRepository.findById(applicationId)
+                .orElseThrow(() -> new CreditApplicationNotFoundException(applicationId));
     }
 }
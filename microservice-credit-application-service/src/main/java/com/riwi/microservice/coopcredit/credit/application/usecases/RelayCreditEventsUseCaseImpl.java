@@ -0,0 +1,68 @@
+package com.riwi.microservice.coopcredit.credit.application.usecases;
+
+import com.riwi.microservice.coopcredit.credit.domain.exception.CreditEventPublisherUnavailableException;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditLifecycleEvent;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.RelayCreditEventsUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditEventOutboxPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditEventPublisherPort;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class RelayCreditEventsUseCaseImpl implements RelayCreditEventsUseCase {
+
+    private final CreditEventOutboxPort creditEventOutbox;
+    private final CreditEventPublisherPort creditEventPublisher;
+    private final int batchSize;
+
+    public RelayCreditEventsUseCaseImpl(CreditEventOutboxPort creditEventOutbox,
+                                        CreditEventPublisherPort creditEventPublisher,
+                                        int batchSize) {
+        this.creditEventOutbox = creditEventOutbox;
+        this.creditEventPublisher = creditEventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Not transactional: the batch is claimed and settled in two short transactions, and no
+     * connection is held while the publisher waits on the network. Events are removed only
+     * after the publisher accepted them: a crash in between publishes them again once their
+     * lease expires (at least once), never loses them.
+     */
+    @Override
+    public RelayResult relayBatch() {
+        List<CreditLifecycleEvent> batch = creditEventOutbox.claimNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return new RelayResult(0, 0, 0);
+        }
+
+        List<Long> published = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        List<Long> released = new ArrayList<>();
+        Set<Long> heldBack = new HashSet<>();
+        boolean unreachable = false;
+        for (CreditLifecycleEvent event : batch) {
+            // Keep per-application order: nothing after a failed event of the same application,
+            // and nothing at all once the destination cannot be reached
+            if (unreachable || heldBack.contains(event.applicationId())) {
+                released.add(event.eventId());
+                continue;
+            }
+            try {
+                creditEventPublisher.publish(event);
+                published.add(event.eventId());
+            } catch (CreditEventPublisherUnavailableException e) {
+                failed.add(event.eventId());
+                unreachable = true;
+            } catch (RuntimeException e) {
+                failed.add(event.eventId());
+                heldBack.add(event.applicationId());
+            }
+        }
+
+        creditEventOutbox.settle(published, failed, released);
+        return new RelayResult(batch.size(), published.size(), failed.size());
+    }
+}
@@ -1,13 +1,16 @@
 package com.riwi.microservice.coopcredit.credit.application.usecases;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.RetrieveAffiliateUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
+@Transactional(readOnly = true)
 public class RetrieveAffiliateUseCaseImpl implements RetrieveAffiliateUseCase {
 
     private final AffiliateRepositoryPort affiliateRepository;
@@ -27,12 +30,12 @@ public class RetrieveAffiliateUseCaseImpl implements RetrieveAffiliateUseCase {
     }
 
     @Override
-    public List<Affiliate> getAllAffiliates(int page, int size) {
-        return affiliateRepository.findAll(page, size);
+    public CursorPage<Affiliate> getAllAffiliates(PageCursor after, int size) {
+        return affiliateRepository.findAll(after, CursorPage.limit(size));
     }
 
     @Override
-    public List<Affiliate> getAffiliatesByStatus(AffiliateStatus status, int page, int size) {
-        return affiliateRepository.findByStatus(status, page, size);
+    public CursorPage<Affiliate> getAffiliatesByStatus(AffiliateStatus status, PageCursor after, int size) {
+        return affiliateRepository.findByStatus(status, after, CursorPage.limit(size));
     }
 }
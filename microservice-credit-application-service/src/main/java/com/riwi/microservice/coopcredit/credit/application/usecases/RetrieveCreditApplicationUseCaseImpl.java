@@ -2,14 +2,17 @@ package com.riwi.microservice.coopcredit.credit.application.usecases;
 
 import com.riwi.microservice.coopcredit.credit.domain.exception.AffiliateNotFoundException;
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.RetrieveCreditApplicationUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
+@Transactional(readOnly = true)
 public class RetrieveCreditApplicationUseCaseImpl implements RetrieveCreditApplicationUseCase {
 
     private final CreditApplicationRepositoryPort creditApplicationRepository;
@@ -31,22 +34,23 @@ public class RetrieveCreditApplicationUseCaseImpl implements RetrieveCreditAppli
     }
 
     @Override
-    public List<CreditApplication> getCreditApplicationsByAffiliate(Long affiliateId) {
-        // Validate affiliate exists
-        if (affiliateRepository.findById(affiliateId).isEmpty()) {
+    public CursorPage<CreditApplication> getCreditApplicationsByAffiliate(Long affiliateId, PageCursor after, int size) {
+        CursorPage<CreditApplication> page = creditApplicationRepository.findByAffiliateId(affiliateId, after, CursorPage.limit(size));
+        // Rows imply the affiliate exists; only an empty page needs the extra check
+        if (page.items().isEmpty() && !affiliateRepository.existsById(affiliateId)) {
             throw new AffiliateNotFoundException(affiliateId);
         }
-        return creditApplicationRepository.findByAffiliateId(affiliateId);
+        return page;
     }
 
     @Override
-    public List<CreditApplication> getCreditApplicationsByStatus(CreditApplicationStatus status, int page, int size) {
-        return creditApplicationRepository.findByStatus(status, page, size);
+    public CursorPage<CreditApplication> getCreditApplicationsByStatus(CreditApplicationStatus status, PageCursor after, int size) {
+        return creditApplicationRepository.findByStatus(status, after, CursorPage.limit(size));
     }
 
     @Override
-    public List<CreditApplication> getAllCreditApplications(int page, int size) {
-        return creditApplicationRepository.findAll(page, size);
+    public CursorPage<CreditApplication> getAllCreditApplications(PageCursor after, int size) {
+        return creditApplicationRepository.findAll(after, CursorPage.limit(size));
     }
 
     @Override
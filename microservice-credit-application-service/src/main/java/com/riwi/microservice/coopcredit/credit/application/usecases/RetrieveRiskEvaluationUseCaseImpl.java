@@ -1,13 +1,16 @@
 package com.riwi.microservice.coopcredit.credit.application.usecases;
 
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.RetrieveRiskEvaluationUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskEvaluationRepositoryPort;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
+@Transactional(readOnly = true)
 public class RetrieveRiskEvaluationUseCaseImpl implements RetrieveRiskEvaluationUseCase {
 
     private final RiskEvaluationRepositoryPort riskEvaluationRepository;
@@ -27,12 +30,12 @@ public class RetrieveRiskEvaluationUseCaseImpl implements RetrieveRiskEvaluation
     }
 
     @Override
-    public List<RiskEvaluation> getRiskEvaluationsByRiskLevel(RiskLevel riskLevel, int page, int size) {
-        return riskEvaluationRepository.findByRiskLevel(riskLevel, page, size);
+    public CursorPage<RiskEvaluation> getRiskEvaluationsByRiskLevel(RiskLevel riskLevel, PageCursor after, int size) {
+        return riskEvaluationRepository.findByRiskLevel(riskLevel, after, CursorPage.limit(size));
     }
 
     @Override
-    public List<RiskEvaluation> getAllRiskEvaluations(int page, int size) {
-        return riskEvaluationRepository.findAll(page, size);
+    public CursorPage<RiskEvaluation> getAllRiskEvaluations(PageCursor after, int size) {
+        return riskEvaluationRepository.findAll(after, CursorPage.limit(size));
     }
 }
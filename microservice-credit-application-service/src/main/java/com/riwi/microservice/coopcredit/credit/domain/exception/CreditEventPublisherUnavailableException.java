@@ -0,0 +1,14 @@
+package com.riwi.microservice.coopcredit.credit.domain.exception;
+
+/**
+ * Exception thrown when the destination of credit lifecycle events cannot be reached at all
+ * (connection refused, timeouts), as opposed to rejecting one event.
+ */
+public class CreditEventPublisherUnavailableException extends DomainException {
+
+    private static final String CODE = "CREDIT_EVENT_PUBLISHER_UNAVAILABLE";
+
+    public CreditEventPublisherUnavailableException(String reason, Throwable cause) {
+        super(CODE, "Destino de eventos de crédito no disponible: " + reason, cause);
+    }
+}
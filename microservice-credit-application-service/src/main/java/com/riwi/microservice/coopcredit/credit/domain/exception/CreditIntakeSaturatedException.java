@@ -0,0 +1,13 @@
+package com.riwi.microservice.coopcredit.credit.domain.exception;
+
+/**
+ * Exception thrown when the asynchronous decision pipeline is full and cannot accept new applications.
+ */
+public class CreditIntakeSaturatedException extends DomainException {
+    
+    private static final String CODE = "CREDIT_INTAKE_SATURATED";
+    
+    public CreditIntakeSaturatedException(int capacity) {
+        super(CODE, "La cola de evaluación de créditos está llena (capacidad: " + capacity + "). Intente nuevamente más tarde.");
+    }
+}
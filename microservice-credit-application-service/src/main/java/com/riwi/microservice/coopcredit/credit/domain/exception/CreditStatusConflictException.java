@@ -0,0 +1,18 @@
+package com.riwi.microservice.coopcredit.credit.domain.exception;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+
+/**
+ * Exception thrown when a status transition finds the credit application in a status that no
+ * longer allows it, typically because a concurrent operation moved it first.
+ */
+public class CreditStatusConflictException extends DomainException {
+
+    private static final String CODE = "CREDIT_STATUS_CONFLICT";
+
+    public CreditStatusConflictException(Long applicationId, CreditApplicationStatus currentStatus, String operation) {
+        super(CODE, String.format(
+            "No se puede %s la solicitud %d: su estado actual es '%s'.",
+            operation, applicationId, currentStatus));
+    }
+}
@@ -0,0 +1,13 @@
+package com.riwi.microservice.coopcredit.credit.domain.exception;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ */
+public class InvalidCursorException extends DomainException {
+
+    private static final String CODE = "INVALID_CURSOR";
+
+    public InvalidCursorException(String cursor) {
+        super(CODE, "El cursor de paginación no es válido: " + cursor);
+    }
+}
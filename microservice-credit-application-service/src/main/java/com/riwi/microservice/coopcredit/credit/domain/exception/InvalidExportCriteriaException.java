@@ -0,0 +1,13 @@
+package com.riwi.microservice.coopcredit.credit.domain.exception;
+
+/**
+ * Exception thrown when an export is requested with an invalid date range.
+ */
+public class InvalidExportCriteriaException extends DomainException {
+
+    private static final String CODE = "INVALID_EXPORT_CRITERIA";
+
+    public InvalidExportCriteriaException(String message) {
+        super(CODE, message);
+    }
+}
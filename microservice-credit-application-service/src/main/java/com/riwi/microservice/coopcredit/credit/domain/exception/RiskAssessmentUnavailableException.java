@@ -0,0 +1,13 @@
+package com.riwi.microservice.coopcredit.credit.domain.exception;
+
+/**
+ * Exception thrown when the risk central cannot be reached (open circuit, full bulkhead, timeouts or errors).
+ */
+public class RiskAssessmentUnavailableException extends DomainException {
+    
+    private static final String CODE = "RISK_ASSESSMENT_UNAVAILABLE";
+    
+    public RiskAssessmentUnavailableException(String reason, Throwable cause) {
+        super(CODE, "Central de riesgos no disponible: " + reason, cause);
+    }
+}
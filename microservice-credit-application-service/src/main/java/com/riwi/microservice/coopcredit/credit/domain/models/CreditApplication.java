@@ -23,8 +23,11 @@ public class CreditApplication {
     private LocalDateTime applicationDate;
     private LocalDateTime reviewDate;
     private LocalDateTime decisionDate;
+    private String reviewer;
+    private LocalDateTime reviewLeaseExpiresAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
     private Affiliate affiliate;
     private RiskEvaluation riskEvaluation;
 
@@ -72,12 +75,19 @@ public class CreditApplication {
     }
 
     /**
-     * Calculates the monthly payment using simple interest formula.
+     * Calculates the monthly payment (French amortization, annual interest rate).
+     * Computed in fixed point; BigDecimal only for the inputs the kernel leaves undecided.
      */
     public BigDecimal calculateMonthlyPayment() {
         if (this.requestedAmount == null || this.termMonths == null || this.interestRate == null) {
             return BigDecimal.ZERO;
         }
+        long monthlyPaymentCents = CreditDecisionKernel.monthlyPaymentCents(
+                CreditDecisionKernel.toFixedPoint(this.requestedAmount), this.termMonths,
+                CreditDecisionKernel.toFixedPoint(this.interestRate));
+        if (monthlyPaymentCents != CreditDecisionKernel.UNDECIDED) {
+            return BigDecimal.valueOf(monthlyPaymentCents, 2);
+        }
         
         BigDecimal monthlyRate = this.interestRate.divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP)
                                                    .divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
@@ -123,44 +133,46 @@ public class CreditApplication {
      * Moves the application to review status.
      */
     public void startReview() {
-        if (this.status == CreditApplicationStatus.PENDIENTE) {
-            this.status = CreditApplicationStatus.EN_REVISION;
-            this.reviewDate = LocalDateTime.now();
-        }
+        apply(CreditStatusTransition.startReview());
     }
 
     /**
      * Approves the credit application.
      */
     public void approve(String comments) {
-        if (this.status == CreditApplicationStatus.EN_REVISION) {
-            this.status = CreditApplicationStatus.APROBADA;
-            this.comments = comments;
-            this.decisionDate = LocalDateTime.now();
-        }
+        apply(CreditStatusTransition.approve(comments));
     }
 
     /**
      * Rejects the credit application.
      */
     public void reject(String comments) {
-        if (this.status == CreditApplicationStatus.EN_REVISION) {
-            this.status = CreditApplicationStatus.RECHAZADA;
-            this.comments = comments;
-            this.decisionDate = LocalDateTime.now();
-        }
+        apply(CreditStatusTransition.reject(comments));
     }
 
     /**
      * Cancels the credit application.
      */
     public void cancel(String comments) {
-        if (this.status == CreditApplicationStatus.PENDIENTE || 
-            this.status == CreditApplicationStatus.EN_REVISION) {
-            this.status = CreditApplicationStatus.CANCELADA;
-            this.comments = comments;
-            this.decisionDate = LocalDateTime.now();
+        apply(CreditStatusTransition.cancel(comments));
+    }
+
+    /**
+     * Applies a status transition if the current status allows it.
+     * @return true if the status changed
+     */
+    public boolean apply(CreditStatusTransition transition) {
+        if (!transition.from().contains(this.status)) {
+            return false;
         }
+        this.status = transition.to();
+        if (transition.isDecision()) {
+            this.comments = transition.comments();
+            this.decisionDate = transition.at();
+        } else {
+            this.reviewDate = transition.at();
+        }
+        return true;
     }
 
     /**
@@ -263,6 +275,22 @@ public class CreditApplication {
         this.decisionDate = decisionDate;
     }
 
+    public String getReviewer() {
+        return reviewer;
+    }
+
+    public void setReviewer(String reviewer) {
+        this.reviewer = reviewer;
+    }
+
+    public LocalDateTime getReviewLeaseExpiresAt() {
+        return reviewLeaseExpiresAt;
+    }
+
+    public void setReviewLeaseExpiresAt(LocalDateTime reviewLeaseExpiresAt) {
+        this.reviewLeaseExpiresAt = reviewLeaseExpiresAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -279,6 +307,14 @@ public class CreditApplication {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Affiliate getAffiliate() {
         return affiliate;
     }
@@ -0,0 +1,25 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat credit application row of a bulk export. Risk fields are null when not yet evaluated.
+ */
+public record CreditApplicationExportRow(
+        Long id,
+        String applicationNumber,
+        Long affiliateId,
+        String affiliateDocument,
+        BigDecimal requestedAmount,
+        Integer termMonths,
+        BigDecimal interestRate,
+        CreditApplicationStatus status,
+        LocalDateTime applicationDate,
+        LocalDateTime decisionDate,
+        RiskLevel riskLevel,
+        Integer creditScore) {
+}
@@ -0,0 +1,225 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+import java.math.BigDecimal;
+
+/**
+ * Credit policy and installment math on fixed-point longs: amounts in cents, rates in
+ * hundredths of a percent, the debt-to-income ratio in ten-thousandths. Nothing is allocated.
+ * <p>
+ * Results are identical to the BigDecimal computations they replace, rounding and scale
+ * included. Where those go through a double, a cheaper double with a known error bound is
+ * computed here; a result whose exact value lies too close to a rounding boundary for the
+ * combined error bounds to settle it is reported as {@link #UNDECIDED}, and so are inputs
+ * outside the fixed-point range, so that the caller can fall back to BigDecimal (a few cases
+ * in a million).
+ */
+public final class CreditDecisionKernel {
+
+    /** Returned when the caller must compute the result with BigDecimal instead. */
+    public static final long UNDECIDED = -1;
+    /** Value of {@link #toFixedPoint} for amounts that do not fit the kernel. */
+    public static final long NOT_FIXED_POINT = -1;
+    /** Months employed of an affiliate without an employment start date. */
+    public static final long NO_EMPLOYMENT_START = Long.MIN_VALUE;
+
+    // Rejection reasons, in the order they appear in the recommendation
+    public static final int SENIORITY_TOO_SHORT = 1;
+    public static final int EMPLOYMENT_START_MISSING = 1 << 1;
+    public static final int AMOUNT_OVER_LIMIT = 1 << 2;
+    public static final int DEBT_CAPACITY_EXCEEDED = 1 << 3;
+    public static final int HIGH_RISK = 1 << 4;
+
+    private static final int REJECTION_BITS = 8;
+    private static final long MIN_MONTHS_EMPLOYED = 6;
+    private static final long MAX_SALARY_MULTIPLE = 10;
+    /** Installment / salary limit, in ten-thousandths (30%). */
+    private static final long MAX_DEBT_TO_INCOME_RATIO = 3000;
+    /** Largest amount in cents (about 2.8 trillion): keeps every product below in range. */
+    private static final long MAX_CENTS = 1L << 48;
+    private static final double MAX_AMOUNT = MAX_CENTS / 100.0;
+    /** Largest ratio that still leaves room for the rejection bits. */
+    private static final long MAX_RATIO = (1L << 52) - 1;
+    /**
+     * Distance to a .5 boundary, relative to the value, under which a double result is not
+     * trusted. The double formulas here stay within about 1e-15 of the exact value.
+     */
+    private static final double TIE_MARGIN = 0x1p-43;
+
+    private static final String[] RECOMMENDATIONS = recommendations();
+
+    private CreditDecisionKernel() {
+    }
+
+    /**
+     * Convert a non-negative amount with at most two decimals to hundredths (cents, or basis
+     * points for a percentage).
+     * @return the amount in hundredths, or {@link #NOT_FIXED_POINT}
+     */
+    public static long toFixedPoint(BigDecimal amount) {
+        if (amount == null || amount.scale() > 2) {
+            return NOT_FIXED_POINT;
+        }
+        // Exact and allocation-free: at most two decimals and far below 2^53 hundredths
+        double value = amount.doubleValue();
+        long hundredths = value >= 0 && value <= MAX_AMOUNT ? Math.round(value * 100) : NOT_FIXED_POINT;
+        return hundredths <= MAX_CENTS ? hundredths : NOT_FIXED_POINT;
+    }
+
+    /**
+     * Apply the automatic policies: seniority, maximum amount, debt-to-income and risk level.
+     * The installment is P * r / (1 - (1 + r)^-n) with r the monthly rate, taken from
+     * interestRateBasisPoints, and the ratio is installment / salary rounded half-up to four
+     * decimals.
+     * @param monthsEmployed whole months since the employment start, or {@link #NO_EMPLOYMENT_START}
+     * @return the ratio and rejection reasons, read with {@link #debtToIncomeRatio(long)} and
+     *         {@link #rejections(long)}, or {@link #UNDECIDED}
+     */
+    public static long decide(long requestedCents, int termMonths, long interestRateBasisPoints,
+                              long salaryCents, long monthsEmployed, boolean highRisk) {
+        if (!inRange(requestedCents) || !inRange(interestRateBasisPoints) || !inRange(salaryCents)
+                || salaryCents == 0 || termMonths < 1) {
+            return UNDECIDED;
+        }
+        long ratio;
+        if (interestRateBasisPoints == 0) {
+            long installmentCents = divideHalfUp(requestedCents, termMonths);
+            ratio = divideHalfUp(installmentCents * 10_000, salaryCents);
+        } else {
+            // installment * 10^4 / salary = cents * bp / (salaryCents * (1 - (1 + r)^-n)), with
+            // 1 / (1 - (1 + r)^-n) = (1 + r)^n / ((1 + r)^n - 1). Both this and the Math.pow
+            // double of the BigDecimal code lose about n ulps in (1 + r)^n, magnified by the
+            // cancellation in (1 + r)^n - 1, hence the margin
+            double growth = power(1 + interestRateBasisPoints / 10_000.0, termMonths);
+            double amortization = growth / (growth - 1);
+            double value = (double) requestedCents * interestRateBasisPoints * amortization / salaryCents;
+            ratio = roundHalfUp(value, value * amortization * (termMonths + 64) * 0x1p-51);
+        }
+        if (ratio == UNDECIDED || ratio > MAX_RATIO) {
+            return UNDECIDED;
+        }
+        int rejections = rejections(monthsEmployed, requestedCents > salaryCents * MAX_SALARY_MULTIPLE,
+                ratio > MAX_DEBT_TO_INCOME_RATIO, highRisk);
+        return ratio << REJECTION_BITS | rejections;
+    }
+
+    /**
+     * Debt-to-income ratio of a decision, in ten-thousandths.
+     */
+    public static long debtToIncomeRatio(long decision) {
+        return decision >>> REJECTION_BITS;
+    }
+
+    /**
+     * Rejection reasons of a decision; 0 when approved.
+     */
+    public static int rejections(long decision) {
+        return (int) (decision & ((1 << REJECTION_BITS) - 1));
+    }
+
+    /**
+     * Rejection reasons for the policy outcomes.
+     */
+    public static int rejections(long monthsEmployed, boolean amountOverLimit,
+                                 boolean debtCapacityExceeded, boolean highRisk) {
+        int rejections = 0;
+        if (monthsEmployed == NO_EMPLOYMENT_START) {
+            rejections |= EMPLOYMENT_START_MISSING;
+        } else if (monthsEmployed < MIN_MONTHS_EMPLOYED) {
+            rejections |= SENIORITY_TOO_SHORT;
+        }
+        if (amountOverLimit) {
+            rejections |= AMOUNT_OVER_LIMIT;
+        }
+        if (debtCapacityExceeded) {
+            rejections |= DEBT_CAPACITY_EXCEEDED;
+        }
+        if (highRisk) {
+            rejections |= HIGH_RISK;
+        }
+        return rejections;
+    }
+
+    /**
+     * Recommendation text for the given rejection reasons.
+     */
+    public static String recommendation(int rejections) {
+        return RECOMMENDATIONS[rejections];
+    }
+
+    /**
+     * French-amortization installment P * r * (1 + r)^n / ((1 + r)^n - 1), in cents rounded
+     * half-up, with r the annual rate divided by 12 and by 100, each step rounded half-up to
+     * six decimals; P / n when r rounds to zero.
+     * @return the installment in cents, or {@link #UNDECIDED}
+     */
+    public static long monthlyPaymentCents(long requestedCents, int termMonths, long annualRateBasisPoints) {
+        if (!inRange(requestedCents) || !inRange(annualRateBasisPoints) || termMonths < 1) {
+            return UNDECIDED;
+        }
+        // Monthly rate in millionths: rate / 12 rounded, then / 100 rounded
+        long monthlyPercentMicros = (annualRateBasisPoints * 5_000 + 3) / 6;
+        long monthlyRateMicros = (monthlyPercentMicros + 50) / 100;
+        if (monthlyRateMicros == 0) {
+            return divideHalfUp(requestedCents, termMonths);
+        }
+        // 1 - (1 + r)^-n without the cancellation of 1 - pow(...) for small r * n
+        double r = monthlyRateMicros / 1_000_000.0;
+        double paidOff = -Math.expm1(-termMonths * Math.log1p(r));
+        double value = requestedCents * r / paidOff;
+        return roundHalfUp(value, value * TIE_MARGIN);
+    }
+
+    private static boolean inRange(long fixedPoint) {
+        return fixedPoint >= 0 && fixedPoint <= MAX_CENTS;
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        return (dividend * 2 + divisor) / (divisor * 2);
+    }
+
+    // x^n by squaring: at most 2 log2(n) roundings on top of the n ulps inherited from x
+    private static double power(double x, int n) {
+        double result = 1;
+        for (double square = x; n != 0; n >>>= 1, square *= square) {
+            if ((n & 1) != 0) {
+                result *= square;
+            }
+        }
+        return result;
+    }
+
+    // Half-up rounding of a positive double, or UNDECIDED when it is within margin of .5
+    private static long roundHalfUp(double value, double margin) {
+        if (!(value >= 0 && value < 0x1p52)) {
+            return UNDECIDED;
+        }
+        double floor = Math.floor(value);
+        double fraction = value - floor;
+        if (Math.abs(fraction - 0.5) <= margin) {
+            return UNDECIDED;
+        }
+        return (long) floor + (fraction > 0.5 ? 1 : 0);
+    }
+
+    private static String[] recommendations() {
+        String[] reasons = {
+                "Antigüedad laboral insuficiente (< 6 meses). ",
+                "Fecha de inicio de empleo no registrada. ",
+                "Monto excede el límite permitido por salario. ",
+                "Capacidad de endeudamiento insuficiente (Cuota/Ingreso > 30%). ",
+                "Nivel de riesgo alto según central de riesgos. "
+        };
+        String[] recommendations = new String[1 << reasons.length];
+        recommendations[0] = "APROBADO";
+        for (int rejections = 1; rejections < recommendations.length; rejections++) {
+            StringBuilder recommendation = new StringBuilder("RECHAZADO: ");
+            for (int reason = 0; reason < reasons.length; reason++) {
+                if ((rejections & 1 << reason) != 0) {
+                    recommendation.append(reasons[reason]);
+                }
+            }
+            recommendations[rejections] = recommendation.toString();
+        }
+        return recommendations;
+    }
+}
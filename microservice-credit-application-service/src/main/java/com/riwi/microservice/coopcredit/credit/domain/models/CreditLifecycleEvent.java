@@ -0,0 +1,25 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status change of a credit application, as delivered to downstream systems. Delivery is
+ * at least once and in order per application; consumers deduplicate by eventId.
+ * @param eventId unique, increasing per application
+ * @param applicationId the credit application ID
+ * @param applicationNumber the credit application number
+ * @param affiliateId the affiliate ID
+ * @param previousStatus status before the change, null when the application was created
+ * @param status status after the change
+ * @param occurredAt when the change was made
+ */
+public record CreditLifecycleEvent(Long eventId, Long applicationId, String applicationNumber, Long affiliateId,
+                                   CreditApplicationStatus previousStatus, CreditApplicationStatus status,
+                                   LocalDateTime occurredAt) {
+
+    public boolean isCreation() {
+        return previousStatus == null;
+    }
+}
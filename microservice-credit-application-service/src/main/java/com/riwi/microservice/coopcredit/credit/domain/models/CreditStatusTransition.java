@@ -0,0 +1,50 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A workflow move of a credit application to a new status, allowed only from the given source
+ * statuses. The repository applies it as one compare-and-set UPDATE, so two concurrent moves
+ * can never both succeed.
+ * @param operation name of the operation, used in error messages
+ * @param from statuses the application must be in
+ * @param to resulting status
+ * @param comments decision comments; ignored when moving to review
+ * @param at review or decision date
+ */
+public record CreditStatusTransition(String operation, Set<CreditApplicationStatus> from,
+                                     CreditApplicationStatus to, String comments, LocalDateTime at) {
+
+    public static CreditStatusTransition startReview() {
+        return new CreditStatusTransition("iniciar revisión", EnumSet.of(CreditApplicationStatus.PENDIENTE),
+                CreditApplicationStatus.EN_REVISION, null, LocalDateTime.now());
+    }
+
+    public static CreditStatusTransition approve(String comments) {
+        return new CreditStatusTransition("aprobar", EnumSet.of(CreditApplicationStatus.EN_REVISION),
+                CreditApplicationStatus.APROBADA, comments, LocalDateTime.now());
+    }
+
+    public static CreditStatusTransition reject(String comments) {
+        return new CreditStatusTransition("rechazar", EnumSet.of(CreditApplicationStatus.EN_REVISION),
+                CreditApplicationStatus.RECHAZADA, comments, LocalDateTime.now());
+    }
+
+    public static CreditStatusTransition cancel(String comments) {
+        return new CreditStatusTransition("cancelar",
+                EnumSet.of(CreditApplicationStatus.PENDIENTE, CreditApplicationStatus.EN_REVISION),
+                CreditApplicationStatus.CANCELADA, comments, LocalDateTime.now());
+    }
+
+    /**
+     * True when the transition records a decision (comments and decision date) rather than
+     * the start of a review.
+     */
+    public boolean isDecision() {
+        return to != CreditApplicationStatus.EN_REVISION;
+    }
+}
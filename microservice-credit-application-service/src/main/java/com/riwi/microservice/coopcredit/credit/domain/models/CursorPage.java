@@ -0,0 +1,44 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list.
+ * @param items the rows of this page
+ * @param next the position to continue from, or null on the last page
+ */
+public record CursorPage<T>(List<T> items, PageCursor next) {
+
+    public static final int MAX_SIZE = 100;
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * Clamp a requested page size to 1..{@value #MAX_SIZE}.
+     */
+    public static int limit(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Build a page from a query that fetched {@code size + 1} rows; the extra row only
+     * signals that another page exists.
+     * @param rows the fetched rows, in page order
+     * @param size the page size
+     * @param position the keyset position of a row
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, PageCursor> position) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, position.apply(items.get(size - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), next);
+    }
+}
@@ -0,0 +1,17 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter of a bulk export.
+ * @param from inclusive start of the date range
+ * @param to exclusive end of the date range
+ * @param status optional application status
+ * @param riskLevel optional risk level
+ */
+public record ExportCriteria(LocalDateTime from, LocalDateTime to,
+                             CreditApplicationStatus status, RiskLevel riskLevel) {
+}
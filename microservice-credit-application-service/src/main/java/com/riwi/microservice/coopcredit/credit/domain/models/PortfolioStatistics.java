@@ -0,0 +1,34 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+
+import java.util.Map;
+
+/**
+ * Portfolio breakdowns for the dashboards. Every enum constant has an entry, zero when empty.
+ * @param applicationsByStatus credit applications per status
+ * @param affiliatesByStatus affiliates per status
+ * @param evaluationsByRiskLevel risk evaluations per risk level
+ */
+public record PortfolioStatistics(Map<CreditApplicationStatus, Long> applicationsByStatus,
+                                  Map<AffiliateStatus, Long> affiliatesByStatus,
+                                  Map<RiskLevel, Long> evaluationsByRiskLevel) {
+
+    public long totalApplications() {
+        return sum(applicationsByStatus);
+    }
+
+    public long totalAffiliates() {
+        return sum(affiliatesByStatus);
+    }
+
+    public long totalEvaluations() {
+        return sum(evaluationsByRiskLevel);
+    }
+
+    private static long sum(Map<?, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
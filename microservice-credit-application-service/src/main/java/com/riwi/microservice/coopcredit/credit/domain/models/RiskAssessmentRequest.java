@@ -0,0 +1,3 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+public record RiskAssessmentRequest(String documento, Double monto, Integer plazo) {}
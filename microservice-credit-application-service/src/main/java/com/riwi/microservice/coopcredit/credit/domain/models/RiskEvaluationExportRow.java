@@ -0,0 +1,23 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat risk evaluation row of a bulk export.
+ */
+public record RiskEvaluationExportRow(
+        Long id,
+        Long creditApplicationId,
+        String applicationNumber,
+        CreditApplicationStatus applicationStatus,
+        Integer creditScore,
+        RiskLevel riskLevel,
+        BigDecimal debtToIncomeRatio,
+        Boolean approved,
+        String evaluatedBy,
+        LocalDateTime evaluationDate) {
+}
@@ -0,0 +1,13 @@
+package com.riwi.microservice.coopcredit.credit.domain.models.enums;
+
+/**
+ * Decision an analyst can record on a credit application.
+ */
+public enum CreditDecisionType {
+    /** Move an application under review to APROBADA. */
+    APPROVE,
+    /** Move an application under review to RECHAZADA. */
+    REJECT,
+    /** Move a pending or under review application to CANCELADA. */
+    CANCEL
+}
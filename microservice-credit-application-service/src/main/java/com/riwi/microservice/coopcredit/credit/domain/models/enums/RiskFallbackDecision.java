@@ -0,0 +1,13 @@
+package com.riwi.microservice.coopcredit.credit.domain.models.enums;
+
+/**
+ * What to do with an application when the risk central is unavailable.
+ */
+public enum RiskFallbackDecision {
+    /** Move the application to EN_REVISION for an analyst. */
+    MANUAL_REVIEW,
+    /** Reject the application. */
+    REJECT,
+    /** Propagate the error (503); no decision is recorded. */
+    FAIL
+}
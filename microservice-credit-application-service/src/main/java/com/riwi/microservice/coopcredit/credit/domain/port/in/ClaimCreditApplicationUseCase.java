@@ -0,0 +1,35 @@
+package com.riwi.microservice.coopcredit.credit.domain.port.in;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Use case for the analysts' review work queue.
+ * Single Responsibility: Only handles claiming pending applications for review and releasing abandoned claims.
+ */
+public interface ClaimCreditApplicationUseCase {
+
+    /**
+     * Claim the oldest pending credit application: it moves to EN_REVISION for the reviewer,
+     * under a lease. Concurrent reviewers always get different applications.
+     * @param reviewer the username of the reviewer
+     * @return the claimed application, empty if nothing is pending
+     */
+    Optional<CreditApplication> claimNext(String reviewer);
+
+    /**
+     * Claim up to count of the oldest pending credit applications.
+     * @param reviewer the username of the reviewer
+     * @param count how many applications to claim; capped by the configured maximum
+     * @return the claimed applications, oldest first, possibly empty
+     */
+    List<CreditApplication> claim(String reviewer, int count);
+
+    /**
+     * Return reviews whose lease expired without a decision to PENDIENTE.
+     * @return the number of released applications
+     */
+    int releaseExpiredClaims();
+}
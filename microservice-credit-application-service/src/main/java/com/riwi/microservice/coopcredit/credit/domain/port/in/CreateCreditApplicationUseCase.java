@@ -1,8 +1,10 @@
 package com.riwi.microservice.coopcredit.credit.domain.port.in;
 
+import com.riwi.microservice.coopcredit.credit.domain.exception.DomainException;
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * Use case for creating credit applications.
@@ -16,6 +18,22 @@ public interface CreateCreditApplicationUseCase {
      * @return the created credit application
      */
     CreditApplication createCreditApplication(CreateCreditApplicationCommand command);
+
+    /**
+     * Register a credit application as PENDIENTE and hand it to the asynchronous decision pipeline.
+     * Only the insert runs in the caller's transaction; risk assessment and policies run afterwards.
+     * @param command the command with credit application data
+     * @return the registered (PENDIENTE) credit application
+     */
+    CreditApplication submitCreditApplication(CreateCreditApplicationCommand command);
+
+    /**
+     * Register several credit applications at once and hand them to the asynchronous decision pipeline.
+     * Invalid items (unknown or inactive affiliate) are reported without failing the rest of the batch.
+     * @param commands the commands with credit application data
+     * @return one result per command, in the same order
+     */
+    List<BatchItemResult> submitCreditApplications(List<CreateCreditApplicationCommand> commands);
     
     /**
      * Command for creating a credit application.
@@ -27,4 +45,28 @@ public interface CreateCreditApplicationUseCase {
             BigDecimal interestRate,
             String purpose
     ) {}
+
+    /**
+     * Outcome of one item of a batch submission.
+     * queued is false when the decision pipeline was full; the application then stays PENDIENTE for manual review.
+     */
+    record BatchItemResult(
+            int index,
+            CreditApplication creditApplication,
+            boolean queued,
+            String errorCode,
+            String message
+    ) {
+        public static BatchItemResult accepted(int index, CreditApplication creditApplication, boolean queued) {
+            return new BatchItemResult(index, creditApplication, queued, null, null);
+        }
+
+        public static BatchItemResult rejected(int index, DomainException exception) {
+            return new BatchItemResult(index, null, false, exception.getCode(), exception.getMessage());
+        }
+
+        public boolean isAccepted() {
+            return creditApplication != null;
+        }
+    }
 }
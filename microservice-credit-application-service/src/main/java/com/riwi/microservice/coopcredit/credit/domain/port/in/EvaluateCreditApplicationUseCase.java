@@ -0,0 +1,28 @@
+package com.riwi.microservice.coopcredit.credit.domain.port.in;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+
+import java.util.List;
+
+/**
+ * Use case for the second phase of the asynchronous intake.
+ * Single Responsibility: Only handles the automatic decision of an already registered application.
+ */
+public interface EvaluateCreditApplicationUseCase {
+
+    /**
+     * Run risk assessment and credit policies for a PENDIENTE application and record the decision.
+     * Applications that are no longer PENDIENTE are returned unchanged.
+     * @param applicationId the application ID
+     * @return the evaluated credit application
+     */
+    CreditApplication evaluateCreditApplication(Long applicationId);
+
+    /**
+     * Evaluate several applications with a single risk-central call and record each decision.
+     * Applications that are no longer PENDIENTE are skipped.
+     * @param applicationIds the application IDs
+     * @return the evaluated credit applications
+     */
+    List<CreditApplication> evaluateCreditApplications(List<Long> applicationIds);
+}
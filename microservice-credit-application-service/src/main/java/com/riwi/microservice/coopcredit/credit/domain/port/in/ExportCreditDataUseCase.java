@@ -0,0 +1,43 @@
+package com.riwi.microservice.coopcredit.credit.domain.port.in;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplicationExportRow;
+import com.riwi.microservice.coopcredit.credit.domain.models.ExportCriteria;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluationExportRow;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case for bulk exports of credit data.
+ * Single Responsibility: Only handles streaming exports for analysts and BI.
+ */
+public interface ExportCreditDataUseCase {
+
+    /**
+     * Prepare an export of the credit applications created in the criteria's date range.
+     * @param criteria the export filter
+     * @return the rows, read only when the stream is consumed
+     * @throws com.riwi.microservice.coopcredit.credit.domain.exception.InvalidExportCriteriaException if the range is invalid
+     */
+    RowStream<CreditApplicationExportRow> exportCreditApplications(ExportCriteria criteria);
+
+    /**
+     * Prepare an export of the risk evaluations made in the criteria's date range.
+     * @param criteria the export filter
+     * @return the rows, read only when the stream is consumed
+     * @throws com.riwi.microservice.coopcredit.credit.domain.exception.InvalidExportCriteriaException if the range is invalid
+     */
+    RowStream<RiskEvaluationExportRow> exportRiskEvaluations(ExportCriteria criteria);
+
+    /**
+     * Validated export whose rows are pushed one at a time, never collected.
+     */
+    @FunctionalInterface
+    interface RowStream<T> {
+
+        /**
+         * Read the rows and hand each one to the consumer.
+         * @return the number of rows exported
+         */
+        long forEach(Consumer<? super T> consumer);
+    }
+}
@@ -0,0 +1,22 @@
+package com.riwi.microservice.coopcredit.credit.domain.port.in;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.PortfolioStatistics;
+
+/**
+ * Use case for the portfolio dashboards.
+ * Single Responsibility: Only handles reading and reconciling the portfolio counters.
+ */
+public interface PortfolioStatisticsUseCase {
+
+    /**
+     * Get the applications per status, affiliates per status and evaluations per risk level.
+     * @return the portfolio statistics
+     */
+    PortfolioStatistics getStatistics();
+
+    /**
+     * Recompute the counters from the source data, correcting any drift.
+     * @return the number of counters that had drifted
+     */
+    int reconcileStatistics();
+}
@@ -1,6 +1,11 @@
 package com.riwi.microservice.coopcredit.credit.domain.port.in;
 
+import com.riwi.microservice.coopcredit.credit.domain.exception.DomainException;
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditDecisionType;
+
+import java.util.List;
 
 /**
  * Use case for processing credit application decisions.
@@ -38,4 +43,47 @@ public interface ProcessCreditDecisionUseCase {
      * @return the updated credit application
      */
     CreditApplication cancelCreditApplication(Long applicationId, String comments);
+
+    /**
+     * Record many decisions at once, in one transaction. Items that are not allowed (unknown
+     * application or a status that does not permit the decision) are reported, not thrown, and
+     * do not prevent the others from being applied.
+     * @param commands the decisions, in any order; an application may appear more than once
+     * @return one result per command, in command order
+     */
+    List<DecisionItemResult> processDecisions(List<DecisionCommand> commands);
+
+    /**
+     * Command for one decision of a batch.
+     */
+    record DecisionCommand(
+            Long applicationId,
+            CreditDecisionType decision,
+            String comments
+    ) {}
+
+    /**
+     * Outcome of one decision of a batch. status is the resulting status when applied, and the
+     * current one when rejected for a status conflict.
+     */
+    record DecisionItemResult(
+            int index,
+            Long applicationId,
+            CreditApplicationStatus status,
+            String errorCode,
+            String message
+    ) {
+        public static DecisionItemResult applied(int index, Long applicationId, CreditApplicationStatus status) {
+            return new DecisionItemResult(index, applicationId, status, null, null);
+        }
+
+        public static DecisionItemResult rejected(int index, Long applicationId, CreditApplicationStatus status,
+                                                  DomainException exception) {
+            return new DecisionItemResult(index, applicationId, status, exception.getCode(), exception.getMessage());
+        }
+
+        public boolean isApplied() {
+            return errorCode == null;
+        }
+    }
 }
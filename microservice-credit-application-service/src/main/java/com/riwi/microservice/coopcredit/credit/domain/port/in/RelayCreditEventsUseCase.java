@@ -0,0 +1,23 @@
+package com.riwi.microservice.coopcredit.credit.domain.port.in;
+
+/**
+ * Use case for delivering the outbox of credit lifecycle events.
+ * Single Responsibility: Only handles draining the outbox to the event publisher.
+ */
+public interface RelayCreditEventsUseCase {
+
+    /**
+     * Publish the next batch of pending events, oldest first. An event that fails holds back
+     * the later events of the same application until it is delivered.
+     * @return what happened to the batch
+     */
+    RelayResult relayBatch();
+
+    /**
+     * Outcome of one relayed batch.
+     * @param read events read from the outbox
+     * @param published events delivered and removed from the outbox
+     * @param failed events whose delivery failed
+     */
+    record RelayResult(int read, int published, int failed) {}
+}
@@ -1,9 +1,10 @@
 package com.riwi.microservice.coopcredit.credit.domain.port.in;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,19 +28,19 @@ public interface RetrieveAffiliateUseCase {
     Optional<Affiliate> getAffiliateByDocument(String document);
     
     /**
-     * Get all affiliates with pagination.
-     * @param page the page number
+     * Get all affiliates, newest first.
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of affiliates
+     * @return page of affiliates
      */
-    List<Affiliate> getAllAffiliates(int page, int size);
+    CursorPage<Affiliate> getAllAffiliates(PageCursor after, int size);
     
     /**
      * Get affiliates by status.
      * @param status the affiliate status
-     * @param page the page number
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of affiliates with the given status
+     * @return page of affiliates with the given status
      */
-    List<Affiliate> getAffiliatesByStatus(AffiliateStatus status, int page, int size);
+    CursorPage<Affiliate> getAffiliatesByStatus(AffiliateStatus status, PageCursor after, int size);
 }
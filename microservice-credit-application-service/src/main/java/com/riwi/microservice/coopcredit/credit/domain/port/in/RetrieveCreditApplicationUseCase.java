@@ -1,9 +1,10 @@
 package com.riwi.microservice.coopcredit.credit.domain.port.in;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,28 +28,30 @@ public interface RetrieveCreditApplicationUseCase {
     Optional<CreditApplication> getCreditApplicationByNumber(String applicationNumber);
     
     /**
-     * Get credit applications by affiliate ID.
+     * Get credit applications by affiliate ID, newest first.
      * @param affiliateId the affiliate ID
-     * @return list of credit applications for the affiliate
+     * @param after the position to continue from
+     * @param size the page size
+     * @return page of credit applications for the affiliate
      */
-    List<CreditApplication> getCreditApplicationsByAffiliate(Long affiliateId);
+    CursorPage<CreditApplication> getCreditApplicationsByAffiliate(Long affiliateId, PageCursor after, int size);
     
     /**
-     * Get credit applications by status with pagination.
+     * Get credit applications by status, newest first.
      * @param status the application status
-     * @param page the page number
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of credit applications with the given status
+     * @return page of credit applications with the given status
      */
-    List<CreditApplication> getCreditApplicationsByStatus(CreditApplicationStatus status, int page, int size);
+    CursorPage<CreditApplication> getCreditApplicationsByStatus(CreditApplicationStatus status, PageCursor after, int size);
     
     /**
-     * Get all credit applications with pagination.
-     * @param page the page number
+     * Get all credit applications, newest first.
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of credit applications
+     * @return page of credit applications
      */
-    List<CreditApplication> getAllCreditApplications(int page, int size);
+    CursorPage<CreditApplication> getAllCreditApplications(PageCursor after, int size);
     
     /**
      * Get credit application with full details (including affiliate and risk evaluation).
@@ -1,9 +1,10 @@
 package com.riwi.microservice.coopcredit.credit.domain.port.in;
 
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,17 +30,17 @@ public interface RetrieveRiskEvaluationUseCase {
     /**
      * Get all risk evaluations by risk level.
      * @param riskLevel the risk level
-     * @param page the page number
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of risk evaluations
+     * @return page of risk evaluations
      */
-    List<RiskEvaluation> getRiskEvaluationsByRiskLevel(RiskLevel riskLevel, int page, int size);
+    CursorPage<RiskEvaluation> getRiskEvaluationsByRiskLevel(RiskLevel riskLevel, PageCursor after, int size);
     
     /**
-     * Get all risk evaluations with pagination.
-     * @param page the page number
+     * Get all risk evaluations, newest first.
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of risk evaluations
+     * @return page of risk evaluations
      */
-    List<RiskEvaluation> getAllRiskEvaluations(int page, int size);
+    CursorPage<RiskEvaluation> getAllRiskEvaluations(PageCursor after, int size);
 }
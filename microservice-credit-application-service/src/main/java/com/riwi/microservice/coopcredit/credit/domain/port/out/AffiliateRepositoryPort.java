@@ -1,8 +1,11 @@
 package com.riwi.microservice.coopcredit.credit.domain.port.out;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +28,13 @@ public interface AffiliateRepositoryPort {
      */
     Optional<Affiliate> findById(Long id);
 
+    /**
+     * Find affiliates by IDs in a single query.
+     * @param ids the affiliate IDs
+     * @return the affiliates found (missing IDs are skipped)
+     */
+    List<Affiliate> findAllByIds(Collection<Long> ids);
+
     /**
      * Find an affiliate by document.
      * @param document the document number
@@ -61,21 +71,21 @@ public interface AffiliateRepositoryPort {
     boolean existsById(Long id);
 
     /**
-     * Find all affiliates with pagination.
-     * @param page the page number
+     * Find all affiliates, newest first.
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of affiliates
+     * @return page of affiliates
      */
-    List<Affiliate> findAll(int page, int size);
+    CursorPage<Affiliate> findAll(PageCursor after, int size);
 
     /**
-     * Find affiliates by status with pagination.
+     * Find affiliates by status, newest first.
      * @param status the affiliate status
-     * @param page the page number
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of affiliates with the given status
+     * @return page of affiliates with the given status
      */
-    List<Affiliate> findByStatus(AffiliateStatus status, int page, int size);
+    CursorPage<Affiliate> findByStatus(AffiliateStatus status, PageCursor after, int size);
 
     /**
      * Find affiliate with credit applications loaded (using EntityGraph).
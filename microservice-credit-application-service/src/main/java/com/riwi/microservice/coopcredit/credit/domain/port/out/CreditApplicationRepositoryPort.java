@@ -1,10 +1,16 @@
 package com.riwi.microservice.coopcredit.credit.domain.port.out;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditStatusTransition;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -19,6 +25,85 @@ public interface CreditApplicationRepositoryPort {
      */
     CreditApplication save(CreditApplication creditApplication);
 
+    /**
+     * Insert a new credit application and its risk evaluation in a single flush.
+     * The status must already reflect the evaluation; the affiliate must already exist.
+     * @param creditApplication the new credit application
+     * @param riskEvaluation the risk evaluation for the application
+     * @return the saved credit application with generated IDs set
+     */
+    CreditApplication createWithRiskEvaluation(CreditApplication creditApplication, RiskEvaluation riskEvaluation);
+
+    /**
+     * Persist a new risk evaluation together with the application's resulting status
+     * in a single transaction.
+     * @param creditApplication the already persisted credit application
+     * @param riskEvaluation the new risk evaluation for the application
+     * @return the saved credit application with its risk evaluation
+     */
+    CreditApplication saveWithRiskEvaluation(CreditApplication creditApplication, RiskEvaluation riskEvaluation);
+
+    /**
+     * Apply a status transition as a single conditional UPDATE that only matches while the
+     * application is still in one of the transition's source statuses; bumps the version.
+     * @param id the application ID
+     * @param transition the transition to apply
+     * @return true if the application was updated, false if it does not exist or its status
+     *         no longer allows the transition
+     */
+    boolean transitionStatus(Long id, CreditStatusTransition transition);
+
+    /**
+     * Lock the given applications until the end of the current transaction, in ID order, and
+     * return their statuses. Must be called inside a transaction.
+     * @param ids the application IDs
+     * @return status by application ID; unknown IDs are absent
+     */
+    Map<Long, CreditApplicationStatus> lockStatuses(Collection<Long> ids);
+
+    /**
+     * Apply the same decision transition to several applications in one UPDATE, with the same
+     * source status condition as {@link #transitionStatus}.
+     * @param ids the application IDs
+     * @param transition the decision to apply
+     * @return the number of applications updated
+     */
+    int transitionStatuses(Collection<Long> ids, CreditStatusTransition transition);
+
+    /**
+     * Claim the oldest PENDIENTE applications for a reviewer: they move to EN_REVISION with the
+     * reviewer and a lease. Rows being claimed concurrently are skipped, never waited for.
+     * @param reviewer the username of the reviewer
+     * @param limit maximum number of applications to claim
+     * @param claimedAt the claim time, recorded as review date
+     * @param leaseExpiresAt when an undecided claim may be released
+     * @return IDs of the claimed applications, possibly empty
+     */
+    List<Long> claimPending(String reviewer, int limit, LocalDateTime claimedAt, LocalDateTime leaseExpiresAt);
+
+    /**
+     * Return claimed reviews whose lease has expired to PENDIENTE.
+     * @param now the current time
+     * @param limit maximum number of claims to release
+     * @return the number of released applications
+     */
+    int releaseExpiredClaims(LocalDateTime now, int limit);
+
+    /**
+     * Find credit applications by ID, oldest first.
+     * @param ids the application IDs
+     * @return the credit applications found
+     */
+    List<CreditApplication> findAllByIds(List<Long> ids);
+
+    /**
+     * Insert new credit applications in JDBC batches.
+     * The affiliates must already exist; generated IDs are set on the given instances.
+     * @param creditApplications the new credit applications
+     * @return the saved credit applications, in the same order
+     */
+    List<CreditApplication> saveAll(List<CreditApplication> creditApplications);
+
     /**
      * Find a credit application by ID.
      * @param id the application ID
@@ -34,28 +119,30 @@ public interface CreditApplicationRepositoryPort {
     Optional<CreditApplication> findByApplicationNumber(String applicationNumber);
 
     /**
-     * Find all credit applications by affiliate ID.
+     * Find credit applications by affiliate ID, newest first.
      * @param affiliateId the affiliate ID
-     * @return list of credit applications
+     * @param after the position to continue from
+     * @param size the page size
+     * @return page of credit applications
      */
-    List<CreditApplication> findByAffiliateId(Long affiliateId);
+    CursorPage<CreditApplication> findByAffiliateId(Long affiliateId, PageCursor after, int size);
 
     /**
-     * Find credit applications by status with pagination.
+     * Find credit applications by status, newest first.
      * @param status the application status
-     * @param page the page number
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of credit applications
+     * @return page of credit applications
      */
-    List<CreditApplication> findByStatus(CreditApplicationStatus status, int page, int size);
+    CursorPage<CreditApplication> findByStatus(CreditApplicationStatus status, PageCursor after, int size);
 
     /**
-     * Find all credit applications with pagination.
-     * @param page the page number
+     * Find all credit applications, newest first.
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of credit applications
+     * @return page of credit applications
      */
-    List<CreditApplication> findAll(int page, int size);
+    CursorPage<CreditApplication> findAll(PageCursor after, int size);
 
     /**
      * Find credit application with affiliate and risk evaluation loaded (using EntityGraph).
@@ -65,22 +152,24 @@ public interface CreditApplicationRepositoryPort {
     Optional<CreditApplication> findByIdWithDetails(Long id);
 
     /**
-     * Find credit applications by affiliate ID with risk evaluations loaded.
+     * Find credit applications by affiliate ID with risk evaluations loaded, newest first.
      * @param affiliateId the affiliate ID
-     * @return list of credit applications with risk evaluations
+     * @param after the position to continue from
+     * @param size the page size
+     * @return page of credit applications with risk evaluations
      */
-    List<CreditApplication> findByAffiliateIdWithRiskEvaluations(Long affiliateId);
+    CursorPage<CreditApplication> findByAffiliateIdWithRiskEvaluations(Long affiliateId, PageCursor after, int size);
 
     /**
-     * Find credit applications created within a date range.
+     * Find credit applications created within a date range, newest first.
      * @param startDate the start date
      * @param endDate the end date
-     * @param page the page number
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of credit applications
+     * @return page of credit applications
      */
-    List<CreditApplication> findByApplicationDateBetween(
-            LocalDateTime startDate, LocalDateTime endDate, int page, int size);
+    CursorPage<CreditApplication> findByApplicationDateBetween(
+            LocalDateTime startDate, LocalDateTime endDate, PageCursor after, int size);
 
     /**
      * Check if an application number already exists.
@@ -120,4 +209,11 @@ public interface CreditApplicationRepositoryPort {
      * @return the generated application number
      */
     String generateApplicationNumber();
+
+    /**
+     * Generate a block of unique application numbers.
+     * @param count how many numbers to generate
+     * @return the generated application numbers
+     */
+    List<String> generateApplicationNumbers(int count);
 }
@@ -0,0 +1,28 @@
+package com.riwi.microservice.coopcredit.credit.domain.port.out;
+
+import java.util.List;
+
+/**
+ * Output port for handing credit applications over to the asynchronous decision pipeline.
+ */
+public interface CreditDecisionQueuePort {
+
+    /**
+     * Reserve a pipeline slot for the application and schedule its evaluation.
+     * The evaluation starts only after the current transaction commits; if the
+     * transaction rolls back the slot is released.
+     * @param applicationId the ID of the PENDIENTE application to evaluate
+     * @throws com.riwi.microservice.coopcredit.credit.domain.exception.CreditIntakeSaturatedException
+     *         if the pipeline has no free capacity
+     */
+    void enqueue(Long applicationId);
+
+    /**
+     * Reserve pipeline slots for as many of the applications as there is capacity for, in
+     * order, and schedule their evaluation in risk-central batches once the current
+     * transaction commits. Applications beyond the capacity are left PENDIENTE.
+     * @param applicationIds the IDs of the PENDIENTE applications to evaluate
+     * @return how many applications, from the start of the list, were queued
+     */
+    int enqueueAll(List<Long> applicationIds);
+}
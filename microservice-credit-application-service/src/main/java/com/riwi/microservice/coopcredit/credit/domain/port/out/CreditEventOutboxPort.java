@@ -0,0 +1,31 @@
+package com.riwi.microservice.coopcredit.credit.domain.port.out;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditLifecycleEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Output port for the outbox of credit lifecycle events. Events are appended in the same
+ * transaction as the status change that produced them.
+ */
+public interface CreditEventOutboxPort {
+
+    /**
+     * Lease the oldest pending events in a short transaction of its own. Events of an
+     * application that already has leased events are skipped, so no two relays publish
+     * the same application at once.
+     * @param limit maximum number of events
+     * @return the events in outbox order; empty if nothing is pending
+     */
+    List<CreditLifecycleEvent> claimNextBatch(int limit);
+
+    /**
+     * Record the outcome of a claimed batch in one short transaction: remove published events,
+     * count a failed attempt for failed ones, and end the lease of every event that stays.
+     * @param publishedIds events the publisher accepted
+     * @param failedIds events whose delivery failed
+     * @param releasedIds events not attempted; they stay pending unchanged
+     */
+    void settle(Collection<Long> publishedIds, Collection<Long> failedIds, Collection<Long> releasedIds);
+}
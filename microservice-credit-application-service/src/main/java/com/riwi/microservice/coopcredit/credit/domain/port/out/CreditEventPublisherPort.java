@@ -0,0 +1,18 @@
+package com.riwi.microservice.coopcredit.credit.domain.port.out;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditLifecycleEvent;
+
+/**
+ * Output port delivering credit lifecycle events to downstream systems (broker, webhook...).
+ */
+public interface CreditEventPublisherPort {
+
+    /**
+     * Deliver one event; returns only once the destination has accepted it.
+     * @param event the event
+     * @throws com.riwi.microservice.coopcredit.credit.domain.exception.CreditEventPublisherUnavailableException
+     *         if the destination cannot be reached at all; the remaining events are not attempted
+     * @throws RuntimeException if the event could not be delivered; it will be retried
+     */
+    void publish(CreditLifecycleEvent event);
+}
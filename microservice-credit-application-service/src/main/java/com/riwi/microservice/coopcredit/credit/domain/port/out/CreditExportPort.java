@@ -0,0 +1,31 @@
+package com.riwi.microservice.coopcredit.credit.domain.port.out;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplicationExportRow;
+import com.riwi.microservice.coopcredit.credit.domain.models.ExportCriteria;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluationExportRow;
+
+import java.util.function.Consumer;
+
+/**
+ * Output port for bulk, read-only exports.
+ * Rows are pushed to the consumer one at a time while the source is read, so an export
+ * never holds more than one row in memory.
+ */
+public interface CreditExportPort {
+
+    /**
+     * Stream the credit applications matching the criteria, oldest first.
+     * @param criteria the export filter
+     * @param consumer receives each row
+     * @return the number of rows exported
+     */
+    long streamCreditApplications(ExportCriteria criteria, Consumer<CreditApplicationExportRow> consumer);
+
+    /**
+     * Stream the risk evaluations matching the criteria, oldest first.
+     * @param criteria the export filter
+     * @param consumer receives each row
+     * @return the number of rows exported
+     */
+    long streamRiskEvaluations(ExportCriteria criteria, Consumer<RiskEvaluationExportRow> consumer);
+}
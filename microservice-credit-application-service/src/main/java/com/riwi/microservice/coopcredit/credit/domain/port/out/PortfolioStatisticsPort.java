@@ -0,0 +1,22 @@
+package com.riwi.microservice.coopcredit.credit.domain.port.out;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.PortfolioStatistics;
+
+/**
+ * Output port for the portfolio counters, kept current by every write in the same transaction.
+ */
+public interface PortfolioStatisticsPort {
+
+    /**
+     * Read the current counters; the cost does not depend on the size of the portfolio.
+     * @return the portfolio statistics
+     */
+    PortfolioStatistics load();
+
+    /**
+     * Recompute the counters from the source tables and replace the stored ones.
+     * Writers are blocked while the counts run.
+     * @return the number of counters that had drifted
+     */
+    int reconcile();
+}
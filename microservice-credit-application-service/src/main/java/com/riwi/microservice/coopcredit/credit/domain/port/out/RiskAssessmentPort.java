@@ -1,7 +1,26 @@
 package com.riwi.microservice.coopcredit.credit.domain.port.out;
 
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentRequest;
 import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentResult;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface RiskAssessmentPort {
     RiskAssessmentResult assessRisk(String documento, Double monto, Integer plazo);
+
+    /**
+     * Non-blocking variant of assessRisk; the caller thread is released while the risk central answers.
+     * The future fails with RiskAssessmentUnavailableException when the risk central cannot answer.
+     */
+    CompletableFuture<RiskAssessmentResult> assessRiskAsync(String documento, Double monto, Integer plazo);
+
+    /**
+     * Assess several requests in a single call to the risk central.
+     * A request the risk central could not score comes back with a null score.
+     * @return one result per request, in the same order
+     * @throws com.riwi.microservice.coopcredit.credit.domain.exception.RiskAssessmentUnavailableException
+     *         if the risk central cannot answer the batch
+     */
+    List<RiskAssessmentResult> assessRiskBatch(List<RiskAssessmentRequest> requests);
 }
@@ -1,9 +1,10 @@
 package com.riwi.microservice.coopcredit.credit.domain.port.out;
 
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,21 +34,21 @@ public interface RiskEvaluationRepositoryPort {
     Optional<RiskEvaluation> findByCreditApplicationId(Long creditApplicationId);
 
     /**
-     * Find risk evaluations by risk level with pagination.
+     * Find risk evaluations by risk level, newest first.
      * @param riskLevel the risk level
-     * @param page the page number
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of risk evaluations
+     * @return page of risk evaluations
      */
-    List<RiskEvaluation> findByRiskLevel(RiskLevel riskLevel, int page, int size);
+    CursorPage<RiskEvaluation> findByRiskLevel(RiskLevel riskLevel, PageCursor after, int size);
 
     /**
-     * Find all risk evaluations with pagination.
-     * @param page the page number
+     * Find all risk evaluations, newest first.
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of risk evaluations
+     * @return page of risk evaluations
      */
-    List<RiskEvaluation> findAll(int page, int size);
+    CursorPage<RiskEvaluation> findAll(PageCursor after, int size);
 
     /**
      * Find risk evaluation with credit application loaded (using EntityGraph).
@@ -83,11 +84,11 @@ public interface RiskEvaluationRepositoryPort {
     long countByRiskLevel(RiskLevel riskLevel);
 
     /**
-     * Find risk evaluations by evaluated by user.
+     * Find risk evaluations by evaluated by user, newest first.
      * @param evaluatedBy the username of the evaluator
-     * @param page the page number
+     * @param after the position to continue from
      * @param size the page size
-     * @return list of risk evaluations
+     * @return page of risk evaluations
      */
-    List<RiskEvaluation> findByEvaluatedBy(String evaluatedBy, int page, int size);
+    CursorPage<RiskEvaluation> findByEvaluatedBy(String evaluatedBy, PageCursor after, int size);
 }
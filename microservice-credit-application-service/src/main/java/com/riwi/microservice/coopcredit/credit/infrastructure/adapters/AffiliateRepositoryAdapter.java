@@ -1,15 +1,18 @@
 package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
 import com.riwi.microservice.coopcredit.credit.infrastructure.entities.AffiliateEntity;
 import com.riwi.microservice.coopcredit.credit.infrastructure.mapper.AffiliateEntityMapper;
 import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections.AffiliateView;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -52,6 +55,13 @@ public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Affiliate> findAllByIds(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Affiliate> findByDocument(String document) {
         return jpaRepository.findByDocument(document)
@@ -75,23 +85,14 @@ public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
     }
 
     @Override
-    public List<Affiliate> findAll(int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return jpaRepository.findAll(pageRequest)
-                .getContent()
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public CursorPage<Affiliate> findAll(PageCursor after, int size) {
+        return toPage(jpaRepository.findPage(after.timestamp(), after.id(), PageRequest.ofSize(size + 1)), size);
     }
 
     @Override
-    public List<Affiliate> findByStatus(AffiliateStatus status, int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return jpaRepository.findByStatus(status, pageRequest)
-                .getContent()
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public CursorPage<Affiliate> findByStatus(AffiliateStatus status, PageCursor after, int size) {
+        return toPage(jpaRepository.findPageByStatus(
+                status, after.timestamp(), after.id(), PageRequest.ofSize(size + 1)), size);
     }
 
     @Override
@@ -119,4 +120,9 @@ public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
     public boolean existsById(Long id) {
         return jpaRepository.existsById(id);
     }
+
+    private CursorPage<Affiliate> toPage(List<AffiliateView> rows, int size) {
+        return CursorPage.of(rows, size, view -> new PageCursor(view.createdAt(), view.id()))
+                .map(mapper::toDomain);
+    }
 }
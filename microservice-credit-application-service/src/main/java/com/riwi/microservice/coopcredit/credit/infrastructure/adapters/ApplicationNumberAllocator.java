@@ -0,0 +1,86 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hi/lo allocator for application numbers in the CRE-yyyyMM-NNNNNN format.
+ * Each call to the database sequence reserves a block of BLOCK_SIZE numbers that this
+ * instance hands out from memory, so replicas never share a number and only one create
+ * in BLOCK_SIZE touches the database. Unused numbers of a block are lost on restart.
+ */
+@Component
+public class ApplicationNumberAllocator {
+
+    /** Must match INCREMENT BY of credit_application_number_seq (V4 migration). */
+    static final int BLOCK_SIZE = 50;
+
+    private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private YearMonth period;
+    private long next;
+    private long limit;
+
+    public ApplicationNumberAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public String nextApplicationNumber() {
+        return nextApplicationNumbers(1).get(0);
+    }
+
+    /**
+     * Reserve count numbers at once. Missing blocks are fetched in a single round trip.
+     */
+    public List<String> nextApplicationNumbers(int count) {
+        YearMonth currentPeriod = YearMonth.now();
+        List<String> numbers = new ArrayList<>(count);
+        lock.lock();
+        try {
+            // Blocks are never carried into a new month, so a number can only repeat
+            // after a full sequence cycle within the same month
+            if (!currentPeriod.equals(period)) {
+                period = currentPeriod;
+                next = 1;
+                limit = 0;
+            }
+            takeFromCurrentBlock(numbers, count);
+            int missing = count - numbers.size();
+            if (missing > 0) {
+                for (long blockStart : nextBlockStarts((missing + BLOCK_SIZE - 1) / BLOCK_SIZE)) {
+                    next = blockStart;
+                    limit = blockStart + BLOCK_SIZE - 1;
+                    takeFromCurrentBlock(numbers, count);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return numbers;
+    }
+
+    private void takeFromCurrentBlock(List<String> numbers, int count) {
+        while (numbers.size() < count && next <= limit) {
+            numbers.add(format(period, next++));
+        }
+    }
+
+    static String format(YearMonth period, long value) {
+        return "CRE-" + period.format(PERIOD_FORMAT) + "-" + String.format("%06d", value);
+    }
+
+    private List<Long> nextBlockStarts(int blocks) {
+        // nextval is not transactional: it never blocks other callers and is not undone by a rollback
+        return jdbcTemplate.queryForList(
+                "SELECT nextval('credit_application_number_seq') FROM generate_series(1, ?)", Long.class, blocks);
+    }
+}
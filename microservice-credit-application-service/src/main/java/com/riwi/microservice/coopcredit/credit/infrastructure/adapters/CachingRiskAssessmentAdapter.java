@@ -0,0 +1,118 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentRequest;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentResult;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded, TTL-based cache in front of the risk central.
+ * The risk central score depends only on the document, so entries are keyed by documento
+ * (monto and plazo of the first caller are sent on a miss). Concurrent misses for the same
+ * document wait for a single remote call, whether they come through the blocking or the
+ * non-blocking method. Failures are not cached.
+ * Metrics: cache.gets{result=hit|miss}, cache.evictions, cache.size with cache=risk-assessment.
+ */
+@Primary
+@Component
+public class CachingRiskAssessmentAdapter implements RiskAssessmentPort {
+
+    static final String CACHE_NAME = "risk-assessment";
+
+    private final RiskAssessmentPort delegate;
+    private final AsyncCache<String, RiskAssessmentResult> asyncCache;
+    private final Cache<String, RiskAssessmentResult> cache;
+
+    public CachingRiskAssessmentAdapter(
+            RiskAssessmentAdapter delegate,
+            MeterRegistry meterRegistry,
+            @Value("${credit.risk-cache.ttl:10m}") Duration ttl,
+            @Value("${credit.risk-cache.max-size:10000}") long maxSize,
+            @Value("${credit.risk-cache.expiry:WRITE}") Expiry expiry) {
+        this.delegate = delegate;
+        this.asyncCache = buildCache(ttl, maxSize, expiry);
+        this.cache = asyncCache.synchronous();
+        CaffeineCacheMetrics.monitor(meterRegistry, asyncCache, CACHE_NAME);
+    }
+
+    /**
+     * When an entry's TTL starts counting: from the remote call (WRITE) or from the last read (ACCESS).
+     * Size-based eviction always uses Caffeine's frequency-aware policy (W-TinyLFU).
+     */
+    public enum Expiry {
+        WRITE,
+        ACCESS
+    }
+
+    static AsyncCache<String, RiskAssessmentResult> buildCache(Duration ttl, long maxSize, Expiry expiry) {
+        // Blocking loads run on the caller's thread, not on the common pool
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .maximumSize(maxSize)
+                .recordStats();
+        if (expiry == Expiry.ACCESS) {
+            builder.expireAfterAccess(ttl);
+        } else {
+            builder.expireAfterWrite(ttl);
+        }
+        return builder.buildAsync();
+    }
+
+    @Override
+    public RiskAssessmentResult assessRisk(String documento, Double monto, Integer plazo) {
+        if (documento == null) {
+            return delegate.assessRisk(null, monto, plazo);
+        }
+        return cache.get(documento, key -> delegate.assessRisk(key, monto, plazo));
+    }
+
+    @Override
+    public CompletableFuture<RiskAssessmentResult> assessRiskAsync(String documento, Double monto, Integer plazo) {
+        if (documento == null) {
+            return delegate.assessRiskAsync(null, monto, plazo);
+        }
+        return asyncCache.get(documento, (key, executor) -> delegate.assessRiskAsync(key, monto, plazo));
+    }
+
+    @Override
+    public List<RiskAssessmentResult> assessRiskBatch(List<RiskAssessmentRequest> requests) {
+        if (requests.stream().map(RiskAssessmentRequest::documento).anyMatch(Objects::isNull)) {
+            return delegate.assessRiskBatch(requests);
+        }
+
+        // First request per document is the one sent for a miss
+        Map<String, RiskAssessmentRequest> byDocument = requests.stream()
+                .collect(Collectors.toMap(RiskAssessmentRequest::documento, request -> request,
+                        (first, duplicate) -> first, LinkedHashMap::new));
+
+        // Only the missing documents go to the risk central, in a single batch call
+        Map<String, RiskAssessmentResult> results = cache.getAll(byDocument.keySet(), missing -> {
+            List<RiskAssessmentRequest> toFetch = missing.stream().map(byDocument::get).toList();
+            List<RiskAssessmentResult> fetched = delegate.assessRiskBatch(toFetch);
+            Map<String, RiskAssessmentResult> loaded = new LinkedHashMap<>();
+            for (int i = 0; i < toFetch.size(); i++) {
+                loaded.put(toFetch.get(i).documento(), fetched.get(i));
+            }
+            return loaded;
+        });
+
+        return requests.stream()
+                .map(request -> results.get(request.documento()))
+                .toList();
+    }
+}
@@ -1,20 +1,31 @@
 package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditStatusTransition;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
-import com.riwi.microservice.coopcredit.credit.infrastructure.entities.AffiliateEntity;
 import com.riwi.microservice.coopcredit.credit.infrastructure.entities.CreditApplicationEntity;
+import com.riwi.microservice.coopcredit.credit.infrastructure.entities.RiskEvaluationEntity;
 import com.riwi.microservice.coopcredit.credit.infrastructure.mapper.CreditApplicationEntityMapper;
+import com.riwi.microservice.coopcredit.credit.infrastructure.mapper.RiskEvaluationEntityMapper;
 import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
 import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaCreditApplicationRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaRiskEvaluationRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections.CreditApplicationStatusRow;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections.CreditApplicationView;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -26,18 +37,28 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
 
     private final JpaCreditApplicationRepository jpaRepository;
     private final JpaAffiliateRepository affiliateRepository;
+    private final JpaRiskEvaluationRepository riskEvaluationRepository;
     private final CreditApplicationEntityMapper mapper;
+    private final RiskEvaluationEntityMapper riskEvaluationMapper;
+    private final ApplicationNumberAllocator applicationNumberAllocator;
 
     public CreditApplicationRepositoryAdapter(
             JpaCreditApplicationRepository jpaRepository,
             JpaAffiliateRepository affiliateRepository,
-            CreditApplicationEntityMapper mapper) {
+            JpaRiskEvaluationRepository riskEvaluationRepository,
+            CreditApplicationEntityMapper mapper,
+            RiskEvaluationEntityMapper riskEvaluationMapper,
+            ApplicationNumberAllocator applicationNumberAllocator) {
         this.jpaRepository = jpaRepository;
         this.affiliateRepository = affiliateRepository;
+        this.riskEvaluationRepository = riskEvaluationRepository;
         this.mapper = mapper;
+        this.riskEvaluationMapper = riskEvaluationMapper;
+        this.applicationNumberAllocator = applicationNumberAllocator;
     }
 
     @Override
+    @Transactional
     public CreditApplication save(CreditApplication creditApplication) {
         CreditApplicationEntity entity;
 
@@ -45,86 +66,171 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
             // Update existing entity
             entity = jpaRepository.findById(creditApplication.getId())
                     .orElseGet(() -> mapper.toEntity(creditApplication));
+            checkVersion(creditApplication, entity);
             mapper.updateEntityFromDomain(creditApplication, entity);
-        } else {
-            // Create new entity
-            entity = mapper.toEntity(creditApplication);
+            linkAffiliate(creditApplication, entity);
+            // The version is only incremented at flush; flush now so the caller gets the new one
+            return withGeneratedValues(creditApplication, jpaRepository.saveAndFlush(entity));
         }
 
-        // Link affiliate
-        if (creditApplication.getAffiliate() != null && creditApplication.getAffiliate().getId() != null) {
-            AffiliateEntity affiliateEntity = affiliateRepository.findById(creditApplication.getAffiliate().getId())
-                    .orElseThrow(() -> new IllegalArgumentException("Affiliate not found"));
-            entity.setAffiliate(affiliateEntity);
+        // Create new entity
+        entity = mapper.toEntity(creditApplication);
+        linkAffiliate(creditApplication, entity);
+        return withGeneratedValues(creditApplication, jpaRepository.save(entity));
+    }
+
+    @Override
+    @Transactional
+    public CreditApplication createWithRiskEvaluation(CreditApplication creditApplication, RiskEvaluation riskEvaluation) {
+        CreditApplicationEntity entity = mapper.toEntity(creditApplication);
+        linkAffiliate(creditApplication, entity);
+
+        // Cascaded from the application: both INSERTs go out in the same flush, no UPDATE follows
+        RiskEvaluationEntity evaluationEntity = riskEvaluationMapper.toEntity(riskEvaluation);
+        evaluationEntity.setCreditApplication(entity);
+        entity.setRiskEvaluation(evaluationEntity);
+
+        jpaRepository.save(entity);
+        creditApplication.setRiskEvaluation(withGeneratedValues(riskEvaluation, evaluationEntity));
+        return withGeneratedValues(creditApplication, entity);
+    }
+
+    @Override
+    @Transactional
+    public boolean transitionStatus(Long id, CreditStatusTransition transition) {
+        int updated = transition.isDecision()
+                ? jpaRepository.updateStatusWithDecision(
+                        id, transition.from(), transition.to(), transition.comments(), transition.at())
+                : jpaRepository.updateStatusToReview(id, transition.from(), transition.to(), transition.at());
+        return updated == 1;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, CreditApplicationStatus> lockStatuses(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return jpaRepository.lockStatusesByIds(ids).stream()
+                .collect(Collectors.toMap(CreditApplicationStatusRow::getId,
+                        row -> CreditApplicationStatus.valueOf(row.getStatus())));
+    }
+
+    @Override
+    @Transactional
+    public int transitionStatuses(Collection<Long> ids, CreditStatusTransition transition) {
+        if (!transition.isDecision()) {
+            throw new IllegalArgumentException("Only decisions can be applied in batch: " + transition.operation());
+        }
+        return jpaRepository.updateStatusesWithDecision(
+                ids, transition.from(), transition.to(), transition.comments(), transition.at());
+    }
+
+    @Override
+    @Transactional
+    public List<Long> claimPending(String reviewer, int limit, LocalDateTime claimedAt, LocalDateTime leaseExpiresAt) {
+        return jpaRepository.claimPending(reviewer, limit, claimedAt, leaseExpiresAt);
+    }
+
+    @Override
+    @Transactional
+    public int releaseExpiredClaims(LocalDateTime now, int limit) {
+        return jpaRepository.releaseExpiredClaims(now, limit);
+    }
+
+    @Override
+    public List<CreditApplication> findAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findViewsByIds(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public List<CreditApplication> saveAll(List<CreditApplication> creditApplications) {
+        List<CreditApplicationEntity> entities = creditApplications.stream()
+                .map(creditApplication -> {
+                    CreditApplicationEntity entity = mapper.toEntity(creditApplication);
+                    linkAffiliate(creditApplication, entity);
+                    return entity;
+                })
+                .collect(Collectors.toList());
+
+        // Sequence IDs are assigned on persist; the INSERTs are batched at flush
+        jpaRepository.saveAll(entities);
+        for (int i = 0; i < entities.size(); i++) {
+            creditApplications.get(i).setId(entities.get(i).getId());
         }
+        return creditApplications;
+    }
+
+    @Override
+    @Transactional
+    public CreditApplication saveWithRiskEvaluation(CreditApplication creditApplication, RiskEvaluation riskEvaluation) {
+        CreditApplicationEntity entity = jpaRepository.findById(creditApplication.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Credit application not found"));
+        checkVersion(creditApplication, entity);
+        mapper.updateEntityFromDomain(creditApplication, entity);
+
+        RiskEvaluationEntity evaluationEntity = riskEvaluationMapper.toEntity(riskEvaluation);
+        evaluationEntity.setCreditApplication(entity);
+        entity.setRiskEvaluation(riskEvaluationRepository.save(evaluationEntity));
 
-        CreditApplicationEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        creditApplication.setRiskEvaluation(withGeneratedValues(riskEvaluation, evaluationEntity));
+        return withGeneratedValues(creditApplication, jpaRepository.saveAndFlush(entity));
     }
 
     @Override
     public Optional<CreditApplication> findById(Long id) {
-        return jpaRepository.findById(id)
+        return jpaRepository.findViewById(id)
                 .map(mapper::toDomain);
     }
 
     @Override
     public Optional<CreditApplication> findByApplicationNumber(String applicationNumber) {
-        return jpaRepository.findByApplicationNumber(applicationNumber)
+        return jpaRepository.findViewByApplicationNumber(applicationNumber)
                 .map(mapper::toDomain);
     }
 
     @Override
-    public List<CreditApplication> findByAffiliateId(Long affiliateId) {
-        return jpaRepository.findByAffiliateId(affiliateId)
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public CursorPage<CreditApplication> findByAffiliateId(Long affiliateId, PageCursor after, int size) {
+        return toPage(jpaRepository.findPageByAffiliateId(
+                affiliateId, after.timestamp(), after.id(), PageRequest.ofSize(size + 1)), size);
     }
 
     @Override
-    public List<CreditApplication> findByStatus(CreditApplicationStatus status, int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "applicationDate"));
-        return jpaRepository.findByStatus(status, pageRequest)
-                .getContent()
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public CursorPage<CreditApplication> findByStatus(CreditApplicationStatus status, PageCursor after, int size) {
+        return toPage(jpaRepository.findPageByStatus(
+                status, after.timestamp(), after.id(), PageRequest.ofSize(size + 1)), size);
     }
 
     @Override
-    public List<CreditApplication> findAll(int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "applicationDate"));
-        return jpaRepository.findAll(pageRequest)
-                .getContent()
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public CursorPage<CreditApplication> findAll(PageCursor after, int size) {
+        return toPage(jpaRepository.findPage(after.timestamp(), after.id(), PageRequest.ofSize(size + 1)), size);
     }
 
     @Override
     public Optional<CreditApplication> findByIdWithDetails(Long id) {
-        return jpaRepository.findByIdWithDetails(id)
+        return jpaRepository.findViewById(id)
                 .map(mapper::toDomain);
     }
 
     @Override
-    public List<CreditApplication> findByAffiliateIdWithRiskEvaluations(Long affiliateId) {
-        return jpaRepository.findByAffiliateIdWithRiskEvaluations(affiliateId)
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public CursorPage<CreditApplication> findByAffiliateIdWithRiskEvaluations(
+            Long affiliateId, PageCursor after, int size) {
+        // The read model always carries the risk evaluation
+        return toPage(jpaRepository.findPageByAffiliateId(
+                affiliateId, after.timestamp(), after.id(), PageRequest.ofSize(size + 1)), size);
     }
 
     @Override
-    public List<CreditApplication> findByApplicationDateBetween(
-            LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "applicationDate"));
-        return jpaRepository.findByApplicationDateBetween(startDate, endDate, pageRequest)
-                .getContent()
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public CursorPage<CreditApplication> findByApplicationDateBetween(
+            LocalDateTime startDate, LocalDateTime endDate, PageCursor after, int size) {
+        return toPage(jpaRepository.findPageByApplicationDateBetween(
+                startDate, endDate, after.timestamp(), after.id(), PageRequest.ofSize(size + 1)), size);
     }
 
     @Override
@@ -154,11 +260,63 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
 
     @Override
     public String generateApplicationNumber() {
-        String prefix = "CRE-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMM")) + "-";
-        Long maxSequence = jpaRepository.findMaxApplicationNumberSequence(prefix);
-        if (maxSequence == null) {
-            maxSequence = 0L;
+        return applicationNumberAllocator.nextApplicationNumber();
+    }
+
+    @Override
+    public List<String> generateApplicationNumbers(int count) {
+        return applicationNumberAllocator.nextApplicationNumbers(count);
+    }
+
+    /**
+     * Link the affiliate by reference only: the caller has already loaded and validated it,
+     * so no SELECT is issued for the foreign key.
+     */
+    private void linkAffiliate(CreditApplication creditApplication, CreditApplicationEntity entity) {
+        if (creditApplication.getAffiliate() != null && creditApplication.getAffiliate().getId() != null) {
+            entity.setAffiliate(affiliateRepository.getReferenceById(creditApplication.getAffiliate().getId()));
+        }
+    }
+
+    /**
+     * Reject writing back a domain object read before a concurrent change: the version it was
+     * read with must still be current. Changes racing between here and the flush are caught
+     * by the entity's @Version check.
+     */
+    private static void checkVersion(CreditApplication creditApplication, CreditApplicationEntity entity) {
+        if (creditApplication.getVersion() != null && !creditApplication.getVersion().equals(entity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(CreditApplicationEntity.class, entity.getId());
         }
-        return prefix + String.format("%06d", maxSequence + 1);
+    }
+
+    /**
+     * Copy the values assigned on persist or flush back to the caller's instance instead of
+     * re-mapping the entity graph, which would initialize the affiliate reference. The version
+     * must come back too, or saving the same instance again fails the version check.
+     */
+    private static CreditApplication withGeneratedValues(CreditApplication creditApplication,
+                                                         CreditApplicationEntity entity) {
+        creditApplication.setId(entity.getId());
+        creditApplication.setApplicationDate(entity.getApplicationDate());
+        creditApplication.setCreatedAt(entity.getCreatedAt());
+        creditApplication.setUpdatedAt(entity.getUpdatedAt());
+        creditApplication.setVersion(entity.getVersion());
+        return creditApplication;
+    }
+
+    private static RiskEvaluation withGeneratedValues(RiskEvaluation riskEvaluation, RiskEvaluationEntity entity) {
+        riskEvaluation.setId(entity.getId());
+        riskEvaluation.setEvaluationDate(entity.getEvaluationDate());
+        riskEvaluation.setCreatedAt(entity.getCreatedAt());
+        riskEvaluation.setUpdatedAt(entity.getUpdatedAt());
+        return riskEvaluation;
+    }
+
+    /**
+     * Map a keyset query that fetched size + 1 rows; only the returned rows are mapped.
+     */
+    private CursorPage<CreditApplication> toPage(List<CreditApplicationView> rows, int size) {
+        return CursorPage.of(rows, size, view -> new PageCursor(view.applicationDate(), view.id()))
+                .map(mapper::toDomain);
     }
 }
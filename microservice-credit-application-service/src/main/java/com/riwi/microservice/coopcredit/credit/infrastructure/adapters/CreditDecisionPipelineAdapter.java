@@ -0,0 +1,200 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.domain.exception.CreditIntakeSaturatedException;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.EvaluateCreditApplicationUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditDecisionQueuePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded worker pipeline for the asynchronous credit intake.
+ * A slot is reserved while the intake transaction is still open, so a saturated pipeline
+ * rejects the request (and rolls back the insert) instead of leaving orphan PENDIENTE rows.
+ * The evaluation itself is dispatched only after the insert commits. Applications enqueued
+ * together are scored with one risk-central batch call per riskBatchSize applications.
+ */
+@Component
+public class CreditDecisionPipelineAdapter implements CreditDecisionQueuePort {
+
+    private static final Logger log = LoggerFactory.getLogger(CreditDecisionPipelineAdapter.class);
+
+    private final EvaluateCreditApplicationUseCase evaluateCreditApplicationUseCase;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore slots;
+    private final int capacity;
+    private final int riskBatchSize;
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Timer queueWaitTimer;
+    private final Timer processingTimer;
+
+    public CreditDecisionPipelineAdapter(
+            EvaluateCreditApplicationUseCase evaluateCreditApplicationUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${credit.pipeline.workers:4}") int workers,
+            @Value("${credit.pipeline.queue-capacity:500}") int queueCapacity,
+            @Value("${credit.pipeline.risk-batch-size:100}") int riskBatchSize) {
+        this.evaluateCreditApplicationUseCase = evaluateCreditApplicationUseCase;
+        this.capacity = workers + queueCapacity;
+        this.riskBatchSize = riskBatchSize;
+        this.slots = new Semaphore(capacity);
+        // The semaphore bounds the backlog; the queue itself never rejects
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new PipelineThreadFactory());
+
+        Gauge.builder("credit.pipeline.queue.depth", executor, e -> e.getQueue().size())
+                .description("Solicitudes en espera de evaluación")
+                .register(meterRegistry);
+
+        Gauge.builder("credit.pipeline.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Solicitudes en evaluación")
+                .register(meterRegistry);
+
+        Gauge.builder("credit.pipeline.capacity.available", slots, Semaphore::availablePermits)
+                .description("Espacios libres en el pipeline de decisión")
+                .register(meterRegistry);
+
+        this.acceptedCounter = Counter.builder("credit.pipeline.accepted")
+                .description("Solicitudes aceptadas por el pipeline de decisión")
+                .register(meterRegistry);
+
+        this.rejectedCounter = Counter.builder("credit.pipeline.rejected")
+                .description("Solicitudes rechazadas por pipeline saturado")
+                .register(meterRegistry);
+
+        this.completedCounter = Counter.builder("credit.pipeline.completed")
+                .description("Evaluaciones completadas")
+                .register(meterRegistry);
+
+        this.failedCounter = Counter.builder("credit.pipeline.failed")
+                .description("Evaluaciones fallidas")
+                .register(meterRegistry);
+
+        this.queueWaitTimer = Timer.builder("credit.pipeline.queue.wait")
+                .description("Tiempo de espera en cola antes de la evaluación")
+                .register(meterRegistry);
+
+        this.processingTimer = Timer.builder("credit.pipeline.processing")
+                .description("Tiempo de evaluación (riesgo, políticas y persistencia)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void enqueue(Long applicationId) {
+        if (!slots.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new CreditIntakeSaturatedException(capacity);
+        }
+        acceptedCounter.increment();
+        afterCommit(List.of(applicationId));
+    }
+
+    @Override
+    public int enqueueAll(List<Long> applicationIds) {
+        int reserved = 0;
+        while (reserved < applicationIds.size() && slots.tryAcquire()) {
+            reserved++;
+        }
+        acceptedCounter.increment(reserved);
+        rejectedCounter.increment(applicationIds.size() - reserved);
+        if (reserved > 0) {
+            afterCommit(List.copyOf(applicationIds.subList(0, reserved)));
+        }
+        return reserved;
+    }
+
+    // Dispatch once the surrounding transaction commits, or give the slots back if it rolls back
+    private void afterCommit(List<Long> applicationIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        dispatch(applicationIds);
+                    } else {
+                        slots.release(applicationIds.size());
+                    }
+                }
+            });
+        } else {
+            dispatch(applicationIds);
+        }
+    }
+
+    private void dispatch(List<Long> applicationIds) {
+        for (int from = 0; from < applicationIds.size(); from += riskBatchSize) {
+            dispatchBatch(applicationIds.subList(from, Math.min(from + riskBatchSize, applicationIds.size())));
+        }
+    }
+
+    // Each task holds one slot per application until its evaluation ends
+    private void dispatchBatch(List<Long> applicationIds) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    if (applicationIds.size() == 1) {
+                        evaluateCreditApplicationUseCase.evaluateCreditApplication(applicationIds.get(0));
+                    } else {
+                        evaluateCreditApplicationUseCase.evaluateCreditApplications(applicationIds);
+                    }
+                    completedCounter.increment(applicationIds.size());
+                } catch (RuntimeException e) {
+                    // The applications stay PENDIENTE and can be picked up by an analyst
+                    failedCounter.increment(applicationIds.size());
+                    log.error("Credit decision failed for applications {}", applicationIds, e);
+                } finally {
+                    processingTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    slots.release(applicationIds.size());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            slots.release(applicationIds.size());
+            failedCounter.increment(applicationIds.size());
+            log.warn("Credit decision pipeline is shut down; applications {} stay PENDIENTE", applicationIds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class PipelineThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "credit-decision-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.domain.port.in.RelayCreditEventsUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.RelayCreditEventsUseCase.RelayResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the credit event outbox: batch after batch while full batches are delivered cleanly,
+ * then waits for the next poll. Every instance runs it; each application's events are leased
+ * to one instance at a time.
+ */
+@Component
+public class CreditEventRelayAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(CreditEventRelayAdapter.class);
+
+    private final RelayCreditEventsUseCase relayCreditEventsUseCase;
+    private final int batchSize;
+
+    public CreditEventRelayAdapter(RelayCreditEventsUseCase relayCreditEventsUseCase,
+                                   @Value("${credit.outbox.batch-size:200}") int batchSize) {
+        this.relayCreditEventsUseCase = relayCreditEventsUseCase;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${credit.outbox.poll-interval:PT1S}")
+    public void relay() {
+        RelayResult result;
+        do {
+            result = relayCreditEventsUseCase.relayBatch();
+            if (result.failed() > 0) {
+                log.warn("Credit event relay: {} events delivered, {} failed and will be retried",
+                        result.published(), result.failed());
+            }
+        } while (result.read() == batchSize && result.failed() == 0);
+    }
+}
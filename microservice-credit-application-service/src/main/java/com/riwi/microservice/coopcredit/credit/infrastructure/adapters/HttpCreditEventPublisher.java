@@ -0,0 +1,57 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.domain.exception.CreditEventPublisherUnavailableException;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditLifecycleEvent;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditEventPublisherPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * Delivers each event as a JSON POST to a webhook. Any 2xx is an acknowledgement; errors and
+ * timeouts leave the event in the outbox for the next relay run. A refused connection or a
+ * timeout means the webhook is down, so the relay stops its batch instead of waiting out the
+ * timeouts of every remaining application.
+ */
+@Component
+@ConditionalOnProperty(name = "credit.outbox.publisher", havingValue = "http")
+public class HttpCreditEventPublisher implements CreditEventPublisherPort {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpCreditEventPublisher.class);
+
+    private final RestTemplate restTemplate;
+    private final String url;
+
+    public HttpCreditEventPublisher(RestTemplateBuilder restTemplateBuilder,
+                                    @Value("${credit.outbox.http.url}") String url,
+                                    @Value("${credit.outbox.http.timeout:2s}") Duration timeout) {
+        // Not the load-balanced risk-central template: the webhook is a plain URL
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(timeout)
+                .setReadTimeout(timeout)
+                .build();
+        this.url = url;
+    }
+
+    @Override
+    public void publish(CreditLifecycleEvent event) {
+        try {
+            restTemplate.postForLocation(url, event);
+        } catch (ResourceAccessException e) {
+            log.warn("Credit event webhook unreachable at event {}: {}", event.eventId(), e.getMessage());
+            throw new CreditEventPublisherUnavailableException(e.getMessage(), e);
+        } catch (RestClientException e) {
+            log.warn("Credit event {} of application {} not delivered: {}",
+                    event.eventId(), event.applicationId(), e.getMessage());
+            throw e;
+        }
+    }
+}
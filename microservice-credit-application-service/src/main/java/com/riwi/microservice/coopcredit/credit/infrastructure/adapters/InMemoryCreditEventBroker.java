@@ -0,0 +1,35 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditLifecycleEvent;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditEventPublisherPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Embedded stand-in for a message broker: events are handed synchronously to the subscribers
+ * registered in this JVM. Used for local runs and tests; a subscriber that throws makes the
+ * publish fail, like a broker that does not acknowledge.
+ */
+@Component
+@ConditionalOnProperty(name = "credit.outbox.publisher", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryCreditEventBroker implements CreditEventPublisherPort {
+
+    private final List<Consumer<CreditLifecycleEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CreditLifecycleEvent event) {
+        subscribers.forEach(subscriber -> subscriber.accept(event));
+    }
+
+    /**
+     * Register a subscriber; returns a handle that removes it.
+     */
+    public Runnable subscribe(Consumer<CreditLifecycleEvent> subscriber) {
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+}
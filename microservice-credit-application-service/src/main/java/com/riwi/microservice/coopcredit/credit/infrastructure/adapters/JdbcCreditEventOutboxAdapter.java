@@ -0,0 +1,104 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditLifecycleEvent;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditEventOutboxPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox stored in credit_application_outbox, filled by a trigger on credit_applications
+ * (see V10) so that no write path can change a status without recording the event.
+ * Events are leased (see V13) rather than locked, so no connection is held while they are
+ * published. A transaction-scoped advisory lock serializes the short claims: two claims
+ * running side by side could each take events of the same application and deliver them
+ * out of order.
+ */
+@Component
+public class JdbcCreditEventOutboxAdapter implements CreditEventOutboxPort {
+
+    private static final String CLAIM_LOCK_SQL =
+            "SELECT pg_advisory_xact_lock(hashtext('credit_application_outbox'))";
+
+    private static final String CLAIM_BATCH_SQL = """
+            WITH claimable AS (
+                SELECT o.id FROM credit_application_outbox o
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM credit_application_outbox leased
+                    WHERE leased.credit_application_id = o.credit_application_id
+                      AND leased.locked_until > ?)
+                ORDER BY o.id
+                LIMIT ?),
+            claimed AS (
+                UPDATE credit_application_outbox o SET locked_until = ?
+                FROM claimable WHERE o.id = claimable.id
+                RETURNING o.id, o.credit_application_id, o.application_number, o.affiliate_id,
+                          o.previous_status, o.status, o.occurred_at)
+            SELECT * FROM claimed ORDER BY id""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final Duration lease;
+
+    public JdbcCreditEventOutboxAdapter(JdbcTemplate jdbcTemplate,
+                                        @Value("${credit.outbox.lease:5m}") Duration lease) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.lease = lease;
+    }
+
+    /**
+     * The lease must outlast a whole batch of publishes: once it expires, another relay
+     * publishes the same events again.
+     */
+    @Override
+    @Transactional
+    public List<CreditLifecycleEvent> claimNextBatch(int limit) {
+        jdbcTemplate.query(CLAIM_LOCK_SQL, rs -> null);
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.query(CLAIM_BATCH_SQL, JdbcCreditEventOutboxAdapter::toEvent,
+                Timestamp.valueOf(now), limit, Timestamp.valueOf(now.plus(lease)));
+    }
+
+    @Override
+    @Transactional
+    public void settle(Collection<Long> publishedIds, Collection<Long> failedIds, Collection<Long> releasedIds) {
+        if (!publishedIds.isEmpty()) {
+            namedParameterJdbcTemplate.update("DELETE FROM credit_application_outbox WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", publishedIds));
+        }
+        if (!failedIds.isEmpty()) {
+            namedParameterJdbcTemplate.update("UPDATE credit_application_outbox " +
+                            "SET attempts = attempts + 1, locked_until = NULL WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", failedIds));
+        }
+        if (!releasedIds.isEmpty()) {
+            namedParameterJdbcTemplate.update("UPDATE credit_application_outbox SET locked_until = NULL WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", releasedIds));
+        }
+    }
+
+    private static CreditLifecycleEvent toEvent(ResultSet rs, int rowNum) throws SQLException {
+        String previousStatus = rs.getString("previous_status");
+        return new CreditLifecycleEvent(
+                rs.getLong("id"),
+                rs.getLong("credit_application_id"),
+                rs.getString("application_number"),
+                rs.getLong("affiliate_id"),
+                previousStatus != null ? CreditApplicationStatus.valueOf(previousStatus) : null,
+                CreditApplicationStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("occurred_at").toLocalDateTime());
+    }
+}
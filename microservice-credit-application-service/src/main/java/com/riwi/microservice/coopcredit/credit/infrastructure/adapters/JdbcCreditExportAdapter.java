@@ -0,0 +1,144 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplicationExportRow;
+import com.riwi.microservice.coopcredit.credit.domain.models.ExportCriteria;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluationExportRow;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditExportPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Export adapter reading straight from JDBC, bypassing the persistence context.
+ * Queries run forward-only with a bounded fetch size, so the driver holds at most one batch
+ * of rows and each row is handed to the consumer as soon as it is read. PostgreSQL only
+ * streams with a cursor inside a transaction (autocommit off), hence the read-only transaction.
+ */
+@Component
+public class JdbcCreditExportAdapter implements CreditExportPort {
+
+    private static final String CREDIT_APPLICATIONS_SQL = """
+            SELECT ca.id, ca.application_number, ca.affiliate_id, a.document, ca.requested_amount,
+                   ca.term_months, ca.interest_rate, ca.status, ca.application_date, ca.decision_date,
+                   re.risk_level, re.credit_score
+            FROM credit_applications ca
+            JOIN affiliates a ON a.id = ca.affiliate_id
+            LEFT JOIN risk_evaluations re ON re.credit_application_id = ca.id
+            WHERE ca.application_date >= ? AND ca.application_date < ?""";
+
+    private static final String RISK_EVALUATIONS_SQL = """
+            SELECT re.id, re.credit_application_id, ca.application_number, ca.status, re.credit_score,
+                   re.risk_level, re.debt_to_income_ratio, re.approved, re.evaluated_by, re.evaluation_date
+            FROM risk_evaluations re
+            JOIN credit_applications ca ON ca.id = re.credit_application_id
+            WHERE re.evaluation_date >= ? AND re.evaluation_date < ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcCreditExportAdapter(DataSource dataSource,
+                                   @Value("${credit.export.fetch-size:1000}") int fetchSize) {
+        // Own template: the fetch size must not leak into the shared JdbcTemplate
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamCreditApplications(ExportCriteria criteria, Consumer<CreditApplicationExportRow> consumer) {
+        StringBuilder sql = new StringBuilder(CREDIT_APPLICATIONS_SQL);
+        List<Object> args = dateRange(criteria);
+        if (criteria.status() != null) {
+            sql.append(" AND ca.status = ?");
+            args.add(criteria.status().name());
+        }
+        if (criteria.riskLevel() != null) {
+            sql.append(" AND re.risk_level = ?");
+            args.add(criteria.riskLevel().name());
+        }
+        sql.append(" ORDER BY ca.application_date, ca.id");
+
+        long[] count = {0};
+        jdbcTemplate.query(sql.toString(), rs -> {
+            consumer.accept(toCreditApplicationRow(rs));
+            count[0]++;
+        }, args.toArray());
+        return count[0];
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamRiskEvaluations(ExportCriteria criteria, Consumer<RiskEvaluationExportRow> consumer) {
+        StringBuilder sql = new StringBuilder(RISK_EVALUATIONS_SQL);
+        List<Object> args = dateRange(criteria);
+        if (criteria.status() != null) {
+            sql.append(" AND ca.status = ?");
+            args.add(criteria.status().name());
+        }
+        if (criteria.riskLevel() != null) {
+            sql.append(" AND re.risk_level = ?");
+            args.add(criteria.riskLevel().name());
+        }
+        sql.append(" ORDER BY re.evaluation_date, re.id");
+
+        long[] count = {0};
+        jdbcTemplate.query(sql.toString(), rs -> {
+            consumer.accept(toRiskEvaluationRow(rs));
+            count[0]++;
+        }, args.toArray());
+        return count[0];
+    }
+
+    private static List<Object> dateRange(ExportCriteria criteria) {
+        List<Object> args = new ArrayList<>(4);
+        args.add(Timestamp.valueOf(criteria.from()));
+        args.add(Timestamp.valueOf(criteria.to()));
+        return args;
+    }
+
+    private static CreditApplicationExportRow toCreditApplicationRow(ResultSet rs) throws SQLException {
+        String riskLevel = rs.getString(11);
+        return new CreditApplicationExportRow(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getLong(3),
+                rs.getString(4),
+                rs.getBigDecimal(5),
+                rs.getInt(6),
+                rs.getBigDecimal(7),
+                CreditApplicationStatus.valueOf(rs.getString(8)),
+                rs.getTimestamp(9).toLocalDateTime(),
+                toLocalDateTime(rs.getTimestamp(10)),
+                riskLevel != null ? RiskLevel.valueOf(riskLevel) : null,
+                rs.getObject(12, Integer.class));
+    }
+
+    private static RiskEvaluationExportRow toRiskEvaluationRow(ResultSet rs) throws SQLException {
+        return new RiskEvaluationExportRow(
+                rs.getLong(1),
+                rs.getLong(2),
+                rs.getString(3),
+                CreditApplicationStatus.valueOf(rs.getString(4)),
+                rs.getInt(5),
+                RiskLevel.valueOf(rs.getString(6)),
+                rs.getBigDecimal(7),
+                rs.getObject(8, Boolean.class),
+                rs.getString(9),
+                rs.getTimestamp(10).toLocalDateTime());
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
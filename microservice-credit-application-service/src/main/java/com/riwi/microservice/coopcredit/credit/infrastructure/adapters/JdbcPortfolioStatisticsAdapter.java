@@ -0,0 +1,102 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.PortfolioStatistics;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.PortfolioStatisticsPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Portfolio counters stored in portfolio_statistics. The table is maintained by database
+ * triggers on credit_applications, affiliates and risk_evaluations (see V9), so every write
+ * path, JPA, bulk JPQL or native, updates it in its own transaction. Reading sums a few slots
+ * per bucket and never touches the source tables.
+ */
+@Component
+public class JdbcPortfolioStatisticsAdapter implements PortfolioStatisticsPort {
+
+    private static final String APPLICATION_STATUS = "APPLICATION_STATUS";
+    private static final String AFFILIATE_STATUS = "AFFILIATE_STATUS";
+    private static final String RISK_LEVEL = "RISK_LEVEL";
+
+    private static final String STORED_SQL = """
+            SELECT dimension, bucket, SUM(total) AS total
+            FROM portfolio_statistics
+            GROUP BY dimension, bucket""";
+
+    private static final String ACTUAL_SQL = """
+            SELECT 'APPLICATION_STATUS' AS dimension, status AS bucket, COUNT(*) AS total
+            FROM credit_applications GROUP BY status
+            UNION ALL
+            SELECT 'AFFILIATE_STATUS', status, COUNT(*) FROM affiliates GROUP BY status
+            UNION ALL
+            SELECT 'RISK_LEVEL', risk_level, COUNT(*) FROM risk_evaluations GROUP BY risk_level""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPortfolioStatisticsAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public PortfolioStatistics load() {
+        Map<Counter, Long> counters = read(STORED_SQL);
+        return new PortfolioStatistics(
+                toEnumMap(CreditApplicationStatus.class, APPLICATION_STATUS, counters),
+                toEnumMap(AffiliateStatus.class, AFFILIATE_STATUS, counters),
+                toEnumMap(RiskLevel.class, RISK_LEVEL, counters));
+    }
+
+    @Override
+    @Transactional
+    public int reconcile() {
+        // EXCLUSIVE conflicts with the triggers' ROW EXCLUSIVE but not with dashboard reads.
+        // Once granted, every transaction that already counted has committed and the next ones
+        // wait, so the counts below match the stored counters exactly
+        jdbcTemplate.execute("LOCK TABLE portfolio_statistics IN EXCLUSIVE MODE");
+        Map<Counter, Long> stored = read(STORED_SQL);
+        Map<Counter, Long> actual = read(ACTUAL_SQL);
+
+        Set<Counter> counters = new HashSet<>(stored.keySet());
+        counters.addAll(actual.keySet());
+        int drifted = (int) counters.stream()
+                .filter(counter -> stored.getOrDefault(counter, 0L).longValue() != actual.getOrDefault(counter, 0L).longValue())
+                .count();
+
+        // Rewrite even without drift: folds the per-connection slots back into one row per bucket
+        jdbcTemplate.update("DELETE FROM portfolio_statistics");
+        List<Object[]> rows = actual.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey().dimension(), entry.getKey().bucket(), entry.getValue()})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO portfolio_statistics (dimension, bucket, slot, total) VALUES (?, ?, 0, ?)", rows);
+        return drifted;
+    }
+
+    private Map<Counter, Long> read(String sql) {
+        Map<Counter, Long> counters = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counters.put(new Counter(rs.getString("dimension"), rs.getString("bucket")), rs.getLong("total"));
+        });
+        return counters;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> toEnumMap(Class<E> type, String dimension, Map<Counter, Long> counters) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            counts.put(constant, counters.getOrDefault(new Counter(dimension, constant.name()), 0L));
+        }
+        return counts;
+    }
+
+    private record Counter(String dimension, String bucket) {}
+}
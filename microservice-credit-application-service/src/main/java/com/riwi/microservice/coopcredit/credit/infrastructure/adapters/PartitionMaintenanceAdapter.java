@@ -0,0 +1,93 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Keeps monthly partitions of credit_applications and risk_evaluations (see V11) created
+ * months ahead, so an insert never finds its month missing. Runs at startup and daily;
+ * create_monthly_partitions only creates what is missing and is safe on every instance.
+ * With credit.partitions.retention-months set, the same run retires older months through
+ * retire_credit_application_month; by default nothing is ever retired.
+ */
+@Component
+public class PartitionMaintenanceAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceAdapter.class);
+
+    private static final List<String> PARTITIONED_TABLES = List.of("credit_applications", "risk_evaluations");
+
+    // Materialized so that the month is only parsed from partition names, never from the
+    // other relations the planner could otherwise feed to to_date first
+    private static final String RETIRABLE_MONTHS_SQL = """
+            WITH partitions AS MATERIALIZED (
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'credit_applications'::regclass)
+            SELECT to_date(right(relname, 7), 'YYYY_MM') AS month
+            FROM partitions
+            WHERE to_date(right(relname, 7), 'YYYY_MM') < ?
+            ORDER BY month""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public PartitionMaintenanceAdapter(JdbcTemplate jdbcTemplate,
+                                       @Value("${credit.partitions.months-ahead:3}") int monthsAhead,
+                                       @Value("${credit.partitions.retention-months:0}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${credit.partitions.maintenance-cron:0 15 2 * * *}")
+    public void maintainPartitions() {
+        createUpcomingPartitions();
+        if (retentionMonths > 0) {
+            retireMonthsBefore(YearMonth.now().minusMonths(retentionMonths).atDay(1));
+        }
+    }
+
+    /**
+     * Returns how many partitions were created.
+     */
+    public int createUpcomingPartitions() {
+        int created = 0;
+        for (String table : PARTITIONED_TABLES) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT create_monthly_partitions(?::regclass, CURRENT_DATE, ?)", Integer.class, table, monthsAhead);
+            if (count != null && count > 0) {
+                log.info("Created {} monthly partitions of {}", count, table);
+                created += count;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Retires every month of credit applications before the cutoff, oldest first, each in its
+     * own transaction. Returns how many applications were removed.
+     */
+    public long retireMonthsBefore(LocalDate cutoff) {
+        long retired = 0;
+        for (LocalDate month : jdbcTemplate.queryForList(RETIRABLE_MONTHS_SQL, LocalDate.class, cutoff)) {
+            Long count = jdbcTemplate.queryForObject("SELECT retire_credit_application_month(?)", Long.class, month);
+            log.info("Retired {} credit applications of {}", count, YearMonth.from(month));
+            retired += count != null ? count : 0;
+        }
+        return retired;
+    }
+}
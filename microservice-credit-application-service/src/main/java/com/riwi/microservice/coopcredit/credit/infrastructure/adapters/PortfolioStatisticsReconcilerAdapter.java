@@ -0,0 +1,32 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.domain.port.in.PortfolioStatisticsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically recomputes the portfolio counters from the source tables. The triggers keep
+ * them exact; this catches changes made with the triggers disabled (restores, manual fixes)
+ * and compacts the per-connection slots.
+ */
+@Component
+public class PortfolioStatisticsReconcilerAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(PortfolioStatisticsReconcilerAdapter.class);
+
+    private final PortfolioStatisticsUseCase portfolioStatisticsUseCase;
+
+    public PortfolioStatisticsReconcilerAdapter(PortfolioStatisticsUseCase portfolioStatisticsUseCase) {
+        this.portfolioStatisticsUseCase = portfolioStatisticsUseCase;
+    }
+
+    @Scheduled(cron = "${credit.statistics.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        int drifted = portfolioStatisticsUseCase.reconcileStatistics();
+        if (drifted > 0) {
+            log.warn("Portfolio statistics reconciled: {} counters had drifted", drifted);
+        }
+    }
+}
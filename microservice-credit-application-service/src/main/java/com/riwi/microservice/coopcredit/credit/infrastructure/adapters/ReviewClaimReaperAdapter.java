@@ -0,0 +1,32 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ClaimCreditApplicationUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Returns reviews abandoned by their analyst (lease expired, no decision) to the work queue.
+ * Safe to run on every instance at once: the release skips rows locked by another instance.
+ */
+@Component
+public class ReviewClaimReaperAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewClaimReaperAdapter.class);
+
+    private final ClaimCreditApplicationUseCase claimCreditApplicationUseCase;
+
+    public ReviewClaimReaperAdapter(ClaimCreditApplicationUseCase claimCreditApplicationUseCase) {
+        this.claimCreditApplicationUseCase = claimCreditApplicationUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${credit.review-queue.reclaim-interval:PT1M}",
+            initialDelayString = "${credit.review-queue.reclaim-interval:PT1M}")
+    public void releaseExpiredClaims() {
+        int released = claimCreditApplicationUseCase.releaseExpiredClaims();
+        if (released > 0) {
+            log.info("Released {} credit applications with an expired review lease", released);
+        }
+    }
+}
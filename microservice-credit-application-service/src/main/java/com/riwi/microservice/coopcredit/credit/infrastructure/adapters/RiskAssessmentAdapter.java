@@ -1,37 +1,397 @@
 package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.riwi.microservice.coopcredit.credit.domain.exception.RiskAssessmentUnavailableException;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentRequest;
 import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentResult;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Remote client for the risk central.
+ * Calls go through retry and circuit breaker, and every attempt holds its own bulkhead permit.
+ * A single assessment that has not answered within the hedge delay is sent once more, the first
+ * successful response wins and the other attempt is cancelled.
+ * When the risk central cannot answer, RiskAssessmentUnavailableException is thrown so the use
+ * cases can apply the configured fallback decision.
+ * Blocking attempts run on a bounded pool, or on virtual threads when the service runs in
+ * virtual-thread mode.
+ * The non-blocking variant goes through the same protections over a pooled, load-balanced WebClient.
+ */
 @Component
 public class RiskAssessmentAdapter implements RiskAssessmentPort {
 
+    private static final String EVALUATION_URL = "http://microservice-risk-central-service/risk/evaluation";
+    private static final String BATCH_EVALUATION_URL = EVALUATION_URL + "/batch";
+
+    private record Request(String documento, Double monto, Integer plazo) {}
+    private record Response(String documento, Integer score, String nivelRiesgo, String detalle) {}
+
     private final RestTemplate restTemplate;
+    private final WebClient webClient;
+    private final ObjectWriter requestWriter;
+    private final ObjectReader responseReader;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+    private final Duration hedgeDelay;
+    private final ThreadPoolTaskExecutor attemptExecutor;
+    private final ScheduledExecutorService scheduler;
+    private final Counter hedgedCounter;
+    private final Timer successTimer;
+    private final Timer unavailableTimer;
 
-    public RiskAssessmentAdapter(RestTemplate restTemplate) {
+    public RiskAssessmentAdapter(RestTemplate restTemplate,
+                                 WebClient riskCentralWebClient,
+                                 ObjectMapper objectMapper,
+                                 CircuitBreaker riskCentralCircuitBreaker,
+                                 Bulkhead riskCentralBulkhead,
+                                 Retry riskCentralRetry,
+                                 MeterRegistry meterRegistry,
+                                 Environment environment,
+                                 @Value("${credit.risk-client.hedge-delay:300ms}") Duration hedgeDelay) {
         this.restTemplate = restTemplate;
+        this.webClient = riskCentralWebClient;
+        this.requestWriter = objectMapper.writerFor(Request.class);
+        this.responseReader = objectMapper.readerFor(Response.class);
+        this.circuitBreaker = riskCentralCircuitBreaker;
+        this.bulkhead = riskCentralBulkhead;
+        this.retry = riskCentralRetry;
+        this.hedgeDelay = hedgeDelay;
+        // Each attempt needs a permit, so a primary and a hedge per permit is all the pool can use
+        this.attemptExecutor = attemptExecutor(2 * riskCentralBulkhead.getBulkheadConfig().getMaxConcurrentCalls(),
+                Threading.VIRTUAL.isActive(environment));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new SchedulerThreadFactory());
+
+        this.hedgedCounter = Counter.builder("credit.risk.hedged")
+                .description("Consultas a la central de riesgos reenviadas por lentitud")
+                .register(meterRegistry);
+
+        this.successTimer = Timer.builder("credit.risk.assessment")
+                .description("Tiempo total de consulta a la central de riesgos (incluye reintentos)")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+
+        this.unavailableTimer = Timer.builder("credit.risk.assessment")
+                .description("Tiempo total de consulta a la central de riesgos (incluye reintentos)")
+                .tag("outcome", "unavailable")
+                .register(meterRegistry);
     }
 
     @Override
     public RiskAssessmentResult assessRisk(String documento, Double monto, Integer plazo) {
-        // Define request body structure locally or use a map
-        record Request(String documento, Double monto, Integer plazo) {}
-        record Response(String documento, Integer score, String nivelRiesgo, String detalle) {}
+        Request request = new Request(documento, monto, plazo);
+        if (!hedgingEnabled()) {
+            return protect(() -> Bulkhead.decorateSupplier(bulkhead, () -> evaluate(request)).get());
+        }
+        return protect(() -> await(hedged(() -> submit(() -> evaluate(request)))));
+    }
 
-        String url = "http://microservice-risk-central-service/risk/evaluation";
-        
+    @Override
+    public CompletableFuture<RiskAssessmentResult> assessRiskAsync(String documento, Double monto, Integer plazo) {
+        Request request = new Request(documento, monto, plazo);
+        Supplier<CompletionStage<RiskAssessmentResult>> protectedCall = Retry.decorateCompletionStage(retry, scheduler,
+                CircuitBreaker.decorateCompletionStage(circuitBreaker,
+                        () -> hedged(() -> evaluateAsync(request))));
+        long start = System.nanoTime();
+        CompletableFuture<RiskAssessmentResult> result = new CompletableFuture<>();
+        protectedCall.get().whenComplete((riskResult, error) -> {
+            if (error == null) {
+                successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                result.complete(riskResult);
+            } else {
+                unavailableTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                result.completeExceptionally(toUnavailable(error));
+            }
+        });
+        return result;
+    }
+
+    // One attempt holding one bulkhead permit; cancelling the future cancels the exchange
+    private CompletableFuture<RiskAssessmentResult> evaluateAsync(Request request) {
+        if (!bulkhead.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(BulkheadFullException.createBulkheadFullException(bulkhead));
+        }
+        CompletableFuture<RiskAssessmentResult> call = webClient.post()
+                .uri(EVALUATION_URL)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(Response.class)
+                .switchIfEmpty(Mono.error(() -> new RestClientException("Failed to get risk assessment")))
+                .map(this::toResult)
+                .toFuture();
+        call.whenComplete((result, error) -> bulkhead.onComplete());
+        return call;
+    }
+
+    private RiskAssessmentResult evaluate(Request request) {
         Response response = restTemplate.postForObject(
-                url,
-                new Request(documento, monto, plazo),
+                EVALUATION_URL,
+                request,
                 Response.class
         );
 
         if (response == null) {
-            throw new RuntimeException("Failed to get risk assessment");
+            throw new RestClientException("Failed to get risk assessment");
+        }
+
+        return toResult(response);
+    }
+
+    @Override
+    public List<RiskAssessmentResult> assessRiskBatch(List<RiskAssessmentRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
         }
+        // Not hedged: a batch is too expensive to send twice
+        return protect(() -> Bulkhead.decorateSupplier(bulkhead, () -> evaluateBatch(requests)).get());
+    }
+
+    private List<RiskAssessmentResult> evaluateBatch(List<RiskAssessmentRequest> requests) {
+
+        // Request and response are both NDJSON, written and read incrementally
+        List<RiskAssessmentResult> results = restTemplate.execute(
+                BATCH_EVALUATION_URL,
+                HttpMethod.POST,
+                request -> {
+                    request.getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+                    request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON));
+                    OutputStream body = request.getBody();
+                    for (RiskAssessmentRequest item : requests) {
+                        body.write(requestWriter.writeValueAsBytes(new Request(item.documento(), item.monto(), item.plazo())));
+                        body.write('\n');
+                    }
+                },
+                response -> {
+                    List<RiskAssessmentResult> parsed = new ArrayList<>(requests.size());
+                    try (MappingIterator<Response> lines = responseReader.readValues(response.getBody())) {
+                        while (lines.hasNextValue()) {
+                            parsed.add(toResult(lines.nextValue()));
+                        }
+                    }
+                    return parsed;
+                });
+
+        if (results == null || results.size() != requests.size()) {
+            throw new RestClientException("Failed to get batch risk assessment: expected " + requests.size()
+                    + " results, got " + (results == null ? 0 : results.size()));
+        }
+        return results;
+    }
+
+    // The bulkhead is not applied here: each attempt acquires its own permit
+    private <T> T protect(Supplier<T> call) {
+        Supplier<T> protectedCall = Retry.decorateSupplier(retry,
+                CircuitBreaker.decorateSupplier(circuitBreaker, call));
+        long start = System.nanoTime();
+        try {
+            T result = protectedCall.get();
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (CallNotPermittedException e) {
+            unavailableTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new RiskAssessmentUnavailableException("circuito abierto", e);
+        } catch (BulkheadFullException e) {
+            unavailableTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new RiskAssessmentUnavailableException("demasiadas consultas concurrentes", e);
+        } catch (RestClientException e) {
+            unavailableTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new RiskAssessmentUnavailableException(e.getMessage(), e);
+        } catch (RiskAssessmentUnavailableException e) {
+            unavailableTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private boolean hedgingEnabled() {
+        return !hedgeDelay.isZero() && !hedgeDelay.isNegative();
+    }
 
+    /**
+     * Starts an attempt and, if no attempt has answered within the hedge delay, a second one.
+     * Completes with the first successful attempt and cancels the other; fails only when every
+     * attempt started has failed, so a primary that fails before the delay is not hedged.
+     */
+    private <T> CompletableFuture<T> hedged(Supplier<CompletableFuture<T>> attempt) {
+        if (!hedgingEnabled()) {
+            return attempt.get();
+        }
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        Queue<CompletableFuture<T>> attempts = new ConcurrentLinkedQueue<>();
+        // Attempts still running; 0 once all of them have failed
+        AtomicInteger running = new AtomicInteger(1);
+        race(attempt.get(), winner, attempts, running);
+        ScheduledFuture<?> hedge = scheduler.schedule(() -> {
+            if (!winner.isDone() && running.getAndUpdate(n -> n == 0 ? 0 : n + 1) > 0) {
+                hedgedCounter.increment();
+                race(attempt.get(), winner, attempts, running);
+            }
+        }, hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+        winner.whenComplete((result, error) -> {
+            hedge.cancel(false);
+            attempts.forEach(pending -> pending.cancel(true));
+        });
+        return winner;
+    }
+
+    private static <T> void race(CompletableFuture<T> attempt, CompletableFuture<T> winner,
+                                 Queue<CompletableFuture<T>> attempts, AtomicInteger running) {
+        attempts.add(attempt);
+        attempt.whenComplete((result, error) -> {
+            if (error == null) {
+                winner.complete(result);
+            } else if (running.decrementAndGet() == 0) {
+                winner.completeExceptionally(error);
+            }
+        });
+        // The winner may have been decided while this attempt was being started
+        if (winner.isDone()) {
+            attempt.cancel(true);
+        }
+    }
+
+    /**
+     * Runs a blocking attempt on the attempt pool, holding a bulkhead permit while it runs.
+     * Cancelling the returned future interrupts the attempt.
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Supplier<T> limited = Bulkhead.decorateSupplier(bulkhead, call);
+        Future<?> task;
+        try {
+            task = attemptExecutor.submit(() -> {
+                try {
+                    result.complete(limited.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(BulkheadFullException.createBulkheadFullException(bulkhead));
+        }
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits for a hedged call. An interrupted caller cancels its attempts and gets an
+     * unavailable result straight away: the interrupt is neither retried nor swallowed.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RiskAssessmentUnavailableException("consulta interrumpida", e);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new ResourceAccessException("Risk central call failed: " + error.getMessage());
+    }
+
+    private static RuntimeException toUnavailable(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof CallNotPermittedException) {
+            return new RiskAssessmentUnavailableException("circuito abierto", error);
+        }
+        if (error instanceof BulkheadFullException) {
+            return new RiskAssessmentUnavailableException("demasiadas consultas concurrentes", error);
+        }
+        return new RiskAssessmentUnavailableException(error.getMessage(), error);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        attemptExecutor.shutdown();
+    }
+
+    private RiskAssessmentResult toResult(Response response) {
         return new RiskAssessmentResult(response.score(), response.nivelRiesgo(), response.detalle());
     }
+
+    // No queue: an attempt beyond the limit is rejected, and reported like a full bulkhead
+    private static ThreadPoolTaskExecutor attemptExecutor(int maxAttempts, boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("risk-central-");
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("risk-central-").getVirtualThreadFactory());
+        }
+        executor.setCorePoolSize(maxAttempts);
+        executor.setMaxPoolSize(maxAttempts);
+        executor.setQueueCapacity(0);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
+    private static final class SchedulerThreadFactory implements ThreadFactory {
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "risk-central-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
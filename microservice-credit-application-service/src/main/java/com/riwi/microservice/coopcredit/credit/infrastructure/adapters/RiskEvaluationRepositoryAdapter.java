@@ -1,15 +1,15 @@
 package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
 
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskEvaluationRepositoryPort;
-import com.riwi.microservice.coopcredit.credit.infrastructure.entities.CreditApplicationEntity;
 import com.riwi.microservice.coopcredit.credit.infrastructure.entities.RiskEvaluationEntity;
 import com.riwi.microservice.coopcredit.credit.infrastructure.mapper.RiskEvaluationEntityMapper;
 import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaCreditApplicationRepository;
 import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaRiskEvaluationRepository;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -49,12 +49,10 @@ public class RiskEvaluationRepositoryAdapter implements RiskEvaluationRepository
             entity = mapper.toEntity(riskEvaluation);
         }
 
-        // Link credit application
+        // Link credit application by reference only; the mapping below never reads it
         if (riskEvaluation.getCreditApplication() != null && riskEvaluation.getCreditApplication().getId() != null) {
-            CreditApplicationEntity creditAppEntity = creditApplicationRepository
-                    .findById(riskEvaluation.getCreditApplication().getId())
-                    .orElseThrow(() -> new IllegalArgumentException("Credit application not found"));
-            entity.setCreditApplication(creditAppEntity);
+            entity.setCreditApplication(creditApplicationRepository
+                    .getReferenceById(riskEvaluation.getCreditApplication().getId()));
         }
 
         RiskEvaluationEntity savedEntity = jpaRepository.save(entity);
@@ -74,23 +72,14 @@ public class RiskEvaluationRepositoryAdapter implements RiskEvaluationRepository
     }
 
     @Override
-    public List<RiskEvaluation> findByRiskLevel(RiskLevel riskLevel, int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "evaluationDate"));
-        return jpaRepository.findByRiskLevel(riskLevel, pageRequest)
-                .getContent()
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public CursorPage<RiskEvaluation> findByRiskLevel(RiskLevel riskLevel, PageCursor after, int size) {
+        return toPage(jpaRepository.findPageByRiskLevel(
+                riskLevel, after.timestamp(), after.id(), PageRequest.ofSize(size + 1)), size);
     }
 
     @Override
-    public List<RiskEvaluation> findAll(int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "evaluationDate"));
-        return jpaRepository.findAll(pageRequest)
-                .getContent()
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public CursorPage<RiskEvaluation> findAll(PageCursor after, int size) {
+        return toPage(jpaRepository.findPage(after.timestamp(), after.id(), PageRequest.ofSize(size + 1)), size);
     }
 
     @Override
@@ -120,12 +109,13 @@ public class RiskEvaluationRepositoryAdapter implements RiskEvaluationRepository
     }
 
     @Override
-    public List<RiskEvaluation> findByEvaluatedBy(String evaluatedBy, int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "evaluationDate"));
-        return jpaRepository.findByEvaluatedBy(evaluatedBy, pageRequest)
-                .getContent()
-                .stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public CursorPage<RiskEvaluation> findByEvaluatedBy(String evaluatedBy, PageCursor after, int size) {
+        return toPage(jpaRepository.findPageByEvaluatedBy(
+                evaluatedBy, after.timestamp(), after.id(), PageRequest.ofSize(size + 1)), size);
+    }
+
+    private CursorPage<RiskEvaluation> toPage(List<RiskEvaluationEntity> rows, int size) {
+        return CursorPage.of(rows, size, entity -> new PageCursor(entity.getEvaluationDate(), entity.getId()))
+                .map(mapper::toDomain);
     }
 }
@@ -0,0 +1,82 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.riwi.microservice.coopcredit.credit.infrastructure.entities.CacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level and query cache on a local (per instance) Caffeine JCache.
+ * Every region is created here with its own TTL and size limit; Hibernate refuses to start if a
+ * mapping refers to a region that does not exist. Entries are Hibernate's disassembled, immutable
+ * state, so they are stored by reference instead of being copied on every read.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /** Enough for one timestamp per table. */
+    private static final long UPDATE_TIMESTAMPS_MAX_SIZE = 1_000;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${credit.l2-cache.affiliates.ttl:10m}") Duration affiliateTtl,
+            @Value("${credit.l2-cache.affiliates.max-size:10000}") long affiliateMaxSize,
+            @Value("${credit.l2-cache.users.ttl:30m}") Duration userTtl,
+            @Value("${credit.l2-cache.users.max-size:5000}") long userMaxSize,
+            @Value("${credit.l2-cache.roles.ttl:12h}") Duration roleTtl,
+            @Value("${credit.l2-cache.roles.max-size:100}") long roleMaxSize,
+            @Value("${credit.l2-cache.default-queries.ttl:5m}") Duration defaultQueryTtl,
+            @Value("${credit.l2-cache.default-queries.max-size:1000}") long defaultQueryMaxSize) {
+        // A manager of its own per application context, so contexts in one JVM (tests) never share regions
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("coopcredit-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        createRegion(cacheManager, CacheRegions.AFFILIATE, affiliateTtl, affiliateMaxSize);
+        createRegion(cacheManager, CacheRegions.AFFILIATE_BY_DOCUMENT, affiliateTtl, affiliateMaxSize);
+        createRegion(cacheManager, CacheRegions.USER, userTtl, userMaxSize);
+        createRegion(cacheManager, CacheRegions.USER_ROLES, userTtl, userMaxSize);
+        createRegion(cacheManager, CacheRegions.USER_BY_USERNAME, userTtl, userMaxSize);
+        createRegion(cacheManager, CacheRegions.ROLE, roleTtl, roleMaxSize);
+        createRegion(cacheManager, CacheRegions.ROLE_BY_NAME, roleTtl, roleMaxSize);
+        createRegion(cacheManager, CacheRegions.DEFAULT_QUERY_RESULTS, defaultQueryTtl, defaultQueryMaxSize);
+        // Must never expire before the query results it validates
+        createRegion(cacheManager, CacheRegions.UPDATE_TIMESTAMPS, null, UPDATE_TIMESTAMPS_MAX_SIZE);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Per-region hit/miss counters for HibernateCacheMetrics, without the per-session log line
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, Duration ttl, long maxSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -0,0 +1,87 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.config;
+
+import com.riwi.microservice.coopcredit.credit.infrastructure.datasource.ReadReplicaRoutingDataSource;
+import com.riwi.microservice.coopcredit.credit.infrastructure.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas for read-only transactions (credit.read-replica.enabled=true). Replaces Boot's
+ * single pool: the primary keeps the spring.datasource.* settings and each replica URL gets a
+ * pool of its own with the same credentials. Flyway, schema validation and every write or
+ * non-transactional statement use the primary. Every pool reports hikaricp.* metrics under its
+ * own name; credit.datasource.routing counts connections per pool and routing reason.
+ */
+@Configuration
+@ConditionalOnProperty(name = "credit.read-replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            DataSourceProperties dataSourceProperties,
+            MeterRegistry meterRegistry,
+            @Value("${credit.read-replica.urls}") List<String> replicaUrls,
+            @Value("${credit.read-replica.primary-pool-size:10}") int primaryPoolSize,
+            @Value("${credit.read-replica.pool-size:10}") int replicaPoolSize,
+            @Value("${credit.read-replica.connection-timeout:2s}") Duration replicaConnectionTimeout) {
+        List<String> urls = replicaUrls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("credit.read-replica.enabled=true requires at least one URL in credit.read-replica.urls");
+        }
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = pool(dataSourceProperties, dataSourceProperties.determineUrl(), "credit-primary", primaryPoolSize);
+        primary.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = pool(dataSourceProperties, urls.get(i), "credit-replica-" + (i + 1), replicaPoolSize);
+            // Fail over to the primary quickly instead of holding the request for Hikari's 30s default
+            replica.setConnectionTimeout(replicaConnectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(metricsTrackerFactory);
+            replicas.add(replica);
+        }
+        return new ReadReplicaRoutingDataSource(primary, replicas, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "credit.read-replica.read-your-writes", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter());
+        // Ahead of the security chain, whose user lookups belong to the request too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private static HikariDataSource pool(DataSourceProperties dataSourceProperties, String url, String poolName, int maximumPoolSize) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        pool.setPoolName(poolName);
+        pool.setMaximumPoolSize(maximumPoolSize);
+        return pool;
+    }
+}
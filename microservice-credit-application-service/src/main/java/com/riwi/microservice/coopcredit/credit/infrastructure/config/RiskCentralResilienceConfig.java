@@ -0,0 +1,99 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker, bulkhead and retry around risk-central calls.
+ * State, calls and rejections are exported as resilience4j.* metrics with name=risk-central.
+ */
+@Configuration
+public class RiskCentralResilienceConfig {
+
+    public static final String RISK_CENTRAL = "risk-central";
+
+    @Bean
+    public CircuitBreaker riskCentralCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${credit.risk-client.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${credit.risk-client.circuit-breaker.slow-call-threshold:1500ms}") Duration slowCallThreshold,
+            @Value("${credit.risk-client.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${credit.risk-client.circuit-breaker.wait-in-open-state:30s}") Duration waitInOpenState) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(Math.min(10, slidingWindowSize))
+                .waitDurationInOpenState(waitInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(RISK_CENTRAL);
+    }
+
+    /**
+     * Caps concurrent risk-central calls so a slow dependency cannot take every request thread.
+     */
+    @Bean
+    public Bulkhead riskCentralBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${credit.risk-client.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${credit.risk-client.bulkhead.max-wait:50ms}") Duration maxWait) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead(RISK_CENTRAL);
+    }
+
+    /**
+     * Retries only I/O failures and 5xx responses; open circuit, full bulkhead and failures of an
+     * interrupted caller are not retried.
+     */
+    @Bean
+    public Retry riskCentralRetry(
+            MeterRegistry meterRegistry,
+            @Value("${credit.risk-client.retry.max-attempts:2}") int maxAttempts,
+            @Value("${credit.risk-client.retry.wait:100ms}") Duration wait) {
+        RetryRegistry registry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .waitDuration(wait)
+                .retryOnException(RiskCentralResilienceConfig::isTransient)
+                .build());
+        TaggedRetryMetrics.ofRetryRegistry(registry).bindTo(meterRegistry);
+        return registry.retry(RISK_CENTRAL);
+    }
+
+    static boolean isTransient(Throwable error) {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        return error instanceof ResourceAccessException
+                || error instanceof HttpServerErrorException
+                || error instanceof WebClientRequestException
+                || (error instanceof WebClientResponseException response
+                        && response.getStatusCode().is5xxServerError());
+    }
+}
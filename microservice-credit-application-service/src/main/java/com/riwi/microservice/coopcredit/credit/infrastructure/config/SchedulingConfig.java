@@ -0,0 +1,12 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the background maintenance jobs (@Scheduled components in the adapters package).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
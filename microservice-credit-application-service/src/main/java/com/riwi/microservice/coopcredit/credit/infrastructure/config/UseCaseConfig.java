@@ -2,10 +2,14 @@ package com.riwi.microservice.coopcredit.credit.infrastructure.config;
 
 import com.riwi.microservice.coopcredit.credit.application.usecases.*;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.*;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskFallbackDecision;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class UseCaseConfig {
 
@@ -39,8 +43,17 @@ public class UseCaseConfig {
             CreditApplicationRepositoryPort creditApplicationRepository, 
             AffiliateRepositoryPort affiliateRepository,
             RiskAssessmentPort riskAssessmentPort,
-            RiskEvaluationRepositoryPort riskEvaluationRepository) {
-        return new CreateCreditApplicationUseCaseImpl(creditApplicationRepository, affiliateRepository, riskAssessmentPort, riskEvaluationRepository);
+            CreditDecisionQueuePort creditDecisionQueue,
+            @Value("${credit.risk-client.fallback:MANUAL_REVIEW}") RiskFallbackDecision riskFallbackDecision) {
+        return new CreateCreditApplicationUseCaseImpl(creditApplicationRepository, affiliateRepository, riskAssessmentPort, creditDecisionQueue, riskFallbackDecision);
+    }
+
+    @Bean
+    public EvaluateCreditApplicationUseCase evaluateCreditApplicationUseCaseImpl(
+            CreditApplicationRepositoryPort creditApplicationRepository,
+            RiskAssessmentPort riskAssessmentPort,
+            @Value("${credit.risk-client.fallback:MANUAL_REVIEW}") RiskFallbackDecision riskFallbackDecision) {
+        return new EvaluateCreditApplicationUseCaseImpl(creditApplicationRepository, riskAssessmentPort, riskFallbackDecision);
     }
 
     @Bean
@@ -53,6 +66,15 @@ public class UseCaseConfig {
         return new ProcessCreditDecisionUseCaseImpl(creditApplicationRepository);
     }
 
+    @Bean
+    public ClaimCreditApplicationUseCase claimCreditApplicationUseCaseImpl(
+            CreditApplicationRepositoryPort creditApplicationRepository,
+            @Value("${credit.review-queue.lease:30m}") Duration lease,
+            @Value("${credit.review-queue.max-claim:50}") int maxClaim,
+            @Value("${credit.review-queue.release-batch-size:500}") int releaseBatchSize) {
+        return new ClaimCreditApplicationUseCaseImpl(creditApplicationRepository, lease, maxClaim, releaseBatchSize);
+    }
+
     @Bean
     public CreateRiskEvaluationUseCase createRiskEvaluationUseCaseImpl(RiskEvaluationRepositoryPort riskEvaluationRepository, CreditApplicationRepositoryPort creditApplicationRepository) {
         return new CreateRiskEvaluationUseCaseImpl(riskEvaluationRepository, creditApplicationRepository);
@@ -72,4 +94,22 @@ public class UseCaseConfig {
     public CalculateRiskLevelUseCase calculateRiskLevelUseCaseImpl(RiskEvaluationRepositoryPort riskEvaluationRepository) {
         return new CalculateRiskLevelUseCaseImpl(riskEvaluationRepository);
     }
+
+    @Bean
+    public ExportCreditDataUseCase exportCreditDataUseCaseImpl(CreditExportPort creditExportPort) {
+        return new ExportCreditDataUseCaseImpl(creditExportPort);
+    }
+
+    @Bean
+    public PortfolioStatisticsUseCase portfolioStatisticsUseCaseImpl(PortfolioStatisticsPort portfolioStatisticsPort) {
+        return new PortfolioStatisticsUseCaseImpl(portfolioStatisticsPort);
+    }
+
+    @Bean
+    public RelayCreditEventsUseCase relayCreditEventsUseCaseImpl(
+            CreditEventOutboxPort creditEventOutbox,
+            CreditEventPublisherPort creditEventPublisher,
+            @Value("${credit.outbox.batch-size:200}") int batchSize) {
+        return new RelayCreditEventsUseCaseImpl(creditEventOutbox, creditEventPublisher, batchSize);
+    }
 }
@@ -0,0 +1,55 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * Pooled keep-alive connections for non-blocking calls to the risk central,
+     * exposed as reactor.netty.connection.provider.* metrics.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider riskCentralConnectionProvider(
+            @Value("${credit.risk-client.pool.max-total:100}") int maxTotal,
+            @Value("${credit.risk-client.pool.acquire-timeout:500ms}") Duration acquireTimeout) {
+        return ConnectionProvider.builder("risk-central")
+                .maxConnections(maxTotal)
+                .pendingAcquireTimeout(acquireTimeout)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .maxLifeTime(Duration.ofMinutes(5))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Load-balanced through Eureka; built from Boot's WebClient.Builder so every call is timed
+     * as http.client.requests.
+     */
+    @Bean
+    public WebClient riskCentralWebClient(
+            WebClient.Builder webClientBuilder,
+            LoadBalancedExchangeFilterFunction loadBalancerFilter,
+            ConnectionProvider riskCentralConnectionProvider,
+            @Value("${credit.risk-client.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${credit.risk-client.read-timeout:2s}") Duration readTimeout) {
+        HttpClient httpClient = HttpClient.create(riskCentralConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(loadBalancerFilter)
+                .build();
+    }
+}
@@ -6,6 +6,8 @@ import com.riwi.microservice.coopcredit.credit.application.dto.affiliate.UpdateA
 import com.riwi.microservice.coopcredit.credit.application.mapper.AffiliateMapper;
 import com.riwi.microservice.coopcredit.credit.domain.exception.AffiliateNotFoundException;
 import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.CreateAffiliateUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.DeleteAffiliateUseCase;
@@ -27,7 +29,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * REST Controller for Affiliate operations.
@@ -163,13 +164,10 @@ public class AffiliateController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('ANALISTA')")
     @Operation(summary = "Get all affiliates", description = "Retrieves a paginated list of all affiliates")
     public ResponseEntity<List<AffiliateResponse>> getAllAffiliates(
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
-        List<Affiliate> affiliates = retrieveAffiliateUseCase.getAllAffiliates(page, size);
-        List<AffiliateResponse> responses = affiliates.stream()
-                .map(affiliateMapper::toResponse)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+        CursorPage<Affiliate> affiliates = retrieveAffiliateUseCase.getAllAffiliates(PageCursor.decode(cursor), size);
+        return PageResponses.ok(affiliates, affiliateMapper::toResponse);
     }
 
     /**
@@ -180,13 +178,10 @@ public class AffiliateController {
     @Operation(summary = "Get affiliates by status", description = "Retrieves a paginated list of affiliates filtered by status")
     public ResponseEntity<List<AffiliateResponse>> getAffiliatesByStatus(
             @PathVariable AffiliateStatus status,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
-        List<Affiliate> affiliates = retrieveAffiliateUseCase.getAffiliatesByStatus(status, page, size);
-        List<AffiliateResponse> responses = affiliates.stream()
-                .map(affiliateMapper::toResponse)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+        CursorPage<Affiliate> affiliates = retrieveAffiliateUseCase.getAffiliatesByStatus(status, PageCursor.decode(cursor), size);
+        return PageResponses.ok(affiliates, affiliateMapper::toResponse);
     }
 
     /**
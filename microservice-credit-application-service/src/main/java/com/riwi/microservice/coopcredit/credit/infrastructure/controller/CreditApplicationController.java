@@ -1,13 +1,24 @@
 package com.riwi.microservice.coopcredit.credit.infrastructure.controller;
 
+import com.riwi.microservice.coopcredit.credit.application.dto.credit.BatchCreditApplicationRequest;
+import com.riwi.microservice.coopcredit.credit.application.dto.credit.BatchCreditApplicationResponse;
+import com.riwi.microservice.coopcredit.credit.application.dto.credit.BatchCreditDecisionRequest;
+import com.riwi.microservice.coopcredit.credit.application.dto.credit.BatchCreditDecisionResponse;
 import com.riwi.microservice.coopcredit.credit.application.dto.credit.CreditApplicationResponse;
 import com.riwi.microservice.coopcredit.credit.application.dto.credit.CreateCreditApplicationRequest;
 import com.riwi.microservice.coopcredit.credit.application.dto.credit.CreditDecisionRequest;
 import com.riwi.microservice.coopcredit.credit.application.mapper.CreditApplicationMapper;
 import com.riwi.microservice.coopcredit.credit.domain.exception.CreditApplicationNotFoundException;
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplicationExportRow;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.ExportCriteria;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ClaimCreditApplicationUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.CreateCreditApplicationUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ExportCreditDataUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.ProcessCreditDecisionUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.RetrieveCreditApplicationUseCase;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,13 +28,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.riwi.microservice.coopcredit.credit.infrastructure.controller.ExportResponseWriter.ExportFormat;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.ProblemDetail;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -39,16 +56,25 @@ public class CreditApplicationController {
     private final CreateCreditApplicationUseCase createCreditApplicationUseCase;
     private final RetrieveCreditApplicationUseCase retrieveCreditApplicationUseCase;
     private final ProcessCreditDecisionUseCase processCreditDecisionUseCase;
+    private final ClaimCreditApplicationUseCase claimCreditApplicationUseCase;
+    private final ExportCreditDataUseCase exportCreditDataUseCase;
     private final CreditApplicationMapper creditApplicationMapper;
+    private final ExportResponseWriter exportResponseWriter;
 
     public CreditApplicationController(CreateCreditApplicationUseCase createCreditApplicationUseCase,
                                        RetrieveCreditApplicationUseCase retrieveCreditApplicationUseCase,
                                        ProcessCreditDecisionUseCase processCreditDecisionUseCase,
-                                       CreditApplicationMapper creditApplicationMapper) {
+                                       ClaimCreditApplicationUseCase claimCreditApplicationUseCase,
+                                       ExportCreditDataUseCase exportCreditDataUseCase,
+                                       CreditApplicationMapper creditApplicationMapper,
+                                       ExportResponseWriter exportResponseWriter) {
         this.createCreditApplicationUseCase = createCreditApplicationUseCase;
         this.retrieveCreditApplicationUseCase = retrieveCreditApplicationUseCase;
         this.processCreditDecisionUseCase = processCreditDecisionUseCase;
+        this.claimCreditApplicationUseCase = claimCreditApplicationUseCase;
+        this.exportCreditDataUseCase = exportCreditDataUseCase;
         this.creditApplicationMapper = creditApplicationMapper;
+        this.exportResponseWriter = exportResponseWriter;
     }
 
     /**
@@ -82,6 +108,82 @@ public class CreditApplicationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(creditApplicationMapper.toResponse(creditApplication));
     }
 
+    /**
+     * Submit a credit application for asynchronous evaluation.
+     */
+    @PostMapping("/async")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ANALISTA') or hasRole('AFILIADO')")
+    @Operation(summary = "Submit a credit application asynchronously",
+            description = "Registers the application as PENDIENTE and evaluates it in the background. Poll the Location URL for the decision")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Solicitud registrada, evaluación en curso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CreditApplicationResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Datos de solicitud inválidos",
+            content = @Content(
+                mediaType = "application/problem+json",
+                schema = @Schema(implementation = ProblemDetail.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Cola de evaluación saturada",
+            content = @Content(
+                mediaType = "application/problem+json",
+                schema = @Schema(implementation = ProblemDetail.class)
+            )
+        )
+    })
+    public ResponseEntity<CreditApplicationResponse> submitCreditApplication(
+            @Valid @RequestBody CreateCreditApplicationRequest request) {
+        CreditApplication creditApplication = createCreditApplicationUseCase.submitCreditApplication(
+                creditApplicationMapper.toCreateCommand(request));
+        return ResponseEntity.accepted()
+                .location(URI.create("/credit/applications/" + creditApplication.getId()))
+                .body(creditApplicationMapper.toResponse(creditApplication));
+    }
+
+    /**
+     * Submit several credit applications at once for asynchronous evaluation.
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ANALISTA')")
+    @Operation(summary = "Submit credit applications in batch",
+            description = "Registers up to 500 applications as PENDIENTE in bulk and evaluates them in the background. Returns one result per item")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Lote procesado, ver resultado por solicitud",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BatchCreditApplicationResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Datos del lote inválidos",
+            content = @Content(
+                mediaType = "application/problem+json",
+                schema = @Schema(implementation = ProblemDetail.class)
+            )
+        )
+    })
+    public ResponseEntity<BatchCreditApplicationResponse> submitCreditApplications(
+            @Valid @RequestBody BatchCreditApplicationRequest request) {
+        List<CreateCreditApplicationUseCase.BatchItemResult> results = createCreditApplicationUseCase.submitCreditApplications(
+                request.getApplications().stream()
+                        .map(creditApplicationMapper::toCreateCommand)
+                        .collect(Collectors.toList()));
+        return ResponseEntity.accepted().body(creditApplicationMapper.toBatchResponse(results));
+    }
+
     /**
      * Get credit application by ID.
      */
@@ -180,12 +282,11 @@ public class CreditApplicationController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('ANALISTA') or hasRole('AFILIADO')")
     @Operation(summary = "Get credit applications by affiliate", description = "Retrieves all credit applications for a specific affiliate")
     public ResponseEntity<List<CreditApplicationResponse>> getCreditApplicationsByAffiliate(
-            @PathVariable Long affiliateId) {
-        List<CreditApplication> applications = retrieveCreditApplicationUseCase.getCreditApplicationsByAffiliate(affiliateId);
-        List<CreditApplicationResponse> responses = applications.stream()
-                .map(creditApplicationMapper::toResponse)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+            @PathVariable Long affiliateId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPage<CreditApplication> applications = retrieveCreditApplicationUseCase.getCreditApplicationsByAffiliate(affiliateId, PageCursor.decode(cursor), size);
+        return PageResponses.ok(applications, creditApplicationMapper::toResponse);
     }
 
     /**
@@ -194,13 +295,10 @@ public class CreditApplicationController {
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('ANALISTA')")
     public ResponseEntity<List<CreditApplicationResponse>> getAllCreditApplications(
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
-        List<CreditApplication> applications = retrieveCreditApplicationUseCase.getAllCreditApplications(page, size);
-        List<CreditApplicationResponse> responses = applications.stream()
-                .map(creditApplicationMapper::toResponse)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+        CursorPage<CreditApplication> applications = retrieveCreditApplicationUseCase.getAllCreditApplications(PageCursor.decode(cursor), size);
+        return PageResponses.ok(applications, creditApplicationMapper::toResponse);
     }
 
     /**
@@ -210,13 +308,76 @@ public class CreditApplicationController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('ANALISTA')")
     public ResponseEntity<List<CreditApplicationResponse>> getCreditApplicationsByStatus(
             @PathVariable CreditApplicationStatus status,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
-        List<CreditApplication> applications = retrieveCreditApplicationUseCase.getCreditApplicationsByStatus(status, page, size);
-        List<CreditApplicationResponse> responses = applications.stream()
-                .map(creditApplicationMapper::toResponse)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+        CursorPage<CreditApplication> applications = retrieveCreditApplicationUseCase.getCreditApplicationsByStatus(status, PageCursor.decode(cursor), size);
+        return PageResponses.ok(applications, creditApplicationMapper::toResponse);
+    }
+
+    /**
+     * Export credit applications as a stream.
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ANALISTA')")
+    @Operation(summary = "Export credit applications",
+            description = "Streams every application created between from and to (inclusive) as NDJSON or CSV, optionally filtered by status and risk level")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportación en curso"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Criterios de exportación inválidos",
+            content = @Content(
+                mediaType = "application/problem+json",
+                schema = @Schema(implementation = ProblemDetail.class)
+            )
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> exportCreditApplications(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) CreditApplicationStatus status,
+            @RequestParam(required = false) RiskLevel riskLevel,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        ExportCriteria criteria = new ExportCriteria(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), status, riskLevel);
+        ExportCreditDataUseCase.RowStream<CreditApplicationExportRow> rows = exportCreditDataUseCase.exportCreditApplications(criteria);
+        return exportResponseWriter.stream("credit-applications_" + from + "_" + to, format, CreditApplicationExportRow.class, rows);
+    }
+
+    /**
+     * Claim the oldest pending credit application for review.
+     */
+    @PostMapping("/claim-next")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ANALISTA')")
+    @Operation(summary = "Claim the next pending credit application",
+            description = "Moves the oldest PENDIENTE application to EN_REVISION for the current user under a review lease. Concurrent callers never get the same application")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Solicitud asignada para revisión",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CreditApplicationResponse.class)
+            )
+        ),
+        @ApiResponse(responseCode = "204", description = "No hay solicitudes pendientes")
+    })
+    public ResponseEntity<CreditApplicationResponse> claimNextCreditApplication() {
+        return claimCreditApplicationUseCase.claimNext(currentUsername())
+                .map(creditApplication -> ResponseEntity.ok(creditApplicationMapper.toResponse(creditApplication)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Claim several pending credit applications for review.
+     */
+    @PostMapping("/claim")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ANALISTA')")
+    @Operation(summary = "Claim pending credit applications in batch",
+            description = "Moves up to count of the oldest PENDIENTE applications to EN_REVISION for the current user. Returns fewer (or none) when the queue runs out")
+    public ResponseEntity<List<CreditApplicationResponse>> claimCreditApplications(
+            @RequestParam(defaultValue = "10") int count) {
+        List<CreditApplication> claimed = claimCreditApplicationUseCase.claim(currentUsername(), count);
+        return ResponseEntity.ok(claimed.stream().map(creditApplicationMapper::toResponse).collect(Collectors.toList()));
     }
 
     /**
@@ -242,6 +403,40 @@ public class CreditApplicationController {
         return ResponseEntity.ok(creditApplicationMapper.toResponse(creditApplication));
     }
 
+    /**
+     * Record several decisions (approve/reject/cancel) at once.
+     */
+    @PostMapping("/decisions")
+    @PreAuthorize("hasRole('ANALISTA')")
+    @Operation(summary = "Process credit decisions in batch",
+            description = "Approves, rejects or cancels up to 500 applications in one transaction. Returns one result per decision; decisions not allowed by the current status are reported without failing the batch")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote procesado, ver resultado por decisión",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BatchCreditDecisionResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Datos del lote inválidos",
+            content = @Content(
+                mediaType = "application/problem+json",
+                schema = @Schema(implementation = ProblemDetail.class)
+            )
+        )
+    })
+    public ResponseEntity<BatchCreditDecisionResponse> processCreditDecisions(
+            @Valid @RequestBody BatchCreditDecisionRequest request) {
+        List<ProcessCreditDecisionUseCase.DecisionItemResult> results = processCreditDecisionUseCase.processDecisions(
+                request.getDecisions().stream()
+                        .map(creditApplicationMapper::toDecisionCommand)
+                        .collect(Collectors.toList()));
+        return ResponseEntity.ok(creditApplicationMapper.toBatchDecisionResponse(results));
+    }
+
     /**
      * Reject a credit application.
      */
@@ -265,4 +460,8 @@ public class CreditApplicationController {
         CreditApplication creditApplication = processCreditDecisionUseCase.cancelCreditApplication(id, request.getComments());
         return ResponseEntity.ok(creditApplicationMapper.toResponse(creditApplication));
     }
+
+    private static String currentUsername() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
 }
@@ -0,0 +1,131 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ExportCreditDataUseCase.RowStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes export rows to the response body as they arrive, in NDJSON or CSV.
+ * Nothing is collected: each row is serialized into a fixed-size buffer that is flushed
+ * to the client whenever it fills up.
+ */
+@Slf4j
+@Component
+class ExportResponseWriter {
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ObjectMapper objectMapper;
+
+    ExportResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    <T extends Record> ResponseEntity<StreamingResponseBody> stream(String filename, ExportFormat format,
+                                                                    Class<T> type, RowStream<T> rows) {
+        StreamingResponseBody body = out -> {
+            long count = format == ExportFormat.CSV ? writeCsv(out, type, rows) : writeNdjson(out, type, rows);
+            log.info("Export {} finished: {} rows", filename, count);
+        };
+        String extension = format == ExportFormat.CSV ? ".csv" : ".ndjson";
+        return ResponseEntity.ok()
+                .contentType(format == ExportFormat.CSV ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename + extension).build().toString())
+                .body(body);
+    }
+
+    <T> long writeNdjson(OutputStream out, Class<T> type, RowStream<T> rows) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            long count = rows.forEach(row -> {
+                try {
+                    writer.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.flush();
+            return count;
+        }
+    }
+
+    <T extends Record> long writeCsv(OutputStream out, Class<T> type, RowStream<T> rows) throws IOException {
+        RecordComponent[] components = type.getRecordComponents();
+        Method[] accessors = Arrays.stream(components).map(RecordComponent::getAccessor).toArray(Method[]::new);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(components[i].getName());
+        }
+        writer.write('\n');
+        long count = rows.forEach(row -> {
+            try {
+                for (int i = 0; i < accessors.length; i++) {
+                    if (i > 0) writer.write(',');
+                    Object value = accessors[i].invoke(row);
+                    if (value != null) {
+                        writeCsvField(writer, value.toString());
+                    }
+                }
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Cannot read export field of " + type.getSimpleName(), e);
+            }
+        });
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * Supported export formats.
+     */
+    public enum ExportFormat {
+        NDJSON,
+        CSV
+    }
+}
@@ -0,0 +1,28 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.controller;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builds list responses for keyset-paginated endpoints.
+ * The body stays a plain JSON array; the token for the next page travels in the
+ * {@value #NEXT_CURSOR_HEADER} header (absent on the last page) and is passed back as ?cursor=.
+ */
+final class PageResponses {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private PageResponses() {
+    }
+
+    static <T, R> ResponseEntity<List<R>> ok(CursorPage<T> page, Function<T, R> mapper) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.next().encode());
+        }
+        return response.body(page.items().stream().map(mapper).toList());
+    }
+}
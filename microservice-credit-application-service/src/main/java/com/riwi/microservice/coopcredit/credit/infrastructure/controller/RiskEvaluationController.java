@@ -5,10 +5,16 @@ import com.riwi.microservice.coopcredit.credit.application.dto.risk.RiskEvaluati
 import com.riwi.microservice.coopcredit.credit.application.dto.risk.UpdateRiskEvaluationRequest;
 import com.riwi.microservice.coopcredit.credit.application.mapper.RiskEvaluationMapper;
 import com.riwi.microservice.coopcredit.credit.domain.exception.RiskEvaluationNotFoundException;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.ExportCriteria;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
 import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluationExportRow;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.CalculateRiskLevelUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.CreateRiskEvaluationUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ExportCreditDataUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.RetrieveRiskEvaluationUseCase;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.UpdateRiskEvaluationUseCase;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,15 +23,18 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.riwi.microservice.coopcredit.credit.infrastructure.controller.ExportResponseWriter.ExportFormat;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * REST Controller for Risk Evaluation operations.
@@ -39,19 +48,25 @@ public class RiskEvaluationController {
     private final RetrieveRiskEvaluationUseCase retrieveRiskEvaluationUseCase;
     private final UpdateRiskEvaluationUseCase updateRiskEvaluationUseCase;
     private final CalculateRiskLevelUseCase calculateRiskLevelUseCase;
+    private final ExportCreditDataUseCase exportCreditDataUseCase;
     private final RiskEvaluationMapper riskEvaluationMapper;
+    private final ExportResponseWriter exportResponseWriter;
 
     public RiskEvaluationController(
             CreateRiskEvaluationUseCase createRiskEvaluationUseCase,
             RetrieveRiskEvaluationUseCase retrieveRiskEvaluationUseCase,
             UpdateRiskEvaluationUseCase updateRiskEvaluationUseCase,
             CalculateRiskLevelUseCase calculateRiskLevelUseCase,
-            RiskEvaluationMapper riskEvaluationMapper) {
+            ExportCreditDataUseCase exportCreditDataUseCase,
+            RiskEvaluationMapper riskEvaluationMapper,
+            ExportResponseWriter exportResponseWriter) {
         this.createRiskEvaluationUseCase = createRiskEvaluationUseCase;
         this.retrieveRiskEvaluationUseCase = retrieveRiskEvaluationUseCase;
         this.updateRiskEvaluationUseCase = updateRiskEvaluationUseCase;
         this.calculateRiskLevelUseCase = calculateRiskLevelUseCase;
+        this.exportCreditDataUseCase = exportCreditDataUseCase;
         this.riskEvaluationMapper = riskEvaluationMapper;
+        this.exportResponseWriter = exportResponseWriter;
     }
 
     /**
@@ -155,13 +170,10 @@ public class RiskEvaluationController {
     @Operation(summary = "Get risk evaluations by level", description = "Retrieves a list of risk evaluations filtered by risk level")
     public ResponseEntity<List<RiskEvaluationResponse>> getRiskEvaluationsByRiskLevel(
             @PathVariable RiskLevel riskLevel,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
-        List<RiskEvaluation> evaluations = retrieveRiskEvaluationUseCase.getRiskEvaluationsByRiskLevel(riskLevel, page, size);
-        List<RiskEvaluationResponse> responses = evaluations.stream()
-                .map(riskEvaluationMapper::toResponse)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+        CursorPage<RiskEvaluation> evaluations = retrieveRiskEvaluationUseCase.getRiskEvaluationsByRiskLevel(riskLevel, PageCursor.decode(cursor), size);
+        return PageResponses.ok(evaluations, riskEvaluationMapper::toResponse);
     }
 
     /**
@@ -170,13 +182,39 @@ public class RiskEvaluationController {
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('ANALISTA')")
     public ResponseEntity<List<RiskEvaluationResponse>> getAllRiskEvaluations(
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
-        List<RiskEvaluation> evaluations = retrieveRiskEvaluationUseCase.getAllRiskEvaluations(page, size);
-        List<RiskEvaluationResponse> responses = evaluations.stream()
-                .map(riskEvaluationMapper::toResponse)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+        CursorPage<RiskEvaluation> evaluations = retrieveRiskEvaluationUseCase.getAllRiskEvaluations(PageCursor.decode(cursor), size);
+        return PageResponses.ok(evaluations, riskEvaluationMapper::toResponse);
+    }
+
+    /**
+     * Export risk evaluations as a stream.
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ANALISTA')")
+    @Operation(summary = "Export risk evaluations",
+            description = "Streams every evaluation made between from and to (inclusive) as NDJSON or CSV, optionally filtered by application status and risk level")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportación en curso"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Criterios de exportación inválidos",
+            content = @Content(
+                mediaType = "application/problem+json",
+                schema = @Schema(implementation = ProblemDetail.class)
+            )
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> exportRiskEvaluations(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) CreditApplicationStatus status,
+            @RequestParam(required = false) RiskLevel riskLevel,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        ExportCriteria criteria = new ExportCriteria(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), status, riskLevel);
+        ExportCreditDataUseCase.RowStream<RiskEvaluationExportRow> rows = exportCreditDataUseCase.exportRiskEvaluations(criteria);
+        return exportResponseWriter.stream("risk-evaluations_" + from + "_" + to, format, RiskEvaluationExportRow.class, rows);
     }
 
     /**
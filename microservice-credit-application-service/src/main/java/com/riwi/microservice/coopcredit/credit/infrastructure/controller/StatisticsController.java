@@ -0,0 +1,57 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.controller;
+
+import com.riwi.microservice.coopcredit.credit.application.dto.statistics.PortfolioStatisticsResponse;
+import com.riwi.microservice.coopcredit.credit.application.mapper.PortfolioStatisticsMapper;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.PortfolioStatisticsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for the portfolio dashboards.
+ */
+@RestController
+@RequestMapping("/credit/statistics")
+@Tag(name = "Estadísticas", description = "Indicadores de la cartera de crédito")
+@SecurityRequirement(name = "bearerAuth")
+public class StatisticsController {
+
+    private final PortfolioStatisticsUseCase portfolioStatisticsUseCase;
+    private final PortfolioStatisticsMapper portfolioStatisticsMapper;
+
+    public StatisticsController(PortfolioStatisticsUseCase portfolioStatisticsUseCase,
+                                PortfolioStatisticsMapper portfolioStatisticsMapper) {
+        this.portfolioStatisticsUseCase = portfolioStatisticsUseCase;
+        this.portfolioStatisticsMapper = portfolioStatisticsMapper;
+    }
+
+    /**
+     * Get the portfolio statistics.
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ANALISTA')")
+    @Operation(summary = "Get portfolio statistics",
+            description = "Applications per status, affiliates per status and risk evaluations per risk level, read from counters maintained on every write")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Estadísticas de la cartera",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = PortfolioStatisticsResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<PortfolioStatisticsResponse> getStatistics() {
+        return ResponseEntity.ok(portfolioStatisticsMapper.toResponse(portfolioStatisticsUseCase.getStatistics()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas (round robin) and everything else to the primary.
+ * The decision reads the current transaction's read-only flag, which Spring sets after the
+ * transaction has begun, so this must sit behind a LazyConnectionDataSourceProxy that defers
+ * fetching the connection to the first statement. A replica that cannot hand out a connection
+ * is skipped for that transaction and the read goes to the primary.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    private static final String METRIC = "credit.datasource.routing";
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter writeCounter;
+    private final Counter readYourWritesCounter;
+    private final Counter fallbackCounter;
+    private final List<Counter> replicaCounters = new ArrayList<>();
+
+    public ReadReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.writeCounter = counter(meterRegistry, primary, "write");
+        this.readYourWritesCounter = counter(meterRegistry, primary, "read-your-writes");
+        this.fallbackCounter = counter(meterRegistry, primary, "replica-unavailable");
+        for (HikariDataSource replica : this.replicas) {
+            replicaCounters.add(counter(meterRegistry, replica, "read-only"));
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesScope.recordWrite();
+            }
+            writeCounter.increment();
+            return primary.getConnection();
+        }
+        if (ReadYourWritesScope.pinnedToPrimary()) {
+            readYourWritesCounter.increment();
+            return primary.getConnection();
+        }
+
+        int index = Math.floorMod(next.getAndIncrement(), replicas.size());
+        HikariDataSource replica = replicas.get(index);
+        try {
+            Connection connection = replica.getConnection();
+            replicaCounters.get(index).increment();
+            return connection;
+        } catch (SQLException e) {
+            log.warn("Replica pool {} unavailable, reading from the primary: {}", replica.getPoolName(), e.getMessage());
+            fallbackCounter.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // The routing target depends on the transaction, and each pool has its own credentials
+        throw new SQLFeatureNotSupportedException("Credentials are configured per pool");
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, HikariDataSource pool, String reason) {
+        return Counter.builder(METRIC)
+                .description("Conexiones entregadas por pool y motivo de enrutamiento")
+                .tag("pool", pool.getPoolName())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
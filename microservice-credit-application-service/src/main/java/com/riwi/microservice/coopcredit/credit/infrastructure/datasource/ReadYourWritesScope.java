@@ -0,0 +1,40 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.datasource;
+
+/**
+ * Per-request memory of whether the request already wrote through the primary. Once it has,
+ * its later read-only transactions stay on the primary, so a client never reads a replica
+ * that has not replayed its own change yet. Without an open scope (scheduled jobs, startup)
+ * nothing is pinned.
+ */
+public final class ReadYourWritesScope implements AutoCloseable {
+
+    private static final ThreadLocal<ReadYourWritesScope> CURRENT = new ThreadLocal<>();
+
+    private boolean wrote;
+
+    private ReadYourWritesScope() {
+    }
+
+    public static ReadYourWritesScope open() {
+        ReadYourWritesScope scope = new ReadYourWritesScope();
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void recordWrite() {
+        ReadYourWritesScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.wrote = true;
+        }
+    }
+
+    static boolean pinnedToPrimary() {
+        ReadYourWritesScope scope = CURRENT.get();
+        return scope != null && scope.wrote;
+    }
+
+    @Override
+    public void close() {
+        CURRENT.remove();
+    }
+}
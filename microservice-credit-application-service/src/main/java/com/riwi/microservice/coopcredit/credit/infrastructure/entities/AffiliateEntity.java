@@ -3,6 +3,8 @@ package com.riwi.microservice.coopcredit.credit.infrastructure.entities;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Setter;
 
 import java.math.BigDecimal;
@@ -18,10 +20,12 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.AFFILIATE)
 @Table(name = "affiliates", indexes = {
-        @Index(name = "idx_affiliate_document", columnList = "document", unique = true),
         @Index(name = "idx_affiliate_email", columnList = "email"),
-        @Index(name = "idx_affiliate_status", columnList = "status")
+        @Index(name = "idx_affiliate_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_affiliate_status_created_at_id", columnList = "status, created_at, id")
 })
 @NamedEntityGraph(
         name = "Affiliate.withCreditApplications",
@@ -0,0 +1,24 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.entities;
+
+/**
+ * Hibernate second-level cache regions. Each one is created explicitly, with its own TTL and
+ * size limit, by HibernateCacheConfig; Hibernate fails on startup if a mapping names another.
+ */
+public final class CacheRegions {
+
+    public static final String AFFILIATE = "coopcredit.affiliate";
+    public static final String USER = "coopcredit.user";
+    public static final String USER_ROLES = "coopcredit.user.roles";
+    public static final String ROLE = "coopcredit.role";
+
+    public static final String AFFILIATE_BY_DOCUMENT = "coopcredit.query.affiliate-by-document";
+    public static final String USER_BY_USERNAME = "coopcredit.query.user-by-username";
+    public static final String ROLE_BY_NAME = "coopcredit.query.role-by-name";
+
+    /** Hibernate's built-in regions, required once the query cache is enabled. */
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {
+    }
+}
@@ -15,11 +15,13 @@ import java.time.LocalDateTime;
 @Setter
 
 @Entity
+// Partitioned by month (V11): application_number is unique through credit_application_keys,
+// not through an index on this table
 @Table(name = "credit_applications", indexes = {
-        @Index(name = "idx_credit_application_number", columnList = "application_number", unique = true),
-        @Index(name = "idx_credit_application_status", columnList = "status"),
-        @Index(name = "idx_credit_application_affiliate", columnList = "affiliate_id"),
-        @Index(name = "idx_credit_application_date", columnList = "application_date")
+        @Index(name = "idx_credit_application_number", columnList = "application_number"),
+        @Index(name = "idx_credit_application_date_id", columnList = "application_date, id"),
+        @Index(name = "idx_credit_application_status_date_id", columnList = "status, application_date, id"),
+        @Index(name = "idx_credit_application_affiliate_date_id", columnList = "affiliate_id, application_date, id")
 })
 @NamedEntityGraph(
         name = "CreditApplication.withDetails",
@@ -30,11 +32,13 @@ import java.time.LocalDateTime;
 )
 public class CreditApplicationEntity {
 
+    // Pooled sequence (INCREMENT BY 50, see V5 migration) so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_application_id_generator")
+    @SequenceGenerator(name = "credit_application_id_generator", sequenceName = "credit_applications_id_seq", allocationSize = 50)
     private Long id;
 
-    @Column(name = "application_number", nullable = false, unique = true, length = 20)
+    @Column(name = "application_number", nullable = false, length = 20)
     private String applicationNumber;
 
     @Column(name = "requested_amount", nullable = false, precision = 15, scale = 2)
@@ -65,12 +69,23 @@ public class CreditApplicationEntity {
     @Column(name = "decision_date")
     private LocalDateTime decisionDate;
 
+    @Column(name = "reviewer", length = 100)
+    private String reviewer;
+
+    @Column(name = "review_lease_expires_at")
+    private LocalDateTime reviewLeaseExpiresAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Bumped by every UPDATE, including the compare-and-set status transitions (V7 migration)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "affiliate_id", nullable = false, foreignKey = @ForeignKey(name = "fk_credit_application_affiliate"))
     private AffiliateEntity affiliate;
@@ -15,10 +15,13 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
+// Partitioned by month (V11): one evaluation per application is enforced by
+// credit_application_keys, not by a unique index on this table
 @Table(name = "risk_evaluations", indexes = {
-        @Index(name = "idx_risk_evaluation_credit_app", columnList = "credit_application_id", unique = true),
-        @Index(name = "idx_risk_evaluation_risk_level", columnList = "risk_level"),
-        @Index(name = "idx_risk_evaluation_evaluated_by", columnList = "evaluated_by")
+        @Index(name = "idx_risk_evaluation_credit_app", columnList = "credit_application_id"),
+        @Index(name = "idx_risk_evaluation_date_id", columnList = "evaluation_date, id"),
+        @Index(name = "idx_risk_evaluation_risk_level_date_id", columnList = "risk_level, evaluation_date, id"),
+        @Index(name = "idx_risk_evaluation_evaluated_by_date_id", columnList = "evaluated_by, evaluation_date, id")
 })
 @NamedEntityGraph(
         name = "RiskEvaluation.withCreditApplication",
@@ -26,8 +29,10 @@ import java.time.LocalDateTime;
 )
 public class RiskEvaluationEntity {
 
+    // Pooled sequence (INCREMENT BY 50, see V5 migration) so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "risk_evaluation_id_generator")
+    @SequenceGenerator(name = "risk_evaluation_id_generator", sequenceName = "risk_evaluations_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "credit_score", nullable = false)
@@ -74,7 +79,7 @@ public class RiskEvaluationEntity {
     private LocalDateTime updatedAt;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "credit_application_id", nullable = false, unique = true,
+    @JoinColumn(name = "credit_application_id", nullable = false, updatable = false,
             foreignKey = @ForeignKey(name = "fk_risk_evaluation_credit_application"))
     private CreditApplicationEntity creditApplication;
 
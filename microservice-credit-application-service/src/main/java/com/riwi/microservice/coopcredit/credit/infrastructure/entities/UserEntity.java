@@ -2,6 +2,8 @@ package com.riwi.microservice.coopcredit.credit.infrastructure.entities;
 
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
@@ -14,6 +16,8 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER)
 @Table(name = "users")
 public class UserEntity {
 
@@ -40,6 +44,7 @@ public class UserEntity {
     private boolean enabled = true;
 
     @ManyToMany(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER_ROLES)
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -1,6 +1,7 @@
 package com.riwi.microservice.coopcredit.credit.infrastructure.exception;
 
 import com.riwi.microservice.coopcredit.credit.domain.exception.*;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.security.access.AccessDeniedException;
@@ -106,6 +107,20 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Handle CreditStatusConflictException.
+     */
+    @ExceptionHandler(CreditStatusConflictException.class)
+    public ProblemDetail handleCreditStatusConflictException(CreditStatusConflictException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.CONFLICT, ex.getMessage());
+        problemDetail.setType(URI.create(BASE_URI + "credit-status-conflict"));
+        problemDetail.setTitle("Conflicto de estado de crédito");
+        problemDetail.setProperty("errorCode", ex.getCode());
+        problemDetail.setProperty("timestamp", Instant.now());
+        return problemDetail;
+    }
+
     /**
      * Handle RiskEvaluationNotFoundException.
      */
@@ -148,6 +163,62 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Handle InvalidCursorException.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursorException(InvalidCursorException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST, ex.getMessage());
+        problemDetail.setType(URI.create(BASE_URI + "invalid-cursor"));
+        problemDetail.setTitle("Cursor de paginación inválido");
+        problemDetail.setProperty("errorCode", ex.getCode());
+        problemDetail.setProperty("timestamp", Instant.now());
+        return problemDetail;
+    }
+
+    /**
+     * Handle InvalidExportCriteriaException.
+     */
+    @ExceptionHandler(InvalidExportCriteriaException.class)
+    public ProblemDetail handleInvalidExportCriteriaException(InvalidExportCriteriaException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST, ex.getMessage());
+        problemDetail.setType(URI.create(BASE_URI + "invalid-export-criteria"));
+        problemDetail.setTitle("Criterios de exportación inválidos");
+        problemDetail.setProperty("errorCode", ex.getCode());
+        problemDetail.setProperty("timestamp", Instant.now());
+        return problemDetail;
+    }
+
+    /**
+     * Handle CreditIntakeSaturatedException.
+     */
+    @ExceptionHandler(CreditIntakeSaturatedException.class)
+    public ProblemDetail handleCreditIntakeSaturatedException(CreditIntakeSaturatedException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        problemDetail.setType(URI.create(BASE_URI + "credit-intake-saturated"));
+        problemDetail.setTitle("Cola de evaluación saturada");
+        problemDetail.setProperty("errorCode", ex.getCode());
+        problemDetail.setProperty("timestamp", Instant.now());
+        return problemDetail;
+    }
+
+    /**
+     * Handle RiskAssessmentUnavailableException.
+     */
+    @ExceptionHandler(RiskAssessmentUnavailableException.class)
+    public ProblemDetail handleRiskAssessmentUnavailableException(RiskAssessmentUnavailableException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        problemDetail.setType(URI.create(BASE_URI + "risk-assessment-unavailable"));
+        problemDetail.setTitle("Central de riesgos no disponible");
+        problemDetail.setProperty("errorCode", ex.getCode());
+        problemDetail.setProperty("timestamp", Instant.now());
+        return problemDetail;
+    }
+
     /**
      * Handle validation errors.
      */
@@ -184,6 +255,20 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Handle optimistic-locking failures: the entity changed since it was read.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.CONFLICT, "El recurso fue modificado por otra operación. Consúltelo de nuevo y reintente.");
+        problemDetail.setType(URI.create(BASE_URI + "concurrent-modification"));
+        problemDetail.setTitle("Modificación concurrente");
+        problemDetail.setProperty("errorCode", "CONCURRENT_MODIFICATION");
+        problemDetail.setProperty("timestamp", Instant.now());
+        return problemDetail;
+    }
+
     /**
      * Handle AccessDeniedException.
      */
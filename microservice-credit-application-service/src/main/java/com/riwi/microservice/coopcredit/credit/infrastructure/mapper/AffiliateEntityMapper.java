@@ -2,6 +2,7 @@ package com.riwi.microservice.coopcredit.credit.infrastructure.mapper;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
 import com.riwi.microservice.coopcredit.credit.infrastructure.entities.AffiliateEntity;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections.AffiliateView;
 import org.springframework.stereotype.Component;
 
 /**
@@ -37,6 +38,29 @@ public class AffiliateEntityMapper {
         return affiliate;
     }
 
+    /**
+     * Maps a read-only AffiliateView projection to Affiliate domain model.
+     */
+    public Affiliate toDomain(AffiliateView view) {
+        Affiliate affiliate = new Affiliate();
+        affiliate.setId(view.id());
+        affiliate.setDocument(view.document());
+        affiliate.setDocumentType(view.documentType());
+        affiliate.setFirstName(view.firstName());
+        affiliate.setLastName(view.lastName());
+        affiliate.setEmail(view.email());
+        affiliate.setPhone(view.phone());
+        affiliate.setBirthDate(view.birthDate());
+        affiliate.setAddress(view.address());
+        affiliate.setSalary(view.salary());
+        affiliate.setEmploymentStartDate(view.employmentStartDate());
+        affiliate.setStatus(view.status());
+        affiliate.setCreatedAt(view.createdAt());
+        affiliate.setUpdatedAt(view.updatedAt());
+
+        return affiliate;
+    }
+
     /**
      * Maps Affiliate domain model to AffiliateEntity.
      */
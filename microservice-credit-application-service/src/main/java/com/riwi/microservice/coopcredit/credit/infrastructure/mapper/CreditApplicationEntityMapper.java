@@ -1,7 +1,10 @@
 package com.riwi.microservice.coopcredit.credit.infrastructure.mapper;
 
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
 import com.riwi.microservice.coopcredit.credit.infrastructure.entities.CreditApplicationEntity;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections.CreditApplicationView;
 import org.springframework.stereotype.Component;
 
 /**
@@ -39,8 +42,11 @@ public class CreditApplicationEntityMapper {
         creditApplication.setApplicationDate(entity.getApplicationDate());
         creditApplication.setReviewDate(entity.getReviewDate());
         creditApplication.setDecisionDate(entity.getDecisionDate());
+        creditApplication.setReviewer(entity.getReviewer());
+        creditApplication.setReviewLeaseExpiresAt(entity.getReviewLeaseExpiresAt());
         creditApplication.setCreatedAt(entity.getCreatedAt());
         creditApplication.setUpdatedAt(entity.getUpdatedAt());
+        creditApplication.setVersion(entity.getVersion());
 
         // Map affiliate if present
         if (entity.getAffiliate() != null) {
@@ -55,6 +61,69 @@ public class CreditApplicationEntityMapper {
         return creditApplication;
     }
 
+    /**
+     * Maps a read-only CreditApplicationView projection to CreditApplication domain model,
+     * including its affiliate and, when evaluated, its risk evaluation.
+     */
+    public CreditApplication toDomain(CreditApplicationView view) {
+        CreditApplication creditApplication = new CreditApplication();
+        creditApplication.setId(view.id());
+        creditApplication.setApplicationNumber(view.applicationNumber());
+        creditApplication.setRequestedAmount(view.requestedAmount());
+        creditApplication.setTermMonths(view.termMonths());
+        creditApplication.setInterestRate(view.interestRate());
+        creditApplication.setPurpose(view.purpose());
+        creditApplication.setStatus(view.status());
+        creditApplication.setComments(view.comments());
+        creditApplication.setApplicationDate(view.applicationDate());
+        creditApplication.setReviewDate(view.reviewDate());
+        creditApplication.setDecisionDate(view.decisionDate());
+        creditApplication.setReviewer(view.reviewer());
+        creditApplication.setReviewLeaseExpiresAt(view.reviewLeaseExpiresAt());
+        creditApplication.setCreatedAt(view.createdAt());
+        creditApplication.setUpdatedAt(view.updatedAt());
+        creditApplication.setVersion(view.version());
+
+        Affiliate affiliate = new Affiliate();
+        affiliate.setId(view.affiliateId());
+        affiliate.setDocument(view.affiliateDocument());
+        affiliate.setDocumentType(view.affiliateDocumentType());
+        affiliate.setFirstName(view.affiliateFirstName());
+        affiliate.setLastName(view.affiliateLastName());
+        affiliate.setEmail(view.affiliateEmail());
+        affiliate.setPhone(view.affiliatePhone());
+        affiliate.setBirthDate(view.affiliateBirthDate());
+        affiliate.setAddress(view.affiliateAddress());
+        affiliate.setSalary(view.affiliateSalary());
+        affiliate.setEmploymentStartDate(view.affiliateEmploymentStartDate());
+        affiliate.setStatus(view.affiliateStatus());
+        affiliate.setCreatedAt(view.affiliateCreatedAt());
+        affiliate.setUpdatedAt(view.affiliateUpdatedAt());
+        creditApplication.setAffiliate(affiliate);
+
+        if (view.riskEvaluationId() != null) {
+            RiskEvaluation riskEvaluation = new RiskEvaluation();
+            riskEvaluation.setId(view.riskEvaluationId());
+            riskEvaluation.setCreditScore(view.creditScore());
+            riskEvaluation.setRiskLevel(view.riskLevel());
+            riskEvaluation.setDebtToIncomeRatio(view.debtToIncomeRatio());
+            riskEvaluation.setHasDefaultHistory(view.hasDefaultHistory());
+            riskEvaluation.setYearsEmployed(view.yearsEmployed());
+            riskEvaluation.setHasGuarantor(view.hasGuarantor());
+            riskEvaluation.setCollateralValue(view.collateralValue());
+            riskEvaluation.setEvaluationNotes(view.evaluationNotes());
+            riskEvaluation.setRecommendation(view.recommendation());
+            riskEvaluation.setApproved(view.approved());
+            riskEvaluation.setEvaluatedBy(view.evaluatedBy());
+            riskEvaluation.setEvaluationDate(view.evaluationDate());
+            riskEvaluation.setCreatedAt(view.riskEvaluationCreatedAt());
+            riskEvaluation.setUpdatedAt(view.riskEvaluationUpdatedAt());
+            creditApplication.setRiskEvaluation(riskEvaluation);
+        }
+
+        return creditApplication;
+    }
+
     /**
      * Maps CreditApplication domain model to CreditApplicationEntity.
      */
@@ -75,8 +144,11 @@ public class CreditApplicationEntityMapper {
         entity.setApplicationDate(domain.getApplicationDate());
         entity.setReviewDate(domain.getReviewDate());
         entity.setDecisionDate(domain.getDecisionDate());
+        entity.setReviewer(domain.getReviewer());
+        entity.setReviewLeaseExpiresAt(domain.getReviewLeaseExpiresAt());
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setUpdatedAt(domain.getUpdatedAt());
+        entity.setVersion(domain.getVersion());
 
         return entity;
     }
@@ -101,8 +173,11 @@ public class CreditApplicationEntityMapper {
         creditApplication.setApplicationDate(entity.getApplicationDate());
         creditApplication.setReviewDate(entity.getReviewDate());
         creditApplication.setDecisionDate(entity.getDecisionDate());
+        creditApplication.setReviewer(entity.getReviewer());
+        creditApplication.setReviewLeaseExpiresAt(entity.getReviewLeaseExpiresAt());
         creditApplication.setCreatedAt(entity.getCreatedAt());
         creditApplication.setUpdatedAt(entity.getUpdatedAt());
+        creditApplication.setVersion(entity.getVersion());
 
         return creditApplication;
     }
@@ -125,6 +200,8 @@ public class CreditApplicationEntityMapper {
         entity.setApplicationDate(domain.getApplicationDate());
         entity.setReviewDate(domain.getReviewDate());
         entity.setDecisionDate(domain.getDecisionDate());
+        entity.setReviewer(domain.getReviewer());
+        entity.setReviewLeaseExpiresAt(domain.getReviewLeaseExpiresAt());
         entity.setUpdatedAt(domain.getUpdatedAt());
     }
 }
@@ -0,0 +1,87 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.metrics;
+
+import com.riwi.microservice.coopcredit.credit.infrastructure.entities.CacheRegions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Métricas de la caché de segundo nivel de Hibernate por región:
+ * - Aciertos y fallos (hibernate.l2.cache.requests, result=hit|miss)
+ * - Escrituras (hibernate.l2.cache.puts)
+ * - Tasa de aciertos acumulada (hibernate.l2.cache.hit.ratio)
+ *
+ * Values are read from Hibernate's statistics on every scrape; nothing is recorded per request.
+ */
+@Component
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private static final List<String> ENTITY_REGIONS = List.of(
+            CacheRegions.AFFILIATE, CacheRegions.USER, CacheRegions.USER_ROLES, CacheRegions.ROLE);
+    private static final List<String> QUERY_REGIONS = List.of(
+            CacheRegions.AFFILIATE_BY_DOCUMENT, CacheRegions.USER_BY_USERNAME, CacheRegions.ROLE_BY_NAME);
+
+    private final Statistics statistics;
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        ENTITY_REGIONS.forEach(region -> bindRegion(registry, region, statistics::getDomainDataRegionStatistics));
+        // Query regions only exist once their query has run
+        QUERY_REGIONS.forEach(region -> bindRegion(registry, region, statistics::getQueryRegionStatistics));
+    }
+
+    private void bindRegion(MeterRegistry registry, String region,
+                            Function<String, CacheRegionStatistics> lookup) {
+        FunctionCounter.builder("hibernate.l2.cache.requests", lookup,
+                        l -> count(l.apply(region), CacheRegionStatistics::getHitCount))
+                .tag("region", region)
+                .tag("result", "hit")
+                .description("Lecturas resueltas desde la caché de segundo nivel")
+                .register(registry);
+
+        FunctionCounter.builder("hibernate.l2.cache.requests", lookup,
+                        l -> count(l.apply(region), CacheRegionStatistics::getMissCount))
+                .tag("region", region)
+                .tag("result", "miss")
+                .description("Lecturas no encontradas en la caché de segundo nivel")
+                .register(registry);
+
+        FunctionCounter.builder("hibernate.l2.cache.puts", lookup,
+                        l -> count(l.apply(region), CacheRegionStatistics::getPutCount))
+                .tag("region", region)
+                .description("Entradas escritas en la caché de segundo nivel")
+                .register(registry);
+
+        Gauge.builder("hibernate.l2.cache.hit.ratio", lookup, l -> hitRatio(l.apply(region)))
+                .tag("region", region)
+                .description("Proporción de aciertos de la caché de segundo nivel")
+                .register(registry);
+    }
+
+    private static double count(CacheRegionStatistics stats, ToLongFunction<CacheRegionStatistics> counter) {
+        return stats != null ? counter.applyAsLong(stats) : 0;
+    }
+
+    private static double hitRatio(CacheRegionStatistics stats) {
+        if (stats == null) {
+            return 0;
+        }
+        long requests = stats.getHitCount() + stats.getMissCount();
+        return requests == 0 ? 0 : (double) stats.getHitCount() / requests;
+    }
+}
@@ -5,9 +5,22 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Interceptor para registrar métricas HTTP personalizadas
@@ -15,70 +28,134 @@ import org.springframework.web.servlet.HandlerInterceptor;
  * - Tiempo de respuesta por endpoint
  * - Cantidad de requests por endpoint
  * - Errores por endpoint y código de estado
+ *
+ * Meters are tagged with the matched route template (never the raw URI) and resolved once per
+ * route, method and status; afterwards a request only reads the template attribute, scans a
+ * few cached slots and records. Once {@code credit.metrics.http.max-series} combinations exist,
+ * new ones are recorded under the {@value #OVERFLOW_URI} uri.
  */
+@Slf4j
 @Component
-public class HttpMetricsInterceptor implements HandlerInterceptor {
+public class HttpMetricsInterceptor implements HandlerInterceptor, SmartInitializingSingleton {
 
-    private final MeterRegistry meterRegistry;
     private static final String TIMER_METRIC = "http.server.requests";
     private static final String ERROR_METRIC = "http.server.errors";
     private static final String REQUEST_COUNTER = "http.server.request.count";
 
-    public HttpMetricsInterceptor(MeterRegistry meterRegistry) {
+    static final String OVERFLOW_URI = "OVERFLOW";
+    private static final String START_ATTRIBUTE = HttpMetricsInterceptor.class.getName() + ".start";
+    private static final String[] METHODS = {"GET", "POST", "PUT", "PATCH", "DELETE", "HEAD", "OPTIONS", "OTHER"};
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+    private final int maxSeries;
+    private final AtomicInteger series = new AtomicInteger();
+    private final Map<String, RouteMeters> routes = new ConcurrentHashMap<>();
+    private final RouteMeters overflow = new RouteMeters(OVERFLOW_URI);
+
+    public HttpMetricsInterceptor(MeterRegistry meterRegistry,
+                                  ObjectProvider<RequestMappingHandlerMapping> handlerMappings,
+                                  @Value("${credit.metrics.http.max-series:500}") int maxSeries) {
         this.meterRegistry = meterRegistry;
+        this.handlerMappings = handlerMappings;
+        this.maxSeries = maxSeries;
     }
 
+    /**
+     * Pre-register a slot for every mapped route template, so lookups never allocate.
+     */
     @Override
-    public boolean preHandle(@NonNull HttpServletRequest request, 
-                           @NonNull HttpServletResponse response, 
+    public void afterSingletonsInstantiated() {
+        handlerMappings.orderedStream()
+                .flatMap(mapping -> mapping.getHandlerMethods().keySet().stream())
+                .flatMap(info -> info.getPatternValues().stream())
+                .forEach(this::route);
+        log.info("HTTP metrics pre-registered for {} route templates", routes.size());
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request,
+                           @NonNull HttpServletResponse response,
                            @NonNull Object handler) {
-        request.setAttribute("startTime", System.currentTimeMillis());
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
         return true;
     }
 
     @Override
-    public void afterCompletion(@NonNull HttpServletRequest request, 
-                               @NonNull HttpServletResponse response, 
-                               @NonNull Object handler, 
+    public void afterCompletion(@NonNull HttpServletRequest request,
+                               @NonNull HttpServletResponse response,
+                               @NonNull Object handler,
                                Exception ex) {
-        Long startTime = (Long) request.getAttribute("startTime");
+        Object startTime = request.getAttribute(START_ATTRIBUTE);
         if (startTime != null) {
-            long duration = System.currentTimeMillis() - startTime;
-            String uri = request.getRequestURI();
-            String method = request.getMethod();
+            long duration = System.nanoTime() - (Long) startTime;
             int status = response.getStatus();
+            route(uriOf(request, status))
+                    .forStatus(methodIndex(request.getMethod()), status)
+                    .record(duration);
+        }
+    }
 
-            // Registrar tiempo de respuesta
-            Timer.builder(TIMER_METRIC)
-                    .tag("uri", uri)
-                    .tag("method", method)
-                    .tag("status", String.valueOf(status))
-                    .tag("outcome", getOutcome(status))
-                    .description("Tiempo de respuesta HTTP")
-                    .register(meterRegistry)
-                    .record(duration, java.util.concurrent.TimeUnit.MILLISECONDS);
-
-            // Contador de requests
-            Counter.builder(REQUEST_COUNTER)
-                    .tag("uri", uri)
-                    .tag("method", method)
-                    .tag("status", String.valueOf(status))
-                    .description("Total de solicitudes HTTP")
-                    .register(meterRegistry)
-                    .increment();
-
-            // Registrar errores si el status es 4xx o 5xx
-            if (status >= 400) {
-                Counter.builder(ERROR_METRIC)
-                        .tag("uri", uri)
-                        .tag("method", method)
-                        .tag("status", String.valueOf(status))
-                        .tag("error_type", getErrorType(status))
-                        .description("Errores HTTP por endpoint")
-                        .register(meterRegistry)
-                        .increment();
-            }
+    private RouteMeters route(String uri) {
+        RouteMeters route = routes.get(uri);
+        if (route != null) {
+            return route;
         }
+        if (routes.size() >= maxSeries) {
+            return overflow;
+        }
+        return routes.computeIfAbsent(uri, RouteMeters::new);
+    }
+
+    private static String uriOf(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        if (status == 404) return "NOT_FOUND";
+        if (status >= 300 && status < 400) return "REDIRECTION";
+        return "UNKNOWN";
+    }
+
+    private static int methodIndex(String method) {
+        return switch (method) {
+            case "GET" -> 0;
+            case "POST" -> 1;
+            case "PUT" -> 2;
+            case "PATCH" -> 3;
+            case "DELETE" -> 4;
+            case "HEAD" -> 5;
+            case "OPTIONS" -> 6;
+            default -> 7;
+        };
+    }
+
+    private StatusMeters register(String uri, String method, int status) {
+        String statusTag = String.valueOf(status);
+        Timer timer = Timer.builder(TIMER_METRIC)
+                .tag("uri", uri)
+                .tag("method", method)
+                .tag("status", statusTag)
+                .tag("outcome", getOutcome(status))
+                .description("Tiempo de respuesta HTTP")
+                .register(meterRegistry);
+
+        Counter requests = Counter.builder(REQUEST_COUNTER)
+                .tag("uri", uri)
+                .tag("method", method)
+                .tag("status", statusTag)
+                .description("Total de solicitudes HTTP")
+                .register(meterRegistry);
+
+        Counter errors = status < 400 ? null : Counter.builder(ERROR_METRIC)
+                .tag("uri", uri)
+                .tag("method", method)
+                .tag("status", statusTag)
+                .tag("error_type", getErrorType(status))
+                .description("Errores HTTP por endpoint")
+                .register(meterRegistry);
+
+        return new StatusMeters(status, timer, requests, errors);
     }
 
     private String getOutcome(int status) {
@@ -97,4 +174,61 @@ public class HttpMetricsInterceptor implements HandlerInterceptor {
         if (status >= 500) return "SERVER_ERROR";
         return "CLIENT_ERROR";
     }
+
+    /**
+     * Meters of one route template, one copy-on-write slot array per HTTP method.
+     * Routes see a handful of distinct statuses, so a lock-free linear scan beats any map.
+     */
+    private final class RouteMeters {
+
+        private final String uri;
+        private final AtomicReferenceArray<StatusMeters[]> byMethod = new AtomicReferenceArray<>(METHODS.length);
+
+        RouteMeters(String uri) {
+            this.uri = uri;
+            for (int i = 0; i < METHODS.length; i++) {
+                byMethod.set(i, new StatusMeters[0]);
+            }
+        }
+
+        StatusMeters forStatus(int method, int status) {
+            for (StatusMeters meters : byMethod.get(method)) {
+                if (meters.status == status) {
+                    return meters;
+                }
+            }
+            return add(method, status);
+        }
+
+        private StatusMeters add(int method, int status) {
+            synchronized (byMethod) {
+                StatusMeters[] current = byMethod.get(method);
+                for (StatusMeters meters : current) {
+                    if (meters.status == status) {
+                        return meters;
+                    }
+                }
+                if (this != overflow && series.incrementAndGet() > maxSeries) {
+                    series.decrementAndGet();
+                    return overflow.forStatus(method, status);
+                }
+                StatusMeters meters = register(uri, METHODS[method], status);
+                StatusMeters[] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = meters;
+                byMethod.set(method, updated);
+                return meters;
+            }
+        }
+    }
+
+    private record StatusMeters(int status, Timer timer, Counter requests, Counter errors) {
+
+        void record(long durationNanos) {
+            timer.record(durationNanos, TimeUnit.NANOSECONDS);
+            requests.increment();
+            if (errors != null) {
+                errors.increment();
+            }
+        }
+    }
 }
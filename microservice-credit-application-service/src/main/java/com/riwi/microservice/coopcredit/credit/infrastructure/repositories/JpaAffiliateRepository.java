@@ -2,14 +2,20 @@ package com.riwi.microservice.coopcredit.credit.infrastructure.repositories;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
 import com.riwi.microservice.coopcredit.credit.infrastructure.entities.AffiliateEntity;
-import org.springframework.data.domain.Page;
+import com.riwi.microservice.coopcredit.credit.infrastructure.entities.CacheRegions;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections.AffiliateView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,6 +24,10 @@ import java.util.Optional;
 @Repository
 public interface JpaAffiliateRepository extends JpaRepository<AffiliateEntity, Long> {
 
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = CacheRegions.AFFILIATE_BY_DOCUMENT)
+    })
     Optional<AffiliateEntity> findByDocument(String document);
 
     Optional<AffiliateEntity> findByEmail(String email);
@@ -26,7 +36,19 @@ public interface JpaAffiliateRepository extends JpaRepository<AffiliateEntity, L
 
     boolean existsByEmail(String email);
 
-    Page<AffiliateEntity> findByStatus(AffiliateStatus status, Pageable pageable);
+    // Keyset pages, newest first: rows strictly after (createdAt, id), as read-only projections
+
+    @Query(AffiliateView.SELECT + "FROM AffiliateEntity a " +
+           "WHERE (a.createdAt, a.id) < (:createdAt, :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AffiliateView> findPage(
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(AffiliateView.SELECT + "FROM AffiliateEntity a " +
+           "WHERE a.status = :status AND (a.createdAt, a.id) < (:createdAt, :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AffiliateView> findPageByStatus(@Param("status") AffiliateStatus status,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
     long countByStatus(AffiliateStatus status);
 
@@ -2,15 +2,20 @@ package com.riwi.microservice.coopcredit.credit.infrastructure.repositories;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
 import com.riwi.microservice.coopcredit.credit.infrastructure.entities.CreditApplicationEntity;
-import org.springframework.data.domain.Page;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections.CreditApplicationStatusRow;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections.CreditApplicationView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,38 +25,118 @@ import java.util.Optional;
 @Repository
 public interface JpaCreditApplicationRepository extends JpaRepository<CreditApplicationEntity, Long> {
 
-    Optional<CreditApplicationEntity> findByApplicationNumber(String applicationNumber);
-
     boolean existsByApplicationNumber(String applicationNumber);
 
-    List<CreditApplicationEntity> findByAffiliateId(Long affiliateId);
+    // Read models: one statement per call, application + affiliate + risk evaluation columns
+    // in a single row, never managed entities (see CreditApplicationView)
+
+    @Query(CreditApplicationView.SELECT_FROM + "WHERE c.id = :id")
+    Optional<CreditApplicationView> findViewById(@Param("id") Long id);
+
+    @Query(CreditApplicationView.SELECT_FROM + "WHERE c.applicationNumber = :applicationNumber")
+    Optional<CreditApplicationView> findViewByApplicationNumber(@Param("applicationNumber") String applicationNumber);
+
+    @Query(CreditApplicationView.SELECT_FROM + "WHERE c.id IN :ids ORDER BY c.applicationDate, c.id")
+    List<CreditApplicationView> findViewsByIds(@Param("ids") Collection<Long> ids);
 
-    Page<CreditApplicationEntity> findByStatus(CreditApplicationStatus status, Pageable pageable);
+    // Keyset pages, newest first: rows strictly after (date, id), backed by the
+    // (..., application_date, id) indexes. Pageable only carries the row limit.
 
-    Page<CreditApplicationEntity> findByApplicationDateBetween(
-            LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    @Query(CreditApplicationView.SELECT_FROM +
+           "WHERE (c.applicationDate, c.id) < (:date, :id) " +
+           "ORDER BY c.applicationDate DESC, c.id DESC")
+    List<CreditApplicationView> findPage(
+            @Param("date") LocalDateTime date, @Param("id") Long id, Pageable pageable);
+
+    @Query(CreditApplicationView.SELECT_FROM +
+           "WHERE c.status = :status AND (c.applicationDate, c.id) < (:date, :id) " +
+           "ORDER BY c.applicationDate DESC, c.id DESC")
+    List<CreditApplicationView> findPageByStatus(@Param("status") CreditApplicationStatus status,
+            @Param("date") LocalDateTime date, @Param("id") Long id, Pageable pageable);
+
+    @Query(CreditApplicationView.SELECT_FROM +
+           "WHERE a.id = :affiliateId AND (c.applicationDate, c.id) < (:date, :id) " +
+           "ORDER BY c.applicationDate DESC, c.id DESC")
+    List<CreditApplicationView> findPageByAffiliateId(@Param("affiliateId") Long affiliateId,
+            @Param("date") LocalDateTime date, @Param("id") Long id, Pageable pageable);
+
+    @Query(CreditApplicationView.SELECT_FROM +
+           "WHERE c.applicationDate BETWEEN :startDate AND :endDate " +
+           "AND (c.applicationDate, c.id) < (:date, :id) " +
+           "ORDER BY c.applicationDate DESC, c.id DESC")
+    List<CreditApplicationView> findPageByApplicationDateBetween(
+            @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate,
+            @Param("date") LocalDateTime date, @Param("id") Long id, Pageable pageable);
 
     long countByStatus(CreditApplicationStatus status);
 
     long countByAffiliateId(Long affiliateId);
 
-    @EntityGraph(value = "CreditApplication.withDetails", type = EntityGraph.EntityGraphType.FETCH)
-    @Query("SELECT c FROM CreditApplicationEntity c WHERE c.id = :id")
-    Optional<CreditApplicationEntity> findByIdWithDetails(@Param("id") Long id);
-
-    @Query("SELECT c FROM CreditApplicationEntity c " +
-           "LEFT JOIN FETCH c.affiliate " +
-           "LEFT JOIN FETCH c.riskEvaluation " +
-           "WHERE c.applicationNumber = :applicationNumber")
-    Optional<CreditApplicationEntity> findByApplicationNumberWithDetails(
-            @Param("applicationNumber") String applicationNumber);
-
-    @Query("SELECT c FROM CreditApplicationEntity c " +
-           "LEFT JOIN FETCH c.riskEvaluation " +
-           "WHERE c.affiliate.id = :affiliateId")
-    List<CreditApplicationEntity> findByAffiliateIdWithRiskEvaluations(@Param("affiliateId") Long affiliateId);
-
-    @Query("SELECT COALESCE(MAX(CAST(SUBSTRING(c.applicationNumber, 5) AS long)), 0) FROM CreditApplicationEntity c " +
-           "WHERE c.applicationNumber LIKE CONCAT(:prefix, '%')")
-    Long findMaxApplicationNumberSequence(@Param("prefix") String prefix);
+    // Compare-and-set status transitions: the WHERE re-checks the source statuses after any
+    // concurrent writer commits, so only one transition from a given status can match
+
+    @Modifying
+    @Query("UPDATE CreditApplicationEntity c " +
+           "SET c.status = :target, c.reviewDate = :at, c.updatedAt = :at, c.version = c.version + 1 " +
+           "WHERE c.id = :id AND c.status IN :sources")
+    int updateStatusToReview(@Param("id") Long id, @Param("sources") Collection<CreditApplicationStatus> sources,
+            @Param("target") CreditApplicationStatus target, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE CreditApplicationEntity c " +
+           "SET c.status = :target, c.comments = :comments, c.decisionDate = :at, c.updatedAt = :at, " +
+           "c.reviewLeaseExpiresAt = null, c.version = c.version + 1 " +
+           "WHERE c.id = :id AND c.status IN :sources")
+    int updateStatusWithDecision(@Param("id") Long id, @Param("sources") Collection<CreditApplicationStatus> sources,
+            @Param("target") CreditApplicationStatus target, @Param("comments") String comments,
+            @Param("at") LocalDateTime at);
+
+    // Batch decisions: the rows are locked in id order first, so the set-based UPDATEs that follow
+    // match exactly the validated ids and concurrent batches cannot deadlock each other
+
+    @Query(value = "SELECT id, status FROM credit_applications WHERE id IN (:ids) ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<CreditApplicationStatusRow> lockStatusesByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE CreditApplicationEntity c " +
+           "SET c.status = :target, c.comments = :comments, c.decisionDate = :at, c.updatedAt = :at, " +
+           "c.reviewLeaseExpiresAt = null, c.version = c.version + 1 " +
+           "WHERE c.id IN :ids AND c.status IN :sources")
+    int updateStatusesWithDecision(@Param("ids") Collection<Long> ids,
+            @Param("sources") Collection<CreditApplicationStatus> sources,
+            @Param("target") CreditApplicationStatus target, @Param("comments") String comments,
+            @Param("at") LocalDateTime at);
+
+    // Review work queue. SKIP LOCKED makes concurrent claimers pass over rows another
+    // transaction is claiming instead of waiting for it, so each row goes to one reviewer.
+    // Both statements name the only table they write: a native statement without query
+    // spaces counts as touching every table, and each run would evict every second-level
+    // cache region (affiliates, users, roles, cached queries).
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "credit_applications"))
+    @Query(value = "WITH claimable AS (" +
+                   "  SELECT id FROM credit_applications WHERE status = 'PENDIENTE' " +
+                   "  ORDER BY application_date, id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "UPDATE credit_applications c SET status = 'EN_REVISION', reviewer = :reviewer, " +
+                   "review_date = :now, review_lease_expires_at = :leaseExpiresAt, updated_at = :now, " +
+                   "version = c.version + 1 " +
+                   "FROM claimable WHERE c.id = claimable.id " +
+                   "RETURNING c.id",
+           nativeQuery = true)
+    List<Long> claimPending(@Param("reviewer") String reviewer, @Param("limit") int limit,
+            @Param("now") LocalDateTime now, @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "credit_applications"))
+    @Query(value = "WITH expired AS (" +
+                   "  SELECT id FROM credit_applications " +
+                   "  WHERE status = 'EN_REVISION' AND review_lease_expires_at IS NOT NULL " +
+                   "  AND review_lease_expires_at < :now " +
+                   "  ORDER BY review_lease_expires_at LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "UPDATE credit_applications c SET status = 'PENDIENTE', reviewer = NULL, review_date = NULL, " +
+                   "review_lease_expires_at = NULL, updated_at = :now, version = c.version + 1 " +
+                   "FROM expired WHERE c.id = expired.id",
+           nativeQuery = true)
+    int releaseExpiredClaims(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -2,7 +2,6 @@ package com.riwi.microservice.coopcredit.credit.infrastructure.repositories;
 
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
 import com.riwi.microservice.coopcredit.credit.infrastructure.entities.RiskEvaluationEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,9 +23,25 @@ public interface JpaRiskEvaluationRepository extends JpaRepository<RiskEvaluatio
 
     boolean existsByCreditApplicationId(Long creditApplicationId);
 
-    Page<RiskEvaluationEntity> findByRiskLevel(RiskLevel riskLevel, Pageable pageable);
+    // Keyset pages, newest first: rows strictly after (evaluationDate, id)
 
-    Page<RiskEvaluationEntity> findByEvaluatedBy(String evaluatedBy, Pageable pageable);
+    @Query("SELECT r FROM RiskEvaluationEntity r " +
+           "WHERE (r.evaluationDate, r.id) < (:date, :id) " +
+           "ORDER BY r.evaluationDate DESC, r.id DESC")
+    List<RiskEvaluationEntity> findPage(
+            @Param("date") LocalDateTime date, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT r FROM RiskEvaluationEntity r " +
+           "WHERE r.riskLevel = :riskLevel AND (r.evaluationDate, r.id) < (:date, :id) " +
+           "ORDER BY r.evaluationDate DESC, r.id DESC")
+    List<RiskEvaluationEntity> findPageByRiskLevel(@Param("riskLevel") RiskLevel riskLevel,
+            @Param("date") LocalDateTime date, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT r FROM RiskEvaluationEntity r " +
+           "WHERE r.evaluatedBy = :evaluatedBy AND (r.evaluationDate, r.id) < (:date, :id) " +
+           "ORDER BY r.evaluationDate DESC, r.id DESC")
+    List<RiskEvaluationEntity> findPageByEvaluatedBy(@Param("evaluatedBy") String evaluatedBy,
+            @Param("date") LocalDateTime date, @Param("id") Long id, Pageable pageable);
 
     long countByRiskLevel(RiskLevel riskLevel);
 
@@ -1,7 +1,11 @@
 package com.riwi.microservice.coopcredit.credit.infrastructure.repositories;
 
+import com.riwi.microservice.coopcredit.credit.infrastructure.entities.CacheRegions;
 import com.riwi.microservice.coopcredit.credit.infrastructure.entities.RoleEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,5 +16,9 @@ import java.util.Optional;
 @Repository
 public interface JpaRoleRepository extends JpaRepository<RoleEntity, Long> {
     
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = CacheRegions.ROLE_BY_NAME)
+    })
     Optional<RoleEntity> findByName(String name);
 }
@@ -1,7 +1,11 @@
 package com.riwi.microservice.coopcredit.credit.infrastructure.repositories;
 
+import com.riwi.microservice.coopcredit.credit.infrastructure.entities.CacheRegions;
 import com.riwi.microservice.coopcredit.credit.infrastructure.entities.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,6 +16,11 @@ import java.util.Optional;
 @Repository
 public interface JpaUserRepository extends JpaRepository<UserEntity, Long> {
     
+    // Resolves to cached ids; the user and its roles then come from their L2 regions
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = CacheRegions.USER_BY_USERNAME)
+    })
     Optional<UserEntity> findByUsername(String username);
     
     Optional<UserEntity> findByEmail(String email);
@@ -0,0 +1,33 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row of the affiliates table, selected with a JPQL constructor expression.
+ * Not a managed entity: no proxies, no dirty-checking snapshot, no lazy associations.
+ */
+public record AffiliateView(
+        Long id,
+        String document,
+        String documentType,
+        String firstName,
+        String lastName,
+        String email,
+        String phone,
+        LocalDate birthDate,
+        String address,
+        BigDecimal salary,
+        LocalDate employmentStartDate,
+        AffiliateStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /** Select list matching the constructor, for queries aliasing the affiliate as {@code a}. */
+    public static final String SELECT = "SELECT new com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections.AffiliateView(" +
+            "a.id, a.document, a.documentType, a.firstName, a.lastName, a.email, a.phone, a.birthDate, " +
+            "a.address, a.salary, a.employmentStartDate, a.status, a.createdAt, a.updatedAt) ";
+}
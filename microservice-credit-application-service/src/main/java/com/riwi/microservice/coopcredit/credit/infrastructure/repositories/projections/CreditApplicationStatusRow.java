@@ -0,0 +1,12 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections;
+
+/**
+ * ID and status of a credit application, selected by native queries that only need to check
+ * workflow state. status is the stored enum name.
+ */
+public interface CreditApplicationStatusRow {
+
+    Long getId();
+
+    String getStatus();
+}
@@ -0,0 +1,75 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row of a credit application joined with its affiliate and (optional) risk evaluation,
+ * selected with a JPQL constructor expression. One statement yields everything the response needs,
+ * instead of the lazy affiliate and the eagerly resolved one-to-one evaluation being loaded per row.
+ * Risk fields are null when the application has not been evaluated.
+ */
+public record CreditApplicationView(
+        Long id,
+        String applicationNumber,
+        BigDecimal requestedAmount,
+        Integer termMonths,
+        BigDecimal interestRate,
+        String purpose,
+        CreditApplicationStatus status,
+        String comments,
+        LocalDateTime applicationDate,
+        LocalDateTime reviewDate,
+        LocalDateTime decisionDate,
+        String reviewer,
+        LocalDateTime reviewLeaseExpiresAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version,
+        Long affiliateId,
+        String affiliateDocument,
+        String affiliateDocumentType,
+        String affiliateFirstName,
+        String affiliateLastName,
+        String affiliateEmail,
+        String affiliatePhone,
+        LocalDate affiliateBirthDate,
+        String affiliateAddress,
+        BigDecimal affiliateSalary,
+        LocalDate affiliateEmploymentStartDate,
+        AffiliateStatus affiliateStatus,
+        LocalDateTime affiliateCreatedAt,
+        LocalDateTime affiliateUpdatedAt,
+        Long riskEvaluationId,
+        Integer creditScore,
+        RiskLevel riskLevel,
+        BigDecimal debtToIncomeRatio,
+        Boolean hasDefaultHistory,
+        Integer yearsEmployed,
+        Boolean hasGuarantor,
+        BigDecimal collateralValue,
+        String evaluationNotes,
+        String recommendation,
+        Boolean approved,
+        String evaluatedBy,
+        LocalDateTime evaluationDate,
+        LocalDateTime riskEvaluationCreatedAt,
+        LocalDateTime riskEvaluationUpdatedAt) {
+
+    /** Select list and joins matching the constructor; the application is aliased as {@code c}. */
+    public static final String SELECT_FROM = "SELECT new com.riwi.microservice.coopcredit.credit.infrastructure.repositories.projections.CreditApplicationView(" +
+            "c.id, c.applicationNumber, c.requestedAmount, c.termMonths, c.interestRate, c.purpose, c.status, " +
+            "c.comments, c.applicationDate, c.reviewDate, c.decisionDate, c.reviewer, c.reviewLeaseExpiresAt, " +
+            "c.createdAt, c.updatedAt, c.version, " +
+            "a.id, a.document, a.documentType, a.firstName, a.lastName, a.email, a.phone, a.birthDate, " +
+            "a.address, a.salary, a.employmentStartDate, a.status, a.createdAt, a.updatedAt, " +
+            "r.id, r.creditScore, r.riskLevel, r.debtToIncomeRatio, r.hasDefaultHistory, r.yearsEmployed, " +
+            "r.hasGuarantor, r.collateralValue, r.evaluationNotes, r.recommendation, r.approved, " +
+            "r.evaluatedBy, r.evaluationDate, r.createdAt, r.updatedAt) " +
+            "FROM CreditApplicationEntity c JOIN c.affiliate a LEFT JOIN c.riskEvaluation r ";
+}
@@ -0,0 +1,134 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Authenticates requests from the X-User-* headers injected by the gateway after it verified the JWT.
+ * The headers are trusted only with a valid HMAC-SHA256 signature (shared internal secret) and a
+ * timestamp within the allowed skew.
+ */
+@Component
+public class GatewayHeaderAuthenticator {
+
+    static final String USER_NAME_HEADER = "X-User-Name";
+    static final String USER_ID_HEADER = "X-User-Id";
+    static final String USER_ROLES_HEADER = "X-User-Roles";
+    static final String TIMESTAMP_HEADER = "X-User-Timestamp";
+    static final String SIGNATURE_HEADER = "X-User-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final ThreadLocal<Mac> mac;
+    private final long maxSkewSeconds;
+    private final Clock clock;
+
+    @Autowired
+    public GatewayHeaderAuthenticator(
+            @Value("${security.gateway-auth.secret:}") String secret,
+            @Value("${security.gateway-auth.max-skew:30s}") Duration maxSkew) {
+        this(secret, maxSkew, Clock.systemUTC());
+    }
+
+    GatewayHeaderAuthenticator(String secret, Duration maxSkew, Clock clock) {
+        this.maxSkewSeconds = maxSkew.toSeconds();
+        this.clock = clock;
+        if (StringUtils.hasText(secret)) {
+            SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+            this.mac = ThreadLocal.withInitial(() -> newMac(key));
+        } else {
+            this.mac = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return mac != null;
+    }
+
+    /**
+     * Read the gateway principal from the request headers.
+     * @param request the incoming request
+     * @return the principal, or null if the request carries no gateway signature
+     * @throws BadCredentialsException if the signature is invalid or stale
+     */
+    public GatewayPrincipal authenticate(HttpServletRequest request) {
+        String signature = request.getHeader(SIGNATURE_HEADER);
+        if (!isEnabled() || !StringUtils.hasText(signature)) {
+            return null;
+        }
+
+        String userId = valueOf(request.getHeader(USER_ID_HEADER));
+        String username = valueOf(request.getHeader(USER_NAME_HEADER));
+        String roles = valueOf(request.getHeader(USER_ROLES_HEADER));
+        String timestamp = valueOf(request.getHeader(TIMESTAMP_HEADER));
+
+        byte[] expected = sign(userId, username, roles, timestamp);
+        byte[] actual;
+        try {
+            actual = Base64.getUrlDecoder().decode(signature);
+        } catch (IllegalArgumentException e) {
+            throw new BadCredentialsException("Malformed gateway signature");
+        }
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new BadCredentialsException("Invalid gateway signature");
+        }
+        if (!isFresh(timestamp)) {
+            throw new BadCredentialsException("Stale gateway signature");
+        }
+        if (!StringUtils.hasText(username)) {
+            throw new BadCredentialsException("Missing gateway user");
+        }
+
+        List<String> roleList = roles.isEmpty() ? List.of() : Arrays.asList(roles.split(","));
+        return new GatewayPrincipal(userId.isEmpty() ? null : Long.valueOf(userId), username, roleList);
+    }
+
+    byte[] sign(String userId, String username, String roles, String timestamp) {
+        String payload = userId + '\n' + username + '\n' + roles + '\n' + timestamp;
+        return mac.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean isFresh(String timestamp) {
+        try {
+            long signedAt = Long.parseLong(timestamp);
+            return Math.abs(clock.millis() / 1000 - signedAt) <= maxSkewSeconds;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String valueOf(String header) {
+        return header != null ? header : "";
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize " + ALGORITHM, e);
+        }
+    }
+
+    /**
+     * User identity asserted by the gateway.
+     */
+    public record GatewayPrincipal(Long userId, String username, List<String> roles) {
+    }
+}
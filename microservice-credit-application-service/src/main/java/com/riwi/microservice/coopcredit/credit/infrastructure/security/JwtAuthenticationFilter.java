@@ -3,6 +3,7 @@ package com.riwi.microservice.coopcredit.credit.infrastructure.security;
 import com.riwi.microservice.coopcredit.credit.infrastructure.metrics.AuthenticationMetrics;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
@@ -12,6 +13,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,18 +29,41 @@ import java.util.stream.Collectors;
 
 /**
  * JWT Authentication Filter for validating JWT tokens.
+ * In GATEWAY mode, requests carrying the gateway's signed X-User-* headers are authenticated from
+ * those headers (the gateway already verified the JWT); other requests still go through the JWT.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final SecretKey secretKey;
+    /**
+     * JWT: verify the bearer token on every request (direct access).
+     * GATEWAY: trust the signed headers from the gateway, falling back to the JWT without them.
+     */
+    public enum AuthMode {
+        JWT,
+        GATEWAY
+    }
+
+    private final JwtParser jwtParser;
     private final AuthenticationMetrics authenticationMetrics;
+    private final GatewayHeaderAuthenticator gatewayHeaderAuthenticator;
+    private final AuthMode authMode;
 
     public JwtAuthenticationFilter(
             @Value("${JWT_SECRET}") String jwtSecret,
-            AuthenticationMetrics authenticationMetrics) {
-        this.secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+            AuthenticationMetrics authenticationMetrics,
+            GatewayHeaderAuthenticator gatewayHeaderAuthenticator,
+            @Value("${security.auth-mode:JWT}") AuthMode authMode) {
+        SecretKey secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.authenticationMetrics = authenticationMetrics;
+        this.gatewayHeaderAuthenticator = gatewayHeaderAuthenticator;
+        this.authMode = authMode;
+        if (authMode == AuthMode.GATEWAY && !gatewayHeaderAuthenticator.isEnabled()) {
+            throw new IllegalStateException("security.auth-mode=GATEWAY requires security.gateway-auth.secret");
+        }
     }
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
@@ -49,25 +74,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         
         try {
-            String jwt = extractJwtFromRequest(request);
-            
-            if (StringUtils.hasText(jwt) && validateToken(jwt)) {
-                Claims claims = extractAllClaims(jwt);
-                String username = claims.getSubject();
-                
-                @SuppressWarnings("unchecked")
-                List<String> roles = claims.get("roles", List.class);
-                
-                if (roles != null && !roles.isEmpty()) {
-                    List<SimpleGrantedAuthority> authorities = roles.stream()
-                            .map(role -> new SimpleGrantedAuthority("ROLE_" + role.replace("ROLE_", "")))
-                            .collect(Collectors.toList());
-                    
-                    UsernamePasswordAuthenticationToken authentication = 
-                            new UsernamePasswordAuthenticationToken(username, null, authorities);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    authenticationMetrics.recordTokenValidationSuccess();
-                }
+            UsernamePasswordAuthenticationToken authentication = null;
+            if (authMode == AuthMode.GATEWAY) {
+                authentication = authenticateFromGateway(request);
+            }
+            if (authentication == null) {
+                authentication = authenticateFromJwt(request);
+            }
+
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                authenticationMetrics.recordTokenValidationSuccess();
             }
         } catch (ExpiredJwtException e) {
             authenticationMetrics.recordTokenValidationFailure();
@@ -78,6 +95,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (SecurityException e) {
             authenticationMetrics.recordTokenValidationFailure();
             logger.warn("JWT signature validation failed: " + e.getMessage());
+        } catch (BadCredentialsException e) {
+            authenticationMetrics.recordTokenValidationFailure();
+            logger.warn("Gateway header validation failed: " + e.getMessage());
         } catch (Exception e) {
             authenticationMetrics.recordTokenValidationFailure();
             logger.error("Cannot set user authentication: " + e.getMessage());
@@ -86,29 +106,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String extractJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
-            return bearerToken.substring(BEARER_PREFIX.length());
+    private UsernamePasswordAuthenticationToken authenticateFromGateway(HttpServletRequest request) {
+        GatewayHeaderAuthenticator.GatewayPrincipal principal = gatewayHeaderAuthenticator.authenticate(request);
+        if (principal == null) {
+            return null;
         }
-        return null;
+        return toAuthentication(principal.username(), principal.roles());
     }
 
-    private boolean validateToken(String token) {
-        try {
-            extractAllClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+    private UsernamePasswordAuthenticationToken authenticateFromJwt(HttpServletRequest request) {
+        String jwt = extractJwtFromRequest(request);
+        if (!StringUtils.hasText(jwt)) {
+            return null;
         }
+
+        // Parsing verifies signature and expiration in a single pass
+        Claims claims = jwtParser.parseSignedClaims(jwt).getPayload();
+
+        @SuppressWarnings("unchecked")
+        List<String> roles = claims.get("roles", List.class);
+        return toAuthentication(claims.getSubject(), roles);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static UsernamePasswordAuthenticationToken toAuthentication(String username, List<String> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return null;
+        }
+        List<SimpleGrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.replace("ROLE_", "")))
+                .collect(Collectors.toList());
+        return new UsernamePasswordAuthenticationToken(username, null, authorities);
+    }
+
+    private String extractJwtFromRequest(HttpServletRequest request) {
+        String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
+        }
+        return null;
     }
 
     @Override
@@ -0,0 +1,54 @@
+-- V10__credit_application_outbox.sql
+-- Transactional outbox of credit application status changes
+
+-- =====================================================
+-- CREDIT APPLICATION OUTBOX
+-- =====================================================
+
+-- One row per status change (creation included), written by a trigger in the transaction
+-- that made the change, whatever the write path. The relay publishes rows in id order and
+-- deletes them once the publisher acknowledges. Two changes of the same application are
+-- serialized by its row lock, so their ids follow the order in which they happened.
+-- No foreign key: events of a deleted application are still delivered.
+CREATE TABLE IF NOT EXISTS credit_application_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    credit_application_id BIGINT NOT NULL,
+    application_number VARCHAR(20) NOT NULL,
+    affiliate_id BIGINT NOT NULL,
+    previous_status VARCHAR(20),
+    status VARCHAR(20) NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0
+);
+
+CREATE OR REPLACE FUNCTION credit_applications_outbox()
+RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO credit_application_outbox
+            (credit_application_id, application_number, affiliate_id, previous_status, status, occurred_at)
+        SELECT n.id, n.application_number, n.affiliate_id, NULL, n.status, n.created_at
+        FROM new_rows n
+        ORDER BY n.id;
+    ELSE
+        INSERT INTO credit_application_outbox
+            (credit_application_id, application_number, affiliate_id, previous_status, status, occurred_at)
+        SELECT n.id, n.application_number, n.affiliate_id, o.status, n.status, n.updated_at
+        FROM new_rows n
+        JOIN old_rows o ON o.id = n.id
+        WHERE o.status IS DISTINCT FROM n.status
+        ORDER BY n.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_credit_applications_outbox_insert
+    AFTER INSERT ON credit_applications REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_outbox();
+CREATE TRIGGER trg_credit_applications_outbox_update
+    AFTER UPDATE ON credit_applications REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_outbox();
+
+COMMENT ON TABLE credit_application_outbox IS 'Pending credit application status-change events; deleted once published';
+COMMENT ON COLUMN credit_application_outbox.attempts IS 'Failed publish attempts; later events of the same application wait behind it';
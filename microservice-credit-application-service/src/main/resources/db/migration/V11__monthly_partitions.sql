@@ -0,0 +1,343 @@
+-- V11__monthly_partitions.sql
+-- Monthly range partitioning of credit_applications and risk_evaluations
+
+-- Both tables are rebuilt as partitioned tables and their rows copied inside this migration's
+-- transaction (writers are blocked until it commits; on large tables run it in a maintenance
+-- window). Queries bounded by application_date / evaluation_date only visit the months they
+-- cover and each month's btrees stay month-sized. Retiring a month goes through
+-- retire_credit_application_month, never a bare DROP of its partition.
+
+-- =====================================================
+-- PARTITION MAINTENANCE
+-- =====================================================
+
+-- Creates the missing monthly partitions of p_parent from the month of p_from up to
+-- p_months_ahead months after the current one; returns how many it created. Partitions are
+-- named <table>_YYYY_MM and inherit the parent's indexes, constraints and triggers.
+-- A no-op on a table that is not partitioned. Serialized by an advisory lock so that
+-- instances running it at the same time do not race on CREATE TABLE.
+CREATE OR REPLACE FUNCTION create_monthly_partitions(p_parent REGCLASS, p_from DATE, p_months_ahead INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    v_table TEXT;
+    v_month DATE := date_trunc('month', p_from)::date;
+    v_last DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => p_months_ahead))::date;
+    v_partition TEXT;
+    v_created INTEGER := 0;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = p_parent) THEN
+        RETURN 0;
+    END IF;
+    PERFORM pg_advisory_xact_lock(hashtext('create_monthly_partitions'));
+    SELECT relname INTO v_table FROM pg_class WHERE oid = p_parent;
+
+    WHILE v_month <= v_last LOOP
+        v_partition := v_table || '_' || to_char(v_month, 'YYYY_MM');
+        IF to_regclass(v_partition) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF %s FOR VALUES FROM (%L) TO (%L)',
+                           v_partition, p_parent, v_month, (v_month + INTERVAL '1 month')::date);
+            v_created := v_created + 1;
+        END IF;
+        v_month := (v_month + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN v_created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Retires the applications of p_month's month; returns how many it removed. Dropping or
+-- detaching a partition fires no DELETE trigger and no ON DELETE CASCADE, so this first does
+-- what those would have: deletes the applications' evaluations, which may sit in any later
+-- month, through the parent table (their key slots and counters follow by trigger), subtracts
+-- the applications from the portfolio counters and frees their numbers in
+-- credit_application_keys. Only then is the partition detached and dropped. The month's
+-- risk_evaluations partition goes too once it is empty, i.e. when every earlier month has
+-- been retired. Retire months oldest first.
+CREATE OR REPLACE FUNCTION retire_credit_application_month(p_month DATE)
+RETURNS BIGINT AS $$
+DECLARE
+    v_month DATE := date_trunc('month', p_month)::date;
+    v_applications TEXT := 'credit_applications_' || to_char(v_month, 'YYYY_MM');
+    v_evaluations TEXT := 'risk_evaluations_' || to_char(v_month, 'YYYY_MM');
+    v_retired BIGINT := 0;
+    v_evaluations_left BOOLEAN;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('create_monthly_partitions'));
+
+    IF to_regclass(v_applications) IS NOT NULL THEN
+        EXECUTE format('DELETE FROM risk_evaluations WHERE credit_application_id IN (SELECT id FROM %I)',
+                       v_applications);
+        EXECUTE format('SELECT portfolio_statistics_add(''APPLICATION_STATUS'', status, -COUNT(*)) '
+                       'FROM %I GROUP BY status', v_applications);
+        EXECUTE format('DELETE FROM credit_application_keys WHERE id IN (SELECT id FROM %I)', v_applications);
+        GET DIAGNOSTICS v_retired = ROW_COUNT;
+        EXECUTE format('ALTER TABLE credit_applications DETACH PARTITION %I', v_applications);
+        EXECUTE format('DROP TABLE %I', v_applications);
+    END IF;
+
+    IF to_regclass(v_evaluations) IS NOT NULL THEN
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I)', v_evaluations) INTO v_evaluations_left;
+        IF NOT v_evaluations_left THEN
+            EXECUTE format('ALTER TABLE risk_evaluations DETACH PARTITION %I', v_evaluations);
+            EXECUTE format('DROP TABLE %I', v_evaluations);
+        END IF;
+    END IF;
+    RETURN v_retired;
+END;
+$$ LANGUAGE plpgsql;
+
+-- =====================================================
+-- PARTITIONED TABLES
+-- =====================================================
+
+-- The current tables are renamed and dropped once their rows are copied; their indexes,
+-- foreign keys and triggers go with them and are recreated on the new tables below.
+ALTER TABLE credit_applications RENAME TO credit_applications_unpartitioned;
+ALTER TABLE risk_evaluations RENAME TO risk_evaluations_unpartitioned;
+
+CREATE TABLE credit_applications (
+    id BIGINT NOT NULL DEFAULT nextval('credit_applications_id_seq'),
+    application_number VARCHAR(20) NOT NULL,
+    requested_amount DECIMAL(15, 2) NOT NULL,
+    term_months INTEGER NOT NULL,
+    interest_rate DECIMAL(5, 2) NOT NULL,
+    purpose VARCHAR(500) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDIENTE',
+    comments VARCHAR(1000),
+    application_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    review_date TIMESTAMP,
+    decision_date TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    affiliate_id BIGINT NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    reviewer VARCHAR(100),
+    review_lease_expires_at TIMESTAMP,
+
+    CONSTRAINT chk_application_status
+        CHECK (status IN ('PENDIENTE', 'EN_REVISION', 'APROBADA', 'RECHAZADA', 'CANCELADA')),
+    CONSTRAINT chk_requested_amount_positive CHECK (requested_amount > 0),
+    CONSTRAINT chk_term_months_range CHECK (term_months >= 6 AND term_months <= 84),
+    CONSTRAINT chk_interest_rate_positive CHECK (interest_rate > 0)
+) PARTITION BY RANGE (application_date);
+
+CREATE TABLE risk_evaluations (
+    id BIGINT NOT NULL DEFAULT nextval('risk_evaluations_id_seq'),
+    credit_score INTEGER NOT NULL,
+    risk_level VARCHAR(20) NOT NULL,
+    debt_to_income_ratio DECIMAL(5, 2) NOT NULL,
+    has_default_history BOOLEAN NOT NULL DEFAULT FALSE,
+    years_employed INTEGER NOT NULL,
+    has_guarantor BOOLEAN NOT NULL DEFAULT FALSE,
+    collateral_value DECIMAL(15, 2),
+    evaluation_notes VARCHAR(2000),
+    recommendation VARCHAR(500),
+    approved BOOLEAN,
+    evaluated_by VARCHAR(100) NOT NULL,
+    evaluation_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    credit_application_id BIGINT NOT NULL,
+
+    CONSTRAINT chk_risk_level
+        CHECK (risk_level IN ('BAJO', 'MEDIO', 'ALTO', 'MUY_ALTO')),
+    CONSTRAINT chk_credit_score_range CHECK (credit_score >= 300 AND credit_score <= 850),
+    CONSTRAINT chk_dti_range CHECK (debt_to_income_ratio >= 0 AND debt_to_income_ratio <= 100),
+    CONSTRAINT chk_years_employed_positive CHECK (years_employed >= 0)
+) PARTITION BY RANGE (evaluation_date);
+
+-- From the oldest stored month (or last month on an empty table) to three months ahead;
+-- PartitionMaintenanceAdapter keeps creating the months to come
+SELECT create_monthly_partitions('credit_applications',
+        LEAST((SELECT MIN(application_date) FROM credit_applications_unpartitioned)::date,
+              (CURRENT_DATE - INTERVAL '1 month')::date), 3);
+SELECT create_monthly_partitions('risk_evaluations',
+        LEAST((SELECT MIN(evaluation_date) FROM risk_evaluations_unpartitioned)::date,
+              (CURRENT_DATE - INTERVAL '1 month')::date), 3);
+
+INSERT INTO credit_applications
+    (id, application_number, requested_amount, term_months, interest_rate, purpose, status, comments,
+     application_date, review_date, decision_date, created_at, updated_at, affiliate_id, version,
+     reviewer, review_lease_expires_at)
+SELECT id, application_number, requested_amount, term_months, interest_rate, purpose, status, comments,
+       application_date, review_date, decision_date, created_at, updated_at, affiliate_id, version,
+       reviewer, review_lease_expires_at
+FROM credit_applications_unpartitioned;
+
+INSERT INTO risk_evaluations
+    (id, credit_score, risk_level, debt_to_income_ratio, has_default_history, years_employed, has_guarantor,
+     collateral_value, evaluation_notes, recommendation, approved, evaluated_by, evaluation_date,
+     created_at, updated_at, credit_application_id)
+SELECT id, credit_score, risk_level, debt_to_income_ratio, has_default_history, years_employed, has_guarantor,
+       collateral_value, evaluation_notes, recommendation, approved, evaluated_by, evaluation_date,
+       created_at, updated_at, credit_application_id
+FROM risk_evaluations_unpartitioned;
+
+-- The BIGSERIAL sequences belong to the old tables; hand them over before dropping those
+ALTER SEQUENCE credit_applications_id_seq OWNED BY credit_applications.id;
+ALTER SEQUENCE risk_evaluations_id_seq OWNED BY risk_evaluations.id;
+
+DROP TABLE risk_evaluations_unpartitioned;
+DROP TABLE credit_applications_unpartitioned;
+
+-- =====================================================
+-- KEYS AND INDEXES
+-- =====================================================
+
+-- Primary keys and unique indexes of a partitioned table must contain the partition key.
+-- (id, month) is still unique per id, as ids come from a sequence.
+ALTER TABLE credit_applications ADD CONSTRAINT credit_applications_pkey PRIMARY KEY (id, application_date);
+ALTER TABLE risk_evaluations ADD CONSTRAINT risk_evaluations_pkey PRIMARY KEY (id, evaluation_date);
+
+-- Same btrees as before (lookup by number, keyset pages, review lease), now built per month.
+-- The keyset indexes still serve ORDER BY ... LIMIT pages, which a BRIN index cannot.
+CREATE INDEX idx_credit_application_number ON credit_applications(application_number);
+CREATE INDEX idx_credit_application_date_id ON credit_applications(application_date, id);
+CREATE INDEX idx_credit_application_status_date_id ON credit_applications(status, application_date, id);
+CREATE INDEX idx_credit_application_affiliate_date_id ON credit_applications(affiliate_id, application_date, id);
+CREATE INDEX idx_credit_application_review_lease
+    ON credit_applications(review_lease_expires_at)
+    WHERE status = 'EN_REVISION' AND review_lease_expires_at IS NOT NULL;
+
+CREATE INDEX idx_risk_evaluation_credit_app ON risk_evaluations(credit_application_id);
+CREATE INDEX idx_risk_evaluation_date_id ON risk_evaluations(evaluation_date, id);
+CREATE INDEX idx_risk_evaluation_risk_level_date_id ON risk_evaluations(risk_level, evaluation_date, id);
+CREATE INDEX idx_risk_evaluation_evaluated_by_date_id ON risk_evaluations(evaluated_by, evaluation_date, id);
+
+-- Rows arrive in time order, so a BRIN summary of a few pages per range is a precise and
+-- tiny index for date-range scans (exports, month reports) inside a partition
+CREATE INDEX idx_credit_application_date_brin
+    ON credit_applications USING brin (application_date) WITH (pages_per_range = 32);
+CREATE INDEX idx_risk_evaluation_date_brin
+    ON risk_evaluations USING brin (evaluation_date) WITH (pages_per_range = 32);
+
+-- =====================================================
+-- CREDIT APPLICATION KEYS
+-- =====================================================
+
+-- Application-wide uniqueness cannot live on the partitioned table any more: one row per
+-- credit application, maintained by triggers, carries the unique application number, is the
+-- target of risk_evaluations' foreign key (deleting an application still cascades to its
+-- evaluation) and records the application's single risk evaluation.
+CREATE TABLE credit_application_keys (
+    id BIGINT PRIMARY KEY,
+    application_number VARCHAR(20) NOT NULL,
+    risk_evaluation_id BIGINT,
+
+    CONSTRAINT uk_credit_application_number UNIQUE (application_number),
+    CONSTRAINT uk_risk_evaluation_credit_application UNIQUE (risk_evaluation_id)
+);
+
+INSERT INTO credit_application_keys (id, application_number, risk_evaluation_id)
+SELECT c.id, c.application_number, r.id
+FROM credit_applications c
+LEFT JOIN risk_evaluations r ON r.credit_application_id = c.id;
+
+CREATE OR REPLACE FUNCTION credit_applications_keys()
+RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO credit_application_keys (id, application_number)
+        SELECT id, application_number FROM new_rows;
+    ELSIF TG_OP = 'DELETE' THEN
+        DELETE FROM credit_application_keys WHERE id IN (SELECT id FROM old_rows);
+    ELSE
+        UPDATE credit_application_keys k SET application_number = n.application_number
+        FROM new_rows n
+        JOIN old_rows o ON o.id = n.id
+        WHERE k.id = n.id AND o.application_number <> n.application_number;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One evaluation per application: claiming the slot fails if it is already taken
+-- (credit_application_id is not updatable, so INSERT and DELETE are enough)
+CREATE OR REPLACE FUNCTION risk_evaluations_keys()
+RETURNS trigger AS $$
+DECLARE
+    v_expected BIGINT;
+    v_claimed BIGINT;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        SELECT COUNT(*) INTO v_expected FROM new_rows;
+        UPDATE credit_application_keys k SET risk_evaluation_id = n.id
+        FROM new_rows n
+        WHERE k.id = n.credit_application_id AND k.risk_evaluation_id IS NULL;
+        GET DIAGNOSTICS v_claimed = ROW_COUNT;
+        IF v_claimed < v_expected THEN
+            RAISE unique_violation USING
+                MESSAGE = 'credit application already has a risk evaluation',
+                CONSTRAINT = 'uk_risk_evaluation_credit_application';
+        END IF;
+    ELSE
+        UPDATE credit_application_keys k SET risk_evaluation_id = NULL
+        FROM old_rows o
+        WHERE k.id = o.credit_application_id AND k.risk_evaluation_id = o.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_credit_applications_keys_insert
+    AFTER INSERT ON credit_applications REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_keys();
+CREATE TRIGGER trg_credit_applications_keys_update
+    AFTER UPDATE ON credit_applications REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_keys();
+CREATE TRIGGER trg_credit_applications_keys_delete
+    AFTER DELETE ON credit_applications REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_keys();
+
+CREATE TRIGGER trg_risk_evaluations_keys_insert
+    AFTER INSERT ON risk_evaluations REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION risk_evaluations_keys();
+CREATE TRIGGER trg_risk_evaluations_keys_delete
+    AFTER DELETE ON risk_evaluations REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION risk_evaluations_keys();
+
+-- =====================================================
+-- RELATIONSHIPS AND TRIGGERS
+-- =====================================================
+
+ALTER TABLE credit_applications
+    ADD CONSTRAINT fk_credit_application_affiliate
+        FOREIGN KEY (affiliate_id) REFERENCES affiliates(id) ON DELETE RESTRICT;
+
+ALTER TABLE risk_evaluations
+    ADD CONSTRAINT fk_risk_evaluation_credit_application
+        FOREIGN KEY (credit_application_id) REFERENCES credit_application_keys(id) ON DELETE CASCADE;
+
+-- Portfolio statistics (V9) and outbox (V10), as before
+CREATE TRIGGER trg_credit_applications_statistics_insert
+    AFTER INSERT ON credit_applications REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_statistics();
+CREATE TRIGGER trg_credit_applications_statistics_update
+    AFTER UPDATE ON credit_applications REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_statistics();
+CREATE TRIGGER trg_credit_applications_statistics_delete
+    AFTER DELETE ON credit_applications REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_statistics();
+
+CREATE TRIGGER trg_risk_evaluations_statistics_insert
+    AFTER INSERT ON risk_evaluations REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION risk_evaluations_statistics();
+CREATE TRIGGER trg_risk_evaluations_statistics_update
+    AFTER UPDATE ON risk_evaluations REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION risk_evaluations_statistics();
+CREATE TRIGGER trg_risk_evaluations_statistics_delete
+    AFTER DELETE ON risk_evaluations REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION risk_evaluations_statistics();
+
+CREATE TRIGGER trg_credit_applications_outbox_insert
+    AFTER INSERT ON credit_applications REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_outbox();
+CREATE TRIGGER trg_credit_applications_outbox_update
+    AFTER UPDATE ON credit_applications REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_outbox();
+
+COMMENT ON TABLE credit_applications IS 'Credit application requests submitted by affiliates, partitioned by month of application_date';
+COMMENT ON TABLE risk_evaluations IS 'Risk assessment results for credit applications, partitioned by month of evaluation_date';
+COMMENT ON TABLE credit_application_keys IS 'One row per credit application: unique application number and its single risk evaluation';
+COMMENT ON COLUMN credit_applications.version IS 'Optimistic-locking version, incremented on every update';
+COMMENT ON COLUMN credit_applications.reviewer IS 'Username of the analyst that claimed the review';
+COMMENT ON COLUMN credit_applications.review_lease_expires_at IS 'Claim lease; an undecided review is returned to PENDIENTE after this instant';
@@ -0,0 +1,15 @@
+-- V12__drop_duplicate_indexes.sql
+-- Drop indexes that duplicate the index of a UNIQUE constraint
+
+-- =====================================================
+-- DUPLICATE INDEXES
+-- =====================================================
+
+-- Each of these has the same key as the index PostgreSQL already builds for the column's
+-- UNIQUE constraint: lookups get nothing from them and every write maintains both.
+-- (idx_credit_application_number stays: since V11 uniqueness lives in
+-- credit_application_keys, and it is the only index for lookups by number.)
+DROP INDEX IF EXISTS idx_affiliate_document;
+DROP INDEX IF EXISTS idx_users_username;
+DROP INDEX IF EXISTS idx_users_email;
+DROP INDEX IF EXISTS idx_roles_name;
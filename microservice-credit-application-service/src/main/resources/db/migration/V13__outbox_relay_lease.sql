@@ -0,0 +1,21 @@
+-- V13__outbox_relay_lease.sql
+-- Outbox relay claims events with a lease instead of holding a transaction while publishing
+
+-- =====================================================
+-- OUTBOX RELAY LEASE
+-- =====================================================
+
+-- The relay claims a batch in a short transaction by setting locked_until, publishes with no
+-- transaction open, then deletes the published events and clears the lease of the rest in a
+-- second short transaction. An application with any leased event is skipped by other claims,
+-- so its events are never published by two relays at once. A relay that dies mid-batch leaves
+-- its leases to expire; the events are then claimed and published again.
+ALTER TABLE credit_application_outbox
+    ADD COLUMN locked_until TIMESTAMP;
+
+-- Only leased events are ever looked up by application
+CREATE INDEX idx_credit_application_outbox_leased
+    ON credit_application_outbox(credit_application_id, locked_until)
+    WHERE locked_until IS NOT NULL;
+
+COMMENT ON COLUMN credit_application_outbox.locked_until IS 'Relay lease; the event is being published until this instant';
@@ -0,0 +1,30 @@
+-- V4__create_application_number_sequence.sql
+-- Block-allocated sequence for application numbers (CRE-yyyyMM-NNNNNN)
+
+-- =====================================================
+-- APPLICATION NUMBER SEQUENCE
+-- =====================================================
+
+-- Each nextval reserves a block of 50 numbers that an instance hands out from memory.
+-- INCREMENT BY must match ApplicationNumberAllocator.BLOCK_SIZE.
+-- The sequence cycles within the 6-digit range; numbers stay unique as long as
+-- fewer than ~1M applications are created per month (same limit as the format).
+CREATE SEQUENCE IF NOT EXISTS credit_application_number_seq
+    INCREMENT BY 50
+    MINVALUE 1
+    MAXVALUE 999950
+    START WITH 1
+    CYCLE;
+
+COMMENT ON SEQUENCE credit_application_number_seq
+    IS 'Hi/lo blocks for credit application numbers, see ApplicationNumberAllocator';
+
+-- Numbers issued by the previous MAX()+1 generator share the CRE-yyyyMM-NNNNNN format:
+-- resume after the highest suffix already stored, at the start of its 50-block, so the
+-- next nextval returns the first block entirely above it (capped at the last block start,
+-- from where the sequence cycles as documented above)
+SELECT setval('credit_application_number_seq', LEAST(1 + (max_suffix - 1) / 50 * 50, 999901))
+FROM (SELECT max(CAST(substring(application_number FROM 12) AS bigint)) AS max_suffix
+      FROM credit_applications
+      WHERE application_number ~ '^CRE-[0-9]{6}-[0-9]{6}$') existing
+WHERE max_suffix > 0;
@@ -0,0 +1,12 @@
+-- V5__pooled_id_sequences.sql
+-- Switch credit application and risk evaluation IDs to pooled sequence allocation
+
+-- =====================================================
+-- POOLED ID SEQUENCES
+-- =====================================================
+
+-- Hibernate reserves 50 IDs per nextval (allocationSize = 50) so inserts are JDBC-batched
+-- instead of round-tripping per row as with IDENTITY. INCREMENT BY must match allocationSize.
+-- The BIGSERIAL column defaults keep working for manual inserts.
+ALTER SEQUENCE credit_applications_id_seq INCREMENT BY 50;
+ALTER SEQUENCE risk_evaluations_id_seq INCREMENT BY 50;
@@ -0,0 +1,31 @@
+-- V6__keyset_pagination_indexes.sql
+-- Composite indexes for keyset (cursor) pagination of the list endpoints
+
+-- =====================================================
+-- KEYSET PAGINATION INDEXES
+-- =====================================================
+
+-- Lists are read newest first with WHERE [filter =] AND (sort_column, id) < (:cursor, :id)
+-- ORDER BY sort_column DESC, id DESC LIMIT n. A btree on (filter, sort_column, id) serves
+-- the row comparison as a range scan, so every page costs the same regardless of depth.
+-- The single-column indexes they replace are left prefixes and are dropped.
+
+-- Credit applications: (application_date, id)
+CREATE INDEX idx_credit_application_date_id ON credit_applications(application_date, id);
+CREATE INDEX idx_credit_application_status_date_id ON credit_applications(status, application_date, id);
+CREATE INDEX idx_credit_application_affiliate_date_id ON credit_applications(affiliate_id, application_date, id);
+DROP INDEX IF EXISTS idx_credit_application_date;
+DROP INDEX IF EXISTS idx_credit_application_status;
+DROP INDEX IF EXISTS idx_credit_application_affiliate;
+
+-- Affiliates: (created_at, id)
+CREATE INDEX idx_affiliate_created_at_id ON affiliates(created_at, id);
+CREATE INDEX idx_affiliate_status_created_at_id ON affiliates(status, created_at, id);
+DROP INDEX IF EXISTS idx_affiliate_status;
+
+-- Risk evaluations: (evaluation_date, id)
+CREATE INDEX idx_risk_evaluation_date_id ON risk_evaluations(evaluation_date, id);
+CREATE INDEX idx_risk_evaluation_risk_level_date_id ON risk_evaluations(risk_level, evaluation_date, id);
+CREATE INDEX idx_risk_evaluation_evaluated_by_date_id ON risk_evaluations(evaluated_by, evaluation_date, id);
+DROP INDEX IF EXISTS idx_risk_evaluation_risk_level;
+DROP INDEX IF EXISTS idx_risk_evaluation_evaluated_by;
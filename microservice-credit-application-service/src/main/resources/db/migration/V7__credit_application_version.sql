@@ -0,0 +1,14 @@
+-- V7__credit_application_version.sql
+-- Optimistic-locking version for credit applications
+
+-- =====================================================
+-- CREDIT APPLICATION VERSION
+-- =====================================================
+
+-- Incremented by every UPDATE. Status transitions are compare-and-set
+-- (UPDATE ... WHERE id = ? AND status IN (...)) and bump it too, so a writer holding
+-- an older version detects the lost update instead of overwriting the decision.
+ALTER TABLE credit_applications
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN credit_applications.version IS 'Optimistic-locking version, incremented on every update';
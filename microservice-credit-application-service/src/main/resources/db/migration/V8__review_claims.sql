@@ -0,0 +1,21 @@
+-- V8__review_claims.sql
+-- Analyst work queue: claimed reviews with a lease
+
+-- =====================================================
+-- REVIEW CLAIMS
+-- =====================================================
+
+-- A claim moves the oldest PENDIENTE applications to EN_REVISION for one reviewer
+-- (SELECT ... FOR UPDATE SKIP LOCKED, served by idx_credit_application_status_date_id).
+-- Claims not decided before review_lease_expires_at go back to PENDIENTE.
+ALTER TABLE credit_applications
+    ADD COLUMN reviewer VARCHAR(100),
+    ADD COLUMN review_lease_expires_at TIMESTAMP;
+
+-- Only leased reviews are ever scanned for expiry
+CREATE INDEX idx_credit_application_review_lease
+    ON credit_applications(review_lease_expires_at)
+    WHERE status = 'EN_REVISION' AND review_lease_expires_at IS NOT NULL;
+
+COMMENT ON COLUMN credit_applications.reviewer IS 'Username of the analyst that claimed the review';
+COMMENT ON COLUMN credit_applications.review_lease_expires_at IS 'Claim lease; an undecided review is returned to PENDIENTE after this instant';
@@ -0,0 +1,136 @@
+-- V9__portfolio_statistics.sql
+-- Portfolio statistics kept current by triggers
+
+-- =====================================================
+-- PORTFOLIO STATISTICS
+-- =====================================================
+
+-- Row counts per dimension and bucket (application status, affiliate status, risk level).
+-- Statement-level triggers add the net change of every INSERT, UPDATE and DELETE in the
+-- same transaction, so the dashboard reads a handful of rows instead of COUNT(*) scans.
+-- Each counter is split into slots chosen by backend PID: concurrent transactions on
+-- different connections update different rows instead of queueing on one hot row.
+-- The reconciliation job recomputes the counts and folds them back into slot 0.
+CREATE TABLE IF NOT EXISTS portfolio_statistics (
+    dimension VARCHAR(30) NOT NULL,
+    bucket VARCHAR(20) NOT NULL,
+    slot SMALLINT NOT NULL,
+    total BIGINT NOT NULL,
+    PRIMARY KEY (dimension, bucket, slot)
+);
+
+CREATE OR REPLACE FUNCTION portfolio_statistics_add(p_dimension TEXT, p_bucket TEXT, p_delta BIGINT)
+RETURNS void AS $$
+BEGIN
+    INSERT INTO portfolio_statistics (dimension, bucket, slot, total)
+    VALUES (p_dimension, p_bucket, pg_backend_pid() % 16, p_delta)
+    ON CONFLICT (dimension, bucket, slot)
+        DO UPDATE SET total = portfolio_statistics.total + EXCLUDED.total;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables cannot be combined with column lists or several events in one trigger,
+-- hence one trigger per event; UPDATEs that keep the bucket net to zero and write nothing.
+
+CREATE OR REPLACE FUNCTION credit_applications_statistics()
+RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM portfolio_statistics_add('APPLICATION_STATUS', status, COUNT(*))
+        FROM new_rows GROUP BY status;
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM portfolio_statistics_add('APPLICATION_STATUS', status, -COUNT(*))
+        FROM old_rows GROUP BY status;
+    ELSE
+        PERFORM portfolio_statistics_add('APPLICATION_STATUS', d.status, SUM(d.delta))
+        FROM (SELECT status, 1 AS delta FROM new_rows
+              UNION ALL
+              SELECT status, -1 FROM old_rows) d
+        GROUP BY d.status
+        HAVING SUM(d.delta) <> 0;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION affiliates_statistics()
+RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM portfolio_statistics_add('AFFILIATE_STATUS', status, COUNT(*))
+        FROM new_rows GROUP BY status;
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM portfolio_statistics_add('AFFILIATE_STATUS', status, -COUNT(*))
+        FROM old_rows GROUP BY status;
+    ELSE
+        PERFORM portfolio_statistics_add('AFFILIATE_STATUS', d.status, SUM(d.delta))
+        FROM (SELECT status, 1 AS delta FROM new_rows
+              UNION ALL
+              SELECT status, -1 FROM old_rows) d
+        GROUP BY d.status
+        HAVING SUM(d.delta) <> 0;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION risk_evaluations_statistics()
+RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM portfolio_statistics_add('RISK_LEVEL', risk_level, COUNT(*))
+        FROM new_rows GROUP BY risk_level;
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM portfolio_statistics_add('RISK_LEVEL', risk_level, -COUNT(*))
+        FROM old_rows GROUP BY risk_level;
+    ELSE
+        PERFORM portfolio_statistics_add('RISK_LEVEL', d.risk_level, SUM(d.delta))
+        FROM (SELECT risk_level, 1 AS delta FROM new_rows
+              UNION ALL
+              SELECT risk_level, -1 FROM old_rows) d
+        GROUP BY d.risk_level
+        HAVING SUM(d.delta) <> 0;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_credit_applications_statistics_insert
+    AFTER INSERT ON credit_applications REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_statistics();
+CREATE TRIGGER trg_credit_applications_statistics_update
+    AFTER UPDATE ON credit_applications REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_statistics();
+CREATE TRIGGER trg_credit_applications_statistics_delete
+    AFTER DELETE ON credit_applications REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_applications_statistics();
+
+CREATE TRIGGER trg_affiliates_statistics_insert
+    AFTER INSERT ON affiliates REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION affiliates_statistics();
+CREATE TRIGGER trg_affiliates_statistics_update
+    AFTER UPDATE ON affiliates REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION affiliates_statistics();
+CREATE TRIGGER trg_affiliates_statistics_delete
+    AFTER DELETE ON affiliates REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION affiliates_statistics();
+
+CREATE TRIGGER trg_risk_evaluations_statistics_insert
+    AFTER INSERT ON risk_evaluations REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION risk_evaluations_statistics();
+CREATE TRIGGER trg_risk_evaluations_statistics_update
+    AFTER UPDATE ON risk_evaluations REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION risk_evaluations_statistics();
+CREATE TRIGGER trg_risk_evaluations_statistics_delete
+    AFTER DELETE ON risk_evaluations REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION risk_evaluations_statistics();
+
+-- Backfill from the existing rows
+INSERT INTO portfolio_statistics (dimension, bucket, slot, total)
+SELECT 'APPLICATION_STATUS', status, 0, COUNT(*) FROM credit_applications GROUP BY status
+UNION ALL
+SELECT 'AFFILIATE_STATUS', status, 0, COUNT(*) FROM affiliates GROUP BY status
+UNION ALL
+SELECT 'RISK_LEVEL', risk_level, 0, COUNT(*) FROM risk_evaluations GROUP BY risk_level;
+
+COMMENT ON TABLE portfolio_statistics IS 'Row counts per dimension and bucket, maintained by triggers; sum the slots to read';
@@ -0,0 +1,32 @@
+package com.riwi.microservice.coopcredit.credit;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Affiliates for integration tests: valid for every credit rule, unique by document.
+ */
+public final class AffiliateFixtures {
+
+    private AffiliateFixtures() {
+    }
+
+    public static Affiliate affiliate(String document, AffiliateStatus status) {
+        Affiliate affiliate = new Affiliate();
+        affiliate.setDocument(document);
+        affiliate.setDocumentType("CC");
+        affiliate.setFirstName("Test");
+        affiliate.setLastName("Affiliate " + document);
+        affiliate.setEmail(document + "@test.com");
+        affiliate.setPhone("3000000000");
+        affiliate.setAddress("Test Address");
+        affiliate.setBirthDate(LocalDate.of(1990, 1, 1));
+        affiliate.setSalary(new BigDecimal("5000000"));
+        affiliate.setStatus(status);
+        affiliate.setEmploymentStartDate(LocalDate.now().minusYears(2));
+        return affiliate;
+    }
+}
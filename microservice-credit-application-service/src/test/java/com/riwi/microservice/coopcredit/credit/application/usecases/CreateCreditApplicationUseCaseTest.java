@@ -2,16 +2,20 @@ package com.riwi.microservice.coopcredit.credit.application.usecases;
 
 import com.riwi.microservice.coopcredit.credit.domain.exception.AffiliateNotActiveException;
 import com.riwi.microservice.coopcredit.credit.domain.exception.AffiliateNotFoundException;
+import com.riwi.microservice.coopcredit.credit.domain.exception.RiskAssessmentUnavailableException;
 import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
 import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
 import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentResult;
 import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
 import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskFallbackDecision;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.CreateCreditApplicationUseCase.BatchItemResult;
 import com.riwi.microservice.coopcredit.credit.domain.port.in.CreateCreditApplicationUseCase.CreateCreditApplicationCommand;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditDecisionQueuePort;
 import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
-import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskEvaluationRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,10 +25,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,7 +45,7 @@ class CreateCreditApplicationUseCaseTest {
     @Mock
     private RiskAssessmentPort riskAssessmentPort;
     @Mock
-    private RiskEvaluationRepositoryPort riskEvaluationRepository;
+    private CreditDecisionQueuePort creditDecisionQueue;
 
     @InjectMocks
     private CreateCreditApplicationUseCaseImpl useCase;
@@ -63,20 +71,53 @@ class CreateCreditApplicationUseCaseTest {
         );
     }
 
+    @Test
+    void shouldSendToManualReviewWhenRiskCentralIsUnavailable() {
+        CreateCreditApplicationUseCaseImpl fallbackUseCase = new CreateCreditApplicationUseCaseImpl(
+                creditApplicationRepository, affiliateRepository, riskAssessmentPort, creditDecisionQueue, RiskFallbackDecision.MANUAL_REVIEW);
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
+        when(creditApplicationRepository.generateApplicationNumber()).thenReturn("APP-001");
+        when(creditApplicationRepository.save(any(CreditApplication.class))).thenAnswer(i -> i.getArgument(0));
+        when(riskAssessmentPort.assessRiskAsync(anyString(), anyDouble(), anyInt()))
+                .thenReturn(CompletableFuture.failedFuture(new RiskAssessmentUnavailableException("circuito abierto", null)));
+
+        CreditApplication result = fallbackUseCase.createCreditApplication(validCommand);
+
+        assertEquals(CreditApplicationStatus.EN_REVISION, result.getStatus());
+        assertTrue(result.getComments().contains("revisión manual"));
+        verify(creditApplicationRepository, never()).createWithRiskEvaluation(any(), any());
+    }
+
+    @Test
+    void shouldPropagateWhenRiskCentralIsUnavailableAndFallbackIsFail() {
+        CreateCreditApplicationUseCaseImpl failingUseCase = new CreateCreditApplicationUseCaseImpl(
+                creditApplicationRepository, affiliateRepository, riskAssessmentPort, creditDecisionQueue, RiskFallbackDecision.FAIL);
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
+        when(creditApplicationRepository.generateApplicationNumber()).thenReturn("APP-001");
+        when(riskAssessmentPort.assessRiskAsync(anyString(), anyDouble(), anyInt()))
+                .thenReturn(CompletableFuture.failedFuture(new RiskAssessmentUnavailableException("circuito abierto", null)));
+
+        assertThrows(RiskAssessmentUnavailableException.class,
+                () -> failingUseCase.createCreditApplication(validCommand));
+        verify(creditApplicationRepository, never()).save(any(CreditApplication.class));
+    }
+
     @Test
     void shouldCreateCreditApplicationSuccessfully() {
         // Arrange
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
         when(creditApplicationRepository.generateApplicationNumber()).thenReturn("APP-001");
-        when(creditApplicationRepository.save(any(CreditApplication.class))).thenAnswer(invocation -> {
-            CreditApplication app = invocation.getArgument(0);
-            app.setId(100L);
-            return app;
-        });
+        when(creditApplicationRepository.createWithRiskEvaluation(any(CreditApplication.class), any(RiskEvaluation.class)))
+                .thenAnswer(invocation -> {
+                    CreditApplication app = invocation.getArgument(0);
+                    app.setId(100L);
+                    app.setRiskEvaluation(invocation.getArgument(1));
+                    return app;
+                });
         
         RiskAssessmentResult riskResult = new RiskAssessmentResult(800, "BAJO RIESGO", "Good");
-        when(riskAssessmentPort.assessRisk(anyString(), anyDouble(), anyInt())).thenReturn(riskResult);
-        when(riskEvaluationRepository.save(any(RiskEvaluation.class))).thenAnswer(i -> i.getArgument(0));
+        when(riskAssessmentPort.assessRiskAsync(anyString(), anyDouble(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(riskResult));
 
         // Act
         CreditApplication result = useCase.createCreditApplication(validCommand);
@@ -85,9 +126,12 @@ class CreateCreditApplicationUseCaseTest {
         assertNotNull(result);
         assertEquals(100L, result.getId());
         assertEquals("APP-001", result.getApplicationNumber());
+        assertEquals(CreditApplicationStatus.APROBADA, result.getStatus());
+        assertNotNull(result.getRiskEvaluation());
         verify(affiliateRepository).findById(1L);
-        verify(riskAssessmentPort).assessRisk("123456789", 1000000.0, 12);
-        verify(creditApplicationRepository, atLeastOnce()).save(any(CreditApplication.class));
+        verify(riskAssessmentPort).assessRiskAsync("123456789", 1000000.0, 12);
+        // Decided before the insert: nothing is saved twice
+        verify(creditApplicationRepository, never()).save(any(CreditApplication.class));
     }
 
     @Test
@@ -112,4 +156,65 @@ class CreateCreditApplicationUseCaseTest {
         assertThrows(AffiliateNotActiveException.class, () -> useCase.createCreditApplication(validCommand));
         verifyNoInteractions(riskAssessmentPort);
     }
+
+    @Test
+    void shouldRegisterPendingApplicationAndEnqueueOnSubmit() {
+        // Arrange
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
+        when(creditApplicationRepository.generateApplicationNumber()).thenReturn("APP-002");
+        when(creditApplicationRepository.save(any(CreditApplication.class))).thenAnswer(invocation -> {
+            CreditApplication app = invocation.getArgument(0);
+            app.setId(101L);
+            return app;
+        });
+
+        // Act
+        CreditApplication result = useCase.submitCreditApplication(validCommand);
+
+        // Assert
+        assertEquals(101L, result.getId());
+        assertEquals(CreditApplicationStatus.PENDIENTE, result.getStatus());
+        verify(creditDecisionQueue).enqueue(101L);
+        verifyNoInteractions(riskAssessmentPort);
+    }
+
+    @Test
+    void shouldReportPerItemResultsOnBatchSubmit() {
+        // Arrange
+        Affiliate inactiveAffiliate = new Affiliate();
+        inactiveAffiliate.setId(2L);
+        inactiveAffiliate.setStatus(AffiliateStatus.INACTIVO);
+        when(affiliateRepository.findAllByIds(anyCollection())).thenReturn(List.of(activeAffiliate, inactiveAffiliate));
+        when(creditApplicationRepository.generateApplicationNumbers(2)).thenReturn(List.of("APP-010", "APP-011"));
+        when(creditApplicationRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<CreditApplication> apps = invocation.getArgument(0);
+            for (int i = 0; i < apps.size(); i++) {
+                apps.get(i).setId(200L + i);
+            }
+            return apps;
+        });
+        when(creditDecisionQueue.enqueueAll(List.of(200L, 201L))).thenReturn(1);
+
+        List<CreateCreditApplicationCommand> commands = List.of(
+                validCommand,
+                new CreateCreditApplicationCommand(99L, BigDecimal.TEN, 12, BigDecimal.ONE, "Unknown"),
+                new CreateCreditApplicationCommand(2L, BigDecimal.TEN, 12, BigDecimal.ONE, "Inactive"),
+                validCommand);
+
+        // Act
+        List<BatchItemResult> results = useCase.submitCreditApplications(commands);
+
+        // Assert
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isAccepted());
+        assertTrue(results.get(0).queued());
+        assertEquals("APP-010", results.get(0).creditApplication().getApplicationNumber());
+        assertEquals("AFFILIATE_NOT_FOUND", results.get(1).errorCode());
+        assertFalse(results.get(2).isAccepted());
+        assertTrue(results.get(3).isAccepted());
+        assertFalse(results.get(3).queued());
+        verify(affiliateRepository).findAllByIds(anyCollection());
+        verify(creditApplicationRepository, never()).save(any(CreditApplication.class));
+        verifyNoInteractions(riskAssessmentPort);
+    }
 }
@@ -0,0 +1,161 @@
+package com.riwi.microservice.coopcredit.credit.application.usecases;
+
+import com.riwi.microservice.coopcredit.credit.AbstractIntegrationTest;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ClaimCreditApplicationUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ProcessCreditDecisionUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaCreditApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.riwi.microservice.coopcredit.credit.AffiliateFixtures.affiliate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Many reviewers pull from the work queue at once: every pending application must be claimed
+ * by exactly one of them, and abandoned claims must return to the queue.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CreditApplicationClaimConcurrencyIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int PENDING = 60;
+    private static final int REVIEWERS = 12;
+    private static final int BATCH = 3;
+
+    @Autowired
+    private ClaimCreditApplicationUseCase claimCreditApplicationUseCase;
+
+    @Autowired
+    private ProcessCreditDecisionUseCase processCreditDecisionUseCase;
+
+    @Autowired
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private JpaCreditApplicationRepository jpaCreditApplicationRepository;
+
+    @Autowired
+    private JpaAffiliateRepository jpaAffiliateRepository;
+
+    @MockBean
+    private RiskAssessmentPort riskAssessmentPort;
+
+    private Affiliate affiliate;
+
+    @BeforeEach
+    void setUp() {
+        jpaCreditApplicationRepository.deleteAll();
+        jpaAffiliateRepository.deleteAll();
+        affiliate = affiliateRepository.save(affiliate("333000111", AffiliateStatus.ACTIVO));
+    }
+
+    @Test
+    void shouldHandEachPendingApplicationToExactlyOneReviewer() throws Exception {
+        Set<Long> pending = new HashSet<>();
+        for (int i = 0; i < PENDING; i++) {
+            pending.add(creditApplicationRepository.save(newApplication(PENDING - i)).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(REVIEWERS);
+        List<Long> claimed = new ArrayList<>();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int i = 0; i < REVIEWERS; i++) {
+                String reviewer = "analista" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> mine = new ArrayList<>();
+                    List<CreditApplication> batch;
+                    while (!(batch = claimCreditApplicationUseCase.claim(reviewer, BATCH)).isEmpty()) {
+                        for (CreditApplication application : batch) {
+                            assertEquals(CreditApplicationStatus.EN_REVISION, application.getStatus());
+                            assertEquals(reviewer, application.getReviewer());
+                            assertNotNull(application.getReviewLeaseExpiresAt());
+                            mine.add(application.getId());
+                        }
+                    }
+                    return mine;
+                }));
+            }
+            start.countDown();
+            for (Future<List<Long>> future : futures) {
+                claimed.addAll(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(PENDING, claimed.size());
+        assertEquals(pending, new HashSet<>(claimed));
+        assertTrue(claimCreditApplicationUseCase.claimNext("analista0").isEmpty());
+    }
+
+    @Test
+    void shouldClaimOldestApplicationFirst() {
+        Long newest = creditApplicationRepository.save(newApplication(1)).getId();
+        Long oldest = creditApplicationRepository.save(newApplication(10)).getId();
+
+        assertEquals(oldest, claimCreditApplicationUseCase.claimNext("analista").orElseThrow().getId());
+        assertEquals(newest, claimCreditApplicationUseCase.claimNext("analista").orElseThrow().getId());
+    }
+
+    @Test
+    void shouldReturnExpiredClaimsToTheQueue() {
+        Long abandoned = creditApplicationRepository.save(newApplication(2)).getId();
+        Long decided = creditApplicationRepository.save(newApplication(1)).getId();
+        LocalDateTime claimedAt = LocalDateTime.now().minusHours(1);
+        creditApplicationRepository.claimPending("analista", 2, claimedAt, claimedAt.plusMinutes(30));
+        processCreditDecisionUseCase.approveCreditApplication(decided, "aprobada");
+
+        assertEquals(1, claimCreditApplicationUseCase.releaseExpiredClaims());
+
+        CreditApplication released = creditApplicationRepository.findById(abandoned).orElseThrow();
+        assertEquals(CreditApplicationStatus.PENDIENTE, released.getStatus());
+        assertNull(released.getReviewer());
+        assertNull(released.getReviewLeaseExpiresAt());
+        assertEquals(CreditApplicationStatus.APROBADA, creditApplicationRepository.findById(decided).orElseThrow().getStatus());
+        assertEquals(abandoned, claimCreditApplicationUseCase.claimNext("otro").orElseThrow().getId());
+    }
+
+    private CreditApplication newApplication(int minutesAgo) {
+        CreditApplication creditApplication = new CreditApplication();
+        creditApplication.setApplicationNumber(creditApplicationRepository.generateApplicationNumber());
+        creditApplication.setAffiliate(affiliate);
+        creditApplication.setRequestedAmount(new BigDecimal("1000000"));
+        creditApplication.setTermMonths(12);
+        creditApplication.setInterestRate(new BigDecimal("1.5"));
+        creditApplication.setPurpose("Claim race test");
+        creditApplication.setStatus(CreditApplicationStatus.PENDIENTE);
+        creditApplication.setApplicationDate(LocalDateTime.now().minusMinutes(minutesAgo));
+        creditApplication.setCreatedAt(LocalDateTime.now());
+        creditApplication.setUpdatedAt(LocalDateTime.now());
+        return creditApplication;
+    }
+}
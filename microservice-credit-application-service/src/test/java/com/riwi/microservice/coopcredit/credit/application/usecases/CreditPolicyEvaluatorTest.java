@@ -0,0 +1,47 @@
+package com.riwi.microservice.coopcredit.credit.application.usecases;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.BigDecimalCreditMath;
+import com.riwi.microservice.coopcredit.credit.domain.models.BigDecimalCreditMath.PolicyOutcome;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentResult;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreditPolicyEvaluatorTest {
+
+    // Kernel inputs, and amounts with more than two decimals that go through BigDecimal
+    @ParameterizedTest
+    @CsvSource({
+            "5000000, 24, 1.5, 2500000, 24, BAJO",
+            "5000000.005, 24, 1.5, 2500000, 24, BAJO",
+            "30000000, 12, 2.125, 2500000.50, 3, ALTO",
+            "1000000, 36, 0, 900000, 60, MEDIO",
+            "1000000, 36, 0.001, 900000, , MEDIO"
+    })
+    void shouldMatchBigDecimalPolicies(String requestedAmount, int termMonths, String interestRate,
+                                       String salary, Integer monthsEmployed, String riskLevel) {
+        Affiliate affiliate = new Affiliate();
+        affiliate.setSalary(new BigDecimal(salary));
+        if (monthsEmployed != null) {
+            affiliate.setEmploymentStartDate(LocalDate.now().minusMonths(monthsEmployed));
+        }
+
+        RiskEvaluation evaluation = CreditPolicyEvaluator.evaluate(affiliate, new BigDecimal(requestedAmount),
+                termMonths, new BigDecimal(interestRate), new RiskAssessmentResult(700, riskLevel, null));
+
+        PolicyOutcome expected = BigDecimalCreditMath.evaluate(new BigDecimal(requestedAmount), termMonths,
+                new BigDecimal(interestRate), new BigDecimal(salary),
+                monthsEmployed == null ? null : ChronoUnit.MONTHS.between(affiliate.getEmploymentStartDate(), LocalDate.now()),
+                !riskLevel.equals("BAJO") && !riskLevel.equals("MEDIO"));
+        assertEquals(expected.debtToIncomeRatio(), evaluation.getDebtToIncomeRatio());
+        assertEquals(expected.approved(), evaluation.getApproved());
+        assertEquals(expected.recommendation(), evaluation.getRecommendation());
+    }
+}
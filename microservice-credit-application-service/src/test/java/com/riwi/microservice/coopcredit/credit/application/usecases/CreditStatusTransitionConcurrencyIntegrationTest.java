@@ -0,0 +1,148 @@
+package com.riwi.microservice.coopcredit.credit.application.usecases;
+
+import com.riwi.microservice.coopcredit.credit.AbstractIntegrationTest;
+import com.riwi.microservice.coopcredit.credit.domain.exception.CreditStatusConflictException;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ProcessCreditDecisionUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaCreditApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.riwi.microservice.coopcredit.credit.AffiliateFixtures.affiliate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Many analysts decide the same application at once: exactly one transition must win,
+ * every other one must fail with a conflict, and the stored decision must be the winner's.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CreditStatusTransitionConcurrencyIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int ROUNDS = 20;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ProcessCreditDecisionUseCase processCreditDecisionUseCase;
+
+    @Autowired
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private JpaCreditApplicationRepository jpaCreditApplicationRepository;
+
+    @Autowired
+    private JpaAffiliateRepository jpaAffiliateRepository;
+
+    @MockBean
+    private RiskAssessmentPort riskAssessmentPort;
+
+    private Affiliate affiliate;
+
+    @BeforeEach
+    void setUp() {
+        jpaCreditApplicationRepository.deleteAll();
+        jpaAffiliateRepository.deleteAll();
+        affiliate = affiliateRepository.save(affiliate("444000111", AffiliateStatus.ACTIVO));
+    }
+
+    @Test
+    void shouldLetExactlyOneConcurrentDecisionWin() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Long id = creditApplicationRepository.save(newApplication(CreditApplicationStatus.PENDIENTE)).getId();
+                processCreditDecisionUseCase.startReview(id);
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<CreditApplication>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    Callable<CreditApplication> decision = switch (i % 3) {
+                        case 0 -> () -> processCreditDecisionUseCase.approveCreditApplication(id, "aprobada");
+                        case 1 -> () -> processCreditDecisionUseCase.rejectCreditApplication(id, "rechazada");
+                        default -> () -> processCreditDecisionUseCase.cancelCreditApplication(id, "cancelada");
+                    };
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return decision.call();
+                    }));
+                }
+                start.countDown();
+
+                List<CreditApplication> winners = new ArrayList<>();
+                int conflicts = 0;
+                for (Future<CreditApplication> future : futures) {
+                    try {
+                        winners.add(future.get());
+                    } catch (ExecutionException e) {
+                        assertInstanceOf(CreditStatusConflictException.class, e.getCause());
+                        conflicts++;
+                    }
+                }
+
+                assertEquals(1, winners.size());
+                assertEquals(THREADS - 1, conflicts);
+                CreditApplication stored = creditApplicationRepository.findById(id).orElseThrow();
+                assertEquals(winners.get(0).getStatus(), stored.getStatus());
+                assertEquals(winners.get(0).getComments(), stored.getComments());
+                // insert, start review, winning decision
+                assertEquals(2L, stored.getVersion());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRejectWriteBackOfStaleApplication() {
+        Long id = creditApplicationRepository.save(newApplication(CreditApplicationStatus.PENDIENTE)).getId();
+        CreditApplication stale = creditApplicationRepository.findById(id).orElseThrow();
+
+        processCreditDecisionUseCase.startReview(id);
+        stale.setComments("sobrescritura");
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> creditApplicationRepository.save(stale));
+        assertEquals(CreditApplicationStatus.EN_REVISION, creditApplicationRepository.findById(id).orElseThrow().getStatus());
+    }
+
+    private CreditApplication newApplication(CreditApplicationStatus status) {
+        CreditApplication creditApplication = new CreditApplication();
+        creditApplication.setApplicationNumber(creditApplicationRepository.generateApplicationNumber());
+        creditApplication.setAffiliate(affiliate);
+        creditApplication.setRequestedAmount(new BigDecimal("1000000"));
+        creditApplication.setTermMonths(12);
+        creditApplication.setInterestRate(new BigDecimal("1.5"));
+        creditApplication.setPurpose("Transition race test");
+        creditApplication.setStatus(status);
+        creditApplication.setApplicationDate(LocalDateTime.now());
+        creditApplication.setCreatedAt(LocalDateTime.now());
+        creditApplication.setUpdatedAt(LocalDateTime.now());
+        return creditApplication;
+    }
+}
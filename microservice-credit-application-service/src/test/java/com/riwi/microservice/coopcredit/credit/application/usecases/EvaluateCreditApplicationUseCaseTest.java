@@ -0,0 +1,119 @@
+package com.riwi.microservice.coopcredit.credit.application.usecases;
+
+import com.riwi.microservice.coopcredit.credit.domain.exception.RiskAssessmentUnavailableException;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentRequest;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentResult;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskFallbackDecision;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EvaluateCreditApplicationUseCaseTest {
+
+    @Mock
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+    @Mock
+    private RiskAssessmentPort riskAssessmentPort;
+
+    private EvaluateCreditApplicationUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new EvaluateCreditApplicationUseCaseImpl(
+                creditApplicationRepository, riskAssessmentPort, RiskFallbackDecision.MANUAL_REVIEW);
+    }
+
+    @Test
+    void shouldScoreTheBatchInOneRiskCentralCall() {
+        CreditApplication first = pendingApplication(1L, "111");
+        CreditApplication second = pendingApplication(2L, "222");
+        CreditApplication decided = pendingApplication(3L, "333");
+        decided.setStatus(CreditApplicationStatus.APROBADA);
+        when(creditApplicationRepository.findAllByIds(List.of(1L, 2L, 3L))).thenReturn(List.of(first, second, decided));
+        when(riskAssessmentPort.assessRiskBatch(List.of(
+                new RiskAssessmentRequest("111", 1000000.0, 12),
+                new RiskAssessmentRequest("222", 1000000.0, 12))))
+                .thenReturn(List.of(
+                        new RiskAssessmentResult(800, "BAJO RIESGO", "ok"),
+                        new RiskAssessmentResult(300, "ALTO RIESGO", "mora")));
+        when(creditApplicationRepository.saveWithRiskEvaluation(any(), any())).thenAnswer(i -> i.getArgument(0));
+
+        List<CreditApplication> evaluated = useCase.evaluateCreditApplications(List.of(1L, 2L, 3L));
+
+        assertEquals(List.of(first, second), evaluated);
+        assertEquals(CreditApplicationStatus.APROBADA, first.getStatus());
+        assertEquals(CreditApplicationStatus.RECHAZADA, second.getStatus());
+        verify(riskAssessmentPort, never()).assessRisk(any(), any(), any());
+    }
+
+    @Test
+    void shouldSendOnlyTheUnscoredApplicationToManualReview() {
+        CreditApplication scored = pendingApplication(1L, "111");
+        CreditApplication unscored = pendingApplication(2L, "222");
+        when(creditApplicationRepository.findAllByIds(List.of(1L, 2L))).thenReturn(List.of(scored, unscored));
+        when(riskAssessmentPort.assessRiskBatch(anyList())).thenReturn(Arrays.asList(
+                new RiskAssessmentResult(800, "BAJO RIESGO", "ok"),
+                new RiskAssessmentResult(null, null, "Documento requerido")));
+        when(creditApplicationRepository.saveWithRiskEvaluation(any(), any())).thenAnswer(i -> i.getArgument(0));
+        when(creditApplicationRepository.save(any(CreditApplication.class))).thenAnswer(i -> i.getArgument(0));
+
+        useCase.evaluateCreditApplications(List.of(1L, 2L));
+
+        assertEquals(CreditApplicationStatus.APROBADA, scored.getStatus());
+        assertEquals(CreditApplicationStatus.EN_REVISION, unscored.getStatus());
+        verify(creditApplicationRepository).save(unscored);
+    }
+
+    @Test
+    void shouldApplyTheFallbackToTheWholeBatchWhenRiskCentralIsUnavailable() {
+        CreditApplication first = pendingApplication(1L, "111");
+        CreditApplication second = pendingApplication(2L, "222");
+        when(creditApplicationRepository.findAllByIds(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(riskAssessmentPort.assessRiskBatch(anyList()))
+                .thenThrow(new RiskAssessmentUnavailableException("circuito abierto", null));
+        when(creditApplicationRepository.save(any(CreditApplication.class))).thenAnswer(i -> i.getArgument(0));
+
+        useCase.evaluateCreditApplications(List.of(1L, 2L));
+
+        assertEquals(CreditApplicationStatus.EN_REVISION, first.getStatus());
+        assertEquals(CreditApplicationStatus.EN_REVISION, second.getStatus());
+        verify(creditApplicationRepository, never()).saveWithRiskEvaluation(any(), any());
+    }
+
+    private static CreditApplication pendingApplication(Long id, String document) {
+        Affiliate affiliate = new Affiliate();
+        affiliate.setDocument(document);
+        affiliate.setStatus(AffiliateStatus.ACTIVO);
+        affiliate.setSalary(new BigDecimal("5000000"));
+        affiliate.setEmploymentStartDate(LocalDate.now().minusMonths(12));
+
+        CreditApplication creditApplication = new CreditApplication();
+        creditApplication.setId(id);
+        creditApplication.setApplicationNumber("APP-" + id);
+        creditApplication.setRequestedAmount(new BigDecimal("1000000"));
+        creditApplication.setTermMonths(12);
+        creditApplication.setInterestRate(new BigDecimal("1.5"));
+        creditApplication.setStatus(CreditApplicationStatus.PENDIENTE);
+        creditApplication.setAffiliate(affiliate);
+        return creditApplication;
+    }
+}
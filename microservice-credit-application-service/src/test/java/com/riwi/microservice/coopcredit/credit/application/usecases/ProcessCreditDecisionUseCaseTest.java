@@ -0,0 +1,84 @@
+package com.riwi.microservice.coopcredit.credit.application.usecases;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditStatusTransition;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditDecisionType;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ProcessCreditDecisionUseCase.DecisionCommand;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ProcessCreditDecisionUseCase.DecisionItemResult;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessCreditDecisionUseCaseTest {
+
+    @Mock
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+
+    @InjectMocks
+    private ProcessCreditDecisionUseCaseImpl useCase;
+
+    @Test
+    void shouldApplyBatchWithOneUpdatePerDecisionAndComment() {
+        when(creditApplicationRepository.lockStatuses(anyCollection())).thenReturn(Map.of(
+                1L, CreditApplicationStatus.EN_REVISION,
+                2L, CreditApplicationStatus.EN_REVISION,
+                3L, CreditApplicationStatus.PENDIENTE,
+                4L, CreditApplicationStatus.EN_REVISION));
+        when(creditApplicationRepository.transitionStatuses(anyCollection(), any()))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).size());
+
+        List<DecisionItemResult> results = useCase.processDecisions(List.of(
+                new DecisionCommand(1L, CreditDecisionType.APPROVE, "ok"),
+                new DecisionCommand(2L, CreditDecisionType.APPROVE, "ok"),
+                new DecisionCommand(3L, CreditDecisionType.CANCEL, "duplicada"),
+                new DecisionCommand(4L, CreditDecisionType.REJECT, "sin capacidad")));
+
+        assertTrue(results.stream().allMatch(DecisionItemResult::isApplied));
+        assertEquals(CreditApplicationStatus.CANCELADA, results.get(2).status());
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.captor();
+        ArgumentCaptor<CreditStatusTransition> transitions = ArgumentCaptor.captor();
+        verify(creditApplicationRepository, times(3)).transitionStatuses(ids.capture(), transitions.capture());
+        assertEquals(List.of(1L, 2L), List.copyOf(ids.getAllValues().get(0)));
+        assertEquals(CreditApplicationStatus.APROBADA, transitions.getAllValues().get(0).to());
+    }
+
+    @Test
+    void shouldReportNotFoundAndConflictsWithoutFailingTheBatch() {
+        when(creditApplicationRepository.lockStatuses(anyCollection())).thenReturn(Map.of(
+                1L, CreditApplicationStatus.EN_REVISION,
+                2L, CreditApplicationStatus.PENDIENTE));
+        when(creditApplicationRepository.transitionStatuses(anyCollection(), any())).thenReturn(1);
+
+        List<DecisionItemResult> results = useCase.processDecisions(List.of(
+                new DecisionCommand(1L, CreditDecisionType.APPROVE, null),
+                new DecisionCommand(1L, CreditDecisionType.REJECT, null),
+                new DecisionCommand(2L, CreditDecisionType.APPROVE, null),
+                new DecisionCommand(99L, CreditDecisionType.CANCEL, null)));
+
+        assertTrue(results.get(0).isApplied());
+        // The second decision on application 1 sees the first one
+        assertEquals("CREDIT_STATUS_CONFLICT", results.get(1).errorCode());
+        assertEquals(CreditApplicationStatus.APROBADA, results.get(1).status());
+        assertEquals("CREDIT_STATUS_CONFLICT", results.get(2).errorCode());
+        assertEquals(CreditApplicationStatus.PENDIENTE, results.get(2).status());
+        assertEquals("CREDIT_APPLICATION_NOT_FOUND", results.get(3).errorCode());
+        verify(creditApplicationRepository).lockStatuses(List.of(1L, 2L, 99L));
+        verify(creditApplicationRepository).transitionStatuses(eq(List.of(1L)), any());
+    }
+}
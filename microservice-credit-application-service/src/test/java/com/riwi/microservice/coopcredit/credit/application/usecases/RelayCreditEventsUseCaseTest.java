@@ -0,0 +1,90 @@
+package com.riwi.microservice.coopcredit.credit.application.usecases;
+
+import com.riwi.microservice.coopcredit.credit.domain.exception.CreditEventPublisherUnavailableException;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditLifecycleEvent;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.RelayCreditEventsUseCase.RelayResult;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditEventOutboxPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditEventPublisherPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RelayCreditEventsUseCaseTest {
+
+    @Mock
+    private CreditEventOutboxPort creditEventOutbox;
+
+    @Mock
+    private CreditEventPublisherPort creditEventPublisher;
+
+    private RelayCreditEventsUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new RelayCreditEventsUseCaseImpl(creditEventOutbox, creditEventPublisher, 10);
+    }
+
+    @Test
+    void shouldDeletePublishedEventsAndHoldBackLaterEventsOfAFailedApplication() {
+        CreditLifecycleEvent created1 = event(1L, 100L, null, CreditApplicationStatus.PENDIENTE);
+        CreditLifecycleEvent created2 = event(2L, 200L, null, CreditApplicationStatus.PENDIENTE);
+        CreditLifecycleEvent review1 = event(3L, 100L, CreditApplicationStatus.PENDIENTE, CreditApplicationStatus.EN_REVISION);
+        CreditLifecycleEvent review2 = event(4L, 200L, CreditApplicationStatus.PENDIENTE, CreditApplicationStatus.EN_REVISION);
+        when(creditEventOutbox.claimNextBatch(10)).thenReturn(List.of(created1, created2, review1, review2));
+        doThrow(new IllegalStateException("broker down")).when(creditEventPublisher).publish(created1);
+
+        RelayResult result = useCase.relayBatch();
+
+        assertEquals(new RelayResult(4, 2, 1), result);
+        // The later event of application 100 is not even attempted
+        verify(creditEventPublisher, never()).publish(review1);
+        verify(creditEventOutbox).settle(List.of(2L, 4L), List.of(1L), List.of(3L));
+    }
+
+    @Test
+    void shouldStopTheBatchWhenTheDestinationIsUnreachable() {
+        CreditLifecycleEvent created1 = event(1L, 100L, null, CreditApplicationStatus.PENDIENTE);
+        CreditLifecycleEvent created2 = event(2L, 200L, null, CreditApplicationStatus.PENDIENTE);
+        CreditLifecycleEvent created3 = event(3L, 300L, null, CreditApplicationStatus.PENDIENTE);
+        CreditLifecycleEvent created4 = event(4L, 400L, null, CreditApplicationStatus.PENDIENTE);
+        when(creditEventOutbox.claimNextBatch(10)).thenReturn(List.of(created1, created2, created3, created4));
+        // Lenient: the first event is published through the same method before the stub is hit
+        lenient().doThrow(new CreditEventPublisherUnavailableException("connection refused", null))
+                .when(creditEventPublisher).publish(created2);
+
+        RelayResult result = useCase.relayBatch();
+
+        assertEquals(new RelayResult(4, 1, 1), result);
+        // Other applications are not tried against a destination that is down
+        verify(creditEventPublisher, never()).publish(created3);
+        verify(creditEventPublisher, never()).publish(created4);
+        verify(creditEventOutbox).settle(List.of(1L), List.of(2L), List.of(3L, 4L));
+    }
+
+    @Test
+    void shouldDoNothingWhenNothingIsPending() {
+        when(creditEventOutbox.claimNextBatch(10)).thenReturn(List.of());
+
+        assertEquals(new RelayResult(0, 0, 0), useCase.relayBatch());
+
+        verify(creditEventPublisher, never()).publish(any());
+        verify(creditEventOutbox, never()).settle(any(), any(), any());
+    }
+
+    private CreditLifecycleEvent event(Long eventId, Long applicationId,
+                                       CreditApplicationStatus previousStatus, CreditApplicationStatus status) {
+        return new CreditLifecycleEvent(eventId, applicationId, "CRE-202412-" + applicationId, 1L,
+                previousStatus, status, LocalDateTime.now());
+    }
+}
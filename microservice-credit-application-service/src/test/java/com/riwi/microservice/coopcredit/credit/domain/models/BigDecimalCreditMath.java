@@ -0,0 +1,86 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * The BigDecimal credit math that CreditDecisionKernel replaced, kept verbatim as the oracle
+ * for the equivalence tests and as the baseline of CreditDecisionKernelBenchmark.
+ */
+public final class BigDecimalCreditMath {
+
+    private BigDecimalCreditMath() {
+    }
+
+    /**
+     * Debt-to-income ratio, approval and recommendation of the automatic policies.
+     */
+    public record PolicyOutcome(BigDecimal debtToIncomeRatio, boolean approved, String recommendation) {}
+
+    public static BigDecimal monthlyPayment(BigDecimal requestedAmount, int termMonths, BigDecimal interestRate) {
+        BigDecimal monthlyRate = interestRate.divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP)
+                                             .divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
+
+        BigDecimal onePlusR = BigDecimal.ONE.add(monthlyRate);
+        BigDecimal onePlusRPowN = onePlusR.pow(termMonths);
+
+        BigDecimal numerator = requestedAmount.multiply(monthlyRate).multiply(onePlusRPowN);
+        BigDecimal denominator = onePlusRPowN.subtract(BigDecimal.ONE);
+
+        if (denominator.compareTo(BigDecimal.ZERO) == 0) {
+            return requestedAmount.divide(BigDecimal.valueOf(termMonths), 2, RoundingMode.HALF_UP);
+        }
+
+        return numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * @param monthsEmployed months since the employment start, or null without a start date
+     */
+    public static PolicyOutcome evaluate(BigDecimal requestedAmount, int termMonths, BigDecimal interestRate,
+                                         BigDecimal salary, Long monthsEmployed, boolean highRisk) {
+        boolean approved = true;
+        StringBuilder rejectionReason = new StringBuilder();
+
+        if (monthsEmployed != null) {
+            if (monthsEmployed < 6) {
+                approved = false;
+                rejectionReason.append("Antigüedad laboral insuficiente (< 6 meses). ");
+            }
+        } else {
+            approved = false;
+            rejectionReason.append("Fecha de inicio de empleo no registrada. ");
+        }
+
+        BigDecimal maxAmount = salary.multiply(BigDecimal.valueOf(10));
+        if (requestedAmount.compareTo(maxAmount) > 0) {
+            approved = false;
+            rejectionReason.append("Monto excede el límite permitido por salario. ");
+        }
+
+        BigDecimal monthlyRate = interestRate.divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP);
+        BigDecimal installment;
+        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
+            installment = requestedAmount.divide(BigDecimal.valueOf(termMonths), 2, RoundingMode.HALF_UP);
+        } else {
+            double p = requestedAmount.doubleValue();
+            double r = monthlyRate.doubleValue();
+            int n = termMonths;
+            double inst = (p * r) / (1 - Math.pow(1 + r, -n));
+            installment = BigDecimal.valueOf(inst);
+        }
+
+        BigDecimal ratio = installment.divide(salary, 4, RoundingMode.HALF_UP);
+        if (ratio.compareTo(new BigDecimal("0.30")) > 0) {
+            approved = false;
+            rejectionReason.append("Capacidad de endeudamiento insuficiente (Cuota/Ingreso > 30%). ");
+        }
+
+        if (highRisk) {
+            approved = false;
+            rejectionReason.append("Nivel de riesgo alto según central de riesgos. ");
+        }
+
+        return new PolicyOutcome(ratio, approved, approved ? "APROBADO" : "RECHAZADO: " + rejectionReason.toString());
+    }
+}
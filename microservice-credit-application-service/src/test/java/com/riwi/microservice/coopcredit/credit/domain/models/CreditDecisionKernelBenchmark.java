@@ -0,0 +1,111 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Credit policy and installment throughput, BigDecimal against CreditDecisionKernel, over a
+ * fixed set of random applications so the branch predictor does not learn a single input.
+ * Run with: mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *   "-Dexec.args=-cp %classpath com.riwi.microservice.coopcredit.credit.domain.models.CreditDecisionKernelBenchmark"
+ * and add -prof gc to the JMH arguments to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreditDecisionKernelBenchmark {
+
+    private static final int APPLICATIONS = 1024;
+
+    private final BigDecimal[] requestedAmounts = new BigDecimal[APPLICATIONS];
+    private final BigDecimal[] interestRates = new BigDecimal[APPLICATIONS];
+    private final BigDecimal[] salaries = new BigDecimal[APPLICATIONS];
+    private final long[] requestedCents = new long[APPLICATIONS];
+    private final long[] interestRateBasisPoints = new long[APPLICATIONS];
+    private final long[] salaryCents = new long[APPLICATIONS];
+    private final int[] termMonths = new int[APPLICATIONS];
+    private final long[] monthsEmployed = new long[APPLICATIONS];
+    private final boolean[] highRisk = new boolean[APPLICATIONS];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < APPLICATIONS; i++) {
+            requestedCents[i] = 100_000_000 + random.nextInt(1_000_000) * 1_000L;
+            interestRateBasisPoints[i] = 50 + random.nextInt(2_500);
+            salaryCents[i] = 100_000_000 + random.nextInt(1_000_000) * 100L;
+            termMonths[i] = 6 + random.nextInt(55);
+            monthsEmployed[i] = random.nextInt(120);
+            highRisk[i] = random.nextInt(5) == 0;
+            requestedAmounts[i] = BigDecimal.valueOf(requestedCents[i], 2);
+            interestRates[i] = BigDecimal.valueOf(interestRateBasisPoints[i], 2);
+            salaries[i] = BigDecimal.valueOf(salaryCents[i], 2);
+        }
+    }
+
+    private int next() {
+        return next = (next + 1) & (APPLICATIONS - 1);
+    }
+
+    @Benchmark
+    public Object bigDecimalPolicy() {
+        int i = next();
+        return BigDecimalCreditMath.evaluate(requestedAmounts[i], termMonths[i], interestRates[i], salaries[i],
+                monthsEmployed[i], highRisk[i]);
+    }
+
+    @Benchmark
+    public Object kernelPolicy() {
+        int i = next();
+        long decision = CreditDecisionKernel.decide(requestedCents[i], termMonths[i], interestRateBasisPoints[i],
+                salaryCents[i], monthsEmployed[i], highRisk[i]);
+        return CreditDecisionKernel.recommendation(CreditDecisionKernel.rejections(decision));
+    }
+
+    // The path CreditPolicyEvaluator takes, converting its BigDecimal inputs first
+    @Benchmark
+    public Object kernelPolicyFromBigDecimal() {
+        int i = next();
+        long decision = CreditDecisionKernel.decide(CreditDecisionKernel.toFixedPoint(requestedAmounts[i]),
+                termMonths[i], CreditDecisionKernel.toFixedPoint(interestRates[i]),
+                CreditDecisionKernel.toFixedPoint(salaries[i]), monthsEmployed[i], highRisk[i]);
+        return CreditDecisionKernel.recommendation(CreditDecisionKernel.rejections(decision));
+    }
+
+    @Benchmark
+    public Object bigDecimalMonthlyPayment() {
+        int i = next();
+        return BigDecimalCreditMath.monthlyPayment(requestedAmounts[i], termMonths[i], interestRates[i]);
+    }
+
+    @Benchmark
+    public long kernelMonthlyPayment() {
+        int i = next();
+        return CreditDecisionKernel.monthlyPaymentCents(requestedCents[i], termMonths[i], interestRateBasisPoints[i]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CreditDecisionKernelBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
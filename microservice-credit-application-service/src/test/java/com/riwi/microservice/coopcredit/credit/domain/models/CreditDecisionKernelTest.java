@@ -0,0 +1,98 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.BigDecimalCreditMath.PolicyOutcome;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreditDecisionKernelTest {
+
+    @Test
+    void shouldDecideExactlyLikeBigDecimal() {
+        Random random = new Random(42);
+        int undecided = 0;
+        int samples = 200_000;
+        for (int i = 0; i < samples; i++) {
+            long requestedCents = 10_000_000 + (long) (random.nextDouble() * 50_000_000_000L);
+            int termMonths = 1 + random.nextInt(360);
+            long rateBasisPoints = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(10_000);
+            long salaryCents = 1 + (long) (random.nextDouble() * 5_000_000_000L);
+            long monthsEmployed = random.nextInt(12);
+            boolean highRisk = random.nextInt(4) == 0;
+
+            long decision = CreditDecisionKernel.decide(requestedCents, termMonths, rateBasisPoints, salaryCents,
+                    monthsEmployed, highRisk);
+            if (decision == CreditDecisionKernel.UNDECIDED) {
+                undecided++;
+                continue;
+            }
+            PolicyOutcome expected = BigDecimalCreditMath.evaluate(BigDecimal.valueOf(requestedCents, 2), termMonths,
+                    BigDecimal.valueOf(rateBasisPoints, 2), BigDecimal.valueOf(salaryCents, 2), monthsEmployed, highRisk);
+            int rejections = CreditDecisionKernel.rejections(decision);
+            String inputs = requestedCents + "/" + termMonths + "/" + rateBasisPoints + "/" + salaryCents;
+            assertEquals(expected.debtToIncomeRatio(),
+                    BigDecimal.valueOf(CreditDecisionKernel.debtToIncomeRatio(decision), 4), inputs);
+            assertEquals(expected.approved(), rejections == 0, inputs);
+            assertEquals(expected.recommendation(), CreditDecisionKernel.recommendation(rejections), inputs);
+        }
+        assertTrue(undecided < samples / 1000, undecided + " undecided");
+    }
+
+    @Test
+    void shouldComputeMonthlyPaymentExactlyLikeBigDecimal() {
+        Random random = new Random(7);
+        int undecided = 0;
+        int samples = 20_000;
+        for (int i = 0; i < samples; i++) {
+            long requestedCents = 10_000_000 + (long) (random.nextDouble() * 50_000_000_000L);
+            int termMonths = 6 + random.nextInt(79);
+            long rateBasisPoints = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(10_000);
+
+            long cents = CreditDecisionKernel.monthlyPaymentCents(requestedCents, termMonths, rateBasisPoints);
+            if (cents == CreditDecisionKernel.UNDECIDED) {
+                undecided++;
+                continue;
+            }
+            assertEquals(BigDecimalCreditMath.monthlyPayment(BigDecimal.valueOf(requestedCents, 2), termMonths,
+                            BigDecimal.valueOf(rateBasisPoints, 2)),
+                    BigDecimal.valueOf(cents, 2), requestedCents + "/" + termMonths + "/" + rateBasisPoints);
+        }
+        assertTrue(undecided < samples / 100, undecided + " undecided");
+    }
+
+    @Test
+    void shouldLeaveInputsOutsideFixedPointToBigDecimal() {
+        assertEquals(CreditDecisionKernel.NOT_FIXED_POINT, CreditDecisionKernel.toFixedPoint(new BigDecimal("1000.005")));
+        assertEquals(CreditDecisionKernel.NOT_FIXED_POINT, CreditDecisionKernel.toFixedPoint(new BigDecimal("-1")));
+        assertEquals(CreditDecisionKernel.NOT_FIXED_POINT, CreditDecisionKernel.toFixedPoint(new BigDecimal("3000000000000")));
+        assertEquals(150, CreditDecisionKernel.toFixedPoint(new BigDecimal("1.5")));
+        assertEquals(123_456_789_012L, CreditDecisionKernel.toFixedPoint(new BigDecimal("1234567890.12")));
+        assertEquals(CreditDecisionKernel.UNDECIDED,
+                CreditDecisionKernel.decide(CreditDecisionKernel.NOT_FIXED_POINT, 12, 150, 100_000, 12, false));
+        assertEquals(CreditDecisionKernel.UNDECIDED, CreditDecisionKernel.decide(100_000, 12, 150, 0, 12, false));
+
+        CreditApplication creditApplication = new CreditApplication();
+        creditApplication.setRequestedAmount(new BigDecimal("1000000.005"));
+        creditApplication.setTermMonths(24);
+        creditApplication.setInterestRate(new BigDecimal("18.375"));
+        assertEquals(BigDecimalCreditMath.monthlyPayment(new BigDecimal("1000000.005"), 24, new BigDecimal("18.375")),
+                creditApplication.calculateMonthlyPayment());
+    }
+
+    @Test
+    void shouldRejectMissingEmploymentStartAndListReasonsInPolicyOrder() {
+        long decision = CreditDecisionKernel.decide(2_000_000_000L, 12, 150, 10_000_000,
+                CreditDecisionKernel.NO_EMPLOYMENT_START, true);
+
+        int rejections = CreditDecisionKernel.rejections(decision);
+        assertEquals(CreditDecisionKernel.EMPLOYMENT_START_MISSING | CreditDecisionKernel.AMOUNT_OVER_LIMIT
+                | CreditDecisionKernel.DEBT_CAPACITY_EXCEEDED | CreditDecisionKernel.HIGH_RISK, rejections);
+        assertEquals(BigDecimalCreditMath.evaluate(new BigDecimal("20000000.00"), 12, new BigDecimal("1.50"),
+                        new BigDecimal("100000.00"), null, true).recommendation(),
+                CreditDecisionKernel.recommendation(rejections));
+        assertEquals("APROBADO", CreditDecisionKernel.recommendation(0));
+    }
+}
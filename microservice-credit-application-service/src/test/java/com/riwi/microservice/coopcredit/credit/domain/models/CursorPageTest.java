@@ -0,0 +1,34 @@
+package com.riwi.microservice.coopcredit.credit.domain.models;
+
+import com.riwi.microservice.coopcredit.credit.domain.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageTest {
+
+    @Test
+    void shouldRoundTripCursorToken() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123456000), 42L);
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode()));
+        assertSame(PageCursor.FIRST, PageCursor.decode(null));
+        assertThrows(InvalidCursorException.class, () -> PageCursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    void shouldUseExtraRowOnlyToSignalNextPage() {
+        List<Long> rows = List.of(5L, 4L, 3L);
+
+        CursorPage<Long> page = CursorPage.of(rows, 2, id -> new PageCursor(LocalDateTime.MIN, id));
+        CursorPage<Long> last = CursorPage.of(rows, 3, id -> new PageCursor(LocalDateTime.MIN, id));
+
+        assertEquals(List.of(5L, 4L), page.items());
+        assertEquals(4L, page.next().id());
+        assertFalse(last.hasNext());
+        assertEquals(CursorPage.MAX_SIZE, CursorPage.limit(10_000));
+    }
+}
@@ -0,0 +1,96 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApplicationNumberAllocatorTest {
+
+    @Test
+    void shouldFormatApplicationNumber() {
+        assertEquals("CRE-202610-000042", ApplicationNumberAllocator.format(YearMonth.of(2026, 10), 42));
+    }
+
+    @Test
+    void shouldHandOutUniqueNumbersAcrossReplicasUnderConcurrency() throws Exception {
+        AtomicInteger sequenceCalls = new AtomicInteger();
+        JdbcTemplate jdbcTemplate = sharedSequence(sequenceCalls);
+        List<ApplicationNumberAllocator> replicas = List.of(
+                new ApplicationNumberAllocator(jdbcTemplate),
+                new ApplicationNumberAllocator(jdbcTemplate),
+                new ApplicationNumberAllocator(jdbcTemplate));
+
+        int total = 10_000;
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < total; i++) {
+                ApplicationNumberAllocator replica = replicas.get(i % replicas.size());
+                futures.add(executor.submit(() -> assertTrue(numbers.add(replica.nextApplicationNumber()))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(total, numbers.size());
+        // One database round trip per block, plus at most one partially used block per replica
+        assertTrue(sequenceCalls.get() <= total / ApplicationNumberAllocator.BLOCK_SIZE + replicas.size() + 1);
+    }
+
+    @Test
+    void shouldReserveConsecutiveNumbersForABatch() {
+        AtomicInteger sequenceCalls = new AtomicInteger();
+        ApplicationNumberAllocator allocator = new ApplicationNumberAllocator(sharedSequence(sequenceCalls));
+
+        String first = allocator.nextApplicationNumber();
+        List<String> batch = allocator.nextApplicationNumbers(120);
+
+        Set<String> numbers = new HashSet<>(batch);
+        numbers.add(first);
+
+        assertEquals(120, batch.size());
+        assertEquals(121, numbers.size());
+        // One block for the single number, then the two missing blocks in one round trip
+        assertEquals(2, sequenceCalls.get());
+    }
+
+    /**
+     * Mocks the shared database sequence (INCREMENT BY BLOCK_SIZE).
+     */
+    private static JdbcTemplate sharedSequence(AtomicInteger sequenceCalls) {
+        AtomicLong sequence = new AtomicLong(1 - ApplicationNumberAllocator.BLOCK_SIZE);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), anyInt())).thenAnswer(invocation -> {
+            sequenceCalls.incrementAndGet();
+            int blocks = invocation.getArgument(2);
+            List<Long> starts = new ArrayList<>();
+            for (int i = 0; i < blocks; i++) {
+                starts.add(sequence.addAndGet(ApplicationNumberAllocator.BLOCK_SIZE));
+            }
+            return starts;
+        });
+        return jdbcTemplate;
+    }
+}
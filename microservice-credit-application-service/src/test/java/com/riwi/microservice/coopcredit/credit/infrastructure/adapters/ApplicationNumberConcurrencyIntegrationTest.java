@@ -0,0 +1,130 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.AbstractIntegrationTest;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaCreditApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Creates thousands of applications in parallel through two allocators sharing the
+ * database sequence (simulating two replicas) and checks that no number is repeated.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ApplicationNumberConcurrencyIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int APPLICATIONS = 2_000;
+
+    @Autowired
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private JpaCreditApplicationRepository jpaCreditApplicationRepository;
+
+    @Autowired
+    private JpaAffiliateRepository jpaAffiliateRepository;
+
+    @Autowired
+    private ApplicationNumberAllocator applicationNumberAllocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private RiskAssessmentPort riskAssessmentPort;
+
+    private Affiliate affiliate;
+
+    @BeforeEach
+    void setUp() {
+        jpaCreditApplicationRepository.deleteAll();
+        jpaAffiliateRepository.deleteAll();
+
+        affiliate = new Affiliate();
+        affiliate.setDocument("555000111");
+        affiliate.setDocumentType("CC");
+        affiliate.setFirstName("Concurrency");
+        affiliate.setLastName("Test");
+        affiliate.setEmail("concurrency@test.com");
+        affiliate.setPhone("3000000000");
+        affiliate.setAddress("Test Address");
+        affiliate.setBirthDate(LocalDate.of(1990, 1, 1));
+        affiliate.setSalary(new BigDecimal("5000000"));
+        affiliate.setStatus(AffiliateStatus.ACTIVO);
+        affiliate.setEmploymentStartDate(LocalDate.now().minusYears(2));
+        affiliate = affiliateRepository.save(affiliate);
+    }
+
+    @Test
+    void shouldCreateApplicationsInParallelWithoutDuplicateNumbers() throws Exception {
+        List<ApplicationNumberAllocator> replicas = List.of(
+                applicationNumberAllocator,
+                new ApplicationNumberAllocator(jdbcTemplate));
+
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < APPLICATIONS; i++) {
+                ApplicationNumberAllocator replica = replicas.get(i % replicas.size());
+                futures.add(executor.submit(() -> {
+                    CreditApplication saved = creditApplicationRepository.save(newApplication(replica.nextApplicationNumber()));
+                    numbers.add(saved.getApplicationNumber());
+                }));
+            }
+            for (Future<?> future : futures) {
+                // A duplicate would surface here as a unique constraint violation
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(APPLICATIONS, numbers.size());
+        assertEquals(APPLICATIONS, jpaCreditApplicationRepository.count());
+    }
+
+    private CreditApplication newApplication(String applicationNumber) {
+        CreditApplication creditApplication = new CreditApplication();
+        creditApplication.setApplicationNumber(applicationNumber);
+        creditApplication.setAffiliate(affiliate);
+        creditApplication.setRequestedAmount(new BigDecimal("1000000"));
+        creditApplication.setTermMonths(12);
+        creditApplication.setInterestRate(new BigDecimal("1.5"));
+        creditApplication.setPurpose("Concurrency test");
+        creditApplication.setStatus(CreditApplicationStatus.PENDIENTE);
+        creditApplication.setApplicationDate(LocalDateTime.now());
+        creditApplication.setCreatedAt(LocalDateTime.now());
+        creditApplication.setUpdatedAt(LocalDateTime.now());
+        return creditApplication;
+    }
+}
@@ -0,0 +1,61 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Migrates a database holding numbers of the previous MAX()+1 generator and checks that
+ * the first block handed out afterwards starts above all of them.
+ */
+@Testcontainers
+class ApplicationNumberSequenceMigrationIntegrationTest {
+
+    @Container
+    @SuppressWarnings("resource")
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Test
+    void shouldResumeAfterNumbersIssuedBeforeTheSequence() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        migrate(dataSource, "3");
+        jdbcTemplate.update("""
+                INSERT INTO affiliates (document, document_type, first_name, last_name, email, phone,
+                                        birth_date, address, salary)
+                VALUES ('900100200', 'CC', 'Legacy', 'Numbers', 'legacy@test.com', '3000000000',
+                        '1990-01-01', 'Test Address', 3000000)""");
+        Long affiliateId = jdbcTemplate.queryForObject("SELECT id FROM affiliates", Long.class);
+        for (int suffix = 1; suffix <= 73; suffix++) {
+            jdbcTemplate.update("""
+                    INSERT INTO credit_applications (application_number, requested_amount, term_months,
+                                                     interest_rate, purpose, affiliate_id)
+                    VALUES (?, 1000000, 12, 1.5, 'Legacy', ?)""",
+                    ApplicationNumberAllocator.format(YearMonth.now(), suffix), affiliateId);
+        }
+
+        migrate(dataSource, "4");
+
+        // 73 lies in the block 51-100, so the first new block is 101-150
+        assertEquals(101L, jdbcTemplate.queryForObject("SELECT nextval('credit_application_number_seq')", Long.class));
+    }
+
+    private static void migrate(DriverManagerDataSource dataSource, String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target(target)
+                .load()
+                .migrate();
+    }
+}
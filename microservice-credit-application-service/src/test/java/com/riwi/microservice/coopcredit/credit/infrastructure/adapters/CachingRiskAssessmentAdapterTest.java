@@ -0,0 +1,131 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentRequest;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CachingRiskAssessmentAdapterTest {
+
+    private static final RiskAssessmentResult LOW_RISK = new RiskAssessmentResult(800, "BAJO RIESGO", "Good");
+
+    private RiskAssessmentAdapter remote;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingRiskAssessmentAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        remote = mock(RiskAssessmentAdapter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CachingRiskAssessmentAdapter(remote, meterRegistry, Duration.ofMinutes(10), 100,
+                CachingRiskAssessmentAdapter.Expiry.WRITE);
+    }
+
+    @Test
+    void shouldServeRepeatedDocumentFromCache() {
+        when(remote.assessRisk(anyString(), anyDouble(), anyInt())).thenReturn(LOW_RISK);
+
+        adapter.assessRisk("123", 1000000.0, 12);
+        RiskAssessmentResult second = adapter.assessRisk("123", 2000000.0, 24);
+
+        assertEquals(LOW_RISK, second);
+        verify(remote, times(1)).assessRisk(anyString(), anyDouble(), anyInt());
+        assertEquals(1.0, gets("hit"));
+        assertEquals(1.0, gets("miss"));
+    }
+
+    @Test
+    void shouldCoalesceConcurrentMissesForTheSameDocument() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(remote.assessRisk(anyString(), anyDouble(), anyInt())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return LOW_RISK;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<RiskAssessmentResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> adapter.assessRisk("123", 1000000.0, 12)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<RiskAssessmentResult> future : futures) {
+                assertEquals(LOW_RISK, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        verify(remote, times(1)).assessRisk(anyString(), anyDouble(), anyInt());
+    }
+
+    @Test
+    void shouldOnlyFetchMissingDocumentsInBatch() {
+        when(remote.assessRisk(anyString(), anyDouble(), anyInt())).thenReturn(LOW_RISK);
+        adapter.assessRisk("cached", 1000000.0, 12);
+
+        RiskAssessmentResult fetched = new RiskAssessmentResult(450, "ALTO RIESGO", "Bad");
+        when(remote.assessRiskBatch(any())).thenReturn(List.of(fetched));
+
+        List<RiskAssessmentResult> results = adapter.assessRiskBatch(List.of(
+                new RiskAssessmentRequest("cached", 1.0, 6),
+                new RiskAssessmentRequest("new", 1.0, 6),
+                new RiskAssessmentRequest("new", 2.0, 12)));
+
+        assertEquals(List.of(LOW_RISK, fetched, fetched), results);
+        verify(remote).assessRiskBatch(List.of(new RiskAssessmentRequest("new", 1.0, 6)));
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        when(remote.assessRisk(anyString(), anyDouble(), anyInt()))
+                .thenThrow(new RuntimeException("unavailable"))
+                .thenReturn(LOW_RISK);
+
+        assertThrows(RuntimeException.class, () -> adapter.assessRisk("123", 1000000.0, 12));
+        assertEquals(LOW_RISK, adapter.assessRisk("123", 1000000.0, 12));
+    }
+
+    @Test
+    void shouldShareCacheBetweenBlockingAndNonBlockingCalls() {
+        CompletableFuture<RiskAssessmentResult> pending = new CompletableFuture<>();
+        when(remote.assessRiskAsync(anyString(), anyDouble(), anyInt())).thenReturn(pending);
+
+        CompletableFuture<RiskAssessmentResult> first = adapter.assessRiskAsync("123", 1000000.0, 12);
+        CompletableFuture<RiskAssessmentResult> second = adapter.assessRiskAsync("123", 1000000.0, 12);
+        pending.complete(LOW_RISK);
+
+        assertEquals(LOW_RISK, first.join());
+        assertEquals(LOW_RISK, second.join());
+        assertEquals(LOW_RISK, adapter.assessRisk("123", 1000000.0, 12));
+        verify(remote, times(1)).assessRiskAsync(anyString(), anyDouble(), anyInt());
+        verify(remote, never()).assessRisk(anyString(), anyDouble(), anyInt());
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CachingRiskAssessmentAdapter.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
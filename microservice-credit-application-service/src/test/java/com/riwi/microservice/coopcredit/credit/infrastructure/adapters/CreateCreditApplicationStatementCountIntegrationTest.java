@@ -0,0 +1,116 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.AbstractIntegrationTest;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentResult;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.CreateCreditApplicationUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.CreateCreditApplicationUseCase.CreateCreditApplicationCommand;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaCreditApplicationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.riwi.microservice.coopcredit.credit.AffiliateFixtures.affiliate;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Guards the synchronous create path: affiliate lookup, application INSERT and risk evaluation
+ * INSERT, with no re-reads and no final UPDATE, and no transaction open across the risk call.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CreateCreditApplicationStatementCountIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int MAX_STATEMENTS_PER_CREATE = 3;
+
+    @Autowired
+    private CreateCreditApplicationUseCase createCreditApplicationUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private JpaAffiliateRepository jpaAffiliateRepository;
+
+    @Autowired
+    private JpaCreditApplicationRepository jpaCreditApplicationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private RiskAssessmentPort riskAssessmentPort;
+
+    private Affiliate affiliate;
+
+    @BeforeEach
+    void setUp() {
+        jpaCreditApplicationRepository.deleteAll();
+        jpaAffiliateRepository.deleteAll();
+        affiliate = affiliateRepository.save(affiliate("666000111", AffiliateStatus.ACTIVO));
+
+        when(riskAssessmentPort.assessRiskAsync(anyString(), anyDouble(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(new RiskAssessmentResult(800, "BAJO RIESGO", "Approved")));
+    }
+
+    @Test
+    void shouldCreateEvaluatedApplicationInAtMostThreeStatements() {
+        // Warm up: the first create reserves ID and application number blocks
+        createCreditApplicationUseCase.createCreditApplication(newCommand());
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        CreditApplication created = createCreditApplicationUseCase.createCreditApplication(newCommand());
+
+        assertEquals(CreditApplicationStatus.APROBADA, created.getStatus());
+        assertNotNull(created.getId());
+        assertNotNull(created.getRiskEvaluation().getId());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS_PER_CREATE,
+                () -> "statements per create: " + statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+    }
+
+    @Test
+    void shouldAwaitRiskCentralWithoutAnOpenTransaction() {
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        when(riskAssessmentPort.assessRiskAsync(anyString(), anyDouble(), anyInt())).thenAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return CompletableFuture.completedFuture(new RiskAssessmentResult(800, "BAJO RIESGO", "Approved"));
+        });
+
+        CreditApplication created = createCreditApplicationUseCase.createCreditApplication(newCommand());
+
+        assertFalse(transactionActive.get(), "risk call made inside a transaction");
+        assertEquals(CreditApplicationStatus.APROBADA, created.getStatus());
+    }
+
+    private CreateCreditApplicationCommand newCommand() {
+        return new CreateCreditApplicationCommand(
+                affiliate.getId(), new BigDecimal("1000000"), 12, new BigDecimal("1.5"), "Statement count test");
+    }
+}
@@ -0,0 +1,96 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.AbstractIntegrationTest;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaCreditApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import static com.riwi.microservice.coopcredit.credit.AffiliateFixtures.affiliate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The adapter hands the persisted version back to the caller's instance, so the same instance
+ * can be saved again while a copy read before the change is still rejected.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CreditApplicationRepositoryAdapterIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private JpaAffiliateRepository jpaAffiliateRepository;
+
+    @Autowired
+    private JpaCreditApplicationRepository jpaCreditApplicationRepository;
+
+    private Affiliate affiliate;
+
+    @BeforeEach
+    void setUp() {
+        jpaCreditApplicationRepository.deleteAll();
+        jpaAffiliateRepository.deleteAll();
+        affiliate = affiliateRepository.save(affiliate("777000111", AffiliateStatus.ACTIVO));
+    }
+
+    @Test
+    void shouldSaveTheSameInstanceTwice() {
+        CreditApplication application = creditApplicationRepository.save(newApplication());
+        Long createdVersion = application.getVersion();
+        assertNotNull(createdVersion);
+
+        application.startReview();
+        creditApplicationRepository.save(application);
+        assertEquals(createdVersion + 1, application.getVersion());
+
+        application.approve("Aprobado en segunda escritura");
+        CreditApplication saved = assertDoesNotThrow(() -> creditApplicationRepository.save(application));
+
+        assertEquals(createdVersion + 2, saved.getVersion());
+        CreditApplication stored = creditApplicationRepository.findById(application.getId()).orElseThrow();
+        assertEquals(CreditApplicationStatus.APROBADA, stored.getStatus());
+        assertEquals(saved.getVersion(), stored.getVersion());
+    }
+
+    @Test
+    void shouldRejectACopyReadBeforeTheLastSave() {
+        CreditApplication application = creditApplicationRepository.save(newApplication());
+        CreditApplication staleCopy = creditApplicationRepository.findById(application.getId()).orElseThrow();
+
+        application.startReview();
+        creditApplicationRepository.save(application);
+
+        staleCopy.cancel("Copia desactualizada");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> creditApplicationRepository.save(staleCopy));
+    }
+
+    private CreditApplication newApplication() {
+        CreditApplication application = new CreditApplication();
+        application.setApplicationNumber(ApplicationNumberAllocator.format(YearMonth.now(), 1));
+        application.setRequestedAmount(new BigDecimal("1000000"));
+        application.setTermMonths(12);
+        application.setInterestRate(new BigDecimal("1.5"));
+        application.setPurpose("Version round trip");
+        application.setStatus(CreditApplicationStatus.PENDIENTE);
+        application.setAffiliate(affiliate);
+        return application;
+    }
+}
@@ -0,0 +1,152 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.domain.exception.CreditIntakeSaturatedException;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.EvaluateCreditApplicationUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CreditDecisionPipelineAdapterTest {
+
+    private final EvaluateCreditApplicationUseCase evaluateCreditApplicationUseCase = mock(EvaluateCreditApplicationUseCase.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private CreditDecisionPipelineAdapter pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        pipeline.shutdown();
+    }
+
+    @Test
+    void shouldRejectWhenEveryWorkerAndQueueSlotIsTaken() throws Exception {
+        CountDownLatch started = blockEvaluations();
+        pipeline = pipeline(1, 1, 100);
+
+        pipeline.enqueue(1L);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        pipeline.enqueue(2L);
+
+        CreditIntakeSaturatedException error = assertThrows(CreditIntakeSaturatedException.class,
+                () -> pipeline.enqueue(3L));
+        assertNotNull(error.getMessage());
+        assertEquals(1.0, meterRegistry.get("credit.pipeline.rejected").counter().count());
+        assertEquals(0.0, availableSlots());
+
+        // Capacity comes back as evaluations finish
+        release.countDown();
+        verify(evaluateCreditApplicationUseCase, timeout(5000)).evaluateCreditApplication(2L);
+        awaitAvailableSlots(2);
+        pipeline.enqueue(3L);
+        verify(evaluateCreditApplicationUseCase, timeout(5000)).evaluateCreditApplication(3L);
+    }
+
+    @Test
+    void shouldReleaseTheSlotWhenTheIntakeTransactionRollsBack() {
+        pipeline = pipeline(1, 0, 100);
+        TransactionSynchronizationManager.initSynchronization();
+
+        pipeline.enqueue(1L);
+        assertEquals(0.0, availableSlots());
+        assertThrows(CreditIntakeSaturatedException.class, () -> pipeline.enqueue(2L));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(1.0, availableSlots());
+        verifyNoInteractions(evaluateCreditApplicationUseCase);
+    }
+
+    @Test
+    void shouldDispatchOnlyAfterTheIntakeTransactionCommits() throws InterruptedException {
+        pipeline = pipeline(1, 0, 100);
+        TransactionSynchronizationManager.initSynchronization();
+
+        pipeline.enqueue(1L);
+        verifyNoInteractions(evaluateCreditApplicationUseCase);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(evaluateCreditApplicationUseCase, timeout(5000)).evaluateCreditApplication(1L);
+        awaitAvailableSlots(1);
+    }
+
+    @Test
+    void shouldQueueWhatFitsAndScoreItInRiskCentralBatches() throws InterruptedException {
+        pipeline = pipeline(1, 4, 2);
+        TransactionSynchronizationManager.initSynchronization();
+
+        int queued = pipeline.enqueueAll(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L));
+        assertEquals(5, queued);
+        assertEquals(2.0, meterRegistry.get("credit.pipeline.rejected").counter().count());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(evaluateCreditApplicationUseCase, timeout(5000)).evaluateCreditApplications(List.of(1L, 2L));
+        verify(evaluateCreditApplicationUseCase, timeout(5000)).evaluateCreditApplications(List.of(3L, 4L));
+        verify(evaluateCreditApplicationUseCase, timeout(5000)).evaluateCreditApplication(5L);
+        awaitAvailableSlots(5);
+    }
+
+    @Test
+    void shouldReleaseEveryBatchSlotWhenTheIntakeTransactionRollsBack() {
+        pipeline = pipeline(1, 2, 100);
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertEquals(3, pipeline.enqueueAll(List.of(1L, 2L, 3L)));
+        assertEquals(0.0, availableSlots());
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(3.0, availableSlots());
+        verifyNoInteractions(evaluateCreditApplicationUseCase);
+    }
+
+    private CreditDecisionPipelineAdapter pipeline(int workers, int queueCapacity, int riskBatchSize) {
+        return new CreditDecisionPipelineAdapter(evaluateCreditApplicationUseCase, meterRegistry,
+                workers, queueCapacity, riskBatchSize);
+    }
+
+    // Evaluations block until the test releases them; the latch counts the first one started
+    private CountDownLatch blockEvaluations() {
+        CountDownLatch started = new CountDownLatch(1);
+        when(evaluateCreditApplicationUseCase.evaluateCreditApplication(anyLong())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        return started;
+    }
+
+    // What the transaction manager does once the intake transaction ends
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private double availableSlots() {
+        return meterRegistry.get("credit.pipeline.capacity.available").gauge().value();
+    }
+
+    // Slots are released after the use case returns, so the mock verification can win the race
+    private void awaitAvailableSlots(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (availableSlots() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, availableSlots());
+    }
+}
@@ -0,0 +1,215 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.AbstractIntegrationTest;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditLifecycleEvent;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditDecisionType;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ClaimCreditApplicationUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ProcessCreditDecisionUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ProcessCreditDecisionUseCase.DecisionCommand;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.RelayCreditEventsUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.RelayCreditEventsUseCase.RelayResult;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditEventOutboxPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaCreditApplicationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.riwi.microservice.coopcredit.credit.AffiliateFixtures.affiliate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Every status change, whatever the write path, reaches the broker once acknowledged, in order
+ * per application; a broker failure keeps the event and everything after it for the next run.
+ * Runs on the Flyway schema, where the outbox trigger lives; the scheduled relay is parked.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "credit.outbox.poll-interval=PT1H"
+})
+@ActiveProfiles("test")
+class CreditEventOutboxIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private RelayCreditEventsUseCase relayCreditEventsUseCase;
+
+    @Autowired
+    private InMemoryCreditEventBroker broker;
+
+    @Autowired
+    private CreditEventOutboxPort creditEventOutbox;
+
+    @Autowired
+    private ClaimCreditApplicationUseCase claimCreditApplicationUseCase;
+
+    @Autowired
+    private ProcessCreditDecisionUseCase processCreditDecisionUseCase;
+
+    @Autowired
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private JpaCreditApplicationRepository jpaCreditApplicationRepository;
+
+    @Autowired
+    private JpaAffiliateRepository jpaAffiliateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private RiskAssessmentPort riskAssessmentPort;
+
+    private final List<CreditLifecycleEvent> received = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean brokerDown = new AtomicBoolean();
+    private Runnable unsubscribe;
+
+    @BeforeEach
+    void setUp() {
+        jpaCreditApplicationRepository.deleteAll();
+        jpaAffiliateRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM credit_application_outbox");
+        unsubscribe = broker.subscribe(event -> {
+            if (brokerDown.get()) {
+                throw new IllegalStateException("broker down");
+            }
+            received.add(event);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        unsubscribe.run();
+    }
+
+    @Test
+    void shouldRelayEveryStatusChangeInOrderPerApplication() {
+        Affiliate affiliate = affiliateRepository.save(affiliate("444000777", AffiliateStatus.ACTIVO));
+        CreditApplication first = creditApplicationRepository.save(newApplication(affiliate, 2));
+        CreditApplication second = creditApplicationRepository.save(newApplication(affiliate, 1));
+        // Native claim, bulk JPQL decision and a JPA update that keeps the status
+        claimCreditApplicationUseCase.claim("analista", 2);
+        processCreditDecisionUseCase.processDecisions(List.of(
+                new DecisionCommand(first.getId(), CreditDecisionType.APPROVE, "ok")));
+        CreditApplication reviewed = creditApplicationRepository.findByIdWithDetails(second.getId()).orElseThrow();
+        reviewed.setPurpose("Sin cambio de estado");
+        creditApplicationRepository.save(reviewed);
+
+        RelayResult result = relayCreditEventsUseCase.relayBatch();
+
+        assertEquals(new RelayResult(5, 5, 0), result);
+        // The insert has no previous status; List.of rejects the null
+        assertEquals(Arrays.asList(null, CreditApplicationStatus.PENDIENTE, CreditApplicationStatus.EN_REVISION),
+                received.stream().filter(event -> event.applicationId().equals(first.getId()))
+                        .map(CreditLifecycleEvent::previousStatus).toList());
+        assertEquals(List.of(CreditApplicationStatus.PENDIENTE, CreditApplicationStatus.EN_REVISION),
+                received.stream().filter(event -> event.applicationId().equals(second.getId()))
+                        .map(CreditLifecycleEvent::status).toList());
+        assertEquals(0, outboxSize());
+    }
+
+    @Test
+    void shouldKeepEventsUntilTheBrokerAcknowledges() {
+        Affiliate affiliate = affiliateRepository.save(affiliate("444000777", AffiliateStatus.ACTIVO));
+        CreditApplication application = creditApplicationRepository.save(newApplication(affiliate, 1));
+        processCreditDecisionUseCase.cancelCreditApplication(application.getId(), "duplicada");
+
+        brokerDown.set(true);
+        assertEquals(new RelayResult(2, 0, 1), relayCreditEventsUseCase.relayBatch());
+        assertEquals(2, outboxSize());
+
+        brokerDown.set(false);
+        assertEquals(new RelayResult(2, 2, 0), relayCreditEventsUseCase.relayBatch());
+        assertEquals(List.of(CreditApplicationStatus.PENDIENTE, CreditApplicationStatus.CANCELADA),
+                received.stream().map(CreditLifecycleEvent::status).toList());
+        assertEquals(0, outboxSize());
+    }
+
+    @Test
+    void shouldPublishWithNoTransactionOpenWhileTheEventIsLeased() {
+        Affiliate affiliate = affiliateRepository.save(affiliate("444000777", AffiliateStatus.ACTIVO));
+        creditApplicationRepository.save(newApplication(affiliate, 1));
+        List<Boolean> transactionOpen = new CopyOnWriteArrayList<>();
+        List<Integer> leased = new CopyOnWriteArrayList<>();
+        Runnable probe = broker.subscribe(event -> {
+            transactionOpen.add(TransactionSynchronizationManager.isActualTransactionActive());
+            leased.add(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM credit_application_outbox WHERE locked_until IS NOT NULL", Integer.class));
+        });
+        try {
+            assertEquals(new RelayResult(1, 1, 0), relayCreditEventsUseCase.relayBatch());
+        } finally {
+            probe.run();
+        }
+
+        assertEquals(List.of(false), transactionOpen);
+        // The claim committed its lease before publishing
+        assertEquals(List.of(1), leased);
+        assertEquals(0, outboxSize());
+    }
+
+    @Test
+    void shouldSkipApplicationsLeasedByAnotherRelay() {
+        Affiliate affiliate = affiliateRepository.save(affiliate("444000777", AffiliateStatus.ACTIVO));
+        CreditApplication first = creditApplicationRepository.save(newApplication(affiliate, 2));
+        CreditApplication second = creditApplicationRepository.save(newApplication(affiliate, 1));
+        processCreditDecisionUseCase.cancelCreditApplication(first.getId(), "duplicada");
+
+        // Another relay holds the creation event of the first application
+        List<CreditLifecycleEvent> otherRelay = creditEventOutbox.claimNextBatch(1);
+        assertEquals(first.getId(), otherRelay.get(0).applicationId());
+
+        // Its cancellation waits behind the leased event; the second application goes out
+        assertEquals(new RelayResult(1, 1, 0), relayCreditEventsUseCase.relayBatch());
+        assertEquals(List.of(second.getId()), received.stream().map(CreditLifecycleEvent::applicationId).toList());
+
+        creditEventOutbox.settle(List.of(), List.of(), List.of(otherRelay.get(0).eventId()));
+        assertEquals(new RelayResult(2, 2, 0), relayCreditEventsUseCase.relayBatch());
+        assertEquals(List.of(CreditApplicationStatus.PENDIENTE, CreditApplicationStatus.CANCELADA),
+                received.stream().filter(event -> event.applicationId().equals(first.getId()))
+                        .map(CreditLifecycleEvent::status).toList());
+        assertEquals(0, outboxSize());
+    }
+
+    private int outboxSize() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM credit_application_outbox", Integer.class);
+    }
+
+    private CreditApplication newApplication(Affiliate affiliate, int minutesAgo) {
+        CreditApplication creditApplication = new CreditApplication();
+        creditApplication.setApplicationNumber(creditApplicationRepository.generateApplicationNumber());
+        creditApplication.setAffiliate(affiliate);
+        creditApplication.setRequestedAmount(new BigDecimal("1000000"));
+        creditApplication.setTermMonths(12);
+        creditApplication.setInterestRate(new BigDecimal("1.5"));
+        creditApplication.setPurpose("Outbox test");
+        creditApplication.setStatus(CreditApplicationStatus.PENDIENTE);
+        creditApplication.setApplicationDate(LocalDateTime.now().minusMinutes(minutesAgo));
+        creditApplication.setCreatedAt(LocalDateTime.now());
+        creditApplication.setUpdatedAt(LocalDateTime.now());
+        return creditApplication;
+    }
+}
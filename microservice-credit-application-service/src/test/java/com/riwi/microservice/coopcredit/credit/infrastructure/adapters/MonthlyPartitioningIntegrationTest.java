@@ -0,0 +1,232 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.microservice.coopcredit.credit.AbstractIntegrationTest;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaCreditApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.riwi.microservice.coopcredit.credit.AffiliateFixtures.affiliate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Month-scoped queries must only visit their months' partitions, future months must be
+ * created ahead of time, retired months must take their keys, evaluations and counters with
+ * them, and the uniqueness and cascade rules of the unpartitioned schema must still hold. Runs on the Flyway schema, where the tables are partitioned.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.riwi.microservice.coopcredit.credit.infrastructure.adapters.CapturingStatementInspector"
+})
+@ActiveProfiles("test")
+class MonthlyPartitioningIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private PartitionMaintenanceAdapter partitionMaintenanceAdapter;
+
+    @Autowired
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private JpaCreditApplicationRepository jpaCreditApplicationRepository;
+
+    @Autowired
+    private JpaAffiliateRepository jpaAffiliateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private RiskAssessmentPort riskAssessmentPort;
+
+    private final YearMonth currentMonth = YearMonth.now();
+    private Affiliate affiliate;
+
+    @BeforeEach
+    void setUp() {
+        jpaCreditApplicationRepository.deleteAll();
+        jpaAffiliateRepository.deleteAll();
+        affiliate = affiliateRepository.save(affiliate("777000111", AffiliateStatus.ACTIVO));
+        for (String table : List.of("credit_applications", "risk_evaluations")) {
+            jdbcTemplate.queryForObject("SELECT create_monthly_partitions(?::regclass, ?, 3)",
+                    Integer.class, table, currentMonth.minusMonths(3).atDay(1));
+        }
+    }
+
+    @Test
+    void shouldOnlyScanThePartitionsOfTheRequestedMonths() throws Exception {
+        for (int monthsAgo = 0; monthsAgo < 3; monthsAgo++) {
+            for (int i = 0; i < 2; i++) {
+                creditApplicationRepository.save(newApplication(currentMonth.minusMonths(monthsAgo).atDay(10).atTime(9, i)));
+            }
+        }
+        YearMonth lastMonth = currentMonth.minusMonths(1);
+        LocalDateTime start = lastMonth.atDay(1).atStartOfDay();
+        LocalDateTime end = lastMonth.atEndOfMonth().atTime(23, 59, 59);
+
+        CapturingStatementInspector.clear();
+        CursorPage<CreditApplication> page = creditApplicationRepository.findByApplicationDateBetween(start, end, PageCursor.FIRST, 10);
+
+        assertEquals(2, page.items().size());
+        String sql = CapturingStatementInspector.statements().stream()
+                .filter(statement -> statement.contains("between"))
+                .findFirst().orElseThrow();
+        // Page 0 of size + 1 still binds an offset (0) before the row limit
+        List<Object> parameters = List.of(start, end, PageCursor.FIRST.timestamp(), PageCursor.FIRST.id(), 0, 11);
+        assertEquals(parameters.size(), sql.chars().filter(c -> c == '?').count(), sql);
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, parameters.toArray());
+        Set<String> partitions = new TreeSet<>();
+        collectRelations(objectMapper.readTree(plan), partitions);
+        partitions.removeIf(relation -> !relation.startsWith("credit_applications_"));
+        assertEquals(Set.of(partitionName("credit_applications", lastMonth)), partitions, plan);
+    }
+
+    @Test
+    void shouldCreateUpcomingPartitionsOnlyOnce() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName("risk_evaluations", currentMonth.plusMonths(3)));
+
+        assertEquals(1, partitionMaintenanceAdapter.createUpcomingPartitions());
+        assertEquals(0, partitionMaintenanceAdapter.createUpcomingPartitions());
+        for (int monthsAhead = 0; monthsAhead <= 3; monthsAhead++) {
+            assertTrue(exists(partitionName("credit_applications", currentMonth.plusMonths(monthsAhead))));
+            assertTrue(exists(partitionName("risk_evaluations", currentMonth.plusMonths(monthsAhead))));
+        }
+    }
+
+    @Test
+    void shouldKeepApplicationWideUniquenessAndCascades() {
+        CreditApplication lastMonth = newApplication(currentMonth.minusMonths(1).atDay(5).atStartOfDay());
+        CreditApplication saved = creditApplicationRepository.saveWithRiskEvaluation(
+                creditApplicationRepository.save(lastMonth), newRiskEvaluation());
+
+        // Same number in another month's partition
+        CreditApplication duplicate = newApplication(LocalDateTime.now());
+        duplicate.setApplicationNumber(saved.getApplicationNumber());
+        assertThrows(DataIntegrityViolationException.class, () -> creditApplicationRepository.save(duplicate));
+
+        // A second evaluation, in another partition than the first one
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update("""
+                INSERT INTO risk_evaluations (credit_score, risk_level, debt_to_income_ratio, years_employed,
+                                              evaluated_by, evaluation_date, credit_application_id)
+                VALUES (700, 'MEDIO', 30, 2, 'SYSTEM', ?, ?)""",
+                currentMonth.minusMonths(2).atDay(1).atStartOfDay(), saved.getId()));
+
+        creditApplicationRepository.deleteById(saved.getId());
+        assertEquals(0, count("SELECT COUNT(*) FROM risk_evaluations WHERE credit_application_id = ?", saved.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM credit_application_keys WHERE id = ?", saved.getId()));
+    }
+
+    @Test
+    void shouldRetireAMonthWithItsKeysEvaluationsAndCounters() {
+        YearMonth retiredMonth = currentMonth.minusMonths(3);
+        // Evaluated this month: its evaluation lives in another partition than the application
+        CreditApplication retired = creditApplicationRepository.saveWithRiskEvaluation(
+                creditApplicationRepository.save(newApplication(retiredMonth.atDay(5).atStartOfDay())),
+                newRiskEvaluation());
+        CreditApplication kept = creditApplicationRepository.save(newApplication(currentMonth.minusMonths(2).atDay(5).atStartOfDay()));
+        long pending = statistic("APPLICATION_STATUS", "PENDIENTE");
+        long lowRisk = statistic("RISK_LEVEL", "BAJO");
+
+        assertEquals(1, partitionMaintenanceAdapter.retireMonthsBefore(currentMonth.minusMonths(2).atDay(1)));
+
+        assertFalse(exists(partitionName("credit_applications", retiredMonth)));
+        assertEquals(0, count("SELECT COUNT(*) FROM risk_evaluations WHERE credit_application_id = ?", retired.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM credit_application_keys WHERE id = ?", retired.getId()));
+        assertEquals(pending - 1, statistic("APPLICATION_STATUS", "PENDIENTE"));
+        assertEquals(lowRisk - 1, statistic("RISK_LEVEL", "BAJO"));
+        assertTrue(creditApplicationRepository.findById(kept.getId()).isPresent());
+
+        // The retired number is free again
+        CreditApplication reused = newApplication(LocalDateTime.now());
+        reused.setApplicationNumber(retired.getApplicationNumber());
+        assertNotNull(creditApplicationRepository.save(reused).getId());
+    }
+
+    private static void collectRelations(JsonNode node, Set<String> relations) {
+        if (node.has("Relation Name")) {
+            relations.add(node.get("Relation Name").asText());
+        }
+        List<JsonNode> children = new ArrayList<>();
+        node.elements().forEachRemaining(children::add);
+        children.forEach(child -> collectRelations(child, relations));
+    }
+
+    private static String partitionName(String table, YearMonth month) {
+        return String.format("%s_%d_%02d", table, month.getYear(), month.getMonthValue());
+    }
+
+    private boolean exists(String table) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table);
+    }
+
+    private long statistic(String dimension, String bucket) {
+        return count("SELECT COALESCE(SUM(total), 0) FROM portfolio_statistics WHERE dimension = ? AND bucket = ?",
+                dimension, bucket);
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private CreditApplication newApplication(LocalDateTime applicationDate) {
+        CreditApplication creditApplication = new CreditApplication();
+        creditApplication.setApplicationNumber(creditApplicationRepository.generateApplicationNumber());
+        creditApplication.setAffiliate(affiliate);
+        creditApplication.setRequestedAmount(new BigDecimal("1000000"));
+        creditApplication.setTermMonths(12);
+        creditApplication.setInterestRate(new BigDecimal("1.5"));
+        creditApplication.setPurpose("Partitioning test");
+        creditApplication.setStatus(CreditApplicationStatus.PENDIENTE);
+        creditApplication.setApplicationDate(applicationDate);
+        creditApplication.setCreatedAt(LocalDateTime.now());
+        creditApplication.setUpdatedAt(LocalDateTime.now());
+        return creditApplication;
+    }
+
+    private RiskEvaluation newRiskEvaluation() {
+        RiskEvaluation riskEvaluation = new RiskEvaluation();
+        riskEvaluation.setCreditScore(780);
+        riskEvaluation.setRiskLevel(RiskLevel.BAJO);
+        riskEvaluation.setDebtToIncomeRatio(new BigDecimal("20.00"));
+        riskEvaluation.setHasDefaultHistory(false);
+        riskEvaluation.setYearsEmployed(2);
+        riskEvaluation.setHasGuarantor(false);
+        riskEvaluation.setEvaluatedBy("SYSTEM");
+        return riskEvaluation;
+    }
+}
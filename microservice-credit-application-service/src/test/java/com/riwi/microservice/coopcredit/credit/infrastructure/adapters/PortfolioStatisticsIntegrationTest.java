@@ -0,0 +1,156 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.AbstractIntegrationTest;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.PortfolioStatistics;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditDecisionType;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ClaimCreditApplicationUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.PortfolioStatisticsUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ProcessCreditDecisionUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ProcessCreditDecisionUseCase.DecisionCommand;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaCreditApplicationRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaRiskEvaluationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.riwi.microservice.coopcredit.credit.AffiliateFixtures.affiliate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The counters must follow every write path (JPA saves, bulk JPQL and native updates, deletes)
+ * and match the COUNT(*) of the source tables. Runs on the Flyway schema, where the triggers live.
+ */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@ActiveProfiles("test")
+class PortfolioStatisticsIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private PortfolioStatisticsUseCase portfolioStatisticsUseCase;
+
+    @Autowired
+    private ClaimCreditApplicationUseCase claimCreditApplicationUseCase;
+
+    @Autowired
+    private ProcessCreditDecisionUseCase processCreditDecisionUseCase;
+
+    @Autowired
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private JpaCreditApplicationRepository jpaCreditApplicationRepository;
+
+    @Autowired
+    private JpaAffiliateRepository jpaAffiliateRepository;
+
+    @Autowired
+    private JpaRiskEvaluationRepository jpaRiskEvaluationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private RiskAssessmentPort riskAssessmentPort;
+
+    @BeforeEach
+    void setUp() {
+        jpaCreditApplicationRepository.deleteAll();
+        jpaAffiliateRepository.deleteAll();
+    }
+
+    @Test
+    void shouldKeepCountersInStepWithEveryWritePath() {
+        Affiliate active = affiliateRepository.save(affiliate("999000111", AffiliateStatus.ACTIVO));
+        Affiliate inactive = affiliateRepository.save(affiliate("999000222", AffiliateStatus.ACTIVO));
+        inactive.setStatus(AffiliateStatus.INACTIVO);
+        affiliateRepository.save(inactive);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            CreditApplication application = creditApplicationRepository.save(newApplication(active, 6 - i));
+            ids.add(application.getId());
+            if (i < 2) {
+                creditApplicationRepository.saveWithRiskEvaluation(application, newRiskEvaluation(RiskLevel.BAJO));
+            }
+        }
+        // Native claim, bulk JPQL decisions, single transition and delete
+        List<CreditApplication> claimed = claimCreditApplicationUseCase.claim("analista", 3);
+        processCreditDecisionUseCase.processDecisions(List.of(
+                new DecisionCommand(claimed.get(0).getId(), CreditDecisionType.APPROVE, "ok"),
+                new DecisionCommand(claimed.get(1).getId(), CreditDecisionType.REJECT, "no")));
+        processCreditDecisionUseCase.cancelCreditApplication(claimed.get(2).getId(), "duplicada");
+        // The newest application is never claimed
+        jpaCreditApplicationRepository.deleteById(ids.get(ids.size() - 1));
+
+        PortfolioStatistics statistics = portfolioStatisticsUseCase.getStatistics();
+
+        for (CreditApplicationStatus status : CreditApplicationStatus.values()) {
+            assertEquals(jpaCreditApplicationRepository.countByStatus(status), statistics.applicationsByStatus().get(status), status::name);
+        }
+        assertEquals(jpaCreditApplicationRepository.count(), statistics.totalApplications());
+        assertEquals(1L, statistics.affiliatesByStatus().get(AffiliateStatus.ACTIVO));
+        assertEquals(1L, statistics.affiliatesByStatus().get(AffiliateStatus.INACTIVO));
+        assertEquals(jpaRiskEvaluationRepository.count(), statistics.totalEvaluations());
+        assertEquals(0, portfolioStatisticsUseCase.reconcileStatistics());
+    }
+
+    @Test
+    void shouldCorrectDriftOnReconciliation() {
+        affiliateRepository.save(affiliate("999000333", AffiliateStatus.ACTIVO));
+        jdbcTemplate.update("UPDATE portfolio_statistics SET total = total + 5 WHERE dimension = 'AFFILIATE_STATUS' AND bucket = 'ACTIVO'");
+
+        assertEquals(1, portfolioStatisticsUseCase.reconcileStatistics());
+
+        PortfolioStatistics statistics = portfolioStatisticsUseCase.getStatistics();
+        assertEquals(1L, statistics.affiliatesByStatus().get(AffiliateStatus.ACTIVO));
+        assertEquals(1L, statistics.totalAffiliates());
+    }
+
+    private CreditApplication newApplication(Affiliate affiliate, int minutesAgo) {
+        CreditApplication creditApplication = new CreditApplication();
+        creditApplication.setApplicationNumber(creditApplicationRepository.generateApplicationNumber());
+        creditApplication.setAffiliate(affiliate);
+        creditApplication.setRequestedAmount(new BigDecimal("1000000"));
+        creditApplication.setTermMonths(12);
+        creditApplication.setInterestRate(new BigDecimal("1.5"));
+        creditApplication.setPurpose("Statistics test");
+        creditApplication.setStatus(CreditApplicationStatus.PENDIENTE);
+        creditApplication.setApplicationDate(LocalDateTime.now().minusMinutes(minutesAgo));
+        creditApplication.setCreatedAt(LocalDateTime.now());
+        creditApplication.setUpdatedAt(LocalDateTime.now());
+        return creditApplication;
+    }
+
+    private RiskEvaluation newRiskEvaluation(RiskLevel riskLevel) {
+        RiskEvaluation riskEvaluation = new RiskEvaluation();
+        riskEvaluation.setCreditScore(780);
+        riskEvaluation.setRiskLevel(riskLevel);
+        riskEvaluation.setDebtToIncomeRatio(new BigDecimal("20.00"));
+        riskEvaluation.setHasDefaultHistory(false);
+        riskEvaluation.setYearsEmployed(2);
+        riskEvaluation.setHasGuarantor(false);
+        riskEvaluation.setEvaluatedBy("SYSTEM");
+        return riskEvaluation;
+    }
+}
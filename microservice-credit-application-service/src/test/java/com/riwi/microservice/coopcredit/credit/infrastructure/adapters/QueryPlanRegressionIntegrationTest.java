@@ -0,0 +1,415 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.microservice.coopcredit.credit.AbstractIntegrationTest;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditStatusTransition;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskEvaluationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.infrastructure.adapters.RecordingDataSource.RecordedStatement;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaUserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Plan regression suite for the repository queries. Seeds six months of data, runs each port
+ * query while recording the SQL it sends, and replays every statement under
+ * EXPLAIN (ANALYZE, BUFFERS). A statement fails on a sequential scan of a table that is not
+ * tiny, on a total cost more than 25% above src/test/resources/query-plans/baseline.json, on a
+ * plan node type the baseline does not have, or when it is missing from the baseline. Every run
+ * writes its costs and node types to target/query-plans/baseline.json, which is copied over the
+ * stored one to accept new plans.
+ * Runs on the Flyway schema; each table and partition stays under ANALYZE's 30 000-row sample,
+ * so their statistics, and with them the costs, are the same on every run.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "credit.outbox.poll-interval=PT1H",
+        "credit.review-queue.reclaim-interval=PT1H"
+})
+@ActiveProfiles("test")
+class QueryPlanRegressionIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String BASELINE = "/query-plans/baseline.json";
+    private static final Path REPORT = Path.of("target", "query-plans", "baseline.json");
+    private static final double COST_TOLERANCE = 1.25;
+    // Lookup tables where a sequential scan is the cheapest plan whatever the volume
+    private static final Set<String> SMALL_TABLES = Set.of("roles", "user_roles");
+
+    private static final String SEED_AFFILIATES = """
+            INSERT INTO affiliates (document, document_type, first_name, last_name, email, phone, birth_date,
+                                    address, salary, employment_start_date, status, created_at, updated_at)
+            SELECT 'PLAN' || lpad(g::text, 6, '0'), 'CC', 'Nombre' || g, 'Apellido' || g, 'plan' || g || '@test.com',
+                   '300' || lpad(g::text, 7, '0'), DATE '1970-01-01' + g % 12000, 'Calle ' || g,
+                   1500000 + (g % 40) * 250000, DATE '2010-01-01' + g % 5000,
+                   (ARRAY['ACTIVO', 'ACTIVO', 'ACTIVO', 'ACTIVO', 'INACTIVO', 'SUSPENDIDO', 'RETIRADO'])[1 + g % 7],
+                   LOCALTIMESTAMP - (5000 - g) * INTERVAL '50 minutes',
+                   LOCALTIMESTAMP - (5000 - g) * INTERVAL '50 minutes'
+            FROM generate_series(1, 5000) g""";
+
+    // Oldest first, one every 100 seconds from the start of the sixth month back; all fall in
+    // the six months before the current one, so every non-empty partition is full whatever the
+    // day of the month. All but the newest couple of thousand are decided
+    private static final String SEED_APPLICATIONS = """
+            INSERT INTO credit_applications (application_number, requested_amount, term_months, interest_rate, purpose,
+                                             status, application_date, review_date, reviewer, review_lease_expires_at,
+                                             created_at, updated_at, affiliate_id)
+            SELECT s.number, 1000000 + (s.g % 90) * 500000, 12 + (s.g % 6) * 12, 1.5, 'Seed ' || s.g,
+                   s.status, s.at,
+                   CASE WHEN s.status = 'EN_REVISION' THEN s.at + INTERVAL '1 hour' END,
+                   CASE WHEN s.status = 'EN_REVISION' THEN 'analista' || s.g % 10 END,
+                   CASE WHEN s.status = 'EN_REVISION' THEN s.at + INTERVAL '90 minutes' END,
+                   s.at, s.at, a.id
+            FROM (SELECT g, 'PLAN-' || lpad(g::text, 8, '0') AS number,
+                         date_trunc('month', LOCALTIMESTAMP) - INTERVAL '6 months' + (g - 1) * INTERVAL '100 seconds' AS at,
+                         CASE WHEN g > 148000 THEN (ARRAY['PENDIENTE', 'PENDIENTE', 'EN_REVISION'])[1 + g % 3]
+                              ELSE (ARRAY['APROBADA', 'APROBADA', 'RECHAZADA', 'CANCELADA'])[1 + g % 4] END AS status
+                  FROM generate_series(1, 150000) g) s
+            JOIN (SELECT id, row_number() OVER (ORDER BY id) AS n FROM affiliates) a ON a.n = 1 + s.g % 5000""";
+
+    private static final String SEED_EVALUATIONS = """
+            INSERT INTO risk_evaluations (credit_score, risk_level, debt_to_income_ratio, has_default_history,
+                                          years_employed, has_guarantor, evaluated_by, evaluation_date,
+                                          created_at, updated_at, credit_application_id)
+            SELECT 300 + c.n % 551, (ARRAY['BAJO', 'MEDIO', 'ALTO', 'MUY_ALTO'])[1 + c.n % 4], c.n % 60,
+                   c.n % 11 = 0, c.n % 20, c.n % 3 = 0,
+                   CASE WHEN c.n % 10 = 0 THEN 'analista' || c.n % 7 ELSE 'SYSTEM' END,
+                   c.application_date + INTERVAL '1 minute',
+                   c.application_date + INTERVAL '1 minute',
+                   c.application_date + INTERVAL '1 minute', c.id
+            FROM (SELECT id, application_date, row_number() OVER (ORDER BY id) AS n
+                  FROM credit_applications WHERE status <> 'PENDIENTE') c
+            WHERE c.n % 8 <> 0""";
+
+    private static final String SEED_USERS = """
+            INSERT INTO users (username, password, email, first_name, last_name)
+            SELECT 'plan' || lpad(g::text, 5, '0'), 'seed', 'plan.user' || g || '@test.com', 'Nombre', 'Apellido'
+            FROM generate_series(1, 2000) g""";
+
+    @Autowired
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private RiskEvaluationRepositoryPort riskEvaluationRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private RiskAssessmentPort riskAssessmentPort;
+
+    // The Spring context outlives the test instances: seed and load the baseline once
+    private static final Map<String, PlanCost> COSTS = new ConcurrentHashMap<>();
+    private static Map<String, PlanCost> baseline;
+
+    @BeforeEach
+    void seed() throws IOException {
+        if (baseline != null) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM risk_evaluations");
+        jdbcTemplate.update("DELETE FROM credit_applications");
+        jdbcTemplate.update("DELETE FROM affiliates");
+        for (String table : List.of("credit_applications", "risk_evaluations")) {
+            jdbcTemplate.queryForObject("SELECT create_monthly_partitions(?::regclass, ?, 3)",
+                    Integer.class, table, YearMonth.now().minusMonths(6).atDay(1));
+        }
+        jdbcTemplate.update(SEED_AFFILIATES);
+        jdbcTemplate.update(SEED_APPLICATIONS);
+        jdbcTemplate.update(SEED_EVALUATIONS);
+        jdbcTemplate.update(SEED_USERS);
+        jdbcTemplate.update("""
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT u.id, r.id FROM users u, roles r
+                WHERE u.username LIKE 'plan%' AND r.name = 'ROLE_AFILIADO'""");
+        jdbcTemplate.update("DELETE FROM credit_application_outbox");
+        jdbcTemplate.execute("ANALYZE");
+
+        try (InputStream in = getClass().getResourceAsStream(BASELINE)) {
+            baseline = in == null ? Map.of() : objectMapper.readValue(in, new TypeReference<Map<String, PlanCost>>() {});
+        }
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesShouldKeepTheirPlans() {
+        return cases().stream().map(planCase -> dynamicTest(planCase.name(), () -> check(planCase)));
+    }
+
+    @Test
+    void shouldNotCarryDuplicateIndexes() {
+        // Same table, key columns, operator classes, expressions and predicate. Partitions are
+        // skipped: their indexes are attached copies of the parent's
+        List<String> duplicates = jdbcTemplate.queryForList("""
+                SELECT string_agg(i.indexrelid::regclass::text, ', ' ORDER BY i.indexrelid::regclass::text)
+                FROM pg_index i
+                JOIN pg_class t ON t.oid = i.indrelid
+                WHERE t.relnamespace = 'public'::regnamespace AND NOT t.relispartition
+                GROUP BY i.indrelid, i.indkey::text, i.indclass::text,
+                         COALESCE(pg_get_expr(i.indexprs, i.indrelid), ''),
+                         COALESCE(pg_get_expr(i.indpred, i.indrelid), '')
+                HAVING COUNT(*) > 1""", String.class);
+
+        assertEquals(List.of(), duplicates);
+    }
+
+    private List<PlanCase> cases() {
+        Map<String, Object> application = jdbcTemplate.queryForMap("""
+                SELECT c.id, c.application_number, c.application_date, c.affiliate_id, r.id AS evaluation_id
+                FROM credit_applications c JOIN risk_evaluations r ON r.credit_application_id = c.id
+                WHERE c.application_number >= 'PLAN-00075000'
+                ORDER BY c.application_number LIMIT 1""");
+        Long applicationId = (Long) application.get("id");
+        String applicationNumber = (String) application.get("application_number");
+        Long affiliateId = (Long) application.get("affiliate_id");
+        Long evaluationId = (Long) application.get("evaluation_id");
+        // Halfway through the newest-first order
+        PageCursor middle = new PageCursor(((Timestamp) application.get("application_date")).toLocalDateTime(), applicationId);
+        List<Long> pendingIds = jdbcTemplate.queryForList(
+                "SELECT id FROM credit_applications WHERE status = 'PENDIENTE' ORDER BY id LIMIT 20", Long.class);
+        List<Long> affiliateIds = jdbcTemplate.queryForList(
+                "SELECT id FROM affiliates WHERE document LIKE 'PLAN%' ORDER BY id LIMIT 20", Long.class);
+        YearMonth lastMonth = YearMonth.now().minusMonths(1);
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> none = Set.of();
+
+        return List.of(
+                new PlanCase("creditApplication.findById", none, () -> creditApplicationRepository.findById(applicationId)),
+                new PlanCase("creditApplication.findByIdWithDetails", none, () -> creditApplicationRepository.findByIdWithDetails(applicationId)),
+                new PlanCase("creditApplication.findByApplicationNumber", none, () -> creditApplicationRepository.findByApplicationNumber(applicationNumber)),
+                new PlanCase("creditApplication.existsByApplicationNumber", none, () -> creditApplicationRepository.existsByApplicationNumber(applicationNumber)),
+                new PlanCase("creditApplication.findAllByIds", none, () -> creditApplicationRepository.findAllByIds(pendingIds)),
+                new PlanCase("creditApplication.findByAffiliateId", none, () -> creditApplicationRepository.findByAffiliateId(affiliateId, PageCursor.FIRST, 20)),
+                new PlanCase("creditApplication.findByAffiliateIdWithRiskEvaluations", none,
+                        () -> creditApplicationRepository.findByAffiliateIdWithRiskEvaluations(affiliateId, PageCursor.FIRST, 20)),
+                new PlanCase("creditApplication.findByStatus", none,
+                        () -> creditApplicationRepository.findByStatus(CreditApplicationStatus.PENDIENTE, PageCursor.FIRST, 20)),
+                new PlanCase("creditApplication.findByStatus.middle", none,
+                        () -> creditApplicationRepository.findByStatus(CreditApplicationStatus.APROBADA, middle, 20)),
+                new PlanCase("creditApplication.findAll", none, () -> creditApplicationRepository.findAll(PageCursor.FIRST, 20)),
+                new PlanCase("creditApplication.findAll.middle", none, () -> creditApplicationRepository.findAll(middle, 20)),
+                new PlanCase("creditApplication.findByApplicationDateBetween", none,
+                        () -> creditApplicationRepository.findByApplicationDateBetween(
+                                lastMonth.atDay(1).atStartOfDay(), lastMonth.atEndOfMonth().atTime(23, 59, 59), PageCursor.FIRST, 20)),
+                new PlanCase("creditApplication.countByAffiliateId", none, () -> creditApplicationRepository.countByAffiliateId(affiliateId)),
+                new PlanCase("creditApplication.transitionStatus", none,
+                        () -> creditApplicationRepository.transitionStatus(pendingIds.get(0), CreditStatusTransition.startReview())),
+                new PlanCase("creditApplication.lockStatuses", none, () -> creditApplicationRepository.lockStatuses(pendingIds)),
+                new PlanCase("creditApplication.transitionStatuses", none,
+                        () -> creditApplicationRepository.transitionStatuses(pendingIds, CreditStatusTransition.approve("Aprobada"))),
+                new PlanCase("creditApplication.claimPending", none,
+                        () -> creditApplicationRepository.claimPending("analista", 10, now, now.plusMinutes(30))),
+                new PlanCase("creditApplication.releaseExpiredClaims", none, () -> creditApplicationRepository.releaseExpiredClaims(now, 100)),
+                // Whole-table aggregates: the dashboard reads portfolio_statistics instead
+                new PlanCase("creditApplication.count", Set.of("credit_applications"), creditApplicationRepository::count),
+                new PlanCase("creditApplication.countByStatus", Set.of("credit_applications"),
+                        () -> creditApplicationRepository.countByStatus(CreditApplicationStatus.APROBADA)),
+
+                new PlanCase("affiliate.findById", none, () -> affiliateRepository.findById(affiliateId)),
+                new PlanCase("affiliate.findAllByIds", none, () -> affiliateRepository.findAllByIds(affiliateIds)),
+                new PlanCase("affiliate.findByDocument", none, () -> affiliateRepository.findByDocument("PLAN002500")),
+                new PlanCase("affiliate.findByEmail", none, () -> affiliateRepository.findByEmail("plan2500@test.com")),
+                new PlanCase("affiliate.existsByDocument", none, () -> affiliateRepository.existsByDocument("PLAN002500")),
+                new PlanCase("affiliate.existsByEmail", none, () -> affiliateRepository.existsByEmail("plan2500@test.com")),
+                new PlanCase("affiliate.existsById", none, () -> affiliateRepository.existsById(affiliateId)),
+                new PlanCase("affiliate.findAll", none, () -> affiliateRepository.findAll(PageCursor.FIRST, 20)),
+                new PlanCase("affiliate.findByStatus", none, () -> affiliateRepository.findByStatus(AffiliateStatus.SUSPENDIDO, PageCursor.FIRST, 20)),
+                new PlanCase("affiliate.findByIdWithCreditApplications", none, () -> affiliateRepository.findByIdWithCreditApplications(affiliateId)),
+                new PlanCase("affiliate.count", Set.of("affiliates"), affiliateRepository::count),
+                new PlanCase("affiliate.countByStatus", Set.of("affiliates"), () -> affiliateRepository.countByStatus(AffiliateStatus.ACTIVO)),
+
+                new PlanCase("riskEvaluation.findById", none, () -> riskEvaluationRepository.findById(evaluationId)),
+                new PlanCase("riskEvaluation.findByCreditApplicationId", none, () -> riskEvaluationRepository.findByCreditApplicationId(applicationId)),
+                new PlanCase("riskEvaluation.existsByCreditApplicationId", none, () -> riskEvaluationRepository.existsByCreditApplicationId(applicationId)),
+                new PlanCase("riskEvaluation.findByIdWithCreditApplication", none, () -> riskEvaluationRepository.findByIdWithCreditApplication(evaluationId)),
+                new PlanCase("riskEvaluation.findByRiskLevel", none, () -> riskEvaluationRepository.findByRiskLevel(RiskLevel.MUY_ALTO, PageCursor.FIRST, 20)),
+                new PlanCase("riskEvaluation.findAll", none, () -> riskEvaluationRepository.findAll(PageCursor.FIRST, 20)),
+                new PlanCase("riskEvaluation.findByEvaluatedBy", none, () -> riskEvaluationRepository.findByEvaluatedBy("analista3", PageCursor.FIRST, 20)),
+                new PlanCase("riskEvaluation.count", Set.of("risk_evaluations"), riskEvaluationRepository::count),
+                new PlanCase("riskEvaluation.countByRiskLevel", Set.of("risk_evaluations"), () -> riskEvaluationRepository.countByRiskLevel(RiskLevel.BAJO)),
+
+                new PlanCase("user.findByUsername", none, () -> jpaUserRepository.findByUsername("plan01000")),
+                new PlanCase("user.findByEmail", none, () -> jpaUserRepository.findByEmail("plan.user1000@test.com")),
+                new PlanCase("user.existsByUsername", none, () -> jpaUserRepository.existsByUsername("plan01000")),
+                new PlanCase("user.existsByEmail", none, () -> jpaUserRepository.existsByEmail("plan.user1000@test.com")));
+    }
+
+    private void check(PlanCase planCase) throws Exception {
+        List<RecordedStatement> statements = record(planCase);
+        assertFalse(statements.isEmpty(), "No SQL recorded");
+
+        List<String> failures = new ArrayList<>();
+        for (int i = 0; i < statements.size(); i++) {
+            String key = planCase.name() + "#" + (i + 1);
+            RecordedStatement statement = statements.get(i);
+            JsonNode plan = explain(statement);
+            double cost = plan.path("Plan").path("Total Cost").asDouble();
+            Set<String> nodeTypes = new TreeSet<>();
+            collectNodeTypes(plan.path("Plan"), nodeTypes);
+            COSTS.put(key, new PlanCost(statement.sql(), cost, List.copyOf(nodeTypes)));
+
+            Set<String> scanned = new TreeSet<>();
+            collectSequentialScans(plan.path("Plan"), scanned);
+            scanned.removeAll(SMALL_TABLES);
+            scanned.removeAll(planCase.sequentialScansAllowed());
+            if (!scanned.isEmpty()) {
+                failures.add(key + ": sequential scan of " + scanned + "\n" + plan.toPrettyString());
+            }
+            PlanCost expected = baseline.get(key);
+            if (expected == null) {
+                failures.add(key + ": not in the baseline, see " + REPORT);
+                continue;
+            }
+            if (cost > expected.totalCost() * COST_TOLERANCE) {
+                failures.add(key + ": cost " + cost + " over baseline " + expected.totalCost() + "\n" + plan.toPrettyString());
+            }
+            nodeTypes.removeAll(expected.nodeTypes());
+            if (!nodeTypes.isEmpty()) {
+                failures.add(key + ": new plan nodes " + nodeTypes + "\n" + plan.toPrettyString());
+            }
+        }
+        assertTrue(failures.isEmpty(), () -> String.join("\n\n", failures));
+    }
+
+    @AfterAll
+    static void writeReport() throws IOException {
+        Files.createDirectories(REPORT.getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), new TreeMap<>(COSTS));
+    }
+
+    // Runs the query in a transaction that is rolled back, so updates leave the data as seeded.
+    // The second-level cache is emptied first so that every lookup reaches the database
+    private List<RecordedStatement> record(PlanCase planCase) {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        RecordingDataSource recordingDataSource = (RecordingDataSource) dataSource;
+        List<RecordedStatement> statements;
+        recordingDataSource.start();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                planCase.query().run();
+            });
+        } finally {
+            statements = recordingDataSource.stop();
+        }
+        return statements;
+    }
+
+    private JsonNode explain(RecordedStatement statement) throws Exception {
+        DataSource target = ((RecordingDataSource) dataSource).getTargetDataSource();
+        try (Connection connection = target.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + statement.sql())) {
+                statement.bind(explain);
+                try (ResultSet resultSet = explain.executeQuery()) {
+                    resultSet.next();
+                    return objectMapper.readTree(resultSet.getString(1)).get(0);
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    // Partitions are reported under their parent table. Empty partitions (the months ahead)
+    // are always read sequentially; they are recognised by not touching a single buffer
+    private static void collectSequentialScans(JsonNode node, Set<String> tables) {
+        boolean empty = node.path("Actual Rows").asLong() == 0
+                && node.path("Shared Hit Blocks").asLong() + node.path("Shared Read Blocks").asLong() == 0;
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && !empty) {
+            tables.add(node.path("Relation Name").asText().replaceFirst("_\\d{4}_\\d{2}$", ""));
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, tables);
+        }
+    }
+
+    private static void collectNodeTypes(JsonNode node, Set<String> nodeTypes) {
+        nodeTypes.add(node.path("Node Type").asText());
+        for (JsonNode child : node.path("Plans")) {
+            collectNodeTypes(child, nodeTypes);
+        }
+    }
+
+    record PlanCase(String name, Set<String> sequentialScansAllowed, Runnable query) {}
+
+    record PlanCost(String sql, double totalCost, List<String> nodeTypes) {}
+
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource target && !(bean instanceof RecordingDataSource)
+                            ? new RecordingDataSource(target) : bean;
+                }
+            };
+        }
+    }
+}
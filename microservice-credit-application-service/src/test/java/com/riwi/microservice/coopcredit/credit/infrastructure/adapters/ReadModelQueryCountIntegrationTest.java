@@ -0,0 +1,149 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.AbstractIntegrationTest;
+import com.riwi.microservice.coopcredit.credit.application.dto.credit.CreditApplicationResponse;
+import com.riwi.microservice.coopcredit.credit.application.mapper.AffiliateMapper;
+import com.riwi.microservice.coopcredit.credit.application.mapper.CreditApplicationMapper;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.CreditApplication;
+import com.riwi.microservice.coopcredit.credit.domain.models.CursorPage;
+import com.riwi.microservice.coopcredit.credit.domain.models.PageCursor;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluation;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaCreditApplicationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.riwi.microservice.coopcredit.credit.AffiliateFixtures.affiliate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the read models against N+1: a page or a detail, including affiliate and risk
+ * evaluation, must cost exactly one SQL statement however many rows it holds.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ReadModelQueryCountIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private JpaCreditApplicationRepository jpaCreditApplicationRepository;
+
+    @Autowired
+    private JpaAffiliateRepository jpaAffiliateRepository;
+
+    @Autowired
+    private CreditApplicationMapper creditApplicationMapper;
+
+    @Autowired
+    private AffiliateMapper affiliateMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private RiskAssessmentPort riskAssessmentPort;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jpaCreditApplicationRepository.deleteAll();
+        jpaAffiliateRepository.deleteAll();
+
+        // 4 affiliates x 3 applications, every other one evaluated
+        for (int i = 0; i < 4; i++) {
+            Affiliate affiliate = affiliateRepository.save(affiliate("77700" + i, AffiliateStatus.ACTIVO));
+            for (int j = 0; j < 3; j++) {
+                CreditApplication application = creditApplicationRepository.save(newApplication(affiliate, i * 3 + j));
+                if (j % 2 == 0) {
+                    creditApplicationRepository.saveWithRiskEvaluation(application, newRiskEvaluation());
+                }
+            }
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldLoadApplicationPageWithOneStatement() {
+        CursorPage<CreditApplication> page = creditApplicationRepository.findAll(PageCursor.FIRST, 10);
+        List<CreditApplicationResponse> responses = page.items().stream().map(creditApplicationMapper::toResponse).toList();
+
+        assertEquals(10, responses.size());
+        assertTrue(responses.stream().allMatch(response -> response.getAffiliate() != null));
+        assertTrue(responses.stream().anyMatch(response -> response.getRiskEvaluation() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldLoadApplicationDetailWithOneStatement() {
+        Long id = creditApplicationRepository.findAll(PageCursor.FIRST, 1).items().get(0).getId();
+        statistics.clear();
+
+        CreditApplication application = creditApplicationRepository.findByIdWithDetails(id).orElseThrow();
+        CreditApplicationResponse response = creditApplicationMapper.toResponse(application);
+
+        assertNotNull(response.getAffiliate());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldLoadAffiliatePageWithOneStatement() {
+        CursorPage<Affiliate> page = affiliateRepository.findAll(PageCursor.FIRST, 10);
+        page.items().forEach(affiliateMapper::toResponse);
+
+        assertEquals(4, page.items().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private CreditApplication newApplication(Affiliate affiliate, int index) {
+        CreditApplication creditApplication = new CreditApplication();
+        creditApplication.setApplicationNumber(creditApplicationRepository.generateApplicationNumber());
+        creditApplication.setAffiliate(affiliate);
+        creditApplication.setRequestedAmount(new BigDecimal("1000000"));
+        creditApplication.setTermMonths(12);
+        creditApplication.setInterestRate(new BigDecimal("1.5"));
+        creditApplication.setPurpose("Query count test");
+        creditApplication.setStatus(CreditApplicationStatus.PENDIENTE);
+        creditApplication.setApplicationDate(LocalDateTime.now().minusMinutes(index));
+        creditApplication.setCreatedAt(LocalDateTime.now());
+        creditApplication.setUpdatedAt(LocalDateTime.now());
+        return creditApplication;
+    }
+
+    private RiskEvaluation newRiskEvaluation() {
+        RiskEvaluation riskEvaluation = new RiskEvaluation();
+        riskEvaluation.setCreditScore(720);
+        riskEvaluation.setRiskLevel(RiskLevel.MEDIO);
+        riskEvaluation.setDebtToIncomeRatio(new BigDecimal("25.00"));
+        riskEvaluation.setHasDefaultHistory(false);
+        riskEvaluation.setYearsEmployed(2);
+        riskEvaluation.setHasGuarantor(false);
+        riskEvaluation.setEvaluatedBy("SYSTEM");
+        return riskEvaluation;
+    }
+}
@@ -0,0 +1,114 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Wraps the application DataSource and, while recording, keeps every prepared statement
+ * executed through it together with its parameter bindings, so a test can replay the exact
+ * statement under EXPLAIN. Batched statements (inserts) are not recorded.
+ */
+public class RecordingDataSource extends DelegatingDataSource {
+
+    private final List<RecordedStatement> recorded = new CopyOnWriteArrayList<>();
+    private volatile boolean recording;
+
+    public RecordingDataSource(DataSource target) {
+        super(target);
+    }
+
+    public void start() {
+        recorded.clear();
+        recording = true;
+    }
+
+    public List<RecordedStatement> stop() {
+        recording = false;
+        return List.copyOf(recorded);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return wrap(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement wrap(PreparedStatement statement, String sql) {
+        Map<Integer, Binding> bindings = new TreeMap<>();
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bindings.put(index, new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (recording && name.startsWith("execute") && !name.endsWith("Batch")
+                    && (args == null || args.length == 0)) {
+                recorded.add(new RecordedStatement(sql, List.copyOf(bindings.values())));
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(RecordingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    // Identity semantics: Spring keys connection holders on the instance it was handed
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> handler.invoke(proxy, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * A statement as executed: its SQL and the parameter setter calls, in index order.
+     */
+    public record RecordedStatement(String sql, List<Binding> bindings) {
+
+        public void bind(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings) {
+                try {
+                    binding.method().invoke(statement, binding.args());
+                } catch (ReflectiveOperationException e) {
+                    throw new SQLException("Cannot replay " + binding.method().getName(), e);
+                }
+            }
+        }
+    }
+
+    record Binding(Method method, Object[] args) {}
+}
@@ -0,0 +1,305 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.microservice.coopcredit.credit.domain.exception.RiskAssessmentUnavailableException;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentRequest;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskAssessmentResult;
+import com.riwi.microservice.coopcredit.credit.infrastructure.config.RiskCentralResilienceConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class RiskAssessmentAdapterTest {
+
+    private static final String BATCH_URL = "http://microservice-risk-central-service/risk/evaluation/batch";
+    private static final String LOW_RISK = """
+            {"documento": "123", "score": 800, "nivelRiesgo": "BAJO RIESGO", "detalle": "primary"}""";
+    private static final String HEDGE_LOW_RISK = """
+            {"documento": "123", "score": 800, "nivelRiesgo": "BAJO RIESGO", "detalle": "hedge"}""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final AtomicInteger calls = new AtomicInteger();
+    private RiskAssessmentAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        if (adapter != null) {
+            adapter.shutdown();
+        }
+    }
+
+    @Test
+    void shouldReturnTheHedgeAndCancelTheSlowPrimary() throws Exception {
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        respond(attempt -> {
+            if (attempt == 1) {
+                blockUntilInterrupted(primaryCancelled);
+            }
+            return HEDGE_LOW_RISK;
+        });
+        adapter = adapter(Duration.ofMillis(50), 10, 2);
+
+        RiskAssessmentResult result = adapter.assessRisk("123", 1000000.0, 12);
+
+        assertEquals("hedge", result.detail());
+        assertTrue(primaryCancelled.await(5, TimeUnit.SECONDS), "primary attempt not cancelled");
+        assertEquals(1.0, meterRegistry.get("credit.risk.hedged").counter().count());
+    }
+
+    @Test
+    void shouldKeepThePrimaryWhenItAnswersFirstAndCancelTheHedge() throws Exception {
+        CountDownLatch hedgeCancelled = new CountDownLatch(1);
+        respond(attempt -> {
+            if (attempt == 1) {
+                Thread.sleep(200);
+                return LOW_RISK;
+            }
+            blockUntilInterrupted(hedgeCancelled);
+            return HEDGE_LOW_RISK;
+        });
+        adapter = adapter(Duration.ofMillis(50), 10, 2);
+
+        RiskAssessmentResult result = adapter.assessRisk("123", 1000000.0, 12);
+
+        assertEquals("primary", result.detail());
+        assertTrue(hedgeCancelled.await(5, TimeUnit.SECONDS), "hedge attempt not cancelled");
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldFailOnlyWhenBothAttemptsFail() {
+        respond(attempt -> {
+            if (attempt == 1) {
+                Thread.sleep(200);
+            }
+            throw new ResourceAccessException("attempt " + attempt + " failed");
+        });
+        adapter = adapter(Duration.ofMillis(50), 10, 1);
+
+        assertThrows(RiskAssessmentUnavailableException.class, () -> adapter.assessRisk("123", 1000000.0, 12));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldNotSendTheHedgeWithoutABulkheadPermit() {
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        respond(attempt -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(200);
+                return LOW_RISK;
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        });
+        adapter = adapter(Duration.ofMillis(50), 1, 1);
+
+        RiskAssessmentResult result = adapter.assessRisk("123", 1000000.0, 12);
+
+        assertEquals("primary", result.detail());
+        assertEquals(1, calls.get());
+        assertEquals(1, maxConcurrent.get());
+    }
+
+    @Test
+    void shouldNotRetryAnInterruptedCaller() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        respond(attempt -> {
+            started.countDown();
+            blockUntilInterrupted(new CountDownLatch(1));
+            return LOW_RISK;
+        });
+        adapter = adapter(Duration.ofSeconds(5), 10, 2);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean stillInterrupted = new AtomicBoolean();
+
+        Thread caller = new Thread(() -> {
+            try {
+                adapter.assessRisk("123", 1000000.0, 12);
+            } catch (Throwable e) {
+                failure.set(e);
+                stillInterrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        caller.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        caller.interrupt();
+        caller.join(5000);
+
+        assertInstanceOf(RiskAssessmentUnavailableException.class, failure.get());
+        assertTrue(stillInterrupted.get(), "interrupt flag not restored");
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldHedgeTheNonBlockingCall() throws Exception {
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        ExchangeFunction exchange = request -> {
+            if (calls.incrementAndGet() == 1) {
+                return Mono.delay(Duration.ofSeconds(5))
+                        .then(Mono.fromSupplier(() -> json(LOW_RISK)))
+                        .doOnCancel(primaryCancelled::countDown);
+            }
+            return Mono.just(json(HEDGE_LOW_RISK));
+        };
+        adapter = adapter(Duration.ofMillis(50), 10, 2, WebClient.builder().exchangeFunction(exchange).build());
+
+        RiskAssessmentResult result = adapter.assessRiskAsync("123", 1000000.0, 12).get(5, TimeUnit.SECONDS);
+
+        assertEquals("hedge", result.detail());
+        assertTrue(primaryCancelled.await(5, TimeUnit.SECONDS), "primary exchange not cancelled");
+        assertEquals(1.0, meterRegistry.get("credit.risk.hedged").counter().count());
+    }
+
+    @Test
+    void shouldSendTheBatchAsNdjsonAndReadTheResultsInOrder() {
+        RestTemplate batchRestTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(batchRestTemplate).build();
+        server.expect(requestTo(BATCH_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string("""
+                        {"documento":"111","monto":1000000.0,"plazo":12}
+                        {"documento":"222","monto":2000000.0,"plazo":24}
+                        {"documento":"333","monto":3000000.0,"plazo":36}
+                        """))
+                .andRespond(withSuccess("""
+                        {"documento": "111", "score": 800, "nivelRiesgo": "BAJO RIESGO", "detalle": "uno"}
+                        {"documento": "222", "score": 450, "nivelRiesgo": "ALTO RIESGO", "detalle": "dos"}
+                        {"documento": "333", "score": 650, "nivelRiesgo": "MEDIO RIESGO", "detalle": "tres"}
+                        """, MediaType.APPLICATION_NDJSON));
+        adapter = adapter(Duration.ZERO, 10, 1, batchRestTemplate, WebClient.create());
+
+        List<RiskAssessmentResult> results = adapter.assessRiskBatch(List.of(
+                new RiskAssessmentRequest("111", 1000000.0, 12),
+                new RiskAssessmentRequest("222", 2000000.0, 24),
+                new RiskAssessmentRequest("333", 3000000.0, 36)));
+
+        assertEquals(List.of(
+                new RiskAssessmentResult(800, "BAJO RIESGO", "uno"),
+                new RiskAssessmentResult(450, "ALTO RIESGO", "dos"),
+                new RiskAssessmentResult(650, "MEDIO RIESGO", "tres")), results);
+        server.verify();
+    }
+
+    @Test
+    void shouldKeepAnUnscoredLineInItsPlace() {
+        RestTemplate batchRestTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(batchRestTemplate).build();
+        server.expect(requestTo(BATCH_URL)).andRespond(withSuccess("""
+                {"documento": "111", "score": 800, "nivelRiesgo": "BAJO RIESGO", "detalle": "uno"}
+                {"documento": null, "score": null, "nivelRiesgo": null, "detalle": "Documento requerido"}
+                {"documento": "333", "score": 650, "nivelRiesgo": "MEDIO RIESGO", "detalle": "tres"}
+                """, MediaType.APPLICATION_NDJSON));
+        adapter = adapter(Duration.ZERO, 10, 1, batchRestTemplate, WebClient.create());
+
+        List<RiskAssessmentResult> results = adapter.assessRiskBatch(List.of(
+                new RiskAssessmentRequest("111", 1000000.0, 12),
+                new RiskAssessmentRequest(null, 2000000.0, 24),
+                new RiskAssessmentRequest("333", 3000000.0, 36)));
+
+        assertEquals(3, results.size());
+        assertEquals("uno", results.get(0).detail());
+        assertNull(results.get(1).score());
+        assertEquals("tres", results.get(2).detail());
+    }
+
+    @Test
+    void shouldRetryAnIncompleteBatchAndThenReportItUnavailable() {
+        RestTemplate batchRestTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(batchRestTemplate).build();
+        // A stream cut mid-line is retried; one missing a line is not a complete answer either
+        server.expect(requestTo(BATCH_URL)).andRespond(withSuccess(
+                "{\"documento\": \"111\", \"score\": 800, \"nivelRiesgo\": \"BAJO RIESGO\", \"detalle\": \"uno\"}\n"
+                        + "{\"documento\": \"222\", \"sco", MediaType.APPLICATION_NDJSON));
+        server.expect(requestTo(BATCH_URL)).andRespond(withSuccess("""
+                {"documento": "111", "score": 800, "nivelRiesgo": "BAJO RIESGO", "detalle": "uno"}
+                """, MediaType.APPLICATION_NDJSON));
+        adapter = adapter(Duration.ZERO, 10, 2, batchRestTemplate, WebClient.create());
+
+        List<RiskAssessmentRequest> requests = List.of(
+                new RiskAssessmentRequest("111", 1000000.0, 12),
+                new RiskAssessmentRequest("222", 2000000.0, 24));
+        assertThrows(RiskAssessmentUnavailableException.class, () -> adapter.assessRiskBatch(requests));
+        server.verify();
+    }
+
+    private RiskAssessmentAdapter adapter(Duration hedgeDelay, int maxConcurrentCalls, int maxAttempts) {
+        return adapter(hedgeDelay, maxConcurrentCalls, maxAttempts, WebClient.create());
+    }
+
+    private RiskAssessmentAdapter adapter(Duration hedgeDelay, int maxConcurrentCalls, int maxAttempts, WebClient webClient) {
+        return adapter(hedgeDelay, maxConcurrentCalls, maxAttempts, restTemplate, webClient);
+    }
+
+    private RiskAssessmentAdapter adapter(Duration hedgeDelay, int maxConcurrentCalls, int maxAttempts,
+                                          RestTemplate restTemplate, WebClient webClient) {
+        RiskCentralResilienceConfig resilience = new RiskCentralResilienceConfig();
+        return new RiskAssessmentAdapter(restTemplate, webClient, objectMapper,
+                resilience.riskCentralCircuitBreaker(meterRegistry, 50, Duration.ofSeconds(10), 20, Duration.ofSeconds(30)),
+                resilience.riskCentralBulkhead(meterRegistry, maxConcurrentCalls, Duration.ZERO),
+                resilience.riskCentralRetry(meterRegistry, maxAttempts, Duration.ofMillis(10)),
+                meterRegistry, new MockEnvironment(), hedgeDelay);
+    }
+
+    // Answers the n-th call (from 1) with the JSON returned by the behaviour, read as the adapter's response type
+    private void respond(Attempt behaviour) {
+        Answer<Object> answer = invocation -> {
+            String body = behaviour.answer(calls.incrementAndGet());
+            return objectMapper.readValue(body, invocation.<Class<?>>getArgument(2));
+        };
+        when(restTemplate.postForObject(anyString(), any(), any(Class.class))).thenAnswer(answer);
+    }
+
+    private static void blockUntilInterrupted(CountDownLatch interrupted) throws InterruptedException {
+        try {
+            Thread.sleep(10_000);
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            throw e;
+        }
+    }
+
+    private static ClientResponse json(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Attempt {
+        String answer(int attempt) throws Exception;
+    }
+}
@@ -0,0 +1,146 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.adapters;
+
+import com.riwi.microservice.coopcredit.credit.AbstractIntegrationTest;
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ClaimCreditApplicationUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import com.riwi.microservice.coopcredit.credit.infrastructure.entities.AffiliateEntity;
+import com.riwi.microservice.coopcredit.credit.infrastructure.entities.CacheRegions;
+import com.riwi.microservice.coopcredit.credit.infrastructure.entities.RoleEntity;
+import com.riwi.microservice.coopcredit.credit.infrastructure.entities.UserEntity;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaCreditApplicationRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaRoleRepository;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaUserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+import static com.riwi.microservice.coopcredit.credit.AffiliateFixtures.affiliate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Repeated reads of affiliates and users, each in its own session, must be served by the
+ * second-level cache without touching the database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private JpaAffiliateRepository jpaAffiliateRepository;
+
+    @Autowired
+    private JpaCreditApplicationRepository jpaCreditApplicationRepository;
+
+    @Autowired
+    private JpaUserRepository userRepository;
+
+    @Autowired
+    private JpaRoleRepository roleRepository;
+
+    @Autowired
+    private ReviewClaimReaperAdapter reviewClaimReaperAdapter;
+
+    @Autowired
+    private ClaimCreditApplicationUseCase claimCreditApplicationUseCase;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private RiskAssessmentPort riskAssessmentPort;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldServeRepeatedAffiliateLookupsFromCache() {
+        jpaCreditApplicationRepository.deleteAll();
+        jpaAffiliateRepository.deleteAll();
+        Affiliate affiliate = affiliateRepository.save(affiliate("888000111", AffiliateStatus.ACTIVO));
+
+        affiliateRepository.findById(affiliate.getId());
+        affiliateRepository.findByDocument(affiliate.getDocument());
+        statistics.clear();
+
+        assertTrue(affiliateRepository.findById(affiliate.getId()).isPresent());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(CacheRegions.AFFILIATE).getHitCount());
+
+        // Served by the query cache region, still without SQL
+        assertTrue(affiliateRepository.findByDocument(affiliate.getDocument()).isPresent());
+        assertEquals(1, statistics.getQueryRegionStatistics(CacheRegions.AFFILIATE_BY_DOCUMENT).getHitCount());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldKeepCachedAffiliatesAcrossReviewQueueStatements() {
+        jpaCreditApplicationRepository.deleteAll();
+        jpaAffiliateRepository.deleteAll();
+        Affiliate affiliate = affiliateRepository.save(affiliate("888000111", AffiliateStatus.ACTIVO));
+        affiliateRepository.findById(affiliate.getId());
+        affiliateRepository.findByDocument(affiliate.getDocument());
+
+        // Native UPDATEs on credit_applications, even when they change no row
+        reviewClaimReaperAdapter.releaseExpiredClaims();
+        claimCreditApplicationUseCase.claim("analista", 1);
+
+        assertTrue(entityManagerFactory.getCache().contains(AffiliateEntity.class, affiliate.getId()));
+        statistics.clear();
+        assertTrue(affiliateRepository.findByDocument(affiliate.getDocument()).isPresent());
+        assertEquals(1, statistics.getQueryRegionStatistics(CacheRegions.AFFILIATE_BY_DOCUMENT).getHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldServeUserWithRolesFromCache() {
+        String username = "cached-user";
+        transactionTemplate.executeWithoutResult(status -> {
+            if (userRepository.existsByUsername(username)) {
+                return;
+            }
+            RoleEntity role = roleRepository.findByName("ROLE_ANALISTA").orElseGet(() -> {
+                RoleEntity newRole = new RoleEntity();
+                newRole.setName("ROLE_ANALISTA");
+                return roleRepository.save(newRole);
+            });
+            UserEntity user = new UserEntity();
+            user.setUsername(username);
+            user.setPassword("secret");
+            user.setEmail("cached-user@test.com");
+            user.setRoles(Set.of(role));
+            userRepository.save(user);
+        });
+
+        userRepository.findByUsername(username);
+        statistics.clear();
+
+        UserEntity user = userRepository.findByUsername(username).orElseThrow();
+
+        assertEquals(Set.of("ROLE_ANALISTA"), Set.copyOf(user.getRoles().stream().map(RoleEntity::getName).toList()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}
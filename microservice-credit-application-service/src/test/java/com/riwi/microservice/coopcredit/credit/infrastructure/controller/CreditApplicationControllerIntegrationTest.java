@@ -21,11 +21,13 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -63,6 +65,8 @@ class CreditApplicationControllerIntegrationTest extends AbstractIntegrationTest
         // Setup mock for external risk service
         when(riskAssessmentPort.assessRisk(anyString(), anyDouble(), anyInt()))
                 .thenReturn(new RiskAssessmentResult(800, "BAJO RIESGO", "Approved"));
+        when(riskAssessmentPort.assessRiskAsync(anyString(), anyDouble(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(new RiskAssessmentResult(800, "BAJO RIESGO", "Approved")));
 
         // Create a test affiliate in the DB
         testAffiliate = new Affiliate();
@@ -112,6 +116,41 @@ class CreditApplicationControllerIntegrationTest extends AbstractIntegrationTest
                 .andExpect(jsonPath("$.requestedAmount").value(2000000));
     }
     
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN", "ANALISTA"})
+    void shouldPageAffiliateApplicationsWithCursor() throws Exception {
+        CreateCreditApplicationRequest request = new CreateCreditApplicationRequest();
+        request.setAffiliateId(testAffiliate.getId());
+        request.setRequestedAmount(new BigDecimal("1000000"));
+        request.setTermMonths(12);
+        request.setInterestRate(new BigDecimal("1.5"));
+        request.setPurpose("Cursor Test Loan");
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/credit/applications")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        String cursor = mockMvc.perform(get("/credit/applications/affiliate/{id}", testAffiliate.getId())
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/credit/applications/affiliate/{id}", testAffiliate.getId())
+                        .param("size", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        mockMvc.perform(get("/credit/applications").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_CURSOR"));
+    }
+
     @Test
     @WithMockUser(username = "user", roles = {"USER"}) // Role not allowed
     void shouldForbidAccessWithInsufficientRoles() throws Exception {
@@ -0,0 +1,64 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.riwi.microservice.coopcredit.credit.domain.models.RiskEvaluationExportRow;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.CreditApplicationStatus;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.RiskLevel;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.ExportCreditDataUseCase.RowStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportResponseWriterTest {
+
+    private final ExportResponseWriter writer = new ExportResponseWriter(new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+    private final List<RiskEvaluationExportRow> rows = List.of(
+            new RiskEvaluationExportRow(1L, 10L, "CRE-202501-000001", CreditApplicationStatus.APROBADA, 720,
+                    RiskLevel.BAJO, new BigDecimal("25.50"), true, "analyst", LocalDateTime.of(2025, 1, 15, 10, 0)),
+            new RiskEvaluationExportRow(2L, 11L, "CRE-202501-000002", CreditApplicationStatus.PENDIENTE, 510,
+                    RiskLevel.ALTO, new BigDecimal("48.00"), null, "Pérez, \"Jr\" Ana", LocalDateTime.of(2025, 1, 16, 9, 30)));
+
+    private final RowStream<RiskEvaluationExportRow> stream = consumer -> {
+        rows.forEach(consumer);
+        return rows.size();
+    };
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = writer.writeNdjson(out, RiskEvaluationExportRow.class, stream);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(2, count);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"creditApplicationId\":10,"));
+        assertTrue(lines[1].contains("\"evaluationDate\":\"2025-01-16T09:30:00\""));
+        assertEquals("", lines[2]);
+    }
+
+    @Test
+    void shouldWriteCsvWithHeaderAndEscapedFields() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = writer.writeCsv(out, RiskEvaluationExportRow.class, stream);
+
+        assertEquals(2, count);
+        assertEquals("""
+                id,creditApplicationId,applicationNumber,applicationStatus,creditScore,riskLevel,debtToIncomeRatio,approved,evaluatedBy,evaluationDate
+                1,10,CRE-202501-000001,APROBADA,720,BAJO,25.50,true,analyst,2025-01-15T10:00
+                2,11,CRE-202501-000002,PENDIENTE,510,ALTO,48.00,,"Pérez, ""Jr"" Ana",2025-01-16T09:30
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,30 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    @Test
+    void shouldRejectPerCallCredentialsWithAnSqlException() {
+        ReadReplicaRoutingDataSource dataSource = new ReadReplicaRoutingDataSource(
+                pool("primary"), List.of(pool("replica-1")), new SimpleMeterRegistry());
+
+        SQLException error = assertThrows(SQLException.class, () -> dataSource.getConnection("user", "secret"));
+        assertInstanceOf(SQLFeatureNotSupportedException.class, error);
+    }
+
+    // Never started: no connection is opened by this test
+    private static HikariDataSource pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        return pool;
+    }
+}
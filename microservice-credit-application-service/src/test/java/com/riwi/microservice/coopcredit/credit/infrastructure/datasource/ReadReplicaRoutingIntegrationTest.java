@@ -0,0 +1,180 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.datasource;
+
+import com.riwi.microservice.coopcredit.credit.domain.models.Affiliate;
+import com.riwi.microservice.coopcredit.credit.domain.models.enums.AffiliateStatus;
+import com.riwi.microservice.coopcredit.credit.domain.port.in.RetrieveAffiliateUseCase;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.microservice.coopcredit.credit.domain.port.out.RiskAssessmentPort;
+import com.riwi.microservice.coopcredit.credit.infrastructure.repositories.JpaAffiliateRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static com.riwi.microservice.coopcredit.credit.AffiliateFixtures.affiliate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Primary plus a streaming replica built with pg_basebackup: read-only transactions must land on
+ * the replica (pg_is_in_recovery() is true there), writes and reads after a write in the same
+ * request on the primary.
+ */
+@Testcontainers
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "credit.read-replica.enabled=true"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    @SuppressWarnings("resource")
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withCopyFileToContainer(MountableFile.forClasspathResource("replication/primary-replication.sh", 0755),
+                    "/docker-entrypoint-initdb.d/primary-replication.sh");
+
+    @Container
+    @SuppressWarnings("resource")
+    static GenericContainer<?> replica = new GenericContainer<>("postgres:15-alpine")
+            .dependsOn(primary)
+            .withNetwork(NETWORK)
+            .withEnv("PGPASSWORD", "replicator")
+            .withExposedPorts(5432)
+            .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+            .withCommand("sh", "-c", """
+                    until pg_basebackup -h primary -U replicator -D /tmp/replica -R -X stream; do sleep 1; done
+                    chmod 0700 /tmp/replica
+                    exec postgres -D /tmp/replica -c listen_addresses='*'""")
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("credit.read-replica.urls", ReadReplicaRoutingIntegrationTest::replicaJdbcUrl);
+    }
+
+    @Autowired
+    private RetrieveAffiliateUseCase retrieveAffiliateUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private JpaAffiliateRepository jpaAffiliateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private RiskAssessmentPort riskAssessmentPort;
+
+    @BeforeEach
+    void setUp() {
+        jpaAffiliateRepository.deleteAll();
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToTheReplicaAndWritesToThePrimary() {
+        assertTrue(inRecovery(true), "read-only transaction on the replica");
+        assertFalse(inRecovery(false), "read-write transaction on the primary");
+        // Outside a transaction there is no read-only flag to trust
+        assertFalse(jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class));
+
+        assertNotNull(meterRegistry.find("hikaricp.connections").tag("pool", "credit-primary").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections").tag("pool", "credit-replica-1").gauge());
+    }
+
+    @Test
+    void shouldServeRetrieveUseCasesFromTheReplica() throws SQLException, InterruptedException {
+        Affiliate affiliate = affiliateRepository.save(affiliate("666000999", AffiliateStatus.ACTIVO));
+        awaitReplicaCaughtUp();
+        double before = replicaReads();
+
+        assertTrue(retrieveAffiliateUseCase.getAffiliateById(affiliate.getId()).isPresent());
+
+        assertTrue(replicaReads() > before);
+    }
+
+    @Test
+    void shouldReadFromThePrimaryAfterAWriteInTheSameRequest() {
+        try (ReadYourWritesScope ignored = ReadYourWritesScope.open()) {
+            assertTrue(inRecovery(true), "nothing written yet");
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    affiliateRepository.save(affiliate("666000999", AffiliateStatus.ACTIVO)));
+            assertFalse(inRecovery(true), "pinned to the primary after the write");
+        }
+        assertTrue(inRecovery(true), "the next request reads from the replica again");
+    }
+
+    private boolean inRecovery(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class)));
+    }
+
+    private double replicaReads() {
+        return meterRegistry.counter("credit.datasource.routing", "pool", "credit-replica-1", "reason", "read-only").count();
+    }
+
+    private void awaitReplicaCaughtUp() throws SQLException, InterruptedException {
+        String primaryLsn = jdbcTemplate.queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+        try (Connection connection = DriverManager.getConnection(replicaJdbcUrl(), primary.getUsername(), primary.getPassword());
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT pg_wal_lsn_diff(pg_last_wal_replay_lsn(), ?::pg_lsn) >= 0")) {
+            statement.setString(1, primaryLsn);
+            for (int attempt = 0; attempt < 100; attempt++) {
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (rs.next() && rs.getBoolean(1)) {
+                        return;
+                    }
+                }
+                Thread.sleep(100);
+            }
+        }
+        fail("Replica did not replay " + primaryLsn + " in time");
+    }
+
+    private static String replicaJdbcUrl() {
+        return "jdbc:postgresql://" + replica.getHost() + ":" + replica.getMappedPort(5432) + "/testdb";
+    }
+}
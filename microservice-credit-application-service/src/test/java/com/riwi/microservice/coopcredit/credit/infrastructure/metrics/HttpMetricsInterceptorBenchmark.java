@@ -0,0 +1,70 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpMetricsInterceptor overhead per request once the route's meters are resolved.
+ * baseline only touches the request the way the dispatcher does, so the difference is the interceptor.
+ * Run with: mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *   "-Dexec.args=-cp %classpath com.riwi.microservice.coopcredit.credit.infrastructure.metrics.HttpMetricsInterceptorBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpMetricsInterceptorBenchmark {
+
+    private static final Object HANDLER = new Object();
+
+    private HttpMetricsInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        interceptor = new HttpMetricsInterceptor(new SimpleMeterRegistry(),
+                new StaticListableBeanFactory().getBeanProvider(RequestMappingHandlerMapping.class), 500);
+        request = new MockHttpServletRequest("GET", "/credit/applications/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/credit/applications/{id}");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object baseline() {
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    }
+
+    @Benchmark
+    public void intercepted() {
+        interceptor.preHandle(request, response, HANDLER);
+        interceptor.afterCompletion(request, response, HANDLER, null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HttpMetricsInterceptorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,69 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HttpMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new HttpMetricsInterceptor(meterRegistry,
+                new StaticListableBeanFactory().getBeanProvider(RequestMappingHandlerMapping.class), 2);
+    }
+
+    @Test
+    void shouldTagRequestsWithRouteTemplate() {
+        handle("GET", "/credit/applications/1", "/credit/applications/{id}", 200);
+        handle("GET", "/credit/applications/2", "/credit/applications/{id}", 200);
+
+        assertEquals(2, meterRegistry.get("http.server.requests")
+                .tag("uri", "/credit/applications/{id}")
+                .tag("status", "200")
+                .timer().count());
+        assertEquals(1, meterRegistry.find("http.server.requests").timers().size());
+    }
+
+    @Test
+    void shouldCountErrorsPerRoute() {
+        handle("GET", "/credit/affiliates/document/123", "/credit/affiliates/document/{document}", 404);
+
+        assertEquals(1.0, meterRegistry.get("http.server.errors")
+                .tag("uri", "/credit/affiliates/document/{document}")
+                .tag("error_type", "NOT_FOUND")
+                .counter().count());
+    }
+
+    @Test
+    void shouldSendSeriesBeyondCapToOverflow() {
+        handle("GET", "/credit/applications/1", "/credit/applications/{id}", 200);
+        handle("POST", "/credit/applications", "/credit/applications", 201);
+        handle("GET", "/credit/affiliates/1", "/credit/affiliates/{id}", 200);
+        handle("GET", "/credit/affiliates/2", "/credit/affiliates/{id}", 200);
+
+        assertEquals(2, meterRegistry.get("http.server.requests")
+                .tag("uri", HttpMetricsInterceptor.OVERFLOW_URI)
+                .timer().count());
+        assertNull(meterRegistry.find("http.server.requests").tag("uri", "/credit/affiliates/{id}").timer());
+    }
+
+    private void handle(String method, String uri, String pattern, int status) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        response.setStatus(status);
+        interceptor.afterCompletion(request, response, new Object(), null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.riwi.microservice.coopcredit.credit.infrastructure.security;
+
+import com.riwi.microservice.coopcredit.credit.infrastructure.security.GatewayHeaderAuthenticator.GatewayPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GatewayHeaderAuthenticatorTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    private GatewayHeaderAuthenticator authenticator;
+
+    @BeforeEach
+    void setUp() {
+        authenticator = new GatewayHeaderAuthenticator("internal-secret", Duration.ofSeconds(30),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldAuthenticateSignedHeaders() {
+        MockHttpServletRequest request = signedRequest("7", "analyst", "ROLE_ANALISTA,ROLE_AFILIADO", NOW);
+
+        GatewayPrincipal principal = authenticator.authenticate(request);
+
+        assertEquals(7L, principal.userId());
+        assertEquals("analyst", principal.username());
+        assertEquals(List.of("ROLE_ANALISTA", "ROLE_AFILIADO"), principal.roles());
+    }
+
+    @Test
+    void shouldRejectTamperedRoles() {
+        MockHttpServletRequest request = signedRequest("7", "analyst", "ROLE_AFILIADO", NOW);
+        request.removeHeader(GatewayHeaderAuthenticator.USER_ROLES_HEADER);
+        request.addHeader(GatewayHeaderAuthenticator.USER_ROLES_HEADER, "ROLE_ADMIN");
+
+        assertThrows(BadCredentialsException.class, () -> authenticator.authenticate(request));
+    }
+
+    @Test
+    void shouldRejectStaleSignature() {
+        MockHttpServletRequest request = signedRequest("7", "analyst", "ROLE_AFILIADO", NOW.minusSeconds(31));
+
+        assertThrows(BadCredentialsException.class, () -> authenticator.authenticate(request));
+    }
+
+    @Test
+    void shouldIgnoreRequestsWithoutSignature() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(GatewayHeaderAuthenticator.USER_NAME_HEADER, "admin");
+        request.addHeader(GatewayHeaderAuthenticator.USER_ROLES_HEADER, "ROLE_ADMIN");
+
+        assertNull(authenticator.authenticate(request));
+    }
+
+    private MockHttpServletRequest signedRequest(String userId, String username, String roles, Instant signedAt) {
+        String timestamp = Long.toString(signedAt.getEpochSecond());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(GatewayHeaderAuthenticator.USER_ID_HEADER, userId);
+        request.addHeader(GatewayHeaderAuthenticator.USER_NAME_HEADER, username);
+        request.addHeader(GatewayHeaderAuthenticator.USER_ROLES_HEADER, roles);
+        request.addHeader(GatewayHeaderAuthenticator.TIMESTAMP_HEADER, timestamp);
+        request.addHeader(GatewayHeaderAuthenticator.SIGNATURE_HEADER, Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(authenticator.sign(userId, username, roles, timestamp)));
+        return request;
+    }
+}
@@ -0,0 +1,106 @@
+// Load test comparing platform and virtual threads in the credit application service.
+//
+// Run it once per mode against the same stack and compare the generated summaries:
+//   CREDIT_VIRTUAL_THREADS=false docker-compose up -d --build
+//   k6 run -e MODE=platform src/test/k6/virtual-threads-load.js
+//   CREDIT_JAVA_VERSION=21 CREDIT_MAVEN_PROFILES=java21 CREDIT_VIRTUAL_THREADS=true docker-compose up -d --build
+//   k6 run -e MODE=virtual src/test/k6/virtual-threads-load.js
+//
+// Scenario "latency" holds 1200 concurrent clients and measures p99.
+// Scenario "capacity" then ramps the arrival rate until the service stops keeping up;
+// the highest sustained rate is the max throughput.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const MODE = __ENV.MODE || 'platform';
+const CLIENTS = parseInt(__ENV.CLIENTS || '1200');
+const AFFILIATE_ID = parseInt(__ENV.AFFILIATE_ID || '1');
+const APPLICATION_ID = parseInt(__ENV.APPLICATION_ID || '1');
+const WRITE_RATIO = parseFloat(__ENV.WRITE_RATIO || '0.2');
+
+export const options = {
+    scenarios: {
+        latency: {
+            executor: 'constant-vus',
+            vus: CLIENTS,
+            duration: '3m',
+            tags: { phase: 'latency' },
+        },
+        capacity: {
+            executor: 'ramping-arrival-rate',
+            startTime: '3m30s',
+            startRate: 200,
+            timeUnit: '1s',
+            preAllocatedVUs: CLIENTS,
+            maxVUs: CLIENTS * 3,
+            stages: [
+                { target: 1000, duration: '1m' },
+                { target: 3000, duration: '2m' },
+                { target: 6000, duration: '2m' },
+            ],
+            tags: { phase: 'capacity' },
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_failed{phase:latency}': ['rate<0.01'],
+        'http_req_duration{phase:latency}': ['p(99)<2000'],
+        'http_reqs{phase:capacity}': ['count>0'],
+        'dropped_iterations{phase:capacity}': ['count>=0'],
+    },
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ username: __ENV.USERNAME || 'admin', password: __ENV.PASSWORD || 'Admin@123' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'login ok': (r) => r.status === 200 });
+    return { token: res.json('token') };
+}
+
+export default function (data) {
+    const headers = {
+        'Content-Type': 'application/json',
+        Authorization: `Bearer ${data.token}`,
+    };
+
+    if (Math.random() < WRITE_RATIO) {
+        // Blocking path: JPA insert + risk-central HTTP call
+        const res = http.post(`${BASE_URL}/credit/applications`, JSON.stringify({
+            affiliateId: AFFILIATE_ID,
+            requestedAmount: 1000000,
+            termMonths: 12,
+            interestRate: 1.5,
+            purpose: 'Prueba de carga',
+        }), { headers, tags: { name: 'create' } });
+        check(res, { 'create 201': (r) => r.status === 201 });
+    } else {
+        const res = http.get(`${BASE_URL}/credit/applications/${APPLICATION_ID}`,
+            { headers, tags: { name: 'get' } });
+        check(res, { 'get 200': (r) => r.status === 200 });
+    }
+}
+
+export function handleSummary(data) {
+    const metric = (name) => (data.metrics[name] ? data.metrics[name].values : {});
+    const latency = metric('http_req_duration{phase:latency}');
+    const summary = {
+        mode: MODE,
+        clients: CLIENTS,
+        latency: {
+            p99Ms: latency['p(99)'],
+            maxMs: latency.max,
+            throughputRps: metric('http_reqs{phase:latency}').rate,
+            errorRate: metric('http_req_failed{phase:latency}').rate,
+        },
+        capacity: {
+            throughputRps: metric('http_reqs{phase:capacity}').rate,
+            droppedIterations: metric('dropped_iterations{phase:capacity}').count || 0,
+        },
+    };
+    return {
+        stdout: JSON.stringify(summary, null, 2) + '\n',
+        [`target/k6-${MODE}.json`]: JSON.stringify(summary, null, 2),
+    };
+}
@@ -1,6 +1,8 @@
 package com.riwi.microservice.gateway.filter;
 
+import com.riwi.microservice.gateway.utils.AuthenticatedUser;
 import com.riwi.microservice.gateway.utils.JwtTokenProvider;
+import com.riwi.microservice.gateway.utils.UserHeaderSigner;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
@@ -13,6 +15,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Custom Gateway Filter Factory for role-based authentication.
@@ -23,10 +26,12 @@ public class AuthenticationGatewayFilterFactory
         extends AbstractGatewayFilterFactory<AuthenticationGatewayFilterFactory.Config> {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserHeaderSigner userHeaderSigner;
 
-    public AuthenticationGatewayFilterFactory(JwtTokenProvider jwtTokenProvider) {
+    public AuthenticationGatewayFilterFactory(JwtTokenProvider jwtTokenProvider, UserHeaderSigner userHeaderSigner) {
         super(Config.class);
         this.jwtTokenProvider = jwtTokenProvider;
+        this.userHeaderSigner = userHeaderSigner;
     }
 
     @Override
@@ -47,29 +52,22 @@ public class AuthenticationGatewayFilterFactory
 
             String token = authHeader.substring(7);
 
-            // Validate token
-            if (!jwtTokenProvider.validateToken(token)) {
+            // Validate token (verified once per token lifetime)
+            Optional<AuthenticatedUser> user = jwtTokenProvider.authenticate(token);
+            if (user.isEmpty()) {
                 return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
             }
 
             // Check required roles if configured
             if (config.getRequiredRoles() != null && !config.getRequiredRoles().isEmpty()) {
-                if (!jwtTokenProvider.hasAnyRole(token, config.getRequiredRoles())) {
+                if (!user.get().hasAnyRole(config.getRequiredRoles())) {
                     return onError(exchange, "Access denied. Required roles: " + config.getRequiredRoles(), 
                             HttpStatus.FORBIDDEN);
                 }
             }
 
             // Add user info headers
-            String username = jwtTokenProvider.getUsernameFromToken(token);
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
-            List<String> roles = jwtTokenProvider.getRolesFromToken(token);
-
-            ServerHttpRequest modifiedRequest = request.mutate()
-                    .header("X-User-Id", userId != null ? userId.toString() : "")
-                    .header("X-User-Name", username)
-                    .header("X-User-Roles", roles != null ? String.join(",", roles) : "")
-                    .build();
+            ServerHttpRequest modifiedRequest = userHeaderSigner.withUserHeaders(request, user.get());
 
             return chain.filter(exchange.mutate().request(modifiedRequest).build());
         };
@@ -1,6 +1,8 @@
 package com.riwi.microservice.gateway.filter;
 
+import com.riwi.microservice.gateway.utils.AuthenticatedUser;
 import com.riwi.microservice.gateway.utils.JwtTokenProvider;
+import com.riwi.microservice.gateway.utils.UserHeaderSigner;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
@@ -12,21 +14,24 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.Optional;
 
 /**
  * Global filter for JWT authentication in the Gateway.
- * Validates JWT tokens and adds user information to request headers.
+ * Validates JWT tokens and adds (signed) user information to request headers.
  */
 @Component
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final RouteValidator routeValidator;
+    private final UserHeaderSigner userHeaderSigner;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, RouteValidator routeValidator) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, RouteValidator routeValidator,
+                                   UserHeaderSigner userHeaderSigner) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.routeValidator = routeValidator;
+        this.userHeaderSigner = userHeaderSigner;
     }
 
     @Override
@@ -50,27 +55,15 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
         String token = authHeader.substring(7);
 
-        // Validate token
-        if (!jwtTokenProvider.validateToken(token)) {
+        // Validate token (verified once per token lifetime)
+        Optional<AuthenticatedUser> user = jwtTokenProvider.authenticate(token);
+        if (user.isEmpty()) {
             return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
         }
 
-        // Extract user info and add to headers for downstream services
-        try {
-            String username = jwtTokenProvider.getUsernameFromToken(token);
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
-            List<String> roles = jwtTokenProvider.getRolesFromToken(token);
-
-            ServerHttpRequest modifiedRequest = request.mutate()
-                    .header("X-User-Id", userId != null ? userId.toString() : "")
-                    .header("X-User-Name", username)
-                    .header("X-User-Roles", roles != null ? String.join(",", roles) : "")
-                    .build();
-
-            return chain.filter(exchange.mutate().request(modifiedRequest).build());
-        } catch (Exception e) {
-            return onError(exchange, "Error processing token: " + e.getMessage(), HttpStatus.UNAUTHORIZED);
-        }
+        // Add user info to headers for downstream services
+        ServerHttpRequest modifiedRequest = userHeaderSigner.withUserHeaders(request, user.get());
+        return chain.filter(exchange.mutate().request(modifiedRequest).build());
     }
 
     @Override
@@ -0,0 +1,34 @@
+package com.riwi.microservice.gateway.utils;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable principal extracted from a verified JWT.
+ */
+public record AuthenticatedUser(Long userId, String username, List<String> roles, Instant expiresAt) {
+
+    public AuthenticatedUser {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+
+    /**
+     * Check if the user has any of the specified roles.
+     * @param requiredRoles the roles to check
+     * @return true if the user has at least one of them
+     */
+    public boolean hasAnyRole(List<String> requiredRoles) {
+        return requiredRoles.stream().anyMatch(roles::contains);
+    }
+
+    /**
+     * Roles as sent downstream in the X-User-Roles header.
+     */
+    public String rolesHeader() {
+        return String.join(",", roles);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
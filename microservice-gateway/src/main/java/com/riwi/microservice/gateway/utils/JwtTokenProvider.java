@@ -1,27 +1,82 @@
 package com.riwi.microservice.gateway.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility class for JWT token operations in the Gateway.
+ * A token is parsed and signature-verified once; the resulting principal is cached under the
+ * SHA-256 of the token until the token's own expiration. Invalid tokens are never cached.
  */
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey secretKey;
+    static final String CACHE_NAME = "jwt-verification";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final JwtParser parser;
+    private final Cache<ByteBuffer, AuthenticatedUser> verifiedTokens;
 
     public JwtTokenProvider(
-            @Value("${JWT_SECRET}") String secret) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            @Value("${JWT_SECRET}") String secret,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            @Value("${jwt.cache.max-ttl:1h}") Duration maxTtl,
+            MeterRegistry meterRegistry) {
+        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry(maxTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+    }
+
+    /**
+     * Verify a JWT token and extract its principal, reusing a previous verification of the same token.
+     * @param token the token to verify
+     * @return the principal, or empty if the token is invalid or expired
+     */
+    public Optional<AuthenticatedUser> authenticate(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        AuthenticatedUser user = verifiedTokens.get(hash(token), key -> verify(token));
+        if (user == null || user.isExpired(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(user);
     }
 
     /**
@@ -30,15 +85,7 @@ public class JwtTokenProvider {
      * @return true if valid, false otherwise
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return authenticate(token).isPresent();
     }
 
     /**
@@ -47,8 +94,7 @@ public class JwtTokenProvider {
      * @return the username (subject)
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = getClaims(token);
-        return claims.getSubject();
+        return requireUser(token).username();
     }
 
     /**
@@ -57,12 +103,7 @@ public class JwtTokenProvider {
      * @return the user ID
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = getClaims(token);
-        Object userId = claims.get("userId");
-        if (userId instanceof Number) {
-            return ((Number) userId).longValue();
-        }
-        return null;
+        return requireUser(token).userId();
     }
 
     /**
@@ -70,10 +111,8 @@ public class JwtTokenProvider {
      * @param token the token
      * @return list of role names
      */
-    @SuppressWarnings("unchecked")
     public List<String> getRolesFromToken(String token) {
-        Claims claims = getClaims(token);
-        return (List<String>) claims.get("roles");
+        return requireUser(token).roles();
     }
 
     /**
@@ -83,8 +122,7 @@ public class JwtTokenProvider {
      * @return true if token contains the role
      */
     public boolean hasRole(String token, String role) {
-        List<String> roles = getRolesFromToken(token);
-        return roles != null && roles.contains(role);
+        return authenticate(token).map(user -> user.roles().contains(role)).orElse(false);
     }
 
     /**
@@ -94,18 +132,68 @@ public class JwtTokenProvider {
      * @return true if token contains any of the roles
      */
     public boolean hasAnyRole(String token, List<String> roles) {
-        List<String> tokenRoles = getRolesFromToken(token);
-        if (tokenRoles == null) {
-            return false;
+        return authenticate(token).map(user -> user.hasAnyRole(roles)).orElse(false);
+    }
+
+    private AuthenticatedUser requireUser(String token) {
+        return authenticate(token).orElseThrow(() -> new JwtException("Invalid or expired token"));
+    }
+
+    private AuthenticatedUser verify(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Object userId = claims.get("userId");
+            Date expiration = claims.getExpiration();
+            return new AuthenticatedUser(
+                    userId instanceof Number number ? number.longValue() : null,
+                    claims.getSubject(),
+                    roles(claims.get("roles")),
+                    expiration != null ? expiration.toInstant() : null);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
-        return roles.stream().anyMatch(tokenRoles::contains);
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static List<String> roles(Object claim) {
+        if (claim instanceof List<?> list) {
+            return list.stream().map(String::valueOf).toList();
+        }
+        return List.of();
+    }
+
+    private static ByteBuffer hash(String token) {
+        MessageDigest digest = SHA_256.get();
+        return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Entries live until the token expires, and never longer than maxTtl.
+     */
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, AuthenticatedUser> {
+
+        private final long maxTtlNanos;
+
+        UntilTokenExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, AuthenticatedUser user, long currentTime) {
+            if (user.expiresAt() == null) {
+                return maxTtlNanos;
+            }
+            long untilExpiryMillis = user.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return Math.max(0, Math.min(TimeUnit.MILLISECONDS.toNanos(untilExpiryMillis), maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, AuthenticatedUser user, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, AuthenticatedUser user, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
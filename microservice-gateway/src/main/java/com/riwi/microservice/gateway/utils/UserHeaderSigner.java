@@ -0,0 +1,92 @@
+package com.riwi.microservice.gateway.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.util.Base64;
+
+/**
+ * Writes the X-User-* headers sent to downstream services for an authenticated user.
+ * When an internal secret is configured the headers are also signed (HMAC-SHA256 over id, name,
+ * roles and timestamp), so services running in gateway auth mode can trust them without
+ * verifying the JWT again.
+ */
+@Component
+public class UserHeaderSigner {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String USER_NAME_HEADER = "X-User-Name";
+    public static final String USER_ROLES_HEADER = "X-User-Roles";
+    public static final String TIMESTAMP_HEADER = "X-User-Timestamp";
+    public static final String SIGNATURE_HEADER = "X-User-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final ThreadLocal<Mac> mac;
+    private final Clock clock;
+
+    public UserHeaderSigner(@Value("${gateway.internal-auth.secret:}") String secret) {
+        this(secret, Clock.systemUTC());
+    }
+
+    UserHeaderSigner(String secret, Clock clock) {
+        this.clock = clock;
+        if (secret == null || secret.isBlank()) {
+            this.mac = null;
+        } else {
+            SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+            this.mac = ThreadLocal.withInitial(() -> newMac(key));
+        }
+    }
+
+    /**
+     * Add the user headers (and their signature, if enabled) to the request.
+     * @param request the incoming request
+     * @param user the verified principal
+     * @return the request to forward downstream
+     */
+    public ServerHttpRequest withUserHeaders(ServerHttpRequest request, AuthenticatedUser user) {
+        String userId = user.userId() != null ? user.userId().toString() : "";
+        String username = user.username() != null ? user.username() : "";
+        String roles = user.rolesHeader();
+
+        ServerHttpRequest.Builder builder = request.mutate()
+                .header(USER_ID_HEADER, userId)
+                .header(USER_NAME_HEADER, username)
+                .header(USER_ROLES_HEADER, roles);
+        if (mac == null) {
+            // Never forward client-supplied signatures
+            builder.headers(headers -> {
+                headers.remove(TIMESTAMP_HEADER);
+                headers.remove(SIGNATURE_HEADER);
+            });
+        } else {
+            String timestamp = Long.toString(clock.millis() / 1000);
+            builder.header(TIMESTAMP_HEADER, timestamp)
+                    .header(SIGNATURE_HEADER, sign(userId, username, roles, timestamp));
+        }
+        return builder.build();
+    }
+
+    String sign(String userId, String username, String roles, String timestamp) {
+        String payload = userId + '\n' + username + '\n' + roles + '\n' + timestamp;
+        byte[] signature = mac.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize " + ALGORITHM, e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.riwi.microservice.gateway.filter;
+
+import com.riwi.microservice.gateway.utils.JwtTokenProvider;
+import com.riwi.microservice.gateway.utils.UserHeaderSigner;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter cost per request for a client that reuses its token.
+ * cacheSize=0 disables the verification cache, so every request pays parsing and HMAC verification.
+ * Run with: mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *   "-Dexec.args=-cp %classpath com.riwi.microservice.gateway.filter.JwtAuthenticationFilterBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-with-at-least-256-bits-for-hmac";
+
+    @Param({"0", "10000"})
+    public long cacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private GatewayFilterChain chain;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                SECRET, cacheSize, Duration.ofHours(1), new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, new RouteValidator(), new UserHeaderSigner(SECRET));
+        chain = exchange -> Mono.empty();
+        authorization = "Bearer " + Jwts.builder()
+                .subject("analyst")
+                .claim("userId", 7)
+                .claim("roles", List.of("ROLE_ANALISTA", "ROLE_AFILIADO"))
+                .issuedAt(new Date())
+                .expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    @Benchmark
+    public Void authenticatedRequest() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/credit/applications/1")
+                        .header(HttpHeaders.AUTHORIZATION, authorization));
+        return filter.filter(exchange, chain).block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,82 @@
+package com.riwi.microservice.gateway.utils;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-with-at-least-256-bits-for-hmac-sha";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 100, Duration.ofHours(1), meterRegistry);
+    }
+
+    @Test
+    void shouldVerifyTokenOnceAndServeRepeatedCallsFromCache() {
+        String token = token(SECRET, Instant.now().plusSeconds(600));
+
+        Optional<AuthenticatedUser> first = jwtTokenProvider.authenticate(token);
+        Optional<AuthenticatedUser> second = jwtTokenProvider.authenticate(token);
+
+        assertTrue(first.isPresent());
+        assertEquals(7L, first.get().userId());
+        assertEquals("analyst", first.get().username());
+        assertEquals(List.of("ROLE_ANALISTA"), first.get().roles());
+        assertSame(first.get(), second.get());
+        assertEquals(1.0, gets("miss"));
+        assertEquals(1.0, gets("hit"));
+    }
+
+    @Test
+    void shouldRejectAndNotCacheInvalidTokens() {
+        String forged = token("another-secret-key-with-at-least-256-bits-for-hmac", Instant.now().plusSeconds(600));
+
+        assertTrue(jwtTokenProvider.authenticate(forged).isEmpty());
+        assertTrue(jwtTokenProvider.authenticate("not-a-jwt").isEmpty());
+        assertFalse(jwtTokenProvider.validateToken(forged));
+        assertEquals(0.0, meterRegistry.get("cache.size").tag("cache", JwtTokenProvider.CACHE_NAME).gauge().value());
+    }
+
+    @Test
+    void shouldRejectExpiredTokens() {
+        String expired = token(SECRET, Instant.now().minusSeconds(5));
+
+        assertTrue(jwtTokenProvider.authenticate(expired).isEmpty());
+    }
+
+    private static String token(String secret, Instant expiresAt) {
+        return Jwts.builder()
+                .subject("analyst")
+                .claim("userId", 7)
+                .claim("roles", List.of("ROLE_ANALISTA"))
+                .issuedAt(new Date())
+                .expiration(Date.from(expiresAt))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", JwtTokenProvider.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -2,24 +2,39 @@ package com.riwi.microservice.coopcredit.risk.api.controller;
 
 import com.riwi.microservice.coopcredit.risk.api.dto.RiskEvaluationRequest;
 import com.riwi.microservice.coopcredit.risk.api.dto.RiskEvaluationResponse;
+import com.riwi.microservice.coopcredit.risk.service.RiskBatchEvaluationService;
+import com.riwi.microservice.coopcredit.risk.service.RiskScoringService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/risk/evaluation")
 @Tag(name = "Risk Evaluation Central", description = "Centralized risk evaluation service")
 public class RiskEvaluationController {
 
+    private final RiskScoringService riskScoringService;
+    private final RiskBatchEvaluationService riskBatchEvaluationService;
+
+    public RiskEvaluationController(RiskScoringService riskScoringService,
+                                    RiskBatchEvaluationService riskBatchEvaluationService) {
+        this.riskScoringService = riskScoringService;
+        this.riskBatchEvaluationService = riskBatchEvaluationService;
+    }
+
     @PostMapping
     @Operation(summary = "Evaluate risk", description = "Evaluates the risk based on the document number")
     @ApiResponses(value = {
@@ -45,36 +60,29 @@ public class RiskEvaluationController {
             return ResponseEntity.badRequest().build();
         }
 
-        // 1. Convertir el documento en un seed numérico (hash mod 1000).
-        int seed = Math.abs(request.getDocumento().hashCode()) % 1000;
-
-        // 2. Generar un score entre 300 y 950 basado en ese seed.
-        // Range size = 950 - 300 = 650.
-        // Scaled value = seed * 650 / 999.
-        int score = 300 + (seed * 650 / 999);
-
-        // 3. Clasificar
-        String nivelRiesgo;
-        String detalle;
-
-        if (score <= 500) {
-            nivelRiesgo = "ALTO RIESGO";
-            detalle = "Historial crediticio deficiente o insuficiente.";
-        } else if (score <= 700) {
-            nivelRiesgo = "MEDIO RIESGO";
-            detalle = "Historial crediticio moderado.";
-        } else {
-            nivelRiesgo = "BAJO RIESGO";
-            detalle = "Excelente comportamiento crediticio.";
-        }
-
-        RiskEvaluationResponse response = new RiskEvaluationResponse(
-                request.getDocumento(),
-                score,
-                nivelRiesgo,
-                detalle
-        );
-
+        RiskEvaluationResponse response = riskScoringService.evaluate(request);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping(value = "/batch",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Evaluate risk in batch",
+            description = "Scores a stream of {documento, monto, plazo} tuples (NDJSON or JSON array) and streams one NDJSON result per tuple, in input order. Tuples without documento yield a result with null score")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resultados de evaluación en formato NDJSON",
+            content = @Content(
+                mediaType = "application/x-ndjson",
+                schema = @Schema(implementation = RiskEvaluationResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> evaluateRiskBatch(InputStream requestBody) {
+        StreamingResponseBody responseBody = output -> riskBatchEvaluationService.evaluate(requestBody, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseBody);
+    }
 }
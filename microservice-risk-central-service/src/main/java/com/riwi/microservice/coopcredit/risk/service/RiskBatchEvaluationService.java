@@ -0,0 +1,73 @@
+package com.riwi.microservice.coopcredit.risk.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.riwi.microservice.coopcredit.risk.api.dto.RiskEvaluationRequest;
+import com.riwi.microservice.coopcredit.risk.api.dto.RiskEvaluationResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scores a stream of requests and writes one NDJSON line per request, in input order.
+ * Requests are read and scored in fixed-size chunks (in parallel within a chunk), so memory
+ * stays bounded by the chunk size whatever the batch size.
+ */
+@Service
+public class RiskBatchEvaluationService {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final RiskScoringService riskScoringService;
+    private final ObjectReader requestReader;
+    private final ObjectWriter responseWriter;
+    private final int chunkSize;
+
+    public RiskBatchEvaluationService(RiskScoringService riskScoringService,
+                                      ObjectMapper objectMapper,
+                                      @Value("${risk.batch.chunk-size:1024}") int chunkSize) {
+        this.riskScoringService = riskScoringService;
+        this.requestReader = objectMapper.readerFor(RiskEvaluationRequest.class);
+        this.responseWriter = objectMapper.writerFor(RiskEvaluationResponse.class);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Accepts NDJSON or a JSON array of requests.
+     */
+    public void evaluate(InputStream input, OutputStream output) throws IOException {
+        List<RiskEvaluationRequest> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<RiskEvaluationRequest> requests = requestReader.readValues(input)) {
+            while (requests.hasNextValue()) {
+                chunk.add(requests.nextValue());
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, output);
+                    chunk.clear();
+                }
+            }
+        }
+        writeChunk(chunk, output);
+    }
+
+    private void writeChunk(List<RiskEvaluationRequest> chunk, OutputStream output) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        // Parallel stream keeps encounter order in toList()
+        List<RiskEvaluationResponse> responses = chunk.parallelStream()
+                .map(riskScoringService::evaluate)
+                .toList();
+        for (RiskEvaluationResponse response : responses) {
+            output.write(responseWriter.writeValueAsBytes(response));
+            output.write(NEW_LINE);
+        }
+        output.flush();
+    }
+}
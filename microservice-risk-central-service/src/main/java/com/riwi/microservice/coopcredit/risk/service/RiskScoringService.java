@@ -0,0 +1,51 @@
+package com.riwi.microservice.coopcredit.risk.service;
+
+import com.riwi.microservice.coopcredit.risk.api.dto.RiskEvaluationRequest;
+import com.riwi.microservice.coopcredit.risk.api.dto.RiskEvaluationResponse;
+import org.springframework.stereotype.Service;
+
+/**
+ * Deterministic risk scoring by document number.
+ * Stateless and thread-safe, so it can be called from parallel batch workers.
+ */
+@Service
+public class RiskScoringService {
+
+    static final String INVALID_DOCUMENT_DETAIL = "Documento inválido o faltante.";
+
+    public RiskEvaluationResponse evaluate(RiskEvaluationRequest request) {
+        if (request.getDocumento() == null) {
+            return new RiskEvaluationResponse(null, null, null, INVALID_DOCUMENT_DETAIL);
+        }
+
+        // 1. Convertir el documento en un seed numérico (hash mod 1000).
+        int seed = Math.abs(request.getDocumento().hashCode()) % 1000;
+
+        // 2. Generar un score entre 300 y 950 basado en ese seed.
+        // Range size = 950 - 300 = 650.
+        // Scaled value = seed * 650 / 999.
+        int score = 300 + (seed * 650 / 999);
+
+        // 3. Clasificar
+        String nivelRiesgo;
+        String detalle;
+
+        if (score <= 500) {
+            nivelRiesgo = "ALTO RIESGO";
+            detalle = "Historial crediticio deficiente o insuficiente.";
+        } else if (score <= 700) {
+            nivelRiesgo = "MEDIO RIESGO";
+            detalle = "Historial crediticio moderado.";
+        } else {
+            nivelRiesgo = "BAJO RIESGO";
+            detalle = "Excelente comportamiento crediticio.";
+        }
+
+        return new RiskEvaluationResponse(
+                request.getDocumento(),
+                score,
+                nivelRiesgo,
+                detalle
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.riwi.microservice.coopcredit.risk.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.microservice.coopcredit.risk.api.dto.RiskEvaluationRequest;
+import com.riwi.microservice.coopcredit.risk.api.dto.RiskEvaluationResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RiskBatchEvaluationServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RiskScoringService scoringService = new RiskScoringService();
+    // Small chunk so the test crosses several chunk boundaries
+    private final RiskBatchEvaluationService batchService = new RiskBatchEvaluationService(scoringService, objectMapper, 7);
+
+    @Test
+    void shouldStreamOneResultPerNdjsonLineInInputOrder() throws Exception {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            input.append("{\"documento\":\"").append(1000 + i).append("\",\"monto\":1000000,\"plazo\":12}\n");
+        }
+
+        List<RiskEvaluationResponse> results = evaluate(input.toString());
+
+        assertEquals(100, results.size());
+        for (int i = 0; i < 100; i++) {
+            RiskEvaluationRequest request = new RiskEvaluationRequest();
+            request.setDocumento(String.valueOf(1000 + i));
+            RiskEvaluationResponse expected = scoringService.evaluate(request);
+            assertEquals(expected.getDocumento(), results.get(i).getDocumento());
+            assertEquals(expected.getScore(), results.get(i).getScore());
+            assertEquals(expected.getNivelRiesgo(), results.get(i).getNivelRiesgo());
+        }
+    }
+
+    @Test
+    void shouldAcceptJsonArrayAndReportMissingDocument() throws Exception {
+        List<RiskEvaluationResponse> results = evaluate(
+                "[{\"documento\":\"123456789\",\"monto\":5000000,\"plazo\":12},{\"monto\":1,\"plazo\":6}]");
+
+        assertEquals(2, results.size());
+        assertEquals("123456789", results.get(0).getDocumento());
+        assertNotNull(results.get(0).getScore());
+        assertNull(results.get(1).getScore());
+        assertEquals(RiskScoringService.INVALID_DOCUMENT_DETAIL, results.get(1).getDetalle());
+    }
+
+    private List<RiskEvaluationResponse> evaluate(String body) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        batchService.evaluate(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+        return output.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, RiskEvaluationResponse.class);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+}